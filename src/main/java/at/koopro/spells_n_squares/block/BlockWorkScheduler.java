@@ -0,0 +1,82 @@
+package at.koopro.spells_n_squares.block;
+
+import at.koopro.spells_n_squares.SpellsNSquares;
+import net.minecraft.server.level.ServerLevel;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Shared scheduler for {@link ScheduledBlockEntity} work.
+ * Each level keeps one queue ordered by due tick; a single level tick handler runs the block
+ * entities that are due, so waiting and idle blocks cost nothing per tick instead of each
+ * running its own ticker.
+ */
+@EventBusSubscriber(modid = SpellsNSquares.MODID)
+public final class BlockWorkScheduler {
+
+    /**
+     * A queued run. Stale entries (the block was removed or rescheduled) are skipped when polled.
+     */
+    private record Scheduled(long tick, ScheduledBlockEntity blockEntity) {
+    }
+
+    private static final Map<ServerLevel, PriorityQueue<Scheduled>> queues = new HashMap<>();
+
+    private BlockWorkScheduler() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Queues a block entity to run at a game tick.
+     */
+    static void schedule(ServerLevel level, ScheduledBlockEntity blockEntity, long tick) {
+        queues.computeIfAbsent(level, k -> new PriorityQueue<>(Comparator.comparingLong(Scheduled::tick)))
+            .add(new Scheduled(tick, blockEntity));
+    }
+
+    /**
+     * Runs all block entities that are due.
+     */
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        if (!(event.getLevel() instanceof ServerLevel level)) {
+            return;
+        }
+        PriorityQueue<Scheduled> queue = queues.get(level);
+        if (queue == null) {
+            return;
+        }
+
+        long gameTime = level.getGameTime();
+        while (!queue.isEmpty() && queue.peek().tick() <= gameTime) {
+            Scheduled scheduled = queue.poll();
+            ScheduledBlockEntity blockEntity = scheduled.blockEntity();
+            if (blockEntity.isRemoved() || blockEntity.getNextWorkTick() != scheduled.tick()) {
+                continue;
+            }
+            long next = blockEntity.runWork(level, gameTime);
+            // Work always moves the block to a later tick, so this loop ends
+            queue.add(new Scheduled(next, blockEntity));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            queues.remove(level);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        queues.clear();
+    }
+}
@@ -0,0 +1,73 @@
+package at.koopro.spells_n_squares.block;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * Base class for server-side block entities that do periodic work.
+ * Instead of ticking, block entities are queued in the shared {@link BlockWorkScheduler} when
+ * they load and only run when due. Blocks are staggered by position so that many blocks
+ * placed at once do not all run on the same tick, and a block that found nothing to do
+ * backs off exponentially up to a maximum interval until it does work again.
+ */
+public abstract class ScheduledBlockEntity extends BlockEntity {
+    private long nextWorkTick = -1;
+    private int idleRuns;
+
+    protected ScheduledBlockEntity(BlockEntityType<?> type, BlockPos pos, BlockState state) {
+        super(type, pos, state);
+    }
+
+    /**
+     * Gets the interval between runs while the block is busy.
+     * @return The interval in ticks
+     */
+    protected abstract int getWorkInterval();
+
+    /**
+     * Gets the longest interval the block backs off to while idle.
+     * Return the work interval to disable backoff.
+     * @return The maximum interval in ticks
+     */
+    protected abstract int getMaxIdleInterval();
+
+    /**
+     * Performs one unit of work.
+     * @param level The server level
+     * @param pos The block position
+     * @param state The block state
+     * @return true if there was something to do, false if the block is idle
+     */
+    protected abstract boolean doWork(ServerLevel level, BlockPos pos, BlockState state);
+
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if (level instanceof ServerLevel serverLevel) {
+            // Spread blocks across the interval by position
+            nextWorkTick = serverLevel.getGameTime() + 1 + Math.floorMod(worldPosition.hashCode(), getWorkInterval());
+            BlockWorkScheduler.schedule(serverLevel, this, nextWorkTick);
+        }
+    }
+
+    long getNextWorkTick() {
+        return nextWorkTick;
+    }
+
+    /**
+     * Runs the work and computes the next run.
+     * @return The game tick of the next run
+     */
+    long runWork(ServerLevel level, long gameTime) {
+        boolean worked = doWork(level, worldPosition, getBlockState());
+        idleRuns = worked ? 0 : Math.min(idleRuns + 1, 30);
+
+        long interval = Math.min((long) getWorkInterval() << idleRuns,
+            Math.max(getWorkInterval(), getMaxIdleInterval()));
+        nextWorkTick = gameTime + Math.max(1, interval);
+        return nextWorkTick;
+    }
+}
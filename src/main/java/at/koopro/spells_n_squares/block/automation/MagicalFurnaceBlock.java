@@ -1,6 +1,7 @@
 package at.koopro.spells_n_squares.block.automation;
 
 import at.koopro.spells_n_squares.block.BaseInteractiveBlock;
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
@@ -31,7 +32,7 @@ public class MagicalFurnaceBlock extends BaseInteractiveBlock {
         // Spawn magical flame particles
         if (random.nextFloat() < 0.2f && level instanceof ServerLevel serverLevel) {
             Vec3 center = Vec3.atCenterOf(pos);
-            serverLevel.sendParticles(ParticleTypes.FLAME,
+            ParticlePool.queueParticle(serverLevel, ParticleTypes.FLAME,
                 center.x, center.y + 0.5, center.z,
                 3, 0.2, 0.1, 0.2, 0.01);
         }
@@ -1,6 +1,7 @@
 package at.koopro.spells_n_squares.block.automation;
 
 import at.koopro.spells_n_squares.block.BaseInteractiveBlock;
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.features.potions.PotionBrewingManager;
 import at.koopro.spells_n_squares.features.potions.PotionRecipe;
 import net.minecraft.core.BlockPos;
@@ -116,14 +117,14 @@ public class SelfStirringCauldronBlock extends BaseInteractiveBlock {
             float particleChance = isBrewing ? 0.2f : 0.1f;
             
             if (random.nextFloat() < particleChance) {
-                serverLevel.sendParticles(ParticleTypes.BUBBLE,
+                ParticlePool.queueParticle(serverLevel, ParticleTypes.BUBBLE,
                     center.x, center.y, center.z,
                     isBrewing ? 5 : 2, 0.2, 0.1, 0.2, 0.01);
             }
             
             // Add enchant particles when brewing
             if (isBrewing && random.nextFloat() < 0.05f) {
-                serverLevel.sendParticles(ParticleTypes.ENCHANT,
+                ParticlePool.queueParticle(serverLevel, ParticleTypes.ENCHANT,
                     center.x, center.y, center.z,
                     3, 0.3, 0.1, 0.3, 0.02);
             }
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.block.building;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
@@ -37,7 +38,7 @@ public class MagicalLightBlock extends Block {
             Vec3 center = Vec3.atCenterOf(pos);
             ParticleOptions particleType = getParticleForColor(lightColor);
             
-            serverLevel.sendParticles(particleType,
+            ParticlePool.queueParticle(serverLevel, particleType,
                 center.x, center.y, center.z,
                 2, 0.1, 0.1, 0.1, 0.01);
         }
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.block.enchantments;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
@@ -50,7 +51,7 @@ public class EnchantmentTableBlock extends Block {
         // Spawn magical particles
         if (random.nextFloat() < 0.15f && level instanceof ServerLevel serverLevel) {
             Vec3 center = Vec3.atCenterOf(pos);
-            serverLevel.sendParticles(ParticleTypes.ENCHANT,
+            ParticlePool.queueParticle(serverLevel, ParticleTypes.ENCHANT,
                 center.x, center.y + 0.5, center.z,
                 3, 0.3, 0.2, 0.3, 0.01);
         }
@@ -2,12 +2,16 @@ package at.koopro.spells_n_squares.block.mail;
 
 import at.koopro.spells_n_squares.block.BaseInteractiveBlock;
 import at.koopro.spells_n_squares.features.mail.MailboxData;
+import at.koopro.spells_n_squares.features.mail.MailboxRegistry;
 import at.koopro.spells_n_squares.features.mail.OwlPostSystem;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
@@ -52,6 +56,20 @@ public class MailboxBlock extends BaseInteractiveBlock {
         return InteractionResult.SUCCESS;
     }
     
+    @Override
+    public void setPlacedBy(Level level, BlockPos pos, BlockState state, LivingEntity placer, ItemStack stack) {
+        super.setPlacedBy(level, pos, state, placer, stack);
+        if (level instanceof ServerLevel serverLevel && placer instanceof Player player) {
+            MailboxRegistry.register(serverLevel, pos, player.getUUID());
+        }
+    }
+    
+    @Override
+    protected void affectNeighborsAfterRemoval(BlockState state, ServerLevel level, BlockPos pos, boolean movedByPiston) {
+        super.affectNeighborsAfterRemoval(state, level, pos, movedByPiston);
+        MailboxRegistry.unregister(level, pos);
+    }
+    
     /**
      * Opens the mailbox GUI for viewing mail.
      * TODO: Implement proper GUI screen
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.block.plants;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
@@ -49,7 +50,7 @@ public class DevilsSnareBlock extends Block {
             
             // Visual effect
             if (level instanceof ServerLevel serverLevel) {
-                serverLevel.sendParticles(ParticleTypes.ITEM_SLIME,
+                ParticlePool.queueParticle(serverLevel, ParticleTypes.ITEM_SLIME,
                     entity.getX(), entity.getY(), entity.getZ(),
                     3, 0.2, 0.2, 0.2, 0.02);
             }
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.block.plants;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
@@ -73,13 +74,13 @@ public class MandrakePlantBlock extends CropBlock {
                     ));
                 
                 // Visual effect
-                serverLevel.sendParticles(ParticleTypes.SCULK_SOUL,
+                ParticlePool.queueParticle(serverLevel, ParticleTypes.SCULK_SOUL,
                     entity.getX(), entity.getY() + 1.0, entity.getZ(),
                     10, 0.3, 0.3, 0.3, 0.05);
             }
             
             // Scream particles
-            serverLevel.sendParticles(ParticleTypes.SCULK_SOUL,
+            ParticlePool.queueParticle(serverLevel, ParticleTypes.SCULK_SOUL,
                 pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5,
                 30, 0.5, 0.5, 0.5, 0.1);
         }
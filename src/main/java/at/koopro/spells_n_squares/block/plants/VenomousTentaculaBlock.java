@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.block.plants;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
@@ -47,7 +48,7 @@ public class VenomousTentaculaBlock extends Block {
                     ));
                     
                     // Visual tentacle effect
-                    level.sendParticles(ParticleTypes.ITEM_SLIME,
+                    ParticlePool.queueParticle(level, ParticleTypes.ITEM_SLIME,
                         living.getX(), living.getY() + 1.0, living.getZ(),
                         15, 0.4, 0.4, 0.4, 0.05);
                     
@@ -57,7 +58,7 @@ public class VenomousTentaculaBlock extends Block {
             }
             
             // Tentacle animation particles
-            level.sendParticles(ParticleTypes.ITEM_SLIME,
+            ParticlePool.queueParticle(level, ParticleTypes.ITEM_SLIME,
                 pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5,
                 5, 0.3, 0.3, 0.3, 0.02);
         }
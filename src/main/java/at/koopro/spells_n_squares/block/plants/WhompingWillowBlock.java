@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.block.plants;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
@@ -50,7 +51,7 @@ public class WhompingWillowBlock extends Block {
                     // Visual and sound effects
                     level.playSound(null, pos, SoundEvents.WOOD_BREAK, SoundSource.BLOCKS, 1.0f, 0.8f);
                     if (level instanceof ServerLevel serverLevel) {
-                        serverLevel.sendParticles(ParticleTypes.ITEM_SLIME,
+                        ParticlePool.queueParticle(serverLevel, ParticleTypes.ITEM_SLIME,
                             entity.getX(), entity.getY() + 1.0, entity.getZ(),
                             10, 0.3, 0.3, 0.3, 0.05);
                     }
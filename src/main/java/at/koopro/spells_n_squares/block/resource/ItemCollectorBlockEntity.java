@@ -0,0 +1,67 @@
+package at.koopro.spells_n_squares.block.resource;
+
+import at.koopro.spells_n_squares.block.ScheduledBlockEntity;
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
+import at.koopro.spells_n_squares.core.registry.ModBlockEntities;
+import at.koopro.spells_n_squares.core.util.ItemEntityIndex;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Block entity that pulls nearby items to the item collector.
+ * Backs off while there are no items to collect.
+ */
+public class ItemCollectorBlockEntity extends ScheduledBlockEntity {
+    
+    private static final int COLLECTION_RADIUS = 8;
+    private static final int WORK_INTERVAL = 10;
+    private static final int MAX_IDLE_INTERVAL = 320;
+    
+    // Items this close to the drop point have already been collected
+    private static final double COLLECTED_DISTANCE_SQR = 1.0;
+    
+    public ItemCollectorBlockEntity(BlockPos pos, BlockState state) {
+        super(ModBlockEntities.ITEM_COLLECTOR.get(), pos, state);
+    }
+    
+    @Override
+    protected int getWorkInterval() {
+        return WORK_INTERVAL;
+    }
+    
+    @Override
+    protected int getMaxIdleInterval() {
+        return MAX_IDLE_INTERVAL;
+    }
+    
+    @Override
+    protected boolean doWork(ServerLevel level, BlockPos pos, BlockState state) {
+        Vec3 target = Vec3.atCenterOf(pos).add(0, 1.0, 0);
+        AABB searchArea = new AABB(pos).inflate(COLLECTION_RADIUS);
+        List<ItemEntity> items = new ArrayList<>();
+        ItemEntityIndex.collect(level, searchArea,
+            item -> item.position().distanceToSqr(target) > COLLECTED_DISTANCE_SQR, items);
+        
+        for (ItemEntity item : items) {
+            // Simplified: teleport items to collector
+            // Full implementation would store in inventory
+            item.teleportTo(target.x, target.y, target.z);
+        }
+        
+        if (!items.isEmpty()) {
+            // Visual effect
+            ParticlePool.queueParticle(level, ParticleTypes.END_ROD,
+                target.x, target.y - 1.0, target.z,
+                3 * Math.min(items.size(), 5), 0.1, 0.1, 0.1, 0.01);
+        }
+        return !items.isEmpty();
+    }
+}
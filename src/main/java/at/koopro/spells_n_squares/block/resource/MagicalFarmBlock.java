@@ -2,18 +2,15 @@ package at.koopro.spells_n_squares.block.resource;
 
 import at.koopro.spells_n_squares.block.BaseInteractiveBlock;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.particles.ParticleTypes;
-import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.EntityBlock;
+import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.phys.Vec3;
 
 /**
  * Magical farm block for automated crop management.
+ * Its effects are run by {@link MagicalFarmBlockEntity} on the server.
  */
-public class MagicalFarmBlock extends BaseInteractiveBlock {
-    
-    private static final int HARVEST_RADIUS = 5;
+public class MagicalFarmBlock extends BaseInteractiveBlock implements EntityBlock {
     
     public MagicalFarmBlock(Properties properties) {
         super(properties);
@@ -25,18 +22,7 @@ public class MagicalFarmBlock extends BaseInteractiveBlock {
     }
     
     @Override
-    public void animateTick(BlockState state, Level level, BlockPos pos, net.minecraft.util.RandomSource random) {
-        if (level.isClientSide()) {
-            return;
-        }
-        
-        // Spawn growth particles periodically
-        if (random.nextFloat() < 0.05f && level instanceof ServerLevel serverLevel) {
-            Vec3 center = Vec3.atCenterOf(pos);
-            serverLevel.sendParticles(ParticleTypes.ENCHANT,
-                center.x, center.y + 0.5, center.z,
-                5, 0.3, 0.1, 0.3, 0.01);
-        }
+    public BlockEntity newBlockEntity(BlockPos pos, BlockState state) {
+        return new MagicalFarmBlockEntity(pos, state);
     }
 }
-
@@ -0,0 +1,43 @@
+package at.koopro.spells_n_squares.block.resource;
+
+import at.koopro.spells_n_squares.block.ScheduledBlockEntity;
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
+import at.koopro.spells_n_squares.core.registry.ModBlockEntities;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Block entity that shows the magical farm's growth particles on the server.
+ */
+public class MagicalFarmBlockEntity extends ScheduledBlockEntity {
+    
+    // Matches the old 5% chance per tick on average
+    private static final int PARTICLE_INTERVAL = 20;
+    
+    public MagicalFarmBlockEntity(BlockPos pos, BlockState state) {
+        super(ModBlockEntities.MAGICAL_FARM.get(), pos, state);
+    }
+    
+    @Override
+    protected int getWorkInterval() {
+        return PARTICLE_INTERVAL;
+    }
+    
+    @Override
+    protected int getMaxIdleInterval() {
+        return PARTICLE_INTERVAL;
+    }
+    
+    @Override
+    protected boolean doWork(ServerLevel level, BlockPos pos, BlockState state) {
+        // Spawn growth particles periodically
+        Vec3 center = Vec3.atCenterOf(pos);
+        ParticlePool.queueParticle(level, ParticleTypes.ENCHANT,
+            center.x, center.y + 0.5, center.z,
+            5, 0.3, 0.1, 0.3, 0.01);
+        return true;
+    }
+}
@@ -0,0 +1,50 @@
+package at.koopro.spells_n_squares.block.resource;
+
+import at.koopro.spells_n_squares.block.ScheduledBlockEntity;
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
+import at.koopro.spells_n_squares.core.registry.ModBlockEntities;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Block entity that generates a resource item on a fixed interval.
+ */
+public class ResourceGeneratorBlockEntity extends ScheduledBlockEntity {
+    
+    private static final int GENERATION_INTERVAL = 200; // 10 seconds
+    
+    public ResourceGeneratorBlockEntity(BlockPos pos, BlockState state) {
+        super(ModBlockEntities.RESOURCE_GENERATOR.get(), pos, state);
+    }
+    
+    @Override
+    protected int getWorkInterval() {
+        return GENERATION_INTERVAL;
+    }
+    
+    @Override
+    protected int getMaxIdleInterval() {
+        return GENERATION_INTERVAL;
+    }
+    
+    @Override
+    protected boolean doWork(ServerLevel level, BlockPos pos, BlockState state) {
+        // Spawn a resource item (simplified)
+        Vec3 spawnPos = Vec3.atCenterOf(pos).add(0, 1.0, 0);
+        ItemStack resource = new ItemStack(Items.IRON_INGOT);
+        ItemEntity itemEntity = new ItemEntity(level, spawnPos.x, spawnPos.y, spawnPos.z, resource);
+        level.addFreshEntity(itemEntity);
+        
+        // Visual effect
+        ParticlePool.queueParticle(level, ParticleTypes.ENCHANT,
+            spawnPos.x, spawnPos.y, spawnPos.z,
+            20, 0.3, 0.3, 0.3, 0.1);
+        return true;
+    }
+}
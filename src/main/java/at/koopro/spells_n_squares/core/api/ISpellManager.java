@@ -60,7 +60,8 @@ public interface ISpellManager {
     int getRemainingCooldown(Player player, Identifier spellId);
     
     /**
-     * Ticks all cooldowns for a player. Call this every tick.
+     * Ticks all cooldowns for a player.
+     * Cooldowns expire on their own, so calling this is no longer required.
      * @param player The player
      */
     void tickCooldowns(Player player);
@@ -6,6 +6,7 @@ import com.mojang.logging.LogUtils;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.ModContainer;
 import net.neoforged.fml.event.lifecycle.FMLCommonSetupEvent;
+import net.neoforged.fml.event.lifecycle.FMLLoadCompleteEvent;
 import org.slf4j.Logger;
 
 /**
@@ -24,6 +25,8 @@ public final class SpellFeature implements IFeature {
                 LOGGER.info("Registered {} spells", SpellRegistry.getAllIds().size());
             });
         });
+        // Addons register their spells during common setup as well, so assign indices afterwards
+        modEventBus.addListener((FMLLoadCompleteEvent event) -> event.enqueueWork(SpellRegistry::freeze));
     }
     
     @Override
@@ -0,0 +1,355 @@
+package at.koopro.spells_n_squares.core.client;
+
+import at.koopro.spells_n_squares.SpellsNSquares;
+import at.koopro.spells_n_squares.core.util.ModIdentifierHelper;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import net.minecraft.client.renderer.rendertype.RenderType;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.resources.Identifier;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.AddClientReloadListenersEvent;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache of baked static primitive meshes for placeholder renderers.
+ * A mesh is built once per (shape, size, render type) in model space and replayed under
+ * the entity pose each frame, so the per-entity cost is one matrix transform and one
+ * vertex write per vertex instead of re-tessellating every cube.
+ * Each mesh also carries reduced variants for {@link RenderLod}: cubes enclosed by a larger
+ * opaque cube are dropped at {@link RenderLod.Detail#REDUCED}, translucent glow cubes as well at
+ * {@link RenderLod.Detail#MINIMAL}. Opaque cores inside glow shells are always kept. The cache is dropped on every resource reload.
+ */
+@EventBusSubscriber(modid = SpellsNSquares.MODID, value = Dist.CLIENT)
+public final class BakedPrimitiveCache {
+    private BakedPrimitiveCache() {
+        // Utility class - prevent instantiation
+    }
+
+    // Upper bound on cached meshes; sizes come from entity bounding boxes, so this is rarely reached
+    private static final int MAX_ENTRIES = 1024;
+
+    private static final Identifier RELOAD_LISTENER_ID = ModIdentifierHelper.modId("baked_primitives");
+
+    private static final Map<Key, BakedMesh> cache = new HashMap<>();
+
+    // Scratch vector for transformed positions; rendering only happens on the render thread
+    private static final Vector3f SCRATCH = new Vector3f();
+
+    private record Key(Object shape, int sizeBits, RenderType renderType) {
+    }
+
+    /**
+     * Builds the geometry of a shape at a given size.
+     */
+    @FunctionalInterface
+    public interface Baker {
+        /**
+         * Adds the shape's primitives to the mesh.
+         * @param mesh The mesh being built
+         * @param poseStack Model-space pose stack for positioning primitives
+         * @param size The size the mesh is baked for
+         */
+        void bake(MeshBuilder mesh, PoseStack poseStack, float size);
+    }
+
+    /**
+     * Gets a baked mesh, building it on first use.
+     * @param shape Identifies the shape (typically the renderer class)
+     * @param size The size passed to the baker
+     * @param renderType The render type the mesh is drawn with
+     * @param baker Builds the mesh if it is not cached yet
+     * @return The baked mesh
+     */
+    public static BakedMesh get(Object shape, float size, RenderType renderType, Baker baker) {
+        Key key = new Key(shape, Float.floatToIntBits(size), renderType);
+        BakedMesh mesh = cache.get(key);
+        if (mesh == null) {
+            if (cache.size() >= MAX_ENTRIES) {
+                cache.clear();
+            }
+            MeshBuilder builder = new MeshBuilder();
+            baker.bake(builder, new PoseStack(), size);
+            mesh = builder.build();
+            cache.put(key, mesh);
+        }
+        return mesh;
+    }
+
+    /**
+     * Drops all cached meshes.
+     */
+    public static void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Registers the reload listener that drops the cache, so meshes are not kept for render types
+     * from before the reload.
+     */
+    @SubscribeEvent
+    public static void onAddReloadListeners(AddClientReloadListenersEvent event) {
+        event.addListener(RELOAD_LISTENER_ID, (ResourceManagerReloadListener) resourceManager -> clear());
+    }
+
+    /**
+     * Collects primitives in model space.
+     */
+    public static final class MeshBuilder {
+        private float[] positions = new float[24 * 3];
+        private float[] normals = new float[24 * 3];
+        private float[] uvs = new float[24 * 2];
+        private int[] colors = new int[24];
+        private int light = RendererConstants.OVERLAY_BITS;
+        private int vertexCount;
+        // Model-space bounds of each cube (minX, minY, minZ, maxX, maxY, maxZ), used for the LOD variants
+        private float[] bounds = new float[6];
+        private int cubeCount;
+
+        private MeshBuilder() {
+        }
+
+        /**
+         * Sets the packed light value of the mesh.
+         * @param light The packed light value
+         */
+        public MeshBuilder light(int light) {
+            this.light = light;
+            return this;
+        }
+
+        /**
+         * Adds a cube with uniform size, equivalent to {@link RendererUtils#renderCube(VertexConsumer, PoseStack, float, int)}.
+         * @param poseStack The pose stack for transformations
+         * @param half The half-size of the cube
+         * @param color The color of the cube (ARGB format)
+         */
+        public void cube(PoseStack poseStack, float half, int color) {
+            cube(poseStack, half, half, half, 0.0f, color);
+        }
+
+        /**
+         * Adds a cuboid with specified dimensions.
+         * @param poseStack The pose stack for transformations
+         * @param halfX Half-width in X direction
+         * @param halfY Half-height in Y direction
+         * @param halfZ Half-depth in Z direction
+         * @param yOffset Vertical offset for the cuboid
+         * @param color The color of the cuboid (ARGB format)
+         */
+        public void cube(PoseStack poseStack, float halfX, float halfY, float halfZ, float yOffset, int color) {
+            Matrix4f m = poseStack.last().pose();
+            ensureCapacity(vertexCount + 24);
+            int firstVertex = vertexCount;
+
+            for (int face = 0; face < 6; face++) {
+                for (int vertex = 0; vertex < 4; vertex++) {
+                    int corner = (face * 4 + vertex) * 3;
+                    m.transformPosition(
+                        RendererUtils.FACE_CORNERS[corner] * halfX,
+                        RendererUtils.FACE_CORNERS[corner + 1] * halfY + yOffset,
+                        RendererUtils.FACE_CORNERS[corner + 2] * halfZ,
+                        SCRATCH);
+
+                    int i = vertexCount++;
+                    positions[i * 3] = SCRATCH.x;
+                    positions[i * 3 + 1] = SCRATCH.y;
+                    positions[i * 3 + 2] = SCRATCH.z;
+                    normals[i * 3] = RendererUtils.FACE_NORMALS[face * 3];
+                    normals[i * 3 + 1] = RendererUtils.FACE_NORMALS[face * 3 + 1];
+                    normals[i * 3 + 2] = RendererUtils.FACE_NORMALS[face * 3 + 2];
+                    uvs[i * 2] = RendererUtils.QUAD_U[vertex];
+                    uvs[i * 2 + 1] = RendererUtils.QUAD_V[vertex];
+                    colors[i] = color;
+                }
+            }
+            addBounds(firstVertex);
+        }
+
+        private void addBounds(int firstVertex) {
+            if ((cubeCount + 1) * 6 > bounds.length) {
+                bounds = Arrays.copyOf(bounds, bounds.length * 2);
+            }
+            int b = cubeCount++ * 6;
+            for (int axis = 0; axis < 3; axis++) {
+                float min = Float.POSITIVE_INFINITY;
+                float max = Float.NEGATIVE_INFINITY;
+                for (int i = firstVertex; i < firstVertex + 24; i++) {
+                    min = Math.min(min, positions[i * 3 + axis]);
+                    max = Math.max(max, positions[i * 3 + axis]);
+                }
+                bounds[b + axis] = min;
+                bounds[b + 3 + axis] = max;
+            }
+        }
+
+        private boolean isEnclosed(int cube) {
+            float volume = volume(cube);
+            for (int other = 0; other < cubeCount; other++) {
+                // Only opaque cubes hide what is inside them
+                if (other == cube || isGlow(other)) {
+                    continue;
+                }
+                // Identical cubes: keep the first one
+                float otherVolume = volume(other);
+                if (otherVolume < volume || (otherVolume == volume && other > cube)) {
+                    continue;
+                }
+                if (contains(other, cube)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean contains(int outer, int inner) {
+            int o = outer * 6;
+            int i = inner * 6;
+            for (int axis = 0; axis < 3; axis++) {
+                if (bounds[i + axis] < bounds[o + axis] - 1.0e-4f || bounds[i + 3 + axis] > bounds[o + 3 + axis] + 1.0e-4f) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private float volume(int cube) {
+            int b = cube * 6;
+            return (bounds[b + 3] - bounds[b]) * (bounds[b + 4] - bounds[b + 1]) * (bounds[b + 5] - bounds[b + 2]);
+        }
+
+        private boolean isGlow(int cube) {
+            return (colors[cube * 24] >>> 24) < 0xFF;
+        }
+
+        private void ensureCapacity(int vertices) {
+            if (vertices <= colors.length) {
+                return;
+            }
+            int capacity = Math.max(vertices, colors.length * 2);
+            positions = Arrays.copyOf(positions, capacity * 3);
+            normals = Arrays.copyOf(normals, capacity * 3);
+            uvs = Arrays.copyOf(uvs, capacity * 2);
+            colors = Arrays.copyOf(colors, capacity);
+        }
+
+        private BakedMesh build() {
+            boolean[] reducedKeep = new boolean[cubeCount];
+            boolean[] minimalKeep = new boolean[cubeCount];
+            boolean anyMinimal = false;
+            for (int cube = 0; cube < cubeCount; cube++) {
+                reducedKeep[cube] = !isEnclosed(cube);
+                minimalKeep[cube] = reducedKeep[cube] && !isGlow(cube);
+                anyMinimal |= minimalKeep[cube];
+            }
+
+            BakedMesh full = subset(null);
+            BakedMesh reduced = subset(reducedKeep);
+            if (reduced.vertexCount == full.vertexCount) {
+                reduced = full;
+            }
+            // A shape made only of glow cubes keeps them rather than disappearing
+            BakedMesh minimal = anyMinimal ? subset(minimalKeep) : reduced;
+            if (minimal.vertexCount == reduced.vertexCount) {
+                minimal = reduced;
+            }
+            full.reduced = reduced;
+            full.minimal = minimal;
+            return full;
+        }
+
+        private BakedMesh subset(boolean[] keep) {
+            int kept = 0;
+            for (int cube = 0; cube < cubeCount; cube++) {
+                if (keep == null || keep[cube]) {
+                    kept++;
+                }
+            }
+
+            int count = keep == null ? vertexCount : kept * 24;
+            float[] p = new float[count * 3];
+            float[] n = new float[count * 3];
+            float[] t = new float[count * 2];
+            int[] c = new int[count];
+            int dst = 0;
+            for (int cube = 0; cube < cubeCount; cube++) {
+                if (keep != null && !keep[cube]) {
+                    continue;
+                }
+                int src = cube * 24;
+                System.arraycopy(positions, src * 3, p, dst * 3, 24 * 3);
+                System.arraycopy(normals, src * 3, n, dst * 3, 24 * 3);
+                System.arraycopy(uvs, src * 2, t, dst * 2, 24 * 2);
+                System.arraycopy(colors, src, c, dst, 24);
+                dst += 24;
+            }
+            return new BakedMesh(p, n, t, c, light, count);
+        }
+    }
+
+    /**
+     * Immutable vertex data of a baked shape.
+     */
+    public static final class BakedMesh {
+        private final float[] positions;
+        private final float[] normals;
+        private final float[] uvs;
+        private final int[] colors;
+        private final int light;
+        private final int vertexCount;
+        private BakedMesh reduced = this;
+        private BakedMesh minimal = this;
+
+        private BakedMesh(float[] positions, float[] normals, float[] uvs, int[] colors, int light, int vertexCount) {
+            this.positions = positions;
+            this.normals = normals;
+            this.uvs = uvs;
+            this.colors = colors;
+            this.light = light;
+            this.vertexCount = vertexCount;
+        }
+
+        /**
+         * Writes the mesh under the given pose.
+         * Matches the custom geometry callback of the submit node collector.
+         * @param pose The pose to transform the mesh with
+         * @param buffer The vertex buffer to write to
+         */
+        public void emit(PoseStack.Pose pose, VertexConsumer buffer) {
+            Matrix4f m = pose.pose();
+            for (int i = 0; i < vertexCount; i++) {
+                m.transformPosition(positions[i * 3], positions[i * 3 + 1], positions[i * 3 + 2], SCRATCH);
+                buffer.addVertex(SCRATCH.x, SCRATCH.y, SCRATCH.z, colors[i], uvs[i * 2], uvs[i * 2 + 1],
+                    OverlayTexture.NO_OVERLAY, light, normals[i * 3], normals[i * 3 + 1], normals[i * 3 + 2]);
+            }
+        }
+
+        /**
+         * Gets the variant of this mesh for a detail level.
+         * @param detail The detail level from {@link RenderLod}
+         * @return The mesh to emit; culled detail returns the minimal variant
+         */
+        public BakedMesh forDetail(RenderLod.Detail detail) {
+            return switch (detail) {
+                case FULL -> this;
+                case REDUCED -> reduced;
+                case MINIMAL, CULLED -> minimal;
+            };
+        }
+
+        /**
+         * Gets the number of vertices in the mesh.
+         */
+        public int getVertexCount() {
+            return vertexCount;
+        }
+    }
+}
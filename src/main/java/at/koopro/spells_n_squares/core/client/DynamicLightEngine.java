@@ -0,0 +1,391 @@
+package at.koopro.spells_n_squares.core.client;
+
+import it.unimi.dsi.fastutil.longs.Long2ByteMap;
+import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.LightTexture;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Client-side dynamic light overlay.
+ * Virtual light sources (Lumos wands, light orbs, the flashlight cone) are kept out of the world:
+ * their light is merged into the packed light value at render time instead of placing LIGHT
+ * blocks, so moving a source never runs the light engine. Sources are hashed by chunk section
+ * and a change only marks the sections whose light values actually changed for rebuilding.
+ * <p>
+ * Sources are updated on the client thread. Lookups may come from section compile threads,
+ * so they read an immutable section index that is replaced as a whole on every change.
+ */
+public final class DynamicLightEngine {
+    private DynamicLightEngine() {
+        // Utility class - prevent instantiation
+    }
+
+    private static final LightSource[] NO_SOURCES = new LightSource[0];
+
+    // Sources by owner; client thread only
+    private static final Map<Object, LightSource> sources = new HashMap<>();
+
+    // Section -> sources reaching into it; never mutated after publication
+    private static volatile Long2ObjectMap<LightSource[]> sectionIndex = Long2ObjectMaps.emptyMap();
+
+    /**
+     * A virtual light source.
+     */
+    private interface LightSource {
+        /**
+         * Gets the light level this source contributes at a block.
+         */
+        int lightAt(int x, int y, int z);
+
+        /**
+         * Adds every section this source may light, including a one block margin for smooth lighting.
+         */
+        void collectSections(LongSet sections);
+    }
+
+    /**
+     * Light emitted from a single block, fading linearly to zero at the range.
+     */
+    private record PointLight(int x, int y, int z, int level, int range) implements LightSource {
+        @Override
+        public int lightAt(int bx, int by, int bz) {
+            int dx = bx - x;
+            int dy = by - y;
+            int dz = bz - z;
+            int distanceSq = dx * dx + dy * dy + dz * dz;
+            if (distanceSq >= range * range) {
+                return 0;
+            }
+            return (int) (level * (1.0 - Math.sqrt(distanceSq) / range));
+        }
+
+        @Override
+        public void collectSections(LongSet sections) {
+            int reach = range + 1;
+            addSectionBox(sections, x - reach, y - reach, z - reach, x + reach, y + reach, z + reach);
+        }
+    }
+
+    /**
+     * Light from a set of blocks, each spreading a few blocks with a falloff of one level per block.
+     * Levels are resolved when the source is built, so lookups are a single map access.
+     * Sources are immutable once published; changes produce a new source derived from the old one.
+     */
+    private static final class BlockLights implements LightSource {
+        private final int level;
+        private final int spread;
+        private final LongOpenHashSet positions;
+        private final Long2ByteOpenHashMap levels;
+
+        BlockLights(int level, int spread) {
+            this.level = level;
+            this.spread = spread;
+            this.positions = new LongOpenHashSet();
+            this.levels = new Long2ByteOpenHashMap();
+        }
+
+        private BlockLights(BlockLights other) {
+            this.level = other.level;
+            this.spread = other.spread;
+            this.positions = new LongOpenHashSet(other.positions);
+            this.levels = new Long2ByteOpenHashMap(other.levels);
+        }
+
+        /**
+         * Derives a source with some lit blocks added and others removed.
+         * Only the light around removed blocks is recomputed.
+         */
+        BlockLights withChanges(LongSet added, LongSet removed) {
+            BlockLights next = new BlockLights(this);
+            if (!removed.isEmpty()) {
+                LongIterator it = removed.iterator();
+                while (it.hasNext()) {
+                    long pos = it.nextLong();
+                    if (next.positions.remove(pos)) {
+                        next.clearAround(pos);
+                    }
+                }
+                // Blocks whose light overlapped a cleared area light it again
+                LongIterator remaining = next.positions.iterator();
+                while (remaining.hasNext()) {
+                    long pos = remaining.nextLong();
+                    if (isNear(pos, removed, spread * 2)) {
+                        next.stamp(pos);
+                    }
+                }
+            }
+            LongIterator it = added.iterator();
+            while (it.hasNext()) {
+                long pos = it.nextLong();
+                if (next.positions.add(pos)) {
+                    next.stamp(pos);
+                }
+            }
+            return next;
+        }
+
+        private void stamp(long pos) {
+            int x = BlockPos.getX(pos);
+            int y = BlockPos.getY(pos);
+            int z = BlockPos.getZ(pos);
+            for (int dx = -spread; dx <= spread; dx++) {
+                for (int dy = -spread; dy <= spread; dy++) {
+                    for (int dz = -spread; dz <= spread; dz++) {
+                        int value = level - Math.abs(dx) - Math.abs(dy) - Math.abs(dz);
+                        if (value <= 0) {
+                            continue;
+                        }
+                        long key = BlockPos.asLong(x + dx, y + dy, z + dz);
+                        if (value > levels.get(key)) {
+                            levels.put(key, (byte) value);
+                        }
+                    }
+                }
+            }
+        }
+
+        private void clearAround(long pos) {
+            int x = BlockPos.getX(pos);
+            int y = BlockPos.getY(pos);
+            int z = BlockPos.getZ(pos);
+            for (int dx = -spread; dx <= spread; dx++) {
+                for (int dy = -spread; dy <= spread; dy++) {
+                    for (int dz = -spread; dz <= spread; dz++) {
+                        levels.remove(BlockPos.asLong(x + dx, y + dy, z + dz));
+                    }
+                }
+            }
+        }
+
+        private static boolean isNear(long pos, LongSet others, int distance) {
+            int x = BlockPos.getX(pos);
+            int y = BlockPos.getY(pos);
+            int z = BlockPos.getZ(pos);
+            LongIterator it = others.iterator();
+            while (it.hasNext()) {
+                long other = it.nextLong();
+                if (Math.abs(BlockPos.getX(other) - x) <= distance
+                    && Math.abs(BlockPos.getY(other) - y) <= distance
+                    && Math.abs(BlockPos.getZ(other) - z) <= distance) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean isEmpty() {
+            return positions.isEmpty();
+        }
+
+        @Override
+        public int lightAt(int x, int y, int z) {
+            return levels.get(BlockPos.asLong(x, y, z));
+        }
+
+        @Override
+        public void collectSections(LongSet sections) {
+            LongIterator it = levels.keySet().iterator();
+            while (it.hasNext()) {
+                long pos = it.nextLong();
+                int x = BlockPos.getX(pos);
+                int y = BlockPos.getY(pos);
+                int z = BlockPos.getZ(pos);
+                addSectionBox(sections, x - 1, y - 1, z - 1, x + 1, y + 1, z + 1);
+            }
+        }
+
+        /**
+         * Adds the sections of blocks whose level differs between two block light sources.
+         */
+        void collectChangedSections(BlockLights other, LongSet sections) {
+            for (Long2ByteMap.Entry entry : levels.long2ByteEntrySet()) {
+                if (other.levels.get(entry.getLongKey()) != entry.getByteValue()) {
+                    long pos = entry.getLongKey();
+                    addSectionBox(sections, BlockPos.getX(pos) - 1, BlockPos.getY(pos) - 1, BlockPos.getZ(pos) - 1,
+                        BlockPos.getX(pos) + 1, BlockPos.getY(pos) + 1, BlockPos.getZ(pos) + 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets a point light for an owner, replacing its previous source.
+     * Nothing is invalidated if the light did not change.
+     * @param owner The owner of the light (entity, handler key, ...)
+     * @param pos The block the light is emitted from
+     * @param level The light level at the source (0-15)
+     * @param range The distance in blocks at which the light has faded out
+     */
+    public static void setPointLight(Object owner, BlockPos pos, int level, int range) {
+        PointLight light = new PointLight(pos.getX(), pos.getY(), pos.getZ(), Math.min(level, 15), range);
+        if (light.equals(sources.get(owner))) {
+            return;
+        }
+        replace(owner, light);
+    }
+
+    /**
+     * Adds and removes lit blocks of an owner's block light source.
+     * Light is only recomputed around the changed blocks, and only sections whose light values
+     * changed are invalidated. Does nothing if both sets are empty. The sets are not retained,
+     * so callers may reuse them.
+     * @param owner The owner of the light
+     * @param added Packed positions of newly lit blocks
+     * @param removed Packed positions of blocks that are no longer lit
+     * @param level The light level at each lit block (0-15)
+     * @param spread How many blocks the light spreads around each lit block
+     */
+    public static void updateBlockLights(Object owner, LongSet added, LongSet removed, int level, int spread) {
+        if (added.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+        int clampedLevel = Math.min(level, 15);
+        BlockLights previous = sources.get(owner) instanceof BlockLights lights
+            && lights.level == clampedLevel && lights.spread == spread ? lights : null;
+        if (previous == null) {
+            // New source, or one with different parameters - start from scratch
+            remove(owner);
+            previous = new BlockLights(clampedLevel, spread);
+        }
+
+        BlockLights next = previous.withChanges(added, removed);
+        LongSet dirty = new LongOpenHashSet();
+        previous.collectChangedSections(next, dirty);
+        next.collectChangedSections(previous, dirty);
+        if (next.isEmpty()) {
+            sources.remove(owner);
+        } else {
+            sources.put(owner, next);
+        }
+        publish(dirty);
+    }
+
+    /**
+     * Removes an owner's light.
+     * @param owner The owner of the light
+     */
+    public static void remove(Object owner) {
+        if (sources.containsKey(owner)) {
+            replace(owner, null);
+        }
+    }
+
+    /**
+     * Drops all lights without invalidating anything, used when the client level goes away.
+     */
+    public static void clear() {
+        sources.clear();
+        sectionIndex = Long2ObjectMaps.emptyMap();
+    }
+
+    /**
+     * Checks whether any dynamic light is active.
+     */
+    public static boolean isActive() {
+        return !sectionIndex.isEmpty();
+    }
+
+    /**
+     * Gets the dynamic light level at a block.
+     * @param pos The block position
+     * @return The highest level any source contributes there (0-15)
+     */
+    public static int getLightLevel(BlockPos pos) {
+        LightSource[] inSection = sectionIndex.getOrDefault(
+            SectionPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getY()),
+                SectionPos.blockToSectionCoord(pos.getZ())),
+            NO_SOURCES);
+        int light = 0;
+        for (LightSource source : inSection) {
+            light = Math.max(light, source.lightAt(pos.getX(), pos.getY(), pos.getZ()));
+        }
+        return light;
+    }
+
+    /**
+     * Merges dynamic light into a packed light value.
+     * @param packedLight The packed light value from the world
+     * @param pos The block position the value was sampled at
+     * @return The packed light value with block light raised to the dynamic level
+     */
+    public static int applyTo(int packedLight, BlockPos pos) {
+        int dynamic = getLightLevel(pos);
+        if (dynamic <= LightTexture.block(packedLight)) {
+            return packedLight;
+        }
+        return LightTexture.pack(dynamic, LightTexture.sky(packedLight));
+    }
+
+    private static void replace(Object owner, LightSource next) {
+        LightSource previous = next == null ? sources.remove(owner) : sources.put(owner, next);
+        LongSet dirty = new LongOpenHashSet();
+        if (previous != null) {
+            previous.collectSections(dirty);
+        }
+        if (next != null) {
+            next.collectSections(dirty);
+        }
+        publish(dirty);
+    }
+
+    /**
+     * Rebuilds the section index from all sources and marks the given sections for rebuilding.
+     */
+    private static void publish(LongSet dirtySections) {
+        Long2ObjectOpenHashMap<List<LightSource>> bySection = new Long2ObjectOpenHashMap<>();
+        LongSet sections = new LongOpenHashSet();
+        for (LightSource source : sources.values()) {
+            sections.clear();
+            source.collectSections(sections);
+            LongIterator it = sections.iterator();
+            while (it.hasNext()) {
+                bySection.computeIfAbsent(it.nextLong(), k -> new ArrayList<>(2)).add(source);
+            }
+        }
+
+        Long2ObjectOpenHashMap<LightSource[]> index = new Long2ObjectOpenHashMap<>(bySection.size());
+        for (Long2ObjectMap.Entry<List<LightSource>> entry : bySection.long2ObjectEntrySet()) {
+            index.put(entry.getLongKey(), entry.getValue().toArray(NO_SOURCES));
+        }
+        sectionIndex = index;
+
+        Minecraft mc = Minecraft.getInstance();
+        if (mc.level == null) {
+            return;
+        }
+        LongIterator it = dirtySections.iterator();
+        while (it.hasNext()) {
+            long section = it.nextLong();
+            mc.levelRenderer.setSectionDirty(SectionPos.x(section), SectionPos.y(section), SectionPos.z(section));
+        }
+    }
+
+    private static void addSectionBox(LongSet sections, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        int minSX = SectionPos.blockToSectionCoord(minX);
+        int minSY = SectionPos.blockToSectionCoord(minY);
+        int minSZ = SectionPos.blockToSectionCoord(minZ);
+        int maxSX = SectionPos.blockToSectionCoord(maxX);
+        int maxSY = SectionPos.blockToSectionCoord(maxY);
+        int maxSZ = SectionPos.blockToSectionCoord(maxZ);
+        for (int sx = minSX; sx <= maxSX; sx++) {
+            for (int sy = minSY; sy <= maxSY; sy++) {
+                for (int sz = minSZ; sz <= maxSZ; sz++) {
+                    sections.add(SectionPos.asLong(sx, sy, sz));
+                }
+            }
+        }
+    }
+}
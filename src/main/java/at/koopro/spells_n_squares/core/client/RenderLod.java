@@ -0,0 +1,111 @@
+package at.koopro.spells_n_squares.core.client;
+
+import at.koopro.spells_n_squares.core.config.Config;
+import com.mojang.blaze3d.vertex.PoseStack;
+import net.minecraft.client.Minecraft;
+import org.joml.Matrix4f;
+
+/**
+ * Distance-based level of detail policy for mod entity and effect renderers.
+ * Renderers ask for a {@link Detail} from the camera distance and the size of what they draw:
+ * inner shells are dropped past the render detail distance, glow shells past the max particle
+ * distance, and anything that would project to less than a pixel or two is not submitted at all.
+ * Distances scale with {@link Config#getEffectQuality()}; ULTRA only keeps the sub-pixel cull.
+ * Frustum culling itself is left to the entity renderers' bounding box check.
+ */
+public final class RenderLod {
+    private RenderLod() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Detail levels, from most to least detailed.
+     */
+    public enum Detail {
+        /** Everything is rendered */
+        FULL,
+        /** Inner shells and enclosed detail are skipped */
+        REDUCED,
+        /** Glow shells are skipped as well */
+        MINIMAL,
+        /** Nothing is submitted */
+        CULLED
+    }
+
+    /**
+     * Gets the detail level for something at a squared distance from the camera.
+     * @param distanceSq Squared distance to the camera in blocks
+     * @param radius Approximate radius of what is rendered, in blocks
+     * @return The detail level to render with
+     */
+    public static Detail detail(double distanceSq, float radius) {
+        Config.EffectQuality quality = Config.getEffectQuality();
+        if (isSubPixel(distanceSq, radius, quality)) {
+            return Detail.CULLED;
+        }
+        if (quality == Config.EffectQuality.ULTRA) {
+            return Detail.FULL;
+        }
+
+        double scale = distanceScale(quality);
+        double glowDistance = Config.getMaxParticleDistance() * scale;
+        if (distanceSq > glowDistance * glowDistance) {
+            return Detail.MINIMAL;
+        }
+        double detailDistance = Config.getRenderDetailDistance() * scale;
+        if (distanceSq > detailDistance * detailDistance) {
+            return Detail.REDUCED;
+        }
+        return Detail.FULL;
+    }
+
+    /**
+     * Gets the detail level for geometry drawn under a camera-relative pose.
+     * Useful inside custom geometry callbacks, where the pose translation is the offset from the camera.
+     * @param pose The camera-relative pose
+     * @param radius Approximate radius of what is rendered, in blocks
+     * @return The detail level to render with
+     */
+    public static Detail detailForPose(PoseStack.Pose pose, float radius) {
+        Matrix4f m = pose.pose();
+        double distanceSq = (double) m.m30() * m.m30() + (double) m.m31() * m.m31() + (double) m.m32() * m.m32();
+        return detail(distanceSq, radius);
+    }
+
+    /**
+     * Gets the number of segments to build a beam from.
+     * @param detail The detail level
+     * @return The segment count, at least {@link RendererConstants#LIGHTNING_BEAM_MIN_SEGMENTS}
+     */
+    public static int beamSegments(Detail detail) {
+        int segments = switch (detail) {
+            case FULL -> RendererConstants.LIGHTNING_BEAM_SEGMENTS;
+            case REDUCED -> RendererConstants.LIGHTNING_BEAM_SEGMENTS / 2;
+            case MINIMAL, CULLED -> RendererConstants.LIGHTNING_BEAM_MIN_SEGMENTS;
+        };
+        return Math.max(segments, RendererConstants.LIGHTNING_BEAM_MIN_SEGMENTS);
+    }
+
+    private static double distanceScale(Config.EffectQuality quality) {
+        return switch (quality) {
+            case LOW -> 0.5;
+            case MEDIUM -> 1.0;
+            case HIGH, ULTRA -> 1.5;
+        };
+    }
+
+    /**
+     * Checks whether something would project to less than the minimum on-screen size.
+     * Projected diameter in pixels is radius * screenHeight / (distance * tan(fov / 2)).
+     */
+    private static boolean isSubPixel(double distanceSq, float radius, Config.EffectQuality quality) {
+        Minecraft minecraft = Minecraft.getInstance();
+        double tanHalfFov = Math.tan(Math.toRadians(minecraft.options.fov().get()) * 0.5);
+        double minPixels = quality == Config.EffectQuality.LOW
+            ? RendererConstants.LOD_MIN_PIXELS_LOW
+            : RendererConstants.LOD_MIN_PIXELS;
+        double projected = (double) radius * minecraft.getWindow().getHeight();
+        double threshold = minPixels * tanHalfFov;
+        return projected * projected < threshold * threshold * distanceSq;
+    }
+}
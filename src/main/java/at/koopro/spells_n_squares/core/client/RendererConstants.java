@@ -45,6 +45,7 @@ public final class RendererConstants {
     
     // Lightning beam renderer constants
     public static final int LIGHTNING_BEAM_SEGMENTS = 10;
+    public static final int LIGHTNING_BEAM_MIN_SEGMENTS = 3;
     public static final float LIGHTNING_BEAM_THICKNESS = 0.04f;
     public static final float LIGHTNING_BEAM_WOBBLE_SPEED_1 = 0.08f;
     public static final float LIGHTNING_BEAM_WOBBLE_SPEED_2 = 0.05f;
@@ -52,6 +53,10 @@ public final class RendererConstants {
     public static final float LIGHTNING_BEAM_WOBBLE_FREQ_2 = 11.0f;
     public static final float LIGHTNING_BEAM_WOBBLE_AMPLITUDE = 0.15f;
     public static final float LIGHTNING_BEAM_MIN_LENGTH = 0.01f;
+    
+    // Level of detail constants (minimum projected size in pixels before culling)
+    public static final double LOD_MIN_PIXELS = 1.0;
+    public static final double LOD_MIN_PIXELS_LOW = 2.0;
 }
 
 
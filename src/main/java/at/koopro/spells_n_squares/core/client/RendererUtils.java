@@ -5,7 +5,6 @@ import com.mojang.blaze3d.vertex.VertexConsumer;
 import net.minecraft.client.renderer.texture.OverlayTexture;
 import org.joml.Matrix4f;
 import org.joml.Vector3f;
-import org.joml.Vector4f;
 
 /**
  * Utility class for common rendering operations.
@@ -27,6 +26,33 @@ public final class RendererUtils {
         renderCube(buffer, poseStack, half, half, half, 0.0f, color);
     }
     
+    // Corner signs of the unit cube per face, in emission order (-X, +X, -Y, +Y, -Z, +Z)
+    static final float[] FACE_CORNERS = {
+        -1, -1, -1,  -1, 1, -1,  -1, 1, 1,  -1, -1, 1,
+        1, -1, -1,  1, 1, -1,  1, 1, 1,  1, -1, 1,
+        -1, -1, -1,  1, -1, -1,  1, -1, 1,  -1, -1, 1,
+        -1, 1, -1,  1, 1, -1,  1, 1, 1,  -1, 1, 1,
+        -1, -1, -1,  -1, 1, -1,  1, 1, -1,  1, -1, -1,
+        -1, -1, 1,  -1, 1, 1,  1, 1, 1,  1, -1, 1
+    };
+    
+    // Normal of each face
+    static final float[] FACE_NORMALS = {
+        -1, 0, 0,
+        1, 0, 0,
+        0, -1, 0,
+        0, 1, 0,
+        0, 0, -1,
+        0, 0, 1
+    };
+    
+    // Texture coordinates of the four vertices of a quad
+    static final float[] QUAD_U = {0, 0, 1, 1};
+    static final float[] QUAD_V = {0, 1, 1, 0};
+    
+    // Scratch vector for transformed positions; rendering only happens on the render thread
+    private static final Vector3f SCRATCH = new Vector3f();
+    
     /**
      * Renders a cuboid with specified dimensions.
      * @param buffer The vertex buffer to write to
@@ -38,68 +64,41 @@ public final class RendererUtils {
      * @param color The color of the cuboid (ARGB format)
      */
     public static void renderCube(VertexConsumer buffer, PoseStack poseStack, float halfX, float halfY, float halfZ, float yOffset, int color) {
-        Matrix4f m = new Matrix4f(poseStack.last().pose());
-        java.util.function.Function<Vector3f, Vector4f> t = v -> new Vector4f(v.x, v.y + yOffset, v.z, 1.0f).mul(m);
-
-        // -X face
-        Vector4f a1 = t.apply(new Vector3f(-halfX, -halfY, -halfZ));
-        Vector4f a2 = t.apply(new Vector3f(-halfX, halfY, -halfZ));
-        Vector4f a3 = t.apply(new Vector3f(-halfX, halfY, halfZ));
-        Vector4f a4 = t.apply(new Vector3f(-halfX, -halfY, halfZ));
-        buffer.addVertex(a1.x(), a1.y(), a1.z(), color, 0, 0, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, -1, 0, 0);
-        buffer.addVertex(a2.x(), a2.y(), a2.z(), color, 0, 1, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, -1, 0, 0);
-        buffer.addVertex(a3.x(), a3.y(), a3.z(), color, 1, 1, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, -1, 0, 0);
-        buffer.addVertex(a4.x(), a4.y(), a4.z(), color, 1, 0, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, -1, 0, 0);
-
-        // +X face
-        Vector4f b1 = t.apply(new Vector3f(halfX, -halfY, -halfZ));
-        Vector4f b2 = t.apply(new Vector3f(halfX, halfY, -halfZ));
-        Vector4f b3 = t.apply(new Vector3f(halfX, halfY, halfZ));
-        Vector4f b4 = t.apply(new Vector3f(halfX, -halfY, halfZ));
-        buffer.addVertex(b1.x(), b1.y(), b1.z(), color, 0, 0, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, 1, 0, 0);
-        buffer.addVertex(b2.x(), b2.y(), b2.z(), color, 0, 1, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, 1, 0, 0);
-        buffer.addVertex(b3.x(), b3.y(), b3.z(), color, 1, 1, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, 1, 0, 0);
-        buffer.addVertex(b4.x(), b4.y(), b4.z(), color, 1, 0, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, 1, 0, 0);
-
-        // -Y face
-        Vector4f c1 = t.apply(new Vector3f(-halfX, -halfY, -halfZ));
-        Vector4f c2 = t.apply(new Vector3f(halfX, -halfY, -halfZ));
-        Vector4f c3 = t.apply(new Vector3f(halfX, -halfY, halfZ));
-        Vector4f c4 = t.apply(new Vector3f(-halfX, -halfY, halfZ));
-        buffer.addVertex(c1.x(), c1.y(), c1.z(), color, 0, 0, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, 0, -1, 0);
-        buffer.addVertex(c2.x(), c2.y(), c2.z(), color, 0, 1, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, 0, -1, 0);
-        buffer.addVertex(c3.x(), c3.y(), c3.z(), color, 1, 1, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, 0, -1, 0);
-        buffer.addVertex(c4.x(), c4.y(), c4.z(), color, 1, 0, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, 0, -1, 0);
-
-        // +Y face
-        Vector4f d1 = t.apply(new Vector3f(-halfX, halfY, -halfZ));
-        Vector4f d2 = t.apply(new Vector3f(halfX, halfY, -halfZ));
-        Vector4f d3 = t.apply(new Vector3f(halfX, halfY, halfZ));
-        Vector4f d4 = t.apply(new Vector3f(-halfX, halfY, halfZ));
-        buffer.addVertex(d1.x(), d1.y(), d1.z(), color, 0, 0, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, 0, 1, 0);
-        buffer.addVertex(d2.x(), d2.y(), d2.z(), color, 0, 1, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, 0, 1, 0);
-        buffer.addVertex(d3.x(), d3.y(), d3.z(), color, 1, 1, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, 0, 1, 0);
-        buffer.addVertex(d4.x(), d4.y(), d4.z(), color, 1, 0, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, 0, 1, 0);
-
-        // -Z face
-        Vector4f e1 = t.apply(new Vector3f(-halfX, -halfY, -halfZ));
-        Vector4f e2 = t.apply(new Vector3f(-halfX, halfY, -halfZ));
-        Vector4f e3 = t.apply(new Vector3f(halfX, halfY, -halfZ));
-        Vector4f e4 = t.apply(new Vector3f(halfX, -halfY, -halfZ));
-        buffer.addVertex(e1.x(), e1.y(), e1.z(), color, 0, 0, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, 0, 0, -1);
-        buffer.addVertex(e2.x(), e2.y(), e2.z(), color, 0, 1, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, 0, 0, -1);
-        buffer.addVertex(e3.x(), e3.y(), e3.z(), color, 1, 1, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, 0, 0, -1);
-        buffer.addVertex(e4.x(), e4.y(), e4.z(), color, 1, 0, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, 0, 0, -1);
-
-        // +Z face
-        Vector4f f1 = t.apply(new Vector3f(-halfX, -halfY, halfZ));
-        Vector4f f2 = t.apply(new Vector3f(-halfX, halfY, halfZ));
-        Vector4f f3 = t.apply(new Vector3f(halfX, halfY, halfZ));
-        Vector4f f4 = t.apply(new Vector3f(halfX, -halfY, halfZ));
-        buffer.addVertex(f1.x(), f1.y(), f1.z(), color, 0, 0, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, 0, 0, 1);
-        buffer.addVertex(f2.x(), f2.y(), f2.z(), color, 0, 1, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, 0, 0, 1);
-        buffer.addVertex(f3.x(), f3.y(), f3.z(), color, 1, 1, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, 0, 0, 1);
-        buffer.addVertex(f4.x(), f4.y(), f4.z(), color, 1, 0, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, 0, 0, 1);
+        renderCube(buffer, poseStack, halfX, halfY, halfZ, yOffset, color, RendererConstants.OVERLAY_BITS);
+    }
+    
+    /**
+     * Renders a cuboid with specified dimensions and light value.
+     * Corners come from a precomputed unit-cube table and are transformed straight into a
+     * scratch vector, so no objects are allocated per cube.
+     * @param buffer The vertex buffer to write to
+     * @param poseStack The pose stack for transformations
+     * @param halfX Half-width in X direction
+     * @param halfY Half-height in Y direction
+     * @param halfZ Half-depth in Z direction
+     * @param yOffset Vertical offset for the cuboid
+     * @param color The color of the cuboid (ARGB format)
+     * @param light The packed light value
+     */
+    public static void renderCube(VertexConsumer buffer, PoseStack poseStack, float halfX, float halfY, float halfZ, float yOffset, int color, int light) {
+        Matrix4f m = poseStack.last().pose();
+        Vector3f p = SCRATCH;
+        
+        for (int face = 0; face < 6; face++) {
+            float nx = FACE_NORMALS[face * 3];
+            float ny = FACE_NORMALS[face * 3 + 1];
+            float nz = FACE_NORMALS[face * 3 + 2];
+            
+            for (int vertex = 0; vertex < 4; vertex++) {
+                int corner = (face * 4 + vertex) * 3;
+                m.transformPosition(
+                    FACE_CORNERS[corner] * halfX,
+                    FACE_CORNERS[corner + 1] * halfY + yOffset,
+                    FACE_CORNERS[corner + 2] * halfZ,
+                    p);
+                buffer.addVertex(p.x, p.y, p.z, color, QUAD_U[vertex], QUAD_V[vertex], OverlayTexture.NO_OVERLAY, light, nx, ny, nz);
+            }
+        }
     }
     
     /**
@@ -114,24 +113,15 @@ public final class RendererUtils {
      * @param color The color of the quad (ARGB format)
      */
     public static void addQuad(VertexConsumer buffer, Matrix4f m, Vector3f v0, Vector3f v1, Vector3f v2, Vector3f v3, int color) {
-        Vector4f p0 = new Vector4f(v0, 1.0f).mul(m);
-        Vector4f p1 = new Vector4f(v1, 1.0f).mul(m);
-        Vector4f p2 = new Vector4f(v2, 1.0f).mul(m);
-        Vector4f p3 = new Vector4f(v3, 1.0f).mul(m);
-
         // Single sided; if we want double-sided, we could add reversed order as well
-        buffer.addVertex(p0.x(), p0.y(), p0.z(), color, 0, 0, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, 0, 0, 1);
-        buffer.addVertex(p1.x(), p1.y(), p1.z(), color, 0, 1, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, 0, 0, 1);
-        buffer.addVertex(p2.x(), p2.y(), p2.z(), color, 1, 1, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, 0, 0, 1);
-        buffer.addVertex(p3.x(), p3.y(), p3.z(), color, 1, 0, OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, 0, 0, 1);
+        addQuadVertex(buffer, m, v0, color, 0);
+        addQuadVertex(buffer, m, v1, color, 1);
+        addQuadVertex(buffer, m, v2, color, 2);
+        addQuadVertex(buffer, m, v3, color, 3);
+    }
+    
+    private static void addQuadVertex(VertexConsumer buffer, Matrix4f m, Vector3f v, int color, int vertex) {
+        Vector3f p = m.transformPosition(v.x, v.y, v.z, SCRATCH);
+        buffer.addVertex(p.x, p.y, p.z, color, QUAD_U[vertex], QUAD_V[vertex], OverlayTexture.NO_OVERLAY, RendererConstants.OVERLAY_BITS, 0, 0, 1);
     }
 }
-
-
-
-
-
-
-
-
-
@@ -17,6 +17,15 @@ public class Config {
     public static final ModConfigSpec.BooleanValue ENVIRONMENTAL_EFFECTS_ENABLED;
     public static final ModConfigSpec.IntValue MAX_PARTICLE_DISTANCE;
     public static final ModConfigSpec.EnumValue<EffectQuality> EFFECT_QUALITY;
+    public static final ModConfigSpec.IntValue RENDER_DETAIL_DISTANCE;
+    public static final ModConfigSpec.DoubleValue FX_FRAME_BUDGET_MS;
+    
+    // Creature activation options
+    public static final ModConfigSpec.BooleanValue CREATURE_ACTIVATION_ENABLED;
+    public static final ModConfigSpec.DoubleValue CREATURE_FULL_ACTIVATION_RANGE;
+    public static final ModConfigSpec.DoubleValue CREATURE_REDUCED_ACTIVATION_RANGE;
+    public static final ModConfigSpec.EnumValue<CompanionAiProfile> COMPANION_AI_PROFILE;
+    public static final ModConfigSpec.IntValue COMPANION_IDLE_INTERVAL;
     
     public static final ModConfigSpec SPEC;
     
@@ -27,6 +36,16 @@ public class Config {
         LOW, MEDIUM, HIGH, ULTRA
     }
     
+    /**
+     * Goal sets used by tamed companions and mounts.
+     */
+    public enum CompanionAiProfile {
+        /** Vanilla follow, stroll and look goals */
+        VANILLA,
+        /** Interval-based idle goals and a follow-owner goal that shares paths within a pack */
+        LIGHTWEIGHT
+    }
+    
     static {
         BUILDER.push("visual_effects");
         
@@ -70,6 +89,38 @@ public class Config {
             .comment("Overall effect quality preset (LOW, MEDIUM, HIGH, ULTRA)")
             .defineEnum("effectQuality", EffectQuality.MEDIUM);
         
+        RENDER_DETAIL_DISTANCE = BUILDER
+            .comment("Distance (in blocks) beyond which mod entities drop inner detail; glow shells are dropped past maxParticleDistance. Both scale with effectQuality")
+            .defineInRange("renderDetailDistance", 24, 8, 128);
+        
+        FX_FRAME_BUDGET_MS = BUILDER
+            .comment("Time (in milliseconds) per frame for screen overlays, cuts and post-processing; low-priority effects are skipped once it is used up")
+            .defineInRange("fxFrameBudgetMs", 2.0, 0.25, 16.0);
+        
+        BUILDER.pop();
+        
+        BUILDER.push("creature_activation");
+        
+        CREATURE_ACTIVATION_ENABLED = BUILDER
+            .comment("Reduce the tick work of mod creatures that are far from every player")
+            .define("enabled", true);
+        
+        CREATURE_FULL_ACTIVATION_RANGE = BUILDER
+            .comment("Distance (in blocks) to the nearest player within which mod creatures tick fully. Creature types may override it")
+            .defineInRange("fullRange", 32.0, 8.0, 128.0);
+        
+        CREATURE_REDUCED_ACTIVATION_RANGE = BUILDER
+            .comment("Distance (in blocks) within which mod creatures run their custom tick logic at a reduced rate; beyond it idle creatures go dormant")
+            .defineInRange("reducedRange", 64.0, 16.0, 256.0);
+        
+        COMPANION_AI_PROFILE = BUILDER
+            .comment("AI goal set for companions and mounts (VANILLA, LIGHTWEIGHT); applies to creatures loaded after a change")
+            .defineEnum("companionAiProfile", CompanionAiProfile.LIGHTWEIGHT);
+        
+        COMPANION_IDLE_INTERVAL = BUILDER
+            .comment("Ticks between idle decisions (stroll, look at player, look around) of companions using the LIGHTWEIGHT profile")
+            .defineInRange("companionIdleInterval", 20, 2, 200);
+        
         BUILDER.pop();
         
         BUILDER.push("gameplay");
@@ -165,5 +216,53 @@ public class Config {
     public static EffectQuality getEffectQuality() {
         return EFFECT_QUALITY.get();
     }
+    
+    /**
+     * Gets the distance beyond which mod entities render with reduced detail.
+     */
+    public static int getRenderDetailDistance() {
+        return RENDER_DETAIL_DISTANCE.get();
+    }
+    
+    /**
+     * Gets the per-frame time budget for screen effects in milliseconds.
+     */
+    public static double getFxFrameBudgetMs() {
+        return FX_FRAME_BUDGET_MS.get();
+    }
+    
+    /**
+     * Checks if distance-based creature activation is enabled.
+     */
+    public static boolean isCreatureActivationEnabled() {
+        return CREATURE_ACTIVATION_ENABLED.get();
+    }
+    
+    /**
+     * Gets the default distance within which mod creatures tick fully.
+     */
+    public static double getCreatureFullActivationRange() {
+        return CREATURE_FULL_ACTIVATION_RANGE.get();
+    }
+    
+    /**
+     * Gets the default distance within which mod creatures tick at a reduced rate.
+     */
+    public static double getCreatureReducedActivationRange() {
+        return CREATURE_REDUCED_ACTIVATION_RANGE.get();
+    }
+    
+    /**
+     * Gets the AI goal set used by companions and mounts.
+     */
+    public static CompanionAiProfile getCompanionAiProfile() {
+        return COMPANION_AI_PROFILE.get();
+    }
+    
+    /**
+     * Gets the ticks between idle decisions of lightweight companions.
+     */
+    public static int getCompanionIdleInterval() {
+        return COMPANION_IDLE_INTERVAL.get();
+    }
 }
-
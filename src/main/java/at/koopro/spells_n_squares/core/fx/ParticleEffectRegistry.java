@@ -31,7 +31,7 @@ public final class ParticleEffectRegistry {
          * Spawns this effect at a position.
          */
         public void spawn(ServerLevel level, Vec3 position) {
-            level.sendParticles(
+            ParticlePool.queueParticle(level,
                 particle,
                 position.x, position.y, position.z,
                 count,
@@ -45,7 +45,7 @@ public final class ParticleEffectRegistry {
          */
         public void spawn(ServerLevel level, Vec3 position, double multiplier) {
             int adjustedCount = (int) Math.max(1, count * multiplier);
-            level.sendParticles(
+            ParticlePool.queueParticle(level,
                 particle,
                 position.x, position.y, position.z,
                 adjustedCount,
@@ -1,98 +1,211 @@
 package at.koopro.spells_n_squares.core.fx;
 
+import at.koopro.spells_n_squares.core.config.Config;
+import at.koopro.spells_n_squares.core.network.ParticleBatchPayload;
+import net.minecraft.core.SectionPos;
 import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.core.particles.ParticleType;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.core.particles.SimpleParticleType;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.nbt.Tag;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.phys.Vec3;
+import net.neoforged.neoforge.network.PacketDistributor;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
- * Simple particle pooling system for performance optimization.
- * Tracks and batches particle sends to reduce overhead.
+ * Single route for server-side mod particles.
+ * Requests are collected during the tick and merged per (particle type, chunk); identical
+ * requests add up their counts. When the level tick ends, every player gets one
+ * {@link ParticleBatchPayload} with the batches within {@link Config#getMaxParticleDistance()}
+ * of them, which the client expands into particles locally.
  */
 public final class ParticlePool {
     private ParticlePool() {
     }
-    
+
+    /**
+     * @param particle The particle itself for simple particles, otherwise its {@link EncodedParticle}
+     */
+    private record BatchKey(Object particle, long chunk) {
+    }
+
+    /**
+     * Value-comparable form of particle options that have parameters (dust, block, item, ...).
+     * Most of these options are not records and compare by identity, so two calls with equal
+     * parameters would otherwise never share a batch.
+     */
+    private record EncodedParticle(ParticleType<?> type, Tag data) {
+    }
+
     /**
-     * Batched particle send request.
+     * Particle requests of one type in one chunk.
      */
-    private static class ParticleRequest {
+    private static final class Batch {
         final ParticleOptions particle;
-        final Vec3 position;
-        final int count;
-        final double spreadX, spreadY, spreadZ;
-        final double speed;
-        
-        ParticleRequest(ParticleOptions particle, Vec3 position, int count,
-                       double spreadX, double spreadY, double spreadZ, double speed) {
+        double[] positions = new double[4 * 3];
+        float[] motion = new float[4 * 4];
+        int[] counts = new int[4];
+        int size;
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY, minZ = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY, maxZ = Double.NEGATIVE_INFINITY;
+        ParticleBatchPayload.Group group;
+
+        Batch(ParticleOptions particle) {
             this.particle = particle;
-            this.position = position;
-            this.count = count;
-            this.spreadX = spreadX;
-            this.spreadY = spreadY;
-            this.spreadZ = spreadZ;
-            this.speed = speed;
+        }
+
+        void add(double x, double y, double z, int count, float spreadX, float spreadY, float spreadZ, float speed) {
+            // Directional particles (count 0) keep their own entry; others with identical parameters merge
+            if (count > 0) {
+                for (int i = 0; i < size; i++) {
+                    if (counts[i] > 0
+                        && positions[i * 3] == x && positions[i * 3 + 1] == y && positions[i * 3 + 2] == z
+                        && motion[i * 4] == spreadX && motion[i * 4 + 1] == spreadY && motion[i * 4 + 2] == spreadZ
+                        && motion[i * 4 + 3] == speed) {
+                        counts[i] += count;
+                        return;
+                    }
+                }
+            }
+
+            if (size == counts.length) {
+                positions = Arrays.copyOf(positions, size * 2 * 3);
+                motion = Arrays.copyOf(motion, size * 2 * 4);
+                counts = Arrays.copyOf(counts, size * 2);
+            }
+            positions[size * 3] = x;
+            positions[size * 3 + 1] = y;
+            positions[size * 3 + 2] = z;
+            motion[size * 4] = spreadX;
+            motion[size * 4 + 1] = spreadY;
+            motion[size * 4 + 2] = spreadZ;
+            motion[size * 4 + 3] = speed;
+            counts[size] = count;
+            size++;
+
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            minZ = Math.min(minZ, z);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+            maxZ = Math.max(maxZ, z);
+        }
+
+        /**
+         * Squared distance from a point to the bounds of this batch.
+         */
+        double distanceSq(Vec3 pos) {
+            double dx = Math.max(0.0, Math.max(minX - pos.x, pos.x - maxX));
+            double dy = Math.max(0.0, Math.max(minY - pos.y, pos.y - maxY));
+            double dz = Math.max(0.0, Math.max(minZ - pos.z, pos.z - maxZ));
+            return dx * dx + dy * dy + dz * dz;
+        }
+
+        ParticleBatchPayload.Group toGroup() {
+            if (group == null) {
+                group = new ParticleBatchPayload.Group(particle, size, positions, motion, counts);
+            }
+            return group;
         }
     }
-    
-    // Per-level particle request queues
-    private static final java.util.Map<ServerLevel, List<ParticleRequest>> requestQueues = new HashMap<>();
-    
+
+    // Per-level batches of the current tick; replaced on flush because sent payloads keep references
+    private static final Map<ServerLevel, Map<BatchKey, Batch>> pendingBatches = new HashMap<>();
+
+    /**
+     * Queues particles for this tick's batch.
+     * Takes the same arguments as {@link ServerLevel#sendParticles}.
+     */
+    public static void queueParticle(ServerLevel level, ParticleOptions particle, double x, double y, double z,
+                                     int count, double spreadX, double spreadY, double spreadZ, double speed) {
+        if (level == null || particle == null || count < 0) {
+            return;
+        }
+
+        long chunk = ChunkPos.asLong(SectionPos.posToSectionCoord(x), SectionPos.posToSectionCoord(z));
+        pendingBatches.computeIfAbsent(level, k -> new LinkedHashMap<>())
+            .computeIfAbsent(new BatchKey(batchIdentity(level, particle), chunk), k -> new Batch(particle))
+            .add(x, y, z, count, (float) spreadX, (float) spreadY, (float) spreadZ, (float) speed);
+    }
+
     /**
-     * Queues a particle for batch sending.
+     * Queues particles for this tick's batch.
      */
     public static void queueParticle(ServerLevel level, ParticleOptions particle, Vec3 position,
                                     int count, double spreadX, double spreadY, double spreadZ, double speed) {
-        if (level == null || particle == null || position == null) {
+        if (position == null) {
             return;
         }
-        
-        requestQueues.computeIfAbsent(level, k -> new ArrayList<>()).add(
-            new ParticleRequest(particle, position, count, spreadX, spreadY, spreadZ, speed)
-        );
+        queueParticle(level, particle, position.x, position.y, position.z, count, spreadX, spreadY, spreadZ, speed);
     }
-    
+
     /**
-     * Flushes all queued particles for a level.
-     * Call this at the end of each tick.
+     * Gets the object particles are batched by: the particle itself if it has no parameters,
+     * otherwise its encoded parameters.
+     */
+    private static Object batchIdentity(ServerLevel level, ParticleOptions particle) {
+        if (particle instanceof SimpleParticleType) {
+            return particle;
+        }
+        return ParticleTypes.CODEC.encodeStart(level.registryAccess().createSerializationContext(NbtOps.INSTANCE), particle)
+            .result()
+            .<Object>map(data -> new EncodedParticle(particle.getType(), data))
+            .orElse(particle);
+    }
+
+    /**
+     * Sends the queued particles of a level, one payload per player.
+     * Call this at the end of each level tick.
      */
     public static void flush(ServerLevel level) {
-        List<ParticleRequest> queue = requestQueues.get(level);
-        if (queue == null || queue.isEmpty()) {
+        Map<BatchKey, Batch> batches = pendingBatches.remove(level);
+        if (batches == null || batches.isEmpty()) {
             return;
         }
-        
-        // Send all queued particles
-        for (ParticleRequest request : queue) {
-            level.sendParticles(
-                request.particle,
-                request.position.x, request.position.y, request.position.z,
-                request.count,
-                request.spreadX, request.spreadY, request.spreadZ,
-                request.speed
-            );
+
+        double maxDistance = Config.getMaxParticleDistance();
+        double maxDistanceSq = maxDistance * maxDistance;
+        for (ServerPlayer player : level.players()) {
+            Vec3 viewer = player.position();
+            List<ParticleBatchPayload.Group> visible = null;
+            for (Batch batch : batches.values()) {
+                if (batch.distanceSq(viewer) > maxDistanceSq) {
+                    continue;
+                }
+                if (visible == null) {
+                    visible = new ArrayList<>();
+                }
+                visible.add(batch.toGroup());
+            }
+            if (visible != null) {
+                PacketDistributor.sendToPlayer(player, new ParticleBatchPayload(visible));
+            }
         }
-        
-        queue.clear();
     }
-    
+
     /**
-     * Flushes all levels (called on server tick).
+     * Flushes all levels.
      */
     public static void flushAll() {
-        for (ServerLevel level : requestQueues.keySet()) {
+        for (ServerLevel level : new ArrayList<>(pendingBatches.keySet())) {
             flush(level);
         }
     }
-    
+
     /**
      * Clears all queues (called on server shutdown).
      */
     public static void clear() {
-        requestQueues.clear();
+        pendingBatches.clear();
     }
 }
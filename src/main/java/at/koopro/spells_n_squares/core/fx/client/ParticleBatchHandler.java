@@ -0,0 +1,59 @@
+package at.koopro.spells_n_squares.core.fx.client;
+
+import at.koopro.spells_n_squares.core.network.ParticleBatchPayload;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.util.RandomSource;
+
+/**
+ * Client-side counterpart of the server particle pool.
+ * Expands particle batches the same way vanilla handles a particle packet: a count of zero
+ * spawns one particle moving along the spread vector scaled by speed, otherwise each particle
+ * gets a gaussian offset within the spread and a gaussian velocity scaled by speed.
+ */
+public final class ParticleBatchHandler {
+    private ParticleBatchHandler() {
+    }
+    
+    private static final RandomSource random = RandomSource.createNewThreadLocalInstance();
+    
+    /**
+     * Spawns the particles of a batch payload in the client level.
+     * @param payload The received payload
+     */
+    public static void handle(ParticleBatchPayload payload) {
+        ClientLevel level = Minecraft.getInstance().level;
+        if (level == null) {
+            return;
+        }
+        
+        for (ParticleBatchPayload.Group group : payload.groups()) {
+            double[] positions = group.positions();
+            float[] motion = group.motion();
+            int[] counts = group.counts();
+            for (int i = 0; i < group.size(); i++) {
+                double x = positions[i * 3];
+                double y = positions[i * 3 + 1];
+                double z = positions[i * 3 + 2];
+                float spreadX = motion[i * 4];
+                float spreadY = motion[i * 4 + 1];
+                float spreadZ = motion[i * 4 + 2];
+                float speed = motion[i * 4 + 3];
+                
+                if (counts[i] == 0) {
+                    level.addParticle(group.particle(), x, y, z, spreadX * speed, spreadY * speed, spreadZ * speed);
+                    continue;
+                }
+                for (int n = 0; n < counts[i]; n++) {
+                    level.addParticle(group.particle(),
+                        x + random.nextGaussian() * spreadX,
+                        y + random.nextGaussian() * spreadY,
+                        z + random.nextGaussian() * spreadZ,
+                        random.nextGaussian() * speed,
+                        random.nextGaussian() * speed,
+                        random.nextGaussian() * speed);
+                }
+            }
+        }
+    }
+}
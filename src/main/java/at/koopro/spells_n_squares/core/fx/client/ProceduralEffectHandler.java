@@ -0,0 +1,48 @@
+package at.koopro.spells_n_squares.core.fx.client;
+
+import at.koopro.spells_n_squares.core.fx.FXConfigHelper;
+import at.koopro.spells_n_squares.core.network.ProceduralEffectPayload;
+import at.koopro.spells_n_squares.core.registry.ParticleEffectRegistry;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Generates procedural particle effects triggered by the server.
+ * The particle count is scaled by the local effect quality and, for effects placed in the
+ * world, by the distance to the local player.
+ */
+public final class ProceduralEffectHandler {
+    private ProceduralEffectHandler() {
+    }
+    
+    /**
+     * Spawns the particles of a triggered effect in the client level.
+     * @param payload The received payload
+     */
+    public static void handle(ProceduralEffectPayload payload) {
+        Minecraft mc = Minecraft.getInstance();
+        ClientLevel level = mc.level;
+        ParticleEffectRegistry.ParticleEffectTemplate template = ParticleEffectRegistry.get(payload.effectId());
+        if (level == null || mc.player == null || template == null) {
+            return;
+        }
+        
+        Vec3 origin = payload.origin();
+        int baseCount = Math.round(template.count() * payload.intensity());
+        int count;
+        if (template.viewerAnchored()) {
+            // Sky effects follow the viewer horizontally, so distance does not matter
+            origin = new Vec3(mc.player.getX(), origin.y, mc.player.getZ());
+            count = FXConfigHelper.calculateParticleCount(baseCount);
+        } else {
+            count = FXConfigHelper.calculateParticleCountWithLOD(mc.player, origin, baseCount);
+        }
+        if (count <= 0) {
+            return;
+        }
+        
+        template.generate(RandomSource.create(payload.seed()), origin, payload.direction(), count, level::addParticle);
+    }
+}
@@ -12,11 +12,20 @@ import at.koopro.spells_n_squares.features.spell.network.SpellCastPayload;
 import at.koopro.spells_n_squares.features.spell.network.SpellCooldownSyncPayload;
 import at.koopro.spells_n_squares.features.spell.network.SpellSlotAssignPayload;
 import at.koopro.spells_n_squares.features.spell.network.SpellSlotsSyncPayload;
+import at.koopro.spells_n_squares.features.education.BestiaryCreatureRegistry;
+import at.koopro.spells_n_squares.features.education.client.ClientBestiary;
+import at.koopro.spells_n_squares.features.education.network.BestiaryCatalogPayload;
+import at.koopro.spells_n_squares.features.education.network.BestiaryDiscoveredPayload;
+import at.koopro.spells_n_squares.features.education.network.BestiaryTextPayload;
+import at.koopro.spells_n_squares.features.education.network.BestiaryTextRequestPayload;
 import at.koopro.spells_n_squares.features.convenience.WaypointSystem;
 import at.koopro.spells_n_squares.features.convenience.network.WaypointListPayload;
 import at.koopro.spells_n_squares.features.convenience.network.WaypointSelectionPayload;
 import at.koopro.spells_n_squares.core.network.FXTestPayload;
+import at.koopro.spells_n_squares.core.fx.client.ParticleBatchHandler;
+import at.koopro.spells_n_squares.core.fx.client.ProceduralEffectHandler;
 import io.netty.buffer.ByteBuf;
+import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.server.level.ServerLevel;
@@ -94,7 +103,7 @@ public class ModNetwork {
     private static <T extends CustomPacketPayload> void registerToClient(
             PayloadRegistrar registrar,
             CustomPacketPayload.Type<T> type,
-            StreamCodec<ByteBuf, T> codec,
+            StreamCodec<? super RegistryFriendlyByteBuf, T> codec,
             Consumer<T> handler
     ) {
         registrar.playToClient(type, codec, (payload, context) -> 
@@ -136,7 +145,7 @@ public class ModNetwork {
         
         // Register spell cooldown sync payload (server -> client)
         registerToClient(registrar, SpellCooldownSyncPayload.TYPE, SpellCooldownSyncPayload.STREAM_CODEC, payload -> {
-            ClientSpellData.updateCooldowns(payload.toMap());
+            ClientSpellData.applyCooldownSync(payload.toMap(), payload.full());
         });
         
         // Register spell slot assignment payload (client -> server)
@@ -153,6 +162,8 @@ public class ModNetwork {
         // Register player class sync payload (server -> client)
         registerToClient(registrar, PlayerClassSyncPayload.TYPE, PlayerClassSyncPayload.STREAM_CODEC, payload -> {
             ClientSpellData.setPlayerClass(payload.getPrimaryClass());
+            // Client classes come from the synced data, so drop any abilities resolved from the old ones
+            at.koopro.spells_n_squares.features.playerclass.ClassAbilityResolver.invalidateClient();
         });
         
         // Register lumos state sync payload (server -> client)
@@ -198,6 +209,30 @@ public class ModNetwork {
             WaypointSystem.apparateToWaypoint(serverPlayer, payload.waypointName());
         });
         
+        // Register bestiary catalog payload (server -> client)
+        registerToClient(registrar, BestiaryCatalogPayload.TYPE, BestiaryCatalogPayload.STREAM_CODEC, payload -> {
+            ClientBestiary.applyCatalog(payload.entries());
+        });
+        
+        // Register bestiary discovered payload (server -> client)
+        registerToClient(registrar, BestiaryDiscoveredPayload.TYPE, BestiaryDiscoveredPayload.STREAM_CODEC, payload -> {
+            ClientBestiary.applyDiscovered(payload.toBitSet());
+        });
+        
+        // Register bestiary text request payload (client -> server)
+        registerToServer(registrar, BestiaryTextRequestPayload.TYPE, BestiaryTextRequestPayload.STREAM_CODEC, (payload, serverPlayer) -> {
+            BestiaryCreatureRegistry.sendText(serverPlayer, payload.index());
+        });
+        
+        // Register bestiary text payload (server -> client)
+        registerToClient(registrar, BestiaryTextPayload.TYPE, BestiaryTextPayload.STREAM_CODEC, ClientBestiary::applyText);
+        
+        // Register particle batch payload (server -> client)
+        registerToClient(registrar, ParticleBatchPayload.TYPE, ParticleBatchPayload.STREAM_CODEC, ParticleBatchHandler::handle);
+        
+        // Register procedural effect payload (server -> client)
+        registerToClient(registrar, ProceduralEffectPayload.TYPE, ProceduralEffectPayload.STREAM_CODEC, ProceduralEffectHandler::handle);
+        
         // Register FX test payload (server -> client) for testing screen effects
         registerToClient(registrar, FXTestPayload.TYPE, FXTestPayload.STREAM_CODEC, payload -> {
             net.minecraft.client.Minecraft.getInstance().execute(() -> {
@@ -0,0 +1,79 @@
+package at.koopro.spells_n_squares.core.network;
+
+import at.koopro.spells_n_squares.core.util.ModIdentifierHelper;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Network payload carrying all mod particles a player should see for one server tick.
+ * Particles are grouped by particle type; each entry has the same meaning as the arguments of
+ * {@code ServerLevel.sendParticles} and is expanded into individual particles on the client.
+ */
+public record ParticleBatchPayload(List<Group> groups) implements CustomPacketPayload {
+    public static final CustomPacketPayload.Type<ParticleBatchPayload> TYPE =
+        new CustomPacketPayload.Type<>(ModIdentifierHelper.modId("particle_batch"));
+
+    public static final StreamCodec<RegistryFriendlyByteBuf, ParticleBatchPayload> STREAM_CODEC =
+        StreamCodec.of(ParticleBatchPayload::encode, ParticleBatchPayload::decode);
+
+    /**
+     * Particles of one type.
+     * Entry {@code i} is at {@code positions[i * 3 .. i * 3 + 2]} with spread and speed at
+     * {@code motion[i * 4 .. i * 4 + 3]} and {@code counts[i]} particles.
+     */
+    public record Group(ParticleOptions particle, int size, double[] positions, float[] motion, int[] counts) {
+    }
+
+    private static void encode(RegistryFriendlyByteBuf buf, ParticleBatchPayload payload) {
+        buf.writeVarInt(payload.groups.size());
+        for (Group group : payload.groups) {
+            ParticleTypes.STREAM_CODEC.encode(buf, group.particle());
+            buf.writeVarInt(group.size());
+            for (int i = 0; i < group.size(); i++) {
+                buf.writeDouble(group.positions()[i * 3]);
+                buf.writeDouble(group.positions()[i * 3 + 1]);
+                buf.writeDouble(group.positions()[i * 3 + 2]);
+                buf.writeFloat(group.motion()[i * 4]);
+                buf.writeFloat(group.motion()[i * 4 + 1]);
+                buf.writeFloat(group.motion()[i * 4 + 2]);
+                buf.writeFloat(group.motion()[i * 4 + 3]);
+                buf.writeVarInt(group.counts()[i]);
+            }
+        }
+    }
+
+    private static ParticleBatchPayload decode(RegistryFriendlyByteBuf buf) {
+        int groupCount = buf.readVarInt();
+        List<Group> groups = new ArrayList<>(groupCount);
+        for (int g = 0; g < groupCount; g++) {
+            ParticleOptions particle = ParticleTypes.STREAM_CODEC.decode(buf);
+            int size = buf.readVarInt();
+            double[] positions = new double[size * 3];
+            float[] motion = new float[size * 4];
+            int[] counts = new int[size];
+            for (int i = 0; i < size; i++) {
+                positions[i * 3] = buf.readDouble();
+                positions[i * 3 + 1] = buf.readDouble();
+                positions[i * 3 + 2] = buf.readDouble();
+                motion[i * 4] = buf.readFloat();
+                motion[i * 4 + 1] = buf.readFloat();
+                motion[i * 4 + 2] = buf.readFloat();
+                motion[i * 4 + 3] = buf.readFloat();
+                counts[i] = buf.readVarInt();
+            }
+            groups.add(new Group(particle, size, positions, motion, counts));
+        }
+        return new ParticleBatchPayload(groups);
+    }
+
+    @Override
+    public CustomPacketPayload.Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
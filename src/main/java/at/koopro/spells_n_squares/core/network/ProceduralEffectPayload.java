@@ -0,0 +1,57 @@
+package at.koopro.spells_n_squares.core.network;
+
+import at.koopro.spells_n_squares.core.util.ModIdentifierHelper;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.Identifier;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Network payload that triggers a procedural particle effect on the client.
+ * The client generates the particles from the registered template using the seed,
+ * so every client sees the same layout at its own quality level.
+ */
+public record ProceduralEffectPayload(Identifier effectId, Vec3 origin, Vec3 direction, long seed, float intensity)
+    implements CustomPacketPayload {
+    public static final CustomPacketPayload.Type<ProceduralEffectPayload> TYPE =
+        new CustomPacketPayload.Type<>(ModIdentifierHelper.modId("procedural_effect"));
+    
+    private static final StreamCodec<ByteBuf, Identifier> IDENTIFIER_CODEC =
+        ByteBufCodecs.STRING_UTF8.map(Identifier::parse, Identifier::toString);
+    
+    private static final StreamCodec<ByteBuf, Vec3> VEC3_CODEC = StreamCodec.composite(
+        ByteBufCodecs.DOUBLE, Vec3::x,
+        ByteBufCodecs.DOUBLE, Vec3::y,
+        ByteBufCodecs.DOUBLE, Vec3::z,
+        Vec3::new
+    );
+    
+    // Directions only need float precision
+    private static final StreamCodec<ByteBuf, Vec3> DIRECTION_CODEC = StreamCodec.composite(
+        ByteBufCodecs.FLOAT, v -> (float) v.x,
+        ByteBufCodecs.FLOAT, v -> (float) v.y,
+        ByteBufCodecs.FLOAT, v -> (float) v.z,
+        Vec3::new
+    );
+    
+    public static final StreamCodec<ByteBuf, ProceduralEffectPayload> STREAM_CODEC = StreamCodec.composite(
+        IDENTIFIER_CODEC,
+        ProceduralEffectPayload::effectId,
+        VEC3_CODEC,
+        ProceduralEffectPayload::origin,
+        DIRECTION_CODEC,
+        ProceduralEffectPayload::direction,
+        ByteBufCodecs.LONG,
+        ProceduralEffectPayload::seed,
+        ByteBufCodecs.FLOAT,
+        ProceduralEffectPayload::intensity,
+        ProceduralEffectPayload::new
+    );
+    
+    @Override
+    public CustomPacketPayload.Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,55 @@
+package at.koopro.spells_n_squares.core.persistence;
+
+import at.koopro.spells_n_squares.SpellsNSquares;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.level.saveddata.SavedDataType;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.server.ServerStartingEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Entry point for the mod's world-level persistent state.
+ * All feature stores live in the overworld's data storage, so state is shared across
+ * dimensions and survives restarts. Vanilla saves dirty stores during autosave and
+ * writes the files on the IO pool, so only changed features are re-encoded and disk
+ * writes stay off the tick thread.
+ */
+@EventBusSubscriber(modid = SpellsNSquares.MODID)
+public final class ModPersistence {
+    private static MinecraftServer server;
+
+    // Stores used while no server is running (e.g. on a client), never saved
+    private static final Map<SavedDataType<?>, PersistentMap<?, ?>> detached = new HashMap<>();
+
+    private ModPersistence() {
+    }
+
+    /**
+     * Gets the persistent store for a feature.
+     * @param type The feature's saved data type, created with {@link PersistentMap#type}
+     * @return The store of the running server, or a detached in-memory store if none is running
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> map(SavedDataType<PersistentMap<K, V>> type) {
+        if (server == null) {
+            return (PersistentMap<K, V>) detached.computeIfAbsent(type, t -> new PersistentMap<>());
+        }
+        return server.overworld().getDataStorage().computeIfAbsent(type);
+    }
+
+    @SubscribeEvent
+    public static void onServerStarting(ServerStartingEvent event) {
+        server = event.getServer();
+        detached.clear();
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        server = null;
+        detached.clear();
+    }
+}
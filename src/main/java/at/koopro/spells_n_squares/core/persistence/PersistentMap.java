@@ -0,0 +1,156 @@
+package at.koopro.spells_n_squares.core.persistence;
+
+import at.koopro.spells_n_squares.SpellsNSquares;
+import com.mojang.datafixers.util.Pair;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.world.level.saveddata.SavedData;
+import net.minecraft.world.level.saveddata.SavedDataType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * World-level, dirty-tracked key/value store for a single feature.
+ * Each feature gets its own instance (and its own file in the world's data folder), so an
+ * autosave only re-encodes the features that actually changed since the last save.
+ *
+ * Mutating methods mark the store dirty automatically. Values that are mutated in place
+ * (lists, nested maps) must be followed by a call to {@link #setDirty()}.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public class PersistentMap<K, V> extends SavedData {
+    private final Map<K, V> entries;
+
+    public PersistentMap() {
+        this(new HashMap<>());
+    }
+
+    private PersistentMap(Map<K, V> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Creates the saved data type for a feature store.
+     * Entries are serialized as a list of key/value pairs, so keys do not need a string form.
+     * @param name The feature name (used for the data file name)
+     * @param keyCodec Codec for the keys
+     * @param valueCodec Codec for the values
+     * @return The saved data type to pass to {@link ModPersistence#map}
+     */
+    public static <K, V> SavedDataType<PersistentMap<K, V>> type(String name, Codec<K> keyCodec, Codec<V> valueCodec) {
+        Codec<Pair<K, V>> entryCodec = RecordCodecBuilder.create(instance ->
+            instance.group(
+                keyCodec.fieldOf("key").forGetter(Pair::getFirst),
+                valueCodec.fieldOf("value").forGetter(Pair::getSecond)
+            ).apply(instance, Pair::of)
+        );
+        Codec<PersistentMap<K, V>> codec = entryCodec.listOf().xmap(PersistentMap::fromEntries, PersistentMap::toEntries);
+        return new SavedDataType<>(SpellsNSquares.MODID + "_" + name, PersistentMap::new, codec, null);
+    }
+
+    private static <K, V> PersistentMap<K, V> fromEntries(List<Pair<K, V>> list) {
+        Map<K, V> entries = new HashMap<>();
+        for (Pair<K, V> pair : list) {
+            entries.put(pair.getFirst(), pair.getSecond());
+        }
+        return new PersistentMap<>(entries);
+    }
+
+    private List<Pair<K, V>> toEntries() {
+        List<Pair<K, V>> list = new ArrayList<>(entries.size());
+        for (Map.Entry<K, V> entry : entries.entrySet()) {
+            list.add(Pair.of(entry.getKey(), entry.getValue()));
+        }
+        return list;
+    }
+
+    public V get(K key) {
+        return entries.get(key);
+    }
+
+    public V getOrDefault(K key, V defaultValue) {
+        return entries.getOrDefault(key, defaultValue);
+    }
+
+    public boolean containsKey(K key) {
+        return entries.containsKey(key);
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Gets an unmodifiable view of the keys.
+     */
+    public Set<K> keySet() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * Gets an unmodifiable view of the values.
+     * Mutating a value in place requires a call to {@link #setDirty()}.
+     */
+    public Collection<V> values() {
+        return Collections.unmodifiableCollection(entries.values());
+    }
+
+    /**
+     * Gets an unmodifiable view of the entries.
+     */
+    public Set<Map.Entry<K, V>> entrySet() {
+        return Collections.unmodifiableSet(entries.entrySet());
+    }
+
+    public V put(K key, V value) {
+        setDirty();
+        return entries.put(key, value);
+    }
+
+    public V putIfAbsent(K key, V value) {
+        V existing = entries.putIfAbsent(key, value);
+        if (existing == null) {
+            setDirty();
+        }
+        return existing;
+    }
+
+    public V remove(K key) {
+        V removed = entries.remove(key);
+        if (removed != null) {
+            setDirty();
+        }
+        return removed;
+    }
+
+    /**
+     * Gets the value for a key, creating it if absent.
+     * The store is marked dirty, since callers typically mutate the returned value.
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> factory) {
+        setDirty();
+        return entries.computeIfAbsent(key, factory);
+    }
+
+    /**
+     * Removes all entries matching the predicate.
+     * @return true if any entry was removed
+     */
+    public boolean removeIf(BiPredicate<? super K, ? super V> predicate) {
+        boolean removed = entries.entrySet().removeIf(entry -> predicate.test(entry.getKey(), entry.getValue()));
+        if (removed) {
+            setDirty();
+        }
+        return removed;
+    }
+}
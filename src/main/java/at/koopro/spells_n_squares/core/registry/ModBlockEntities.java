@@ -0,0 +1,29 @@
+package at.koopro.spells_n_squares.core.registry;
+
+import at.koopro.spells_n_squares.SpellsNSquares;
+import at.koopro.spells_n_squares.block.resource.ItemCollectorBlockEntity;
+import at.koopro.spells_n_squares.block.resource.MagicalFarmBlockEntity;
+import at.koopro.spells_n_squares.block.resource.ResourceGeneratorBlockEntity;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.neoforged.neoforge.registries.DeferredHolder;
+import net.neoforged.neoforge.registries.DeferredRegister;
+
+/**
+ * Registry for all mod block entity types.
+ */
+public class ModBlockEntities {
+    public static final DeferredRegister<BlockEntityType<?>> BLOCK_ENTITIES =
+        DeferredRegister.create(Registries.BLOCK_ENTITY_TYPE, SpellsNSquares.MODID);
+
+    // Resource blocks
+    public static final DeferredHolder<BlockEntityType<?>, BlockEntityType<ItemCollectorBlockEntity>> ITEM_COLLECTOR =
+        BLOCK_ENTITIES.register("item_collector",
+            () -> new BlockEntityType<>(ItemCollectorBlockEntity::new, ModBlocks.ITEM_COLLECTOR.get()));
+    public static final DeferredHolder<BlockEntityType<?>, BlockEntityType<ResourceGeneratorBlockEntity>> RESOURCE_GENERATOR =
+        BLOCK_ENTITIES.register("resource_generator",
+            () -> new BlockEntityType<>(ResourceGeneratorBlockEntity::new, ModBlocks.RESOURCE_GENERATOR.get()));
+    public static final DeferredHolder<BlockEntityType<?>, BlockEntityType<MagicalFarmBlockEntity>> MAGICAL_FARM =
+        BLOCK_ENTITIES.register("magical_farm",
+            () -> new BlockEntityType<>(MagicalFarmBlockEntity::new, ModBlocks.MAGICAL_FARM.get()));
+}
@@ -1,16 +1,25 @@
 package at.koopro.spells_n_squares.core.registry;
 
+import at.koopro.spells_n_squares.core.config.Config;
+import at.koopro.spells_n_squares.core.network.ProceduralEffectPayload;
 import net.minecraft.core.particles.ParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.resources.Identifier;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.RandomSource;
 import net.minecraft.world.phys.Vec3;
+import net.neoforged.neoforge.network.PacketDistributor;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
- * Registry for reusable particle effect templates.
+ * Registry for reusable procedural particle effect templates.
+ * The server only sends the effect id, origin, direction, a random seed and an intensity;
+ * each client generates the particles from the template, scaled to its own effect quality
+ * and distance. The same seed always produces the same layout.
  */
 public final class ParticleEffectRegistry {
     private ParticleEffectRegistry() {
@@ -18,40 +27,132 @@ public final class ParticleEffectRegistry {
     
     private static final Map<Identifier, ParticleEffectTemplate> templates = new HashMap<>();
     
+    // Procedural sky effects
+    public static final Identifier AURORA = Identifier.fromNamespaceAndPath("spells_n_squares", "aurora_sky");
+    public static final Identifier FULL_MOON = Identifier.fromNamespaceAndPath("spells_n_squares", "full_moon_ring");
+
+    /**
+     * Shape a template lays its particles out in.
+     */
+    public enum Shape {
+        /** Gaussian cloud around the origin, like a vanilla particle packet */
+        BURST,
+        /**
+         * Ring around the origin, optionally waving up and down. With a direction the ring is centered
+         * at origin + direction and faces along it; without one it lies flat.
+         */
+        RING,
+        /** Line from the origin along the direction */
+        TRAIL
+    }
+
+    /**
+     * Receives generated particles.
+     */
+    @FunctionalInterface
+    public interface ParticleSink {
+        void addParticle(ParticleOptions particle, double x, double y, double z, double xSpeed, double ySpeed, double zSpeed);
+    }
+
     /**
      * Template for a particle effect.
+     * @param shape How particles are laid out
+     * @param particles Particle types; each particle picks one at random
+     * @param count Particle count at intensity 1 and normal quality
+     * @param spreadX Gaussian position spread (BURST) or position jitter (RING, TRAIL)
+     * @param spreadY Vertical spread or jitter
+     * @param spreadZ Spread or jitter along Z
+     * @param speed Gaussian velocity scale
+     * @param radius Ring radius (RING) or spacing between particles (TRAIL)
+     * @param radiusJitter Random extra ring radius
+     * @param wave Height of the ring's vertical wave
+     * @param viewerAnchored Whether the origin follows each viewer horizontally (sky effects)
      */
     public record ParticleEffectTemplate(
-        ParticleOptions particle,
+        Shape shape,
+        List<ParticleOptions> particles,
         int count,
         double spreadX, double spreadY, double spreadZ,
-        double speed
+        double speed,
+        double radius, double radiusJitter, double wave,
+        boolean viewerAnchored
     ) {
         /**
-         * Spawns this effect at a position.
+         * Creates a burst template.
          */
-        public void spawn(ServerLevel level, Vec3 position) {
-            level.sendParticles(
-                particle,
-                position.x, position.y, position.z,
-                count,
-                spreadX, spreadY, spreadZ,
-                speed
-            );
+        public ParticleEffectTemplate(ParticleOptions particle, int count,
+                                      double spreadX, double spreadY, double spreadZ, double speed) {
+            this(Shape.BURST, List.of(particle), count, spreadX, spreadY, spreadZ, speed, 0.0, 0.0, 0.0, false);
         }
         
         /**
-         * Spawns this effect with a multiplier.
+         * Creates a ring template.
          */
-        public void spawn(ServerLevel level, Vec3 position, double multiplier) {
-            int adjustedCount = (int) Math.max(1, count * multiplier);
-            level.sendParticles(
-                particle,
-                position.x, position.y, position.z,
-                adjustedCount,
-                spreadX, spreadY, spreadZ,
-                speed
-            );
+        public static ParticleEffectTemplate ring(List<ParticleOptions> particles, int count, double radius,
+                                                  double radiusJitter, double wave, double jitterY, boolean viewerAnchored) {
+            return new ParticleEffectTemplate(Shape.RING, particles, count, 0.0, jitterY, 0.0, 0.0,
+                radius, radiusJitter, wave, viewerAnchored);
+        }
+
+        /**
+         * Creates a trail template.
+         */
+        public static ParticleEffectTemplate trail(ParticleOptions particle, int count, double spacing, double jitter) {
+            return new ParticleEffectTemplate(Shape.TRAIL, List.of(particle), count, jitter, jitter, jitter, 0.0,
+                spacing, 0.0, 0.0, false);
+        }
+
+        /**
+         * Generates the particles of this effect.
+         * @param random Random source seeded by the server
+         * @param origin The effect origin
+         * @param direction The effect direction (trail direction, or ring offset and facing), may be zero
+         * @param count The number of particles to generate
+         * @param sink Receives the particles
+         */
+        public void generate(RandomSource random, Vec3 origin, Vec3 direction, int count, ParticleSink sink) {
+            double phase = random.nextDouble() * Math.PI * 2;
+            // Ring plane axes: horizontal by default, perpendicular to the direction if it has a horizontal part
+            Vec3 axisA = new Vec3(1, 0, 0);
+            Vec3 axisB = new Vec3(0, 0, 1);
+            if (shape == Shape.RING && direction.horizontalDistanceSqr() > 1.0E-6) {
+                axisA = direction.cross(new Vec3(0, 1, 0)).normalize();
+                axisB = axisA.cross(direction).normalize();
+            }
+            for (int i = 0; i < count; i++) {
+                ParticleOptions particle = particles.size() == 1 ? particles.get(0) : particles.get(random.nextInt(particles.size()));
+                double x = origin.x;
+                double y = origin.y;
+                double z = origin.z;
+                switch (shape) {
+                    case BURST -> {
+                        x += random.nextGaussian() * spreadX;
+                        y += random.nextGaussian() * spreadY;
+                        z += random.nextGaussian() * spreadZ;
+                    }
+                    case RING -> {
+                        double angle = phase + (i / (double) count) * Math.PI * 2;
+                        double r = radius + random.nextDouble() * radiusJitter;
+                        double cos = Math.cos(angle) * r;
+                        double sin = Math.sin(angle) * r;
+                        x += direction.x + axisA.x * cos + axisB.x * sin;
+                        y += direction.y + axisA.y * cos + axisB.y * sin
+                            + Math.sin(angle * 2) * wave + (random.nextDouble() - 0.5) * spreadY;
+                        z += direction.z + axisA.z * cos + axisB.z * sin;
+                    }
+                    case TRAIL -> {
+                        x += direction.x * i * radius + (random.nextDouble() - 0.5) * spreadX;
+                        y += direction.y * i * radius + (random.nextDouble() - 0.5) * spreadY;
+                        z += direction.z * i * radius + (random.nextDouble() - 0.5) * spreadZ;
+                    }
+                }
+                if (speed == 0.0) {
+                    sink.addParticle(particle, x, y, z, 0.0, 0.0, 0.0);
+                } else {
+                    sink.addParticle(particle, x, y, z,
+                        random.nextGaussian() * speed, random.nextGaussian() * speed, random.nextGaussian() * speed);
+                }
+            }
         }
     }
     
@@ -68,6 +169,37 @@ public final class ParticleEffectRegistry {
     public static ParticleEffectTemplate get(Identifier id) {
         return templates.get(id);
     }
+
+    /**
+     * Triggers an effect for all players that can see it.
+     * Only a small trigger payload is sent; clients generate the particles themselves.
+     * @param level The level
+     * @param id The effect id
+     * @param origin The effect origin (for viewer-anchored effects only the height is used)
+     * @param direction The effect direction, or {@link Vec3#ZERO}
+     * @param intensity Multiplier for the particle count
+     */
+    public static void spawn(ServerLevel level, Identifier id, Vec3 origin, Vec3 direction, float intensity) {
+        ParticleEffectTemplate template = templates.get(id);
+        if (template == null || intensity <= 0.0f) {
+            return;
+        }
+
+        ProceduralEffectPayload payload = new ProceduralEffectPayload(id, origin, direction, level.getRandom().nextLong(), intensity);
+        double maxDistance = Config.getMaxParticleDistance();
+        for (ServerPlayer player : level.players()) {
+            if (template.viewerAnchored() || player.position().distanceToSqr(origin) <= maxDistance * maxDistance) {
+                PacketDistributor.sendToPlayer(player, payload);
+            }
+        }
+    }
+
+    /**
+     * Triggers a non-directional effect for all players that can see it.
+     */
+    public static void spawn(ServerLevel level, Identifier id, Vec3 origin, float intensity) {
+        spawn(level, id, origin, Vec3.ZERO, intensity);
+    }
     
     /**
      * Initializes default particle effect templates.
@@ -114,8 +246,13 @@ public final class ParticleEffectRegistry {
             Identifier.fromNamespaceAndPath("spells_n_squares", "silver_mist"),
             new ParticleEffectTemplate(ParticleTypes.ELECTRIC_SPARK, 12, 0.2, 0.2, 0.2, 0.05)
         );
-    }
-}
-
 
+        // Aurora arc high in the sky above each viewer
+        register(AURORA, ParticleEffectTemplate.ring(
+            List.of(ParticleTypes.END_ROD, ParticleTypes.ELECTRIC_SPARK, ParticleTypes.WAX_ON, ParticleTypes.GLOW),
+            50, 50.0, 30.0, 10.0, 0.0, true));
 
+        // Ring around the full moon
+        register(FULL_MOON, ParticleEffectTemplate.ring(List.of(ParticleTypes.END_ROD), 20, 30.0, 10.0, 0.0, 0.0, true));
+    }
+}
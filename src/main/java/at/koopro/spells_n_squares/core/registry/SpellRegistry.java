@@ -2,7 +2,9 @@ package at.koopro.spells_n_squares.core.registry;
 
 import at.koopro.spells_n_squares.SpellsNSquares;
 import at.koopro.spells_n_squares.features.spell.Spell;
+import com.mojang.logging.LogUtils;
 import net.minecraft.resources.Identifier;
+import org.slf4j.Logger;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -12,17 +14,33 @@ import java.util.concurrent.ConcurrentHashMap;
  * Provides static methods for spell registration and retrieval.
  */
 public class SpellRegistry {
+    private static final Logger LOGGER = LogUtils.getLogger();
+    
     private static final Map<Identifier, Spell> spells = new ConcurrentHashMap<>();
     
+    /**
+     * Dense spell indices (spell ID -> index, index -> spell ID).
+     */
+    private record Index(Map<Identifier, Integer> indices, Identifier[] idsByIndex) {
+    }
+    
+    // Built on first use and rebuilt after later registrations until the registry is frozen
+    private static volatile Index index = null;
+    private static volatile boolean frozen = false;
+    
     /**
      * Registers a spell in the registry.
      * @param spell The spell to register
      * @throws IllegalArgumentException if the spell is null or already registered
+     * @throws IllegalStateException if the registry is already frozen
      */
-    public static void register(Spell spell) {
+    public static synchronized void register(Spell spell) {
         if (spell == null) {
             throw new IllegalArgumentException("Spell cannot be null");
         }
+        if (frozen) {
+            throw new IllegalStateException("Spell registry is frozen, cannot register " + spell.getId());
+        }
         
         Identifier id = spell.getId();
         if (spells.containsKey(id)) {
@@ -30,6 +48,7 @@ public class SpellRegistry {
         }
         
         spells.put(id, spell);
+        index = null;
     }
     
     /**
@@ -80,6 +99,77 @@ public class SpellRegistry {
         return spells.containsKey(id);
     }
     
+    /**
+     * Freezes the registry so that indices can no longer change.
+     * Indices are assigned in sorted ID order, so they are the same on every side that
+     * registered the same spells. Called once all mods have finished registering.
+     */
+    public static synchronized void freeze() {
+        if (frozen) {
+            return;
+        }
+        
+        frozen = true;
+        LOGGER.debug("Froze spell registry with {} spells", currentIndex().idsByIndex().length);
+    }
+    
+    private static Index currentIndex() {
+        Index current = index;
+        if (current == null) {
+            synchronized (SpellRegistry.class) {
+                current = index;
+                if (current == null) {
+                    List<Identifier> ids = new ArrayList<>(spells.keySet());
+                    ids.sort(Comparator.comparing(Identifier::toString));
+                    Map<Identifier, Integer> indices = new HashMap<>();
+                    for (int i = 0; i < ids.size(); i++) {
+                        indices.put(ids.get(i), i);
+                    }
+                    current = new Index(indices, ids.toArray(new Identifier[0]));
+                    index = current;
+                }
+            }
+        }
+        return current;
+    }
+    
+    /**
+     * Checks if the registry is frozen.
+     * @return true if indices can no longer change
+     */
+    public static boolean isFrozen() {
+        return frozen;
+    }
+    
+    /**
+     * Gets the dense index of a spell.
+     * Indices are only stable once the registry is frozen.
+     * @param id The spell ID
+     * @return The index (0 to {@link #size()} - 1), or -1 if the spell is not registered
+     */
+    public static int getIndex(Identifier id) {
+        Integer spellIndex = currentIndex().indices().get(id);
+        return spellIndex != null ? spellIndex : -1;
+    }
+    
+    /**
+     * Gets the spell ID for a dense index.
+     * @param index The index
+     * @return The spell ID, or null if the index is out of range
+     */
+    public static Identifier getId(int index) {
+        Identifier[] idsByIndex = currentIndex().idsByIndex();
+        return index >= 0 && index < idsByIndex.length ? idsByIndex[index] : null;
+    }
+    
+    /**
+     * Gets the number of indexed spells.
+     * @return The index range
+     */
+    public static int size() {
+        return currentIndex().idsByIndex().length;
+    }
+    
     /**
      * Creates an Identifier for a spell ID within this mod's namespace.
      * @param path The path part of the ID
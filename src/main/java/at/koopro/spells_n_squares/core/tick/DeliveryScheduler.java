@@ -0,0 +1,196 @@
+package at.koopro.spells_n_squares.core.tick;
+
+import at.koopro.spells_n_squares.SpellsNSquares;
+import com.mojang.logging.LogUtils;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.server.ServerStartedEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Min-heap of timed deliveries to players, keyed on the game tick they are due.
+ * Each server tick only the due entries are popped and dispatched to their recipients.
+ * Recipients that are offline are parked and receive their items on the next login,
+ * so players without pending deliveries cost nothing per tick.
+ *
+ * @param <T> The type of item being delivered
+ */
+@EventBusSubscriber(modid = SpellsNSquares.MODID)
+public final class DeliveryScheduler<T> {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final List<DeliveryScheduler<?>> schedulers = new CopyOnWriteArrayList<>();
+
+    // Overworld game time of the last server tick (or server start), used to turn delays into due ticks
+    private static long currentTick;
+
+    private final String name;
+    private final Dispatcher<T> dispatcher;
+    private final PriorityQueue<Entry<T>> queue = new PriorityQueue<>(
+        Comparator.<Entry<T>>comparingLong(Entry::tick).thenComparingLong(Entry::sequence));
+    private final Map<UUID, List<T>> parked = new HashMap<>();
+    private long nextSequence;
+
+    /**
+     * Delivers a due item to an online recipient.
+     */
+    @FunctionalInterface
+    public interface Dispatcher<T> {
+        /**
+         * Delivers an item.
+         * @param recipient The online recipient
+         * @param level The level the recipient is in
+         * @param item The item to deliver
+         */
+        void deliver(ServerPlayer recipient, ServerLevel level, T item);
+    }
+
+    private record Entry<T>(long tick, long sequence, UUID recipient, T item) {
+    }
+
+    private DeliveryScheduler(String name, Dispatcher<T> dispatcher) {
+        this.name = name;
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Creates a scheduler that is driven by the server tick.
+     * @param name Name used in log messages
+     * @param dispatcher Delivers due items to their recipients
+     * @return The new scheduler
+     */
+    public static <T> DeliveryScheduler<T> create(String name, Dispatcher<T> dispatcher) {
+        DeliveryScheduler<T> scheduler = new DeliveryScheduler<>(name, dispatcher);
+        schedulers.add(scheduler);
+        return scheduler;
+    }
+
+    /**
+     * Gets the game time of the most recent server tick.
+     * @return The current game tick
+     */
+    public static long currentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Schedules an item for delivery at an absolute game tick.
+     * Items that are already due are delivered on the next server tick.
+     * @param recipient The recipient's UUID
+     * @param tick The game tick the item is due
+     * @param item The item to deliver
+     */
+    public void schedule(UUID recipient, long tick, T item) {
+        queue.add(new Entry<>(tick, nextSequence++, recipient, item));
+    }
+
+    /**
+     * Schedules an item for delivery after a delay.
+     * @param recipient The recipient's UUID
+     * @param delayTicks The delay in ticks
+     * @param item The item to deliver
+     */
+    public void scheduleIn(UUID recipient, long delayTicks, T item) {
+        schedule(recipient, currentTick + delayTicks, item);
+    }
+
+    /**
+     * Gets the number of items waiting for delivery, including parked ones.
+     */
+    public int size() {
+        int size = queue.size();
+        for (List<T> items : parked.values()) {
+            size += items.size();
+        }
+        return size;
+    }
+
+    /**
+     * Removes all scheduled and parked items.
+     */
+    public void clear() {
+        queue.clear();
+        parked.clear();
+    }
+
+    private void tick(MinecraftServer server, long now) {
+        while (!queue.isEmpty() && queue.peek().tick() <= now) {
+            Entry<T> entry = queue.poll();
+            ServerPlayer recipient = server.getPlayerList().getPlayer(entry.recipient());
+            if (recipient == null) {
+                parked.computeIfAbsent(entry.recipient(), k -> new ArrayList<>()).add(entry.item());
+            } else {
+                dispatch(recipient, entry.item());
+            }
+        }
+    }
+
+    private void release(ServerPlayer recipient) {
+        List<T> items = parked.remove(recipient.getUUID());
+        if (items != null) {
+            for (T item : items) {
+                dispatch(recipient, item);
+            }
+        }
+    }
+
+    private void dispatch(ServerPlayer recipient, T item) {
+        if (!(recipient.level() instanceof ServerLevel level)) {
+            return;
+        }
+        try {
+            dispatcher.deliver(recipient, level, item);
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to deliver {} item to {}", name, recipient.getName().getString(), e);
+        }
+    }
+
+    /**
+     * Seeds the clock, so delays scheduled before the first server tick are not counted from 0.
+     */
+    @SubscribeEvent
+    public static void onServerStarted(ServerStartedEvent event) {
+        currentTick = event.getServer().overworld().getGameTime();
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(ServerTickEvent.Post event) {
+        MinecraftServer server = event.getServer();
+        currentTick = server.overworld().getGameTime();
+        for (DeliveryScheduler<?> scheduler : schedulers) {
+            scheduler.tick(server, currentTick);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedIn(PlayerEvent.PlayerLoggedInEvent event) {
+        if (event.getEntity() instanceof ServerPlayer serverPlayer) {
+            for (DeliveryScheduler<?> scheduler : schedulers) {
+                scheduler.release(serverPlayer);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        for (DeliveryScheduler<?> scheduler : schedulers) {
+            scheduler.clear();
+        }
+        currentTick = 0;
+    }
+}
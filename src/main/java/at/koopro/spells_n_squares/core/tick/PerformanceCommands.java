@@ -0,0 +1,87 @@
+package at.koopro.spells_n_squares.core.tick;
+
+import at.koopro.spells_n_squares.features.creatures.util.CreatureActivation;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+
+import java.util.List;
+
+/**
+ * Commands for inspecting the mod's server-side performance counters.
+ *
+ * Available commands:
+ * - /spells_n_squaresperf ticks - Show per-task timings of the player tick scheduler
+ * - /spells_n_squaresperf ticks reset - Reset the per-task timings
+ * - /spells_n_squaresperf creatures - Show how many mod creatures are in each activation tier
+ */
+public class PerformanceCommands {
+
+    /**
+     * Registers all performance commands.
+     */
+    public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        // Timings can be reset and reveal server internals, so operators only
+        LiteralArgumentBuilder<CommandSourceStack> root = Commands.literal("spells_n_squaresperf")
+            .requires(source -> source.hasPermission(2));
+
+        // spells_n_squaresperf ticks [reset]
+        root.then(Commands.literal("ticks")
+            .executes(ctx -> showTickTimings(ctx))
+            .then(Commands.literal("reset")
+                .executes(ctx -> resetTickTimings(ctx))));
+
+        // spells_n_squaresperf creatures
+        root.then(Commands.literal("creatures")
+            .executes(ctx -> showCreatureTiers(ctx)));
+
+        dispatcher.register(root);
+    }
+
+    /**
+     * Lists the timing counters of all player tick tasks.
+     */
+    private static int showTickTimings(CommandContext<CommandSourceStack> ctx) {
+        List<PlayerTickScheduler.TaskTiming> timings = PlayerTickScheduler.getTimings();
+        if (timings.isEmpty()) {
+            ctx.getSource().sendSuccess(() -> Component.literal("No player tick tasks registered"), false);
+            return 0;
+        }
+
+        for (PlayerTickScheduler.TaskTiming timing : timings) {
+            String line = String.format("%s [every %d, phase %d]: %d runs, avg %.1f us, max %.1f us",
+                timing.id(), timing.interval(), timing.phase(), timing.runs(),
+                timing.averageMicros(), timing.maxNanos() / 1000.0);
+            ctx.getSource().sendSuccess(() -> Component.literal(line), false);
+        }
+        return timings.size();
+    }
+
+    /**
+     * Resets the timing counters of all player tick tasks.
+     */
+    private static int resetTickTimings(CommandContext<CommandSourceStack> ctx) {
+        PlayerTickScheduler.resetTimings();
+        ctx.getSource().sendSuccess(() -> Component.literal("Player tick task timings reset"), false);
+        return 1;
+    }
+
+    /**
+     * Shows how many mod creatures are in each activation tier.
+     */
+    private static int showCreatureTiers(CommandContext<CommandSourceStack> ctx) {
+        int[] counts = CreatureActivation.getTierCounts();
+        int total = 0;
+        for (CreatureActivation.Tier tier : CreatureActivation.Tier.values()) {
+            int count = counts[tier.ordinal()];
+            total += count;
+            ctx.getSource().sendSuccess(() -> Component.literal(tier.name() + ": " + count), false);
+        }
+        int shownTotal = total;
+        ctx.getSource().sendSuccess(() -> Component.literal("Total: " + shownTotal), false);
+        return total;
+    }
+}
@@ -0,0 +1,187 @@
+package at.koopro.spells_n_squares.core.tick;
+
+import at.koopro.spells_n_squares.SpellsNSquares;
+import com.mojang.logging.LogUtils;
+import net.minecraft.resources.Identifier;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.tick.PlayerTickEvent;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Central scheduler for periodic server-side per-player work.
+ * Features register a task with an interval and a phase offset instead of subscribing
+ * to PlayerTickEvent themselves. A single event subscription performs the server-side
+ * check once and then runs only the tasks that are due for that player on that tick.
+ *
+ * Each player is additionally offset by their entity id, so a task with an interval of 20
+ * runs for 1/20th of the online players on every tick instead of for all of them on every 20th.
+ */
+@EventBusSubscriber(modid = SpellsNSquares.MODID)
+public final class PlayerTickScheduler {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final List<ScheduledTask> tasks = new CopyOnWriteArrayList<>();
+
+    private PlayerTickScheduler() {
+    }
+
+    /**
+     * A unit of periodic per-player work.
+     */
+    @FunctionalInterface
+    public interface PlayerTask {
+        /**
+         * Runs the task for a single player.
+         * @param player The server player being ticked
+         * @param level The level the player is currently in
+         */
+        void run(ServerPlayer player, ServerLevel level);
+    }
+
+    /**
+     * Timing snapshot for a registered task.
+     * @param id The task identifier
+     * @param interval The interval in ticks
+     * @param phase The phase offset in ticks
+     * @param runs Number of executions since the last reset
+     * @param totalNanos Total time spent in the task since the last reset
+     * @param maxNanos Longest single execution since the last reset
+     */
+    public record TaskTiming(Identifier id, int interval, int phase, long runs, long totalNanos, long maxNanos) {
+        /**
+         * Gets the average execution time in microseconds.
+         */
+        public double averageMicros() {
+            return runs == 0 ? 0.0 : totalNanos / (runs * 1000.0);
+        }
+    }
+
+    private static final class ScheduledTask {
+        final Identifier id;
+        final int interval;
+        final int phase;
+        final PlayerTask task;
+        long runs;
+        long totalNanos;
+        long maxNanos;
+
+        ScheduledTask(Identifier id, int interval, int phase, PlayerTask task) {
+            this.id = id;
+            this.interval = interval;
+            this.phase = phase;
+            this.task = task;
+        }
+    }
+
+    /**
+     * Registers a task with an automatically assigned phase offset.
+     * Tasks sharing the same interval are placed on consecutive phases so they do not
+     * all land on the same tick.
+     * @param id Unique identifier of the task (used for timing reports)
+     * @param interval How often the task runs per player, in ticks (1 = every tick)
+     * @param task The task to run
+     */
+    public static void register(Identifier id, int interval, PlayerTask task) {
+        int sameInterval = 0;
+        for (ScheduledTask existing : tasks) {
+            if (existing.interval == interval) {
+                sameInterval++;
+            }
+        }
+        register(id, interval, sameInterval, task);
+    }
+
+    /**
+     * Registers a task with an explicit phase offset.
+     * @param id Unique identifier of the task (used for timing reports)
+     * @param interval How often the task runs per player, in ticks (1 = every tick)
+     * @param phaseOffset Offset in ticks within the interval
+     * @param task The task to run
+     */
+    public static void register(Identifier id, int interval, int phaseOffset, PlayerTask task) {
+        if (id == null || task == null) {
+            return;
+        }
+        if (interval < 1) {
+            throw new IllegalArgumentException("Tick task interval must be at least 1: " + id);
+        }
+        for (ScheduledTask existing : tasks) {
+            if (existing.id.equals(id)) {
+                LOGGER.warn("Player tick task {} is already registered, ignoring duplicate", id);
+                return;
+            }
+        }
+        tasks.add(new ScheduledTask(id, interval, Math.floorMod(phaseOffset, interval), task));
+    }
+
+    /**
+     * Unregisters a task.
+     * @param id The task identifier
+     */
+    public static void unregister(Identifier id) {
+        tasks.removeIf(task -> task.id.equals(id));
+    }
+
+    /**
+     * Drives all registered tasks from a single subscription.
+     */
+    @SubscribeEvent
+    public static void onPlayerTick(PlayerTickEvent.Post event) {
+        if (!(event.getEntity() instanceof ServerPlayer player)
+            || !(player.level() instanceof ServerLevel level)) {
+            return;
+        }
+
+        long tick = level.getGameTime() + player.getId();
+        for (ScheduledTask scheduled : tasks) {
+            if (scheduled.interval > 1 && Math.floorMod(tick + scheduled.phase, scheduled.interval) != 0) {
+                continue;
+            }
+
+            long start = System.nanoTime();
+            try {
+                scheduled.task.run(player, level);
+            } catch (RuntimeException e) {
+                LOGGER.error("Player tick task {} failed for {}", scheduled.id, player.getName().getString(), e);
+            }
+            long elapsed = System.nanoTime() - start;
+
+            scheduled.runs++;
+            scheduled.totalNanos += elapsed;
+            if (elapsed > scheduled.maxNanos) {
+                scheduled.maxNanos = elapsed;
+            }
+        }
+    }
+
+    /**
+     * Gets a timing snapshot of all registered tasks, in registration order.
+     * @return List of task timings
+     */
+    public static List<TaskTiming> getTimings() {
+        List<TaskTiming> timings = new ArrayList<>(tasks.size());
+        for (ScheduledTask scheduled : tasks) {
+            timings.add(new TaskTiming(scheduled.id, scheduled.interval, scheduled.phase,
+                scheduled.runs, scheduled.totalNanos, scheduled.maxNanos));
+        }
+        return timings;
+    }
+
+    /**
+     * Resets the timing counters of all tasks.
+     */
+    public static void resetTimings() {
+        for (ScheduledTask scheduled : tasks) {
+            scheduled.runs = 0;
+            scheduled.totalNanos = 0;
+            scheduled.maxNanos = 0;
+        }
+    }
+}
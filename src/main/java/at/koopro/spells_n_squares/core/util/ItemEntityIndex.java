@@ -0,0 +1,215 @@
+package at.koopro.spells_n_squares.core.util;
+
+import at.koopro.spells_n_squares.SpellsNSquares;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceArrayList;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.EntityEvent;
+import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Per-level index of item entities by chunk section.
+ * Maintained from entity join, leave and section-change events, so item searches (Niffler
+ * treasure hunting, item collectors) only visit the sections they overlap and never run an
+ * entity query of their own. Server side only.
+ */
+@EventBusSubscriber(modid = SpellsNSquares.MODID)
+public final class ItemEntityIndex {
+    // An item's section is the one containing its position; its bounding box can reach this far beyond
+    private static final double SECTION_MARGIN = 1.0;
+
+    private static final Map<ServerLevel, LevelIndex> indices = new HashMap<>();
+
+    private ItemEntityIndex() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Item entities of one level.
+     */
+    private static final class LevelIndex {
+        final Long2ObjectOpenHashMap<ReferenceArrayList<ItemEntity>> sections = new Long2ObjectOpenHashMap<>();
+        final Reference2LongOpenHashMap<ItemEntity> sectionOf = new Reference2LongOpenHashMap<>();
+
+        void add(ItemEntity item, long section) {
+            sectionOf.put(item, section);
+            sections.computeIfAbsent(section, k -> new ReferenceArrayList<>()).add(item);
+        }
+
+        void remove(ItemEntity item) {
+            if (!sectionOf.containsKey(item)) {
+                return;
+            }
+            long section = sectionOf.removeLong(item);
+            ReferenceArrayList<ItemEntity> items = sections.get(section);
+            if (items != null) {
+                items.remove(item);
+                if (items.isEmpty()) {
+                    sections.remove(section);
+                }
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityJoinLevel(EntityJoinLevelEvent event) {
+        if (event.getLevel() instanceof ServerLevel level && event.getEntity() instanceof ItemEntity item) {
+            LevelIndex index = indices.computeIfAbsent(level, k -> new LevelIndex());
+            index.remove(item);
+            index.add(item, SectionPos.asLong(item.blockPosition()));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeaveLevel(EntityLeaveLevelEvent event) {
+        if (event.getLevel() instanceof ServerLevel level && event.getEntity() instanceof ItemEntity item) {
+            LevelIndex index = indices.get(level);
+            if (index != null) {
+                index.remove(item);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEnteringSection(EntityEvent.EnteringSection event) {
+        if (event.getEntity() instanceof ItemEntity item && item.level() instanceof ServerLevel level) {
+            LevelIndex index = indices.get(level);
+            if (index != null && index.sectionOf.containsKey(item)) {
+                index.remove(item);
+                index.add(item, event.getPackedNewPos());
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            indices.remove(level);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        indices.clear();
+    }
+
+    /**
+     * Collects the live item entities whose bounding box intersects an area.
+     * @param level The level
+     * @param area The area to search
+     * @param filter Additional condition for the items
+     * @param out Receives the matching items
+     */
+    public static void collect(ServerLevel level, AABB area, Predicate<ItemEntity> filter, List<ItemEntity> out) {
+        LevelIndex index = indices.get(level);
+        if (index == null || index.sections.isEmpty()) {
+            return;
+        }
+        int minX = SectionPos.posToSectionCoord(area.minX - SECTION_MARGIN);
+        int minY = SectionPos.posToSectionCoord(area.minY - SECTION_MARGIN);
+        int minZ = SectionPos.posToSectionCoord(area.minZ - SECTION_MARGIN);
+        int maxX = SectionPos.posToSectionCoord(area.maxX + SECTION_MARGIN);
+        int maxY = SectionPos.posToSectionCoord(area.maxY + SECTION_MARGIN);
+        int maxZ = SectionPos.posToSectionCoord(area.maxZ + SECTION_MARGIN);
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    ReferenceArrayList<ItemEntity> items = index.sections.get(SectionPos.asLong(x, y, z));
+                    if (items == null) {
+                        continue;
+                    }
+                    for (ItemEntity item : items) {
+                        if (item.isAlive() && item.getBoundingBox().intersects(area) && filter.test(item)) {
+                            out.add(item);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the most valuable item within a radius; equally valuable items are decided by distance.
+     * @param level The level
+     * @param center The search center
+     * @param radius The search radius
+     * @param value Value of an item; items with a value of zero or less are ignored
+     * @return The best item, or null if there is none
+     */
+    public static ItemEntity findBest(ServerLevel level, Vec3 center, double radius, ToDoubleFunction<ItemEntity> value) {
+        LevelIndex index = indices.get(level);
+        if (index == null || index.sections.isEmpty()) {
+            return null;
+        }
+        double radiusSqr = radius * radius;
+        int minX = SectionPos.posToSectionCoord(center.x - radius);
+        int minY = SectionPos.posToSectionCoord(center.y - radius);
+        int minZ = SectionPos.posToSectionCoord(center.z - radius);
+        int maxX = SectionPos.posToSectionCoord(center.x + radius);
+        int maxY = SectionPos.posToSectionCoord(center.y + radius);
+        int maxZ = SectionPos.posToSectionCoord(center.z + radius);
+
+        ItemEntity best = null;
+        double bestValue = 0.0;
+        double bestDistanceSqr = Double.MAX_VALUE;
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    ReferenceArrayList<ItemEntity> items = index.sections.get(SectionPos.asLong(x, y, z));
+                    if (items == null) {
+                        continue;
+                    }
+                    for (ItemEntity item : items) {
+                        double distanceSqr = item.position().distanceToSqr(center);
+                        if (!item.isAlive() || distanceSqr > radiusSqr) {
+                            continue;
+                        }
+                        double itemValue = value.applyAsDouble(item);
+                        if (itemValue > bestValue || itemValue > 0.0 && itemValue == bestValue && distanceSqr < bestDistanceSqr) {
+                            best = item;
+                            bestValue = itemValue;
+                            bestDistanceSqr = distanceSqr;
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Finds the nearest item within a radius that matches a predicate.
+     * @param level The level
+     * @param center The search center
+     * @param radius The search radius
+     * @param filter Which items to consider (e.g. gold or gems)
+     * @return The nearest matching item, or null if there is none
+     */
+    public static ItemEntity findNearest(ServerLevel level, Vec3 center, double radius, Predicate<ItemEntity> filter) {
+        return findBest(level, center, radius, item -> filter.test(item) ? 1.0 : 0.0);
+    }
+
+    /**
+     * Gets the number of indexed item entities in a level.
+     */
+    public static int getItemCount(ServerLevel level) {
+        LevelIndex index = indices.get(level);
+        return index == null ? 0 : index.sectionOf.size();
+    }
+}
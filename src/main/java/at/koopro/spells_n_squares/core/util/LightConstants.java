@@ -1,7 +1,7 @@
 package at.koopro.spells_n_squares.core.util;
 
 /**
- * Constants for light block management.
+ * Constants for dynamic light sources.
  * Centralizes magic numbers used across light handlers.
  */
 public final class LightConstants {
@@ -15,6 +15,8 @@ public final class LightConstants {
     // Light range constants
     public static final int LUMOS_LIGHT_RANGE = 8; // How far Lumos light reaches from player
     public static final int FLASHLIGHT_LIGHT_RANGE = 10; // How far flashlight light reaches
+    public static final int FLASHLIGHT_LIGHT_SPREAD = 2; // How far light spreads around each lit cone block
+    public static final int LIGHT_ORB_LIGHT_RANGE = 10; // How far a light orb's light reaches
     
     // Update intervals
     public static final int LUMOS_UPDATE_INTERVAL = 5; // Update Lumos lights every N ticks
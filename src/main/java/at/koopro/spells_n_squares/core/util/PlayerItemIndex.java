@@ -0,0 +1,325 @@
+package at.koopro.spells_n_squares.core.util;
+
+import at.koopro.spells_n_squares.SpellsNSquares;
+import at.koopro.spells_n_squares.core.registry.ModTags;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.inventory.ContainerListener;
+import net.minecraft.world.inventory.Slot;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.player.PlayerContainerEvent;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Incrementally maintained index of a player's inventory.
+ * Tracks which slots hold each mod item class, which hold wands and which hold damaged stacks,
+ * so handlers can answer "does this player carry X" without walking every inventory slot.
+ *
+ * The index listens to the player's inventory menu (and to any other open container that
+ * exposes inventory slots) and is updated whenever the server broadcasts slot changes.
+ * Client-side players fall back to a linear scan.
+ */
+@EventBusSubscriber(modid = SpellsNSquares.MODID)
+public final class PlayerItemIndex {
+    private static final Map<UUID, Index> indices = new HashMap<>();
+
+    // Caches whether an item belongs to this mod, looked up once per item
+    private static final Map<Item, Boolean> modItems = new IdentityHashMap<>();
+
+    private PlayerItemIndex() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Per-player slot index, attached to the player's inventory menu as a listener.
+     */
+    private static final class Index implements ContainerListener {
+        final ServerPlayer player;
+        final Item[] slotItems;
+        final Map<Class<?>, BitSet> slotsByClass = new HashMap<>();
+        final BitSet wandSlots = new BitSet();
+        final BitSet damagedSlots = new BitSet();
+        boolean dirty = true;
+
+        Index(ServerPlayer player) {
+            this.player = player;
+            this.slotItems = new Item[player.getInventory().getContainerSize()];
+        }
+
+        void rebuild() {
+            slotsByClass.clear();
+            wandSlots.clear();
+            damagedSlots.clear();
+            Inventory inventory = player.getInventory();
+            for (int i = 0; i < slotItems.length; i++) {
+                slotItems[i] = null;
+                add(i, inventory.getItem(i));
+            }
+            dirty = false;
+        }
+
+        void update(int slot, ItemStack stack) {
+            if (slot < 0 || slot >= slotItems.length) {
+                return;
+            }
+            Item previous = slotItems[slot];
+            if (previous != null) {
+                for (Class<?> cls = previous.getClass(); cls != Item.class && cls != Object.class; cls = cls.getSuperclass()) {
+                    BitSet slots = slotsByClass.get(cls);
+                    if (slots != null) {
+                        slots.clear(slot);
+                    }
+                }
+                slotItems[slot] = null;
+            }
+            wandSlots.clear(slot);
+            damagedSlots.clear(slot);
+            add(slot, stack);
+        }
+
+        private void add(int slot, ItemStack stack) {
+            if (stack.isEmpty()) {
+                return;
+            }
+            if (stack.isDamaged()) {
+                damagedSlots.set(slot);
+            }
+            if (stack.is(ModTags.WANDS)) {
+                wandSlots.set(slot);
+            }
+            Item item = stack.getItem();
+            if (!isModItem(item)) {
+                return;
+            }
+            slotItems[slot] = item;
+            // Index the whole class hierarchy so lookups keep instanceof semantics
+            for (Class<?> cls = item.getClass(); cls != Item.class && cls != Object.class; cls = cls.getSuperclass()) {
+                slotsByClass.computeIfAbsent(cls, k -> new BitSet(slotItems.length)).set(slot);
+            }
+        }
+
+        @Override
+        public void slotChanged(AbstractContainerMenu menu, int menuSlot, ItemStack stack) {
+            Slot slot = menu.getSlot(menuSlot);
+            if (slot.container == player.getInventory()) {
+                update(slot.getContainerSlot(), stack);
+            }
+        }
+
+        @Override
+        public void dataChanged(AbstractContainerMenu menu, int dataSlot, int value) {
+            // Not relevant for item tracking
+        }
+    }
+
+    /**
+     * Checks if the player carries an item of the given class anywhere in their inventory.
+     * @param player The player to check
+     * @param itemClass The item class to look for (subclasses match as well)
+     * @return true if a matching item is present
+     */
+    public static boolean contains(Player player, Class<? extends Item> itemClass) {
+        return findFirst(player, itemClass).isPresent();
+    }
+
+    /**
+     * Finds the first stack of the given item class in the player's inventory.
+     * @param player The player to check
+     * @param itemClass The item class to look for (subclasses match as well)
+     * @return Optional containing the ItemStack if found, empty otherwise
+     */
+    public static Optional<ItemStack> findFirst(Player player, Class<? extends Item> itemClass) {
+        if (player == null) {
+            return Optional.empty();
+        }
+
+        Index index = getIndex(player);
+        if (index == null) {
+            return scan(player, itemClass);
+        }
+
+        ItemStack stack = lookup(index, itemClass);
+        if (stack != null && !itemClass.isInstance(stack.getItem())) {
+            // Inventory changed since the last broadcast - resync and retry once
+            index.rebuild();
+            stack = lookup(index, itemClass);
+        }
+        return Optional.ofNullable(stack);
+    }
+
+    private static ItemStack lookup(Index index, Class<? extends Item> itemClass) {
+        BitSet slots = index.slotsByClass.get(itemClass);
+        if (slots == null || slots.isEmpty()) {
+            return null;
+        }
+        return index.player.getInventory().getItem(slots.nextSetBit(0));
+    }
+
+    /**
+     * Finds the first wand anywhere in the player's inventory.
+     * @param player The player to check
+     * @return Optional containing the wand ItemStack if found, empty otherwise
+     */
+    public static Optional<ItemStack> findWand(Player player) {
+        if (player == null) {
+            return Optional.empty();
+        }
+
+        Index index = getIndex(player);
+        Inventory inventory = player.getInventory();
+        if (index == null) {
+            for (int i = 0; i < inventory.getContainerSize(); i++) {
+                ItemStack stack = inventory.getItem(i);
+                if (stack.is(ModTags.WANDS)) {
+                    return Optional.of(stack);
+                }
+            }
+            return Optional.empty();
+        }
+
+        int slot = index.wandSlots.nextSetBit(0);
+        if (slot < 0) {
+            return Optional.empty();
+        }
+        ItemStack stack = inventory.getItem(slot);
+        return stack.is(ModTags.WANDS) ? Optional.of(stack) : Optional.empty();
+    }
+
+    /**
+     * Visits every damaged stack in the player's inventory.
+     * @param player The player to check
+     * @param action Action to run for each damaged stack
+     */
+    public static void forEachDamaged(Player player, Consumer<ItemStack> action) {
+        if (player == null) {
+            return;
+        }
+
+        Index index = getIndex(player);
+        Inventory inventory = player.getInventory();
+        if (index == null) {
+            for (int i = 0; i < inventory.getContainerSize(); i++) {
+                ItemStack stack = inventory.getItem(i);
+                if (!stack.isEmpty() && stack.isDamaged()) {
+                    action.accept(stack);
+                }
+            }
+            return;
+        }
+
+        BitSet damaged = index.damagedSlots;
+        for (int slot = damaged.nextSetBit(0); slot >= 0; slot = damaged.nextSetBit(slot + 1)) {
+            ItemStack stack = inventory.getItem(slot);
+            if (!stack.isEmpty() && stack.isDamaged()) {
+                action.accept(stack);
+            }
+        }
+    }
+
+    /**
+     * Forces a full rebuild of the player's index on the next query.
+     * @param player The player whose index should be invalidated
+     */
+    public static void invalidate(Player player) {
+        if (player == null) {
+            return;
+        }
+        Index index = indices.get(player.getUUID());
+        if (index != null) {
+            index.dirty = true;
+        }
+    }
+
+    private static Index getIndex(Player player) {
+        if (!(player instanceof ServerPlayer serverPlayer)) {
+            return null;
+        }
+        Index index = indices.get(serverPlayer.getUUID());
+        if (index == null || index.player != serverPlayer) {
+            index = attach(serverPlayer);
+        }
+        if (index.dirty) {
+            index.rebuild();
+        }
+        return index;
+    }
+
+    private static Index attach(ServerPlayer player) {
+        Index index = new Index(player);
+        indices.put(player.getUUID(), index);
+        player.inventoryMenu.addSlotListener(index);
+        return index;
+    }
+
+    private static Optional<ItemStack> scan(Player player, Class<? extends Item> itemClass) {
+        Inventory inventory = player.getInventory();
+        for (int i = 0; i < inventory.getContainerSize(); i++) {
+            ItemStack stack = inventory.getItem(i);
+            if (itemClass.isInstance(stack.getItem())) {
+                return Optional.of(stack);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isModItem(Item item) {
+        return modItems.computeIfAbsent(item,
+            key -> SpellsNSquares.MODID.equals(BuiltInRegistries.ITEM.getKey(key).getNamespace()));
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedIn(PlayerEvent.PlayerLoggedInEvent event) {
+        if (event.getEntity() instanceof ServerPlayer serverPlayer) {
+            attach(serverPlayer);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerRespawn(PlayerEvent.PlayerRespawnEvent event) {
+        // Respawning creates a new player object with a new inventory menu
+        if (event.getEntity() instanceof ServerPlayer serverPlayer) {
+            attach(serverPlayer);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        Index index = indices.remove(event.getEntity().getUUID());
+        if (index != null) {
+            index.player.inventoryMenu.removeSlotListener(index);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onContainerOpen(PlayerContainerEvent.Open event) {
+        // The inventory menu does not broadcast while another container is open,
+        // so listen to the open container's player inventory slots instead
+        Index index = indices.get(event.getEntity().getUUID());
+        if (index != null && event.getContainer() != index.player.inventoryMenu) {
+            event.getContainer().addSlotListener(index);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onContainerClose(PlayerContainerEvent.Close event) {
+        Index index = indices.get(event.getEntity().getUUID());
+        if (index != null) {
+            event.getContainer().removeSlotListener(index);
+            index.dirty = true;
+        }
+    }
+}
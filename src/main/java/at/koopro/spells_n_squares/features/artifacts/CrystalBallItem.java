@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.artifacts;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -40,11 +41,11 @@ public class CrystalBallItem extends Item {
             Vec3 pos = player.position();
             
             // Visual effect
-            serverLevel.sendParticles(ParticleTypes.ENCHANT,
+            ParticlePool.queueParticle(serverLevel, ParticleTypes.ENCHANT,
                 pos.x, pos.y + 1.5, pos.z,
                 25, 0.8, 0.8, 0.8, 0.1);
             
-            serverLevel.sendParticles(ParticleTypes.END_ROD,
+            ParticlePool.queueParticle(serverLevel, ParticleTypes.END_ROD,
                 pos.x, pos.y + 1.5, pos.z,
                 15, 0.3, 0.3, 0.3, 0.03);
             
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.artifacts;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
@@ -49,11 +50,11 @@ public class DarknessPowderItem extends Item {
             }
             
             // Visual effect - dark particles
-            serverLevel.sendParticles(ParticleTypes.SMOKE,
+            ParticlePool.queueParticle(serverLevel, ParticleTypes.SMOKE,
                 throwPos.x, throwPos.y, throwPos.z,
                 100, EFFECT_RANGE, 2.0, EFFECT_RANGE, 0.1);
             
-            serverLevel.sendParticles(ParticleTypes.LARGE_SMOKE,
+            ParticlePool.queueParticle(serverLevel, ParticleTypes.LARGE_SMOKE,
                 throwPos.x, throwPos.y, throwPos.z,
                 50, EFFECT_RANGE * 0.5, 1.0, EFFECT_RANGE * 0.5, 0.05);
             
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.artifacts;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
@@ -32,15 +33,15 @@ public class DecoyDetonatorItem extends Item {
             Vec3 detonatePos = pos.add(lookVec.scale(3.0));
             
             // Create explosion effect (no damage)
-            serverLevel.sendParticles(ParticleTypes.EXPLOSION,
+            ParticlePool.queueParticle(serverLevel, ParticleTypes.EXPLOSION,
                 detonatePos.x, detonatePos.y, detonatePos.z,
                 1, 0.0, 0.0, 0.0, 0.0);
             
-            serverLevel.sendParticles(ParticleTypes.SMOKE,
+            ParticlePool.queueParticle(serverLevel, ParticleTypes.SMOKE,
                 detonatePos.x, detonatePos.y, detonatePos.z,
                 50, 1.0, 1.0, 1.0, 0.1);
             
-            serverLevel.sendParticles(ParticleTypes.FLAME,
+            ParticlePool.queueParticle(serverLevel, ParticleTypes.FLAME,
                 detonatePos.x, detonatePos.y, detonatePos.z,
                 20, 0.5, 0.5, 0.5, 0.05);
             
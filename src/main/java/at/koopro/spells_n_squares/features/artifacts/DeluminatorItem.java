@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.artifacts;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
@@ -58,9 +59,9 @@ public class DeluminatorItem extends Item {
             
             // Visual and audio feedback
             Vec3 center = Vec3.atCenterOf(pos);
-            serverLevel.sendParticles(ParticleTypes.END_ROD, center.x, center.y, center.z, 
+            ParticlePool.queueParticle(serverLevel, ParticleTypes.END_ROD, center.x, center.y, center.z,
                 20, 0.3, 0.3, 0.3, 0.1);
-            serverLevel.sendParticles(ParticleTypes.ENCHANT, center.x, center.y, center.z, 
+            ParticlePool.queueParticle(serverLevel, ParticleTypes.ENCHANT, center.x, center.y, center.z,
                 15, 0.2, 0.2, 0.2, 0.05);
             level.playSound(null, pos, SoundEvents.AMETHYST_BLOCK_CHIME, SoundSource.PLAYERS, 
                 0.7f, 1.2f);
@@ -95,9 +96,9 @@ public class DeluminatorItem extends Item {
             
             // Visual and audio feedback
             Vec3 center = Vec3.atCenterOf(targetPos);
-            serverLevel.sendParticles(ParticleTypes.END_ROD, center.x, center.y, center.z, 
+            ParticlePool.queueParticle(serverLevel, ParticleTypes.END_ROD, center.x, center.y, center.z,
                 20, 0.3, 0.3, 0.3, 0.1);
-            serverLevel.sendParticles(ParticleTypes.ENCHANT, center.x, center.y, center.z, 
+            ParticlePool.queueParticle(serverLevel, ParticleTypes.ENCHANT, center.x, center.y, center.z,
                 15, 0.2, 0.2, 0.2, 0.05);
             level.playSound(null, targetPos, SoundEvents.AMETHYST_BLOCK_CHIME, SoundSource.PLAYERS, 
                 0.7f, 0.9f);
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.artifacts;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.features.wand.WandItem;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -58,12 +59,12 @@ public class ElderWandItem extends WandItem {
             // Visual effects
             if (level instanceof ServerLevel serverLevel) {
                 Vec3 pos = player.position().add(0, player.getEyeHeight(), 0);
-                serverLevel.sendParticles(
+                ParticlePool.queueParticle(serverLevel,
                     net.minecraft.core.particles.ParticleTypes.ENCHANT,
                     pos.x, pos.y, pos.z,
                     30, 0.5, 0.5, 0.5, 0.1
                 );
-                serverLevel.sendParticles(
+                ParticlePool.queueParticle(serverLevel,
                     net.minecraft.core.particles.ParticleTypes.END_ROD,
                     pos.x, pos.y, pos.z,
                     20, 0.3, 0.3, 0.3, 0.05
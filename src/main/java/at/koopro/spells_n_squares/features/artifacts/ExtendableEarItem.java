@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.artifacts;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -51,7 +52,7 @@ public class ExtendableEarItem extends Item {
                 
                 // Visual effect
                 if (level instanceof ServerLevel serverLevel) {
-                    serverLevel.sendParticles(ParticleTypes.NOTE,
+                    ParticlePool.queueParticle(serverLevel, ParticleTypes.NOTE,
                         playerPos.x, playerPos.y + 1.0, playerPos.z,
                         10, 0.3, 0.3, 0.3, 0.05);
                 }
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.artifacts;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -61,7 +62,7 @@ public class FoeGlassItem extends Item {
             serverPlayer.sendSystemMessage(Component.translatable("message.spells_n_squares.foe_glass.enemies_detected", hostiles.size()));
             
             // Visual effect
-            serverLevel.sendParticles(
+            ParticlePool.queueParticle(serverLevel,
                 ParticleTypes.ANGRY_VILLAGER,
                 pos.x, pos.y + player.getEyeHeight(), pos.z,
                 10,
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.artifacts;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
@@ -92,7 +93,7 @@ public class GobletOfFireItem extends Item {
         player.sendSystemMessage(Component.translatable("message.spells_n_squares.goblet_of_fire.entered"));
         
         // Visual effect
-        level.sendParticles(ParticleTypes.FLAME,
+        ParticlePool.queueParticle(level, ParticleTypes.FLAME,
             player.getX(), player.getY() + 1.0, player.getZ(),
             20, 0.3, 0.3, 0.3, 0.05);
         
@@ -140,7 +141,7 @@ public class GobletOfFireItem extends Item {
         for (UUID championId : champions) {
             Player champion = level.getPlayerByUUID(championId);
             if (champion != null) {
-                level.sendParticles(ParticleTypes.FLAME,
+                ParticlePool.queueParticle(level, ParticleTypes.FLAME,
                     champion.getX(), champion.getY() + 1.0, champion.getZ(),
                     50, 1.0, 1.0, 1.0, 0.1);
             }
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.artifacts;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -67,7 +68,7 @@ public class MaraudersMapItem extends Item {
         
         // Visual and audio feedback
         Vec3 pos = player.position().add(0, player.getEyeHeight(), 0);
-        serverLevel.sendParticles(ParticleTypes.ENCHANT,
+        ParticlePool.queueParticle(serverLevel, ParticleTypes.ENCHANT,
             pos.x, pos.y, pos.z,
             20, 0.5, 0.5, 0.5, 0.1);
         
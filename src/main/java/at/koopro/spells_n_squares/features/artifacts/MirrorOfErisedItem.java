@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.artifacts;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -29,11 +30,11 @@ public class MirrorOfErisedItem extends Item {
             Vec3 pos = player.position();
             
             // Visual effect
-            serverLevel.sendParticles(ParticleTypes.ENCHANT,
+            ParticlePool.queueParticle(serverLevel, ParticleTypes.ENCHANT,
                 pos.x, pos.y + 1.5, pos.z,
                 30, 1.0, 1.0, 1.0, 0.1);
             
-            serverLevel.sendParticles(ParticleTypes.END_ROD,
+            ParticlePool.queueParticle(serverLevel, ParticleTypes.END_ROD,
                 pos.x, pos.y + 1.5, pos.z,
                 20, 0.5, 0.5, 0.5, 0.05);
             
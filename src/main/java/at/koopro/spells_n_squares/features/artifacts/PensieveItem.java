@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.artifacts;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -60,11 +61,11 @@ public class PensieveItem extends Item {
         
         // Visual and audio feedback
         Vec3 eyePos = player.getEyePosition();
-        serverLevel.sendParticles(ParticleTypes.ENCHANT,
+        ParticlePool.queueParticle(serverLevel, ParticleTypes.ENCHANT,
             eyePos.x, eyePos.y, eyePos.z,
             30, 0.5, 0.5, 0.5, 0.1);
         
-        serverLevel.sendParticles(ParticleTypes.END_ROD,
+        ParticlePool.queueParticle(serverLevel, ParticleTypes.END_ROD,
             eyePos.x, eyePos.y, eyePos.z,
             20, 0.3, 0.3, 0.3, 0.05);
         
@@ -1,6 +1,7 @@
 package at.koopro.spells_n_squares.features.artifacts;
 
 import at.koopro.spells_n_squares.SpellsNSquares;
+import at.koopro.spells_n_squares.core.util.PlayerItemIndex;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
@@ -29,15 +30,9 @@ public class RemembrallHandler {
         ItemEntity itemEntity = event.getEntity();
         ItemStack droppedStack = itemEntity.getItem();
         
-        // Check if player has a Remembrall in inventory
-        for (int i = 0; i < serverPlayer.getInventory().getContainerSize(); i++) {
-            ItemStack stack = serverPlayer.getInventory().getItem(i);
-            if (stack.getItem() instanceof RemembrallItem) {
-                // Add the dropped item to forgotten items
-                RemembrallItem.addForgottenItem(stack, droppedStack, serverPlayer.level().getGameTime());
-                break; // Only track in one Remembrall
-            }
-        }
+        // Add the dropped item to forgotten items (only track in one Remembrall)
+        PlayerItemIndex.findFirst(serverPlayer, RemembrallItem.class).ifPresent(stack ->
+            RemembrallItem.addForgottenItem(stack, droppedStack, serverPlayer.level().getGameTime()));
     }
 }
 
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.artifacts;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.Identifier;
@@ -44,7 +45,7 @@ public class RemembrallItem extends Item {
             
             // Visual effect
             if (level instanceof ServerLevel serverLevel) {
-                serverLevel.sendParticles(ParticleTypes.ENCHANT,
+                ParticlePool.queueParticle(serverLevel, ParticleTypes.ENCHANT,
                     player.getX(), player.getY() + 1.0, player.getZ(),
                     10, 0.3, 0.3, 0.3, 0.05);
             }
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.artifacts;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -62,11 +63,11 @@ public class ResurrectionStoneItem extends Item {
         
         // Visual and audio feedback
         Vec3 pos = player.position().add(0, player.getEyeHeight(), 0);
-        serverLevel.sendParticles(ParticleTypes.SOUL,
+        ParticlePool.queueParticle(serverLevel, ParticleTypes.SOUL,
             pos.x, pos.y, pos.z,
             50, 1.0, 1.0, 1.0, 0.1);
         
-        serverLevel.sendParticles(ParticleTypes.SOUL_FIRE_FLAME,
+        ParticlePool.queueParticle(serverLevel, ParticleTypes.SOUL_FIRE_FLAME,
             pos.x, pos.y, pos.z,
             30, 0.8, 0.8, 0.8, 0.05);
         
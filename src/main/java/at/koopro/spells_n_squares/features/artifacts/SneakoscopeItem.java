@@ -1,16 +1,13 @@
 package at.koopro.spells_n_squares.features.artifacts;
 
-import at.koopro.spells_n_squares.SpellsNSquares;
-import at.koopro.spells_n_squares.core.util.EventUtils;
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
+import at.koopro.spells_n_squares.core.util.PlayerItemIndex;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.Item;
-import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.phys.AABB;
-import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.fml.common.EventBusSubscriber;
-import net.neoforged.neoforge.event.tick.PlayerTickEvent;
 
 /**
  * Sneakoscope artifact that detects nearby threats.
@@ -24,33 +21,15 @@ public class SneakoscopeItem extends Item {
         super(properties.stacksTo(1));
     }
     
-    @EventBusSubscriber(modid = SpellsNSquares.MODID)
+    /**
+     * Periodic threat detection, driven by the PlayerTickScheduler.
+     */
     public static class SneakoscopeHandler {
         
-        private static final int CHECK_INTERVAL = 5;
+        public static final int CHECK_INTERVAL = 5;
         
-        @SubscribeEvent
-        public static void onPlayerTick(PlayerTickEvent.Post event) {
-            if (!EventUtils.isServerSide(event)) {
-                return;
-            }
-            
-            Player player = event.getEntity();
-            
-            boolean hasSneakoscope = false;
-            for (int i = 0; i < player.getInventory().getContainerSize(); i++) {
-                ItemStack stack = player.getInventory().getItem(i);
-                if (stack.getItem() instanceof SneakoscopeItem) {
-                    hasSneakoscope = true;
-                    break;
-                }
-            }
-            
-            if (!hasSneakoscope) {
-                return;
-            }
-            
-            if (player.tickCount % CHECK_INTERVAL != 0) {
+        public static void tick(ServerPlayer player, ServerLevel level) {
+            if (!PlayerItemIndex.contains(player, SneakoscopeItem.class)) {
                 return;
             }
             
@@ -93,7 +72,7 @@ public class SneakoscopeItem extends Item {
                     serverLevel, player, "sneakoscope");
                 
                 net.minecraft.world.phys.Vec3 pos = player.position().add(0, player.getEyeHeight(), 0);
-                serverLevel.sendParticles(
+                ParticlePool.queueParticle(serverLevel,
                     net.minecraft.core.particles.ParticleTypes.ELECTRIC_SPARK,
                     pos.x, pos.y, pos.z,
                     5, 0.3, 0.3, 0.3, 0.0
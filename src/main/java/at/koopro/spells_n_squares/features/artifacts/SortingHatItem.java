@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.artifacts;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -48,11 +49,11 @@ public class SortingHatItem extends Item {
             
             // Visual effects
             if (level instanceof ServerLevel serverLevel) {
-                serverLevel.sendParticles(ParticleTypes.ENCHANT,
+                ParticlePool.queueParticle(serverLevel, ParticleTypes.ENCHANT,
                     player.getX(), player.getY() + 1.5, player.getZ(),
                     50, 0.5, 0.5, 0.5, 0.1);
                 
-                serverLevel.sendParticles(ParticleTypes.END_ROD,
+                ParticlePool.queueParticle(serverLevel, ParticleTypes.END_ROD,
                     player.getX(), player.getY() + 1.5, player.getZ(),
                     30, 0.3, 0.3, 0.3, 0.05);
             }
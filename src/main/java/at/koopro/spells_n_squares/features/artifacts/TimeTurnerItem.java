@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.artifacts;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.minecraft.core.component.DataComponentType;
@@ -14,9 +15,6 @@ import net.minecraft.world.level.Level;
 import net.neoforged.neoforge.registries.DeferredHolder;
 import net.neoforged.neoforge.registries.DeferredRegister;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Time-Turner artifact that allows players to rewind time.
  */
@@ -34,18 +32,17 @@ public class TimeTurnerItem extends Item {
         );
     
     private static final int COOLDOWN_TICKS = 6000;
-    private static final int SNAPSHOT_DURATION = 600;
+    static final int SNAPSHOT_DURATION = 600;
     private static final int REWIND_MIN = 100;
     private static final int REWIND_MAX = 200;
     
+    // Snapshots live server-side in TimeTurnerSnapshots, only the last use is stored on the stack
     public record TimeTurnerData(
-        int lastUseTick,
-        List<PlayerSnapshot> snapshots
+        int lastUseTick
     ) {
         public static final Codec<TimeTurnerData> CODEC = RecordCodecBuilder.create(instance ->
             instance.group(
-                Codec.INT.fieldOf("lastUse").forGetter(TimeTurnerData::lastUseTick),
-                Codec.list(PlayerSnapshot.CODEC).fieldOf("snapshots").forGetter(TimeTurnerData::snapshots)
+                Codec.INT.fieldOf("lastUse").forGetter(TimeTurnerData::lastUseTick)
             ).apply(instance, TimeTurnerData::new)
         );
     }
@@ -85,14 +82,14 @@ public class TimeTurnerItem extends Item {
         
         TimeTurnerData data = stack.get(TIME_TURNER_DATA.get());
         if (data == null) {
-            data = new TimeTurnerData(0, new ArrayList<>());
+            data = new TimeTurnerData(0);
         }
         
         if (currentTick - data.lastUseTick() < COOLDOWN_TICKS) {
             return InteractionResult.FAIL;
         }
         
-        PlayerSnapshot snapshot = findSnapshot(data.snapshots(), currentTick);
+        PlayerSnapshot snapshot = findSnapshot(player, currentTick);
         if (snapshot == null) {
             return InteractionResult.FAIL;
         }
@@ -102,20 +99,20 @@ public class TimeTurnerItem extends Item {
         player.getFoodData().setFoodLevel((int) snapshot.foodLevel());
         player.getFoodData().setSaturation(snapshot.saturation());
         
-        stack.set(TIME_TURNER_DATA.get(), new TimeTurnerData(currentTick, data.snapshots()));
+        stack.set(TIME_TURNER_DATA.get(), new TimeTurnerData(currentTick));
         
         if (level instanceof ServerLevel serverLevel) {
             at.koopro.spells_n_squares.features.fx.ShaderEffectHandler.triggerTimeDistortion();
             at.koopro.spells_n_squares.features.fx.SoundVisualSync.onArtifactActivated(level, player, "time_turner");
             
             net.minecraft.world.phys.Vec3 pos = player.position().add(0, player.getEyeHeight(), 0);
-            serverLevel.sendParticles(
+            ParticlePool.queueParticle(serverLevel,
                 net.minecraft.core.particles.ParticleTypes.TOTEM_OF_UNDYING,
                 pos.x, pos.y, pos.z,
                 30, 0.5, 0.5, 0.5, 0.1
             );
             
-            serverLevel.sendParticles(
+            ParticlePool.queueParticle(serverLevel,
                 net.minecraft.core.particles.ParticleTypes.PORTAL,
                 pos.x, pos.y, pos.z,
                 20, 0.3, 0.3, 0.3, 0.05
@@ -125,43 +122,15 @@ public class TimeTurnerItem extends Item {
         return InteractionResult.SUCCESS;
     }
     
-    private PlayerSnapshot findSnapshot(List<PlayerSnapshot> snapshots, int currentTick) {
+    private PlayerSnapshot findSnapshot(Player player, int currentTick) {
         int rewindTicks = REWIND_MIN + (int) (Math.random() * (REWIND_MAX - REWIND_MIN));
         int targetTick = currentTick - rewindTicks;
         
-        PlayerSnapshot best = null;
-        int bestDiff = Integer.MAX_VALUE;
-        
-        for (PlayerSnapshot snapshot : snapshots) {
-            int diff = Math.abs(snapshot.tick() - targetTick);
-            if (diff < bestDiff && snapshot.tick() <= currentTick - REWIND_MIN) {
-                best = snapshot;
-                bestDiff = diff;
-            }
-        }
-        
-        return best;
+        return TimeTurnerSnapshots.find(player, targetTick, currentTick - REWIND_MIN);
     }
     
-    public static void storeSnapshot(ItemStack stack, Player player, int currentTick) {
-        TimeTurnerData data = stack.get(TIME_TURNER_DATA.get());
-        if (data == null) {
-            data = new TimeTurnerData(0, new ArrayList<>());
-        }
-        
-        List<PlayerSnapshot> snapshots = new ArrayList<>(data.snapshots());
-        
-        snapshots.add(new PlayerSnapshot(
-            currentTick,
-            player.getX(), player.getY(), player.getZ(),
-            player.getHealth(),
-            player.getFoodData().getFoodLevel(),
-            player.getFoodData().getSaturationLevel()
-        ));
-        
-        snapshots.removeIf(s -> currentTick - s.tick() > SNAPSHOT_DURATION);
-        
-        stack.set(TIME_TURNER_DATA.get(), new TimeTurnerData(data.lastUseTick(), snapshots));
+    public static void storeSnapshot(Player player, int currentTick) {
+        TimeTurnerSnapshots.record(player, currentTick);
     }
 }
 
@@ -1,45 +1,44 @@
 package at.koopro.spells_n_squares.features.artifacts;
 
 import at.koopro.spells_n_squares.SpellsNSquares;
-import at.koopro.spells_n_squares.core.util.EventUtils;
-import at.koopro.spells_n_squares.features.artifacts.TimeTurnerItem;
-import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.item.ItemStack;
+import at.koopro.spells_n_squares.core.util.PlayerItemIndex;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
-import net.neoforged.neoforge.event.tick.PlayerTickEvent;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
 
 /**
  * Handles snapshot storage for Time-Turner items.
+ * Snapshots are driven by the PlayerTickScheduler; the player's snapshot buffer is
+ * restored on login and persisted on logout.
  */
 @EventBusSubscriber(modid = SpellsNSquares.MODID)
 public class TimeTurnerSnapshotHandler {
     
     // Store snapshot every 20 ticks (1 second)
-    private static final int SNAPSHOT_INTERVAL = 20;
+    public static final int SNAPSHOT_INTERVAL = 20;
     
-    @SubscribeEvent
-    public static void onPlayerTick(PlayerTickEvent.Post event) {
-        if (!EventUtils.isServerSide(event)) {
-            return;
+    /**
+     * Stores a snapshot if the player carries a Time-Turner.
+     */
+    public static void tick(ServerPlayer player, ServerLevel level) {
+        if (PlayerItemIndex.contains(player, TimeTurnerItem.class)) {
+            TimeTurnerItem.storeSnapshot(player, (int) level.getGameTime());
         }
-        
-        Player player = event.getEntity();
-        
-        // Only store snapshot every SNAPSHOT_INTERVAL ticks
-        if (player.tickCount % SNAPSHOT_INTERVAL != 0) {
-            return;
+    }
+    
+    @SubscribeEvent
+    public static void onPlayerLoggedIn(PlayerEvent.PlayerLoggedInEvent event) {
+        if (event.getEntity() instanceof ServerPlayer serverPlayer) {
+            TimeTurnerSnapshots.load(serverPlayer);
         }
-        
-        // Check if player has Time-Turner in inventory
-        for (int i = 0; i < player.getInventory().getContainerSize(); i++) {
-            ItemStack stack = player.getInventory().getItem(i);
-            if (stack.getItem() instanceof TimeTurnerItem) {
-                int currentTick = (int) player.level().getGameTime();
-                TimeTurnerItem.storeSnapshot(stack, player, currentTick);
-                break; // Only one Time-Turner per player
-            }
+    }
+    
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        if (event.getEntity() instanceof ServerPlayer serverPlayer) {
+            TimeTurnerSnapshots.save(serverPlayer);
         }
     }
 }
-
@@ -0,0 +1,210 @@
+package at.koopro.spells_n_squares.features.artifacts;
+
+import at.koopro.spells_n_squares.core.persistence.ModPersistence;
+import at.koopro.spells_n_squares.core.persistence.PersistentMap;
+import net.minecraft.core.UUIDUtil;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.saveddata.SavedDataType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Server-side Time-Turner snapshot store.
+ * Each player gets a fixed-capacity ring buffer of primitive arrays holding one snapshot per
+ * snapshot interval, so recording allocates nothing and looking up a snapshot for a given
+ * tick is an index computation. Buffers are persisted with the world when a player logs out.
+ */
+public final class TimeTurnerSnapshots {
+    private TimeTurnerSnapshots() {
+    }
+
+    // One slot per snapshot interval over the snapshot duration
+    private static final int INTERVAL = TimeTurnerSnapshotHandler.SNAPSHOT_INTERVAL;
+    private static final int CAPACITY = TimeTurnerItem.SNAPSHOT_DURATION / INTERVAL + 1;
+
+    // Marks slots skipped while the player was not carrying a Time-Turner
+    private static final int EMPTY = Integer.MIN_VALUE;
+
+    // Buffers of offline players, persisted with the world
+    private static final SavedDataType<PersistentMap<UUID, List<TimeTurnerItem.PlayerSnapshot>>> SAVED_SNAPSHOTS =
+        PersistentMap.type("time_turner_snapshots", UUIDUtil.CODEC,
+            TimeTurnerItem.PlayerSnapshot.CODEC.listOf());
+
+    // Live buffers of online players
+    private static final Map<UUID, Buffer> buffers = new HashMap<>();
+
+    /**
+     * Ring buffer of snapshots stored as parallel primitive arrays.
+     */
+    private static final class Buffer {
+        final int[] ticks = new int[CAPACITY];
+        final double[] x = new double[CAPACITY];
+        final double[] y = new double[CAPACITY];
+        final double[] z = new double[CAPACITY];
+        final float[] health = new float[CAPACITY];
+        final float[] food = new float[CAPACITY];
+        final float[] saturation = new float[CAPACITY];
+        int head; // Next slot to write
+        int count;
+
+        Buffer() {
+            Arrays.fill(ticks, EMPTY);
+        }
+
+        int newestTick() {
+            return ticks[slot(0)];
+        }
+
+        /**
+         * Gets the slot holding the snapshot taken the given number of intervals before the newest one.
+         */
+        int slot(int age) {
+            return Math.floorMod(head - 1 - age, CAPACITY);
+        }
+
+        void record(int tick, double px, double py, double pz, float hp, float foodLevel, float sat) {
+            if (count > 0) {
+                int steps = (tick - newestTick()) / INTERVAL;
+                if (steps <= 0) {
+                    return; // Already recorded this interval
+                }
+                if (steps > CAPACITY) {
+                    clear();
+                } else {
+                    // Keep slots aligned with time across gaps
+                    for (int i = 1; i < steps; i++) {
+                        advance();
+                    }
+                }
+            }
+
+            ticks[head] = tick;
+            x[head] = px;
+            y[head] = py;
+            z[head] = pz;
+            health[head] = hp;
+            food[head] = foodLevel;
+            saturation[head] = sat;
+            head = (head + 1) % CAPACITY;
+            count = Math.min(count + 1, CAPACITY);
+        }
+
+        private void advance() {
+            ticks[head] = EMPTY;
+            head = (head + 1) % CAPACITY;
+            count = Math.min(count + 1, CAPACITY);
+        }
+
+        void clear() {
+            Arrays.fill(ticks, EMPTY);
+            head = 0;
+            count = 0;
+        }
+
+        /**
+         * Finds the slot closest to the target tick that is not newer than the latest allowed tick.
+         * The expected slot is computed directly; neighbours are only probed if it was skipped.
+         */
+        int find(int targetTick, int latestTick) {
+            if (count == 0) {
+                return -1;
+            }
+
+            int age = Math.round((newestTick() - targetTick) / (float) INTERVAL);
+            age = Math.max(0, Math.min(count - 1, age));
+            for (int distance = 0; distance < count; distance++) {
+                int older = age + distance;
+                if (older < count && isUsable(slot(older), latestTick)) {
+                    return slot(older);
+                }
+                int newer = age - distance;
+                if (distance > 0 && newer >= 0 && isUsable(slot(newer), latestTick)) {
+                    return slot(newer);
+                }
+            }
+            return -1;
+        }
+
+        private boolean isUsable(int slot, int latestTick) {
+            return ticks[slot] != EMPTY && ticks[slot] <= latestTick;
+        }
+
+        TimeTurnerItem.PlayerSnapshot get(int slot) {
+            return new TimeTurnerItem.PlayerSnapshot(ticks[slot], x[slot], y[slot], z[slot],
+                health[slot], food[slot], saturation[slot]);
+        }
+    }
+
+    /**
+     * Records a snapshot of the player's current state.
+     * @param player The player
+     * @param currentTick The current game tick
+     */
+    public static void record(Player player, int currentTick) {
+        buffers.computeIfAbsent(player.getUUID(), k -> new Buffer()).record(currentTick,
+            player.getX(), player.getY(), player.getZ(),
+            player.getHealth(),
+            player.getFoodData().getFoodLevel(),
+            player.getFoodData().getSaturationLevel());
+    }
+
+    /**
+     * Finds the snapshot closest to a target tick.
+     * @param player The player
+     * @param targetTick The tick to rewind to
+     * @param latestTick The newest tick a snapshot may have
+     * @return The snapshot, or null if none is available
+     */
+    public static TimeTurnerItem.PlayerSnapshot find(Player player, int targetTick, int latestTick) {
+        Buffer buffer = buffers.get(player.getUUID());
+        if (buffer == null) {
+            return null;
+        }
+        int slot = buffer.find(targetTick, latestTick);
+        return slot >= 0 ? buffer.get(slot) : null;
+    }
+
+    /**
+     * Restores a player's persisted buffer when they log in.
+     * @param player The player
+     */
+    public static void load(Player player) {
+        List<TimeTurnerItem.PlayerSnapshot> saved = ModPersistence.map(SAVED_SNAPSHOTS).remove(player.getUUID());
+        if (saved == null || saved.isEmpty()) {
+            return;
+        }
+
+        Buffer buffer = new Buffer();
+        for (TimeTurnerItem.PlayerSnapshot snapshot : saved) {
+            buffer.record(snapshot.tick(), snapshot.x(), snapshot.y(), snapshot.z(),
+                snapshot.health(), snapshot.foodLevel(), snapshot.saturation());
+        }
+        buffers.put(player.getUUID(), buffer);
+    }
+
+    /**
+     * Persists and releases a player's buffer when they log out.
+     * @param player The player
+     */
+    public static void save(Player player) {
+        Buffer buffer = buffers.remove(player.getUUID());
+        if (buffer == null || buffer.count == 0) {
+            return;
+        }
+
+        // Oldest first, so loading replays them in order
+        List<TimeTurnerItem.PlayerSnapshot> snapshots = new ArrayList<>(buffer.count);
+        for (int age = buffer.count - 1; age >= 0; age--) {
+            int slot = buffer.slot(age);
+            if (buffer.ticks[slot] != EMPTY) {
+                snapshots.add(buffer.get(slot));
+            }
+        }
+        ModPersistence.map(SAVED_SNAPSHOTS).put(player.getUUID(), snapshots);
+    }
+}
@@ -1,15 +1,29 @@
 package at.koopro.spells_n_squares.features.building;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
+import at.koopro.spells_n_squares.core.persistence.ModPersistence;
+import at.koopro.spells_n_squares.core.persistence.PersistentMap;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.core.UUIDUtil;
 import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.saveddata.SavedDataType;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
 import java.util.*;
+import java.util.function.LongConsumer;
 
 /**
  * System for managing protective wards around player bases.
@@ -18,25 +32,33 @@ public final class WardSystem {
     private WardSystem() {
     }
     
-    // Map of ward locations to their properties
-    // Using HashMap - order doesn't matter, O(1) lookup needed
-    private static final Map<WardLocation, WardProperties> activeWards = new HashMap<>();
+    // Map of ward locations to their properties, persisted with the world
+    private static final SavedDataType<PersistentMap<WardLocation, WardProperties>> ACTIVE_WARDS =
+        PersistentMap.type("wards", WardLocation.CODEC, WardProperties.CODEC);
     
     /**
      * Represents a ward location.
      */
-    public record WardLocation(Level level, BlockPos center, UUID ownerId) {
+    public record WardLocation(ResourceKey<Level> dimension, BlockPos center, UUID ownerId) {
+        public static final Codec<WardLocation> CODEC = RecordCodecBuilder.create(instance ->
+            instance.group(
+                ResourceKey.codec(Registries.DIMENSION).fieldOf("dimension").forGetter(WardLocation::dimension),
+                BlockPos.CODEC.fieldOf("center").forGetter(WardLocation::center),
+                UUIDUtil.CODEC.fieldOf("ownerId").forGetter(WardLocation::ownerId)
+            ).apply(instance, WardLocation::new)
+        );
+        
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             WardLocation that = (WardLocation) o;
-            return Objects.equals(level, that.level) && Objects.equals(center, that.center);
+            return Objects.equals(dimension, that.dimension) && Objects.equals(center, that.center);
         }
         
         @Override
         public int hashCode() {
-            return Objects.hash(level, center);
+            return Objects.hash(dimension, center);
         }
     }
     
@@ -49,6 +71,83 @@ public final class WardSystem {
         boolean preventDamage,
         long expirationTick
     ) {
+        public static final Codec<WardProperties> CODEC = RecordCodecBuilder.create(instance ->
+            instance.group(
+                Codec.INT.fieldOf("radius").forGetter(WardProperties::radius),
+                Codec.BOOL.fieldOf("preventEntry").forGetter(WardProperties::preventEntry),
+                Codec.BOOL.fieldOf("preventDamage").forGetter(WardProperties::preventDamage),
+                Codec.LONG.fieldOf("expirationTick").forGetter(WardProperties::expirationTick)
+            ).apply(instance, WardProperties::new)
+        );
+    }
+    
+    /**
+     * Spatial index of the wards in one level.
+     * Each ward is inserted into every chunk its radius overlaps, and expiry is driven by a
+     * queue ordered by expiration tick, so neither entry checks nor updates scan all wards.
+     */
+    private static final class LevelIndex {
+        final Long2ObjectMap<List<WardLocation>> wardsByChunk = new Long2ObjectOpenHashMap<>();
+        final PriorityQueue<Expiry> expiries = new PriorityQueue<>(Comparator.comparingLong(Expiry::tick));
+        
+        void add(WardLocation ward, WardProperties props) {
+            forEachChunk(ward, props, chunk -> wardsByChunk.computeIfAbsent(chunk, k -> new ArrayList<>()).add(ward));
+            expiries.add(new Expiry(ward, props.expirationTick()));
+        }
+        
+        void remove(WardLocation ward, WardProperties props) {
+            // Stale expiry entries are skipped when polled
+            forEachChunk(ward, props, chunk -> {
+                List<WardLocation> wards = wardsByChunk.get(chunk);
+                if (wards != null) {
+                    wards.remove(ward);
+                    if (wards.isEmpty()) {
+                        wardsByChunk.remove(chunk);
+                    }
+                }
+            });
+        }
+        
+        private static void forEachChunk(WardLocation ward, WardProperties props, LongConsumer action) {
+            BlockPos center = ward.center();
+            int radius = Math.max(0, props.radius());
+            int minX = SectionPos.blockToSectionCoord(center.getX() - radius);
+            int maxX = SectionPos.blockToSectionCoord(center.getX() + radius);
+            int minZ = SectionPos.blockToSectionCoord(center.getZ() - radius);
+            int maxZ = SectionPos.blockToSectionCoord(center.getZ() + radius);
+            for (int x = minX; x <= maxX; x++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    action.accept(ChunkPos.asLong(x, z));
+                }
+            }
+        }
+    }
+    
+    private record Expiry(WardLocation ward, long tick) {
+    }
+    
+    // Per-level spatial indices, rebuilt from the persistent store whenever it changes identity
+    private static final Map<ResourceKey<Level>, LevelIndex> levelIndices = new HashMap<>();
+    private static PersistentMap<WardLocation, WardProperties> indexedStore;
+    
+    /**
+     * Gets the persistent ward store, rebuilding the spatial indices if a different store
+     * (e.g. another world) has been loaded since they were built.
+     */
+    private static PersistentMap<WardLocation, WardProperties> store() {
+        PersistentMap<WardLocation, WardProperties> store = ModPersistence.map(ACTIVE_WARDS);
+        if (store != indexedStore) {
+            levelIndices.clear();
+            for (Map.Entry<WardLocation, WardProperties> entry : store.entrySet()) {
+                index(entry.getKey().dimension()).add(entry.getKey(), entry.getValue());
+            }
+            indexedStore = store;
+        }
+        return store;
+    }
+    
+    private static LevelIndex index(ResourceKey<Level> dimension) {
+        return levelIndices.computeIfAbsent(dimension, k -> new LevelIndex());
     }
     
     /**
@@ -59,29 +158,49 @@ public final class WardSystem {
             return;
         }
         
-        WardLocation location = new WardLocation(level, center, owner.getUUID());
+        WardLocation location = new WardLocation(level.dimension(), center, owner.getUUID());
         long expirationTick = serverLevel.getGameTime() + durationTicks;
         
         WardProperties properties = new WardProperties(radius, true, true, expirationTick);
-        activeWards.put(location, properties);
+        PersistentMap<WardLocation, WardProperties> store = store();
+        LevelIndex index = index(level.dimension());
+        
+        // A new ward at the same center replaces the old one (including its owner)
+        WardProperties replaced = store.remove(location);
+        if (replaced != null) {
+            index.remove(location, replaced);
+        }
+        store.put(location, properties);
+        index.add(location, properties);
         
         // Visual effect
         Vec3 centerVec = Vec3.atCenterOf(center);
-        serverLevel.sendParticles(ParticleTypes.ENCHANT, centerVec.x, centerVec.y + radius, centerVec.z,
+        ParticlePool.queueParticle(serverLevel, ParticleTypes.ENCHANT, centerVec.x, centerVec.y + radius, centerVec.z,
             50, radius * 0.5, radius * 0.5, radius * 0.5, 0.1);
     }
     
     /**
      * Checks if an entity can enter a warded area.
+     * Only wards whose bounds overlap the chunk containing the position are checked.
      */
     public static boolean canEnter(Level level, BlockPos pos, LivingEntity entity) {
-        for (Map.Entry<WardLocation, WardProperties> entry : activeWards.entrySet()) {
-            WardLocation ward = entry.getKey();
-            if (ward.level() != level) {
+        PersistentMap<WardLocation, WardProperties> store = store();
+        LevelIndex index = levelIndices.get(level.dimension());
+        if (index == null) {
+            return true;
+        }
+        
+        List<WardLocation> wards = index.wardsByChunk.get(ChunkPos.asLong(pos));
+        if (wards == null) {
+            return true;
+        }
+        
+        for (WardLocation ward : wards) {
+            WardProperties props = store.get(ward);
+            if (props == null) {
                 continue;
             }
             
-            WardProperties props = entry.getValue();
             double distance = pos.distSqr(ward.center());
             
             if (distance <= props.radius() * props.radius()) {
@@ -100,25 +219,26 @@ public final class WardSystem {
     }
     
     /**
-     * Updates wards and removes expired ones.
+     * Removes expired wards in a level.
+     * Only wards that are due are touched.
      */
     public static void updateWards(ServerLevel level) {
-        long currentTick = level.getGameTime();
+        PersistentMap<WardLocation, WardProperties> store = store();
+        LevelIndex index = levelIndices.get(level.dimension());
+        if (index == null) {
+            return;
+        }
         
-        activeWards.entrySet().removeIf(entry -> {
-            WardLocation ward = entry.getKey();
-            if (ward.level() != level) {
-                return false; // Don't remove wards from other levels
-            }
-            
-            WardProperties props = entry.getValue();
-            if (currentTick >= props.expirationTick()) {
-                // Ward expired
-                return true;
+        long currentTick = level.getGameTime();
+        while (!index.expiries.isEmpty() && index.expiries.peek().tick() <= currentTick) {
+            Expiry expiry = index.expiries.poll();
+            WardProperties props = store.get(expiry.ward());
+            // Skip entries left behind by replaced wards
+            if (props != null && props.expirationTick() == expiry.tick()) {
+                store.remove(expiry.ward());
+                index.remove(expiry.ward(), props);
             }
-            
-            return false;
-        });
+        }
     }
     
     /**
@@ -126,12 +246,11 @@ public final class WardSystem {
      */
     public static Set<WardLocation> getWardsInLevel(Level level) {
         Set<WardLocation> result = new HashSet<>();
-        for (WardLocation ward : activeWards.keySet()) {
-            if (ward.level() == level) {
+        for (WardLocation ward : store().keySet()) {
+            if (ward.dimension() == level.dimension()) {
                 result.add(ward);
             }
         }
         return result;
     }
 }
-
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.building;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
@@ -49,7 +50,7 @@ public class WizardTowerItem extends Item {
         
         // Visual effect
         Vec3 center = Vec3.atCenterOf(pos);
-        serverLevel.sendParticles(ParticleTypes.ENCHANT, center.x, center.y, center.z,
+        ParticlePool.queueParticle(serverLevel, ParticleTypes.ENCHANT, center.x, center.y, center.z,
             50, 2.0, 2.0, 2.0, 0.1);
         
         // Consume item
@@ -1,35 +1,25 @@
 package at.koopro.spells_n_squares.features.cloak;
 
-import at.koopro.spells_n_squares.SpellsNSquares;
 import at.koopro.spells_n_squares.core.registry.ModItems;
-import at.koopro.spells_n_squares.core.util.EventUtils;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.entity.EquipmentSlot;
-import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
-import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.fml.common.EventBusSubscriber;
-import net.neoforged.neoforge.event.tick.PlayerTickEvent;
 
 /**
  * Handles invisibility effect for players wearing invisibility cloaks.
+ * Driven by the PlayerTickScheduler.
  */
-@EventBusSubscriber(modid = SpellsNSquares.MODID)
 public class InvisibilityCloakHandler {
     
+    // Checked every tick so invisibility follows equipment changes immediately
+    public static final int CHECK_INTERVAL = 1;
+    
     /**
      * Applies invisibility to players wearing invisibility cloaks.
-     * Checks every tick on the server side.
      */
-    @SubscribeEvent
-    public static void onPlayerTick(PlayerTickEvent.Post event) {
-        // Only apply on server side
-        if (!EventUtils.isServerSide(event)) {
-            return;
-        }
-        
-        Player player = event.getEntity();
-        
+    public static void tick(ServerPlayer player, ServerLevel level) {
         // Check if player is wearing an invisibility cloak in the chest slot
         ItemStack chestArmor = player.getItemBySlot(EquipmentSlot.CHEST);
         
@@ -1,5 +1,7 @@
 package at.koopro.spells_n_squares.features.communication;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
+import at.koopro.spells_n_squares.core.tick.DeliveryScheduler;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -7,8 +9,6 @@ import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.phys.Vec3;
 
-import java.util.*;
-
 /**
  * System for sending messages via Patronus.
  */
@@ -16,9 +16,9 @@ public final class PatronusMessagingSystem {
     private PatronusMessagingSystem() {
     }
     
-    // Map of pending messages (player UUID -> list of messages)
-    // Using HashMap - order doesn't matter, O(1) lookup needed
-    private static final Map<UUID, List<PatronusMessage>> pendingMessages = new HashMap<>();
+    // Pending messages, ordered by delivery tick
+    private static final DeliveryScheduler<PatronusMessage> SCHEDULER =
+        DeliveryScheduler.create("patronus", PatronusMessagingSystem::deliverMessage);
     
     /**
      * Represents a Patronus message.
@@ -45,50 +45,27 @@ public final class PatronusMessagingSystem {
             );
             
             // Add to pending messages
-            pendingMessages.computeIfAbsent(recipient.getUUID(), k -> new ArrayList<>()).add(patronusMessage);
+            SCHEDULER.schedule(recipient.getUUID(), patronusMessage.deliveryTick(), patronusMessage);
             
             // Visual effect at sender
             Vec3 senderPos = sender.position();
-            serverLevel.sendParticles(ParticleTypes.END_ROD, senderPos.x, senderPos.y + 1.0, senderPos.z,
+            ParticlePool.queueParticle(serverLevel, ParticleTypes.END_ROD, senderPos.x, senderPos.y + 1.0, senderPos.z,
                 20, 0.3, 0.3, 0.3, 0.1);
         }
     }
     
     /**
-     * Delivers pending messages (called from tick handler).
+     * Delivers a due message (called by the delivery scheduler).
      */
-    public static void deliverMessages(ServerLevel level, Player player) {
-        List<PatronusMessage> messages = pendingMessages.get(player.getUUID());
-        if (messages == null || messages.isEmpty()) {
-            return;
-        }
-        
-        long currentTick = level.getGameTime();
-        List<PatronusMessage> toDeliver = new ArrayList<>();
-        
-        for (PatronusMessage message : messages) {
-            if (currentTick >= message.deliveryTick()) {
-                toDeliver.add(message);
-            }
-        }
-        
-        for (PatronusMessage message : toDeliver) {
-            if (player instanceof ServerPlayer serverPlayer) {
-                // Visual effect: patronus delivers message
-                Vec3 pos = message.deliveryPosition();
-                level.sendParticles(ParticleTypes.END_ROD, pos.x, pos.y + 1.0, pos.z,
-                    30, 0.5, 0.5, 0.5, 0.1);
-                level.sendParticles(ParticleTypes.HEART, pos.x, pos.y + 1.0, pos.z,
-                    10, 0.2, 0.2, 0.2, 0.05);
-                
-                serverPlayer.sendSystemMessage(Component.literal("[Patronus] ").append(message.message()));
-            }
-            messages.remove(message);
-        }
+    private static void deliverMessage(ServerPlayer player, ServerLevel level, PatronusMessage message) {
+        // Visual effect: patronus delivers message
+        Vec3 pos = message.deliveryPosition();
+        ParticlePool.queueParticle(level, ParticleTypes.END_ROD, pos.x, pos.y + 1.0, pos.z,
+            30, 0.5, 0.5, 0.5, 0.1);
+        ParticlePool.queueParticle(level, ParticleTypes.HEART, pos.x, pos.y + 1.0, pos.z,
+            10, 0.2, 0.2, 0.2, 0.05);
         
-        if (messages.isEmpty()) {
-            pendingMessages.remove(player.getUUID());
-        }
+        player.sendSystemMessage(Component.literal("[Patronus] ").append(message.message()));
     }
 }
 
@@ -1,48 +1,24 @@
 package at.koopro.spells_n_squares.features.convenience;
 
-import at.koopro.spells_n_squares.SpellsNSquares;
-import at.koopro.spells_n_squares.core.util.EventUtils;
-import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.item.ItemStack;
-import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.fml.common.EventBusSubscriber;
-import net.neoforged.neoforge.event.tick.PlayerTickEvent;
+import at.koopro.spells_n_squares.core.util.PlayerItemIndex;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 
 /**
  * Handles automatic item repair for players.
+ * Driven by the PlayerTickScheduler.
  */
-@EventBusSubscriber(modid = SpellsNSquares.MODID)
 public class AutoRepairHandler {
     
-    private static final int REPAIR_INTERVAL = 200; // 10 seconds
+    public static final int REPAIR_INTERVAL = 200; // 10 seconds
     
-    @SubscribeEvent
-    public static void onPlayerTick(PlayerTickEvent.Post event) {
-        if (!EventUtils.isServerSide(event)) {
-            return;
-        }
-        
-        Player player = event.getEntity();
-        
-        // Only repair every REPAIR_INTERVAL ticks
-        if (player.tickCount % REPAIR_INTERVAL != 0) {
-            return;
-        }
-        
-        // Check and repair items in inventory
-        for (int i = 0; i < player.getInventory().getContainerSize(); i++) {
-            ItemStack stack = player.getInventory().getItem(i);
-            
-            if (stack.isEmpty() || !stack.isDamaged()) {
-                continue;
-            }
-            
-            // Repair a small amount
-            int damage = stack.getDamageValue();
-            if (damage > 0) {
-                stack.setDamageValue(Math.max(0, damage - 1));
-            }
-        }
+    /**
+     * Repairs damaged items in the player's inventory by a small amount.
+     */
+    public static void tick(ServerPlayer player, ServerLevel level) {
+        // Repair a small amount on every damaged item in inventory
+        PlayerItemIndex.forEachDamaged(player, stack ->
+            stack.setDamageValue(Math.max(0, stack.getDamageValue() - 1)));
     }
 }
 
@@ -1,6 +1,13 @@
 package at.koopro.spells_n_squares.features.convenience;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
+import at.koopro.spells_n_squares.core.persistence.ModPersistence;
+import at.koopro.spells_n_squares.core.persistence.PersistentMap;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.UUIDUtil;
+import net.minecraft.core.registries.Registries;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceKey;
@@ -11,6 +18,7 @@ import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.saveddata.SavedDataType;
 import net.minecraft.world.phys.Vec3;
 
 import java.util.*;
@@ -22,9 +30,10 @@ public final class WaypointSystem {
     private WaypointSystem() {
     }
     
-    // Map of player UUID to their waypoints
-    // Using HashMap - order doesn't matter, O(1) lookup needed
-    private static final Map<UUID, List<Waypoint>> playerWaypoints = new HashMap<>();
+    // Map of player UUID to their waypoints, persisted with the world
+    private static final SavedDataType<PersistentMap<UUID, List<Waypoint>>> PLAYER_WAYPOINTS =
+        PersistentMap.type("waypoints", UUIDUtil.CODEC,
+            Waypoint.CODEC.listOf().<List<Waypoint>>xmap(ArrayList::new, list -> list));
     
     // Splinch chance for apparition teleportation
     private static final double SPLINCH_CHANCE = 0.05; // 5% base chance
@@ -38,6 +47,14 @@ public final class WaypointSystem {
         BlockPos position,
         long createdTick
     ) {
+        public static final Codec<Waypoint> CODEC = RecordCodecBuilder.create(instance ->
+            instance.group(
+                Codec.STRING.fieldOf("name").forGetter(Waypoint::name),
+                ResourceKey.codec(Registries.DIMENSION).fieldOf("dimension").forGetter(Waypoint::dimension),
+                BlockPos.CODEC.fieldOf("position").forGetter(Waypoint::position),
+                Codec.LONG.fieldOf("createdTick").forGetter(Waypoint::createdTick)
+            ).apply(instance, Waypoint::new)
+        );
     }
     
     /**
@@ -50,7 +67,7 @@ public final class WaypointSystem {
         long createdTick = ((ServerLevel) player.level()).getGameTime();
         
         Waypoint waypoint = new Waypoint(name, dimension, pos, createdTick);
-        playerWaypoints.computeIfAbsent(playerId, k -> new ArrayList<>()).add(waypoint);
+        ModPersistence.map(PLAYER_WAYPOINTS).computeIfAbsent(playerId, k -> new ArrayList<>()).add(waypoint);
         
         player.sendSystemMessage(Component.translatable("message.spells_n_squares.waypoint.created", name));
     }
@@ -60,7 +77,7 @@ public final class WaypointSystem {
      */
     public static boolean teleportToWaypoint(ServerPlayer player, String waypointName) {
         UUID playerId = player.getUUID();
-        List<Waypoint> waypoints = playerWaypoints.get(playerId);
+        List<Waypoint> waypoints = ModPersistence.map(PLAYER_WAYPOINTS).get(playerId);
         
         if (waypoints == null) {
             return false;
@@ -85,7 +102,7 @@ public final class WaypointSystem {
         
         // Visual effect at origin
         Vec3 origin = player.position();
-        ((ServerLevel) player.level()).sendParticles(ParticleTypes.PORTAL,
+        ParticlePool.queueParticle((ServerLevel) player.level(), ParticleTypes.PORTAL,
             origin.x, origin.y, origin.z,
             30, 0.5, 0.5, 0.5, 0.1);
         
@@ -96,7 +113,7 @@ public final class WaypointSystem {
         
         // Visual effect at destination
         Vec3 dest = Vec3.atCenterOf(targetPos);
-        targetLevel.sendParticles(ParticleTypes.PORTAL,
+        ParticlePool.queueParticle(targetLevel, ParticleTypes.PORTAL,
             dest.x, dest.y, dest.z,
             30, 0.5, 0.5, 0.5, 0.1);
         
@@ -108,19 +125,24 @@ public final class WaypointSystem {
      * Gets all waypoints for a player.
      */
     public static List<Waypoint> getWaypoints(UUID playerId) {
-        return playerWaypoints.getOrDefault(playerId, Collections.emptyList());
+        return ModPersistence.map(PLAYER_WAYPOINTS).getOrDefault(playerId, Collections.emptyList());
     }
     
     /**
      * Removes a waypoint.
      */
     public static boolean removeWaypoint(UUID playerId, String waypointName) {
-        List<Waypoint> waypoints = playerWaypoints.get(playerId);
+        PersistentMap<UUID, List<Waypoint>> store = ModPersistence.map(PLAYER_WAYPOINTS);
+        List<Waypoint> waypoints = store.get(playerId);
         if (waypoints == null) {
             return false;
         }
         
-        return waypoints.removeIf(w -> w.name().equals(waypointName));
+        if (!waypoints.removeIf(w -> w.name().equals(waypointName))) {
+            return false;
+        }
+        store.setDirty();
+        return true;
     }
     
     /**
@@ -136,7 +158,7 @@ public final class WaypointSystem {
             return false;
         }
         
-        List<Waypoint> waypoints = playerWaypoints.get(player.getUUID());
+        List<Waypoint> waypoints = ModPersistence.map(PLAYER_WAYPOINTS).get(player.getUUID());
         if (waypoints == null) {
             return false;
         }
@@ -188,7 +210,7 @@ public final class WaypointSystem {
      * Spawns visual and sound effects for apparition.
      */
     private static void spawnApparitionEffects(ServerLevel level, Vec3 pos, BlockPos soundPos) {
-        level.sendParticles(ParticleTypes.PORTAL, pos.x, pos.y, pos.z, 30, 0.5, 0.5, 0.5, 0.1);
+        ParticlePool.queueParticle(level, ParticleTypes.PORTAL, pos.x, pos.y, pos.z, 30, 0.5, 0.5, 0.5, 0.1);
         level.playSound(null, soundPos, SoundEvents.ENDERMAN_TELEPORT, SoundSource.PLAYERS, 1.0f, 1.0f);
     }
     
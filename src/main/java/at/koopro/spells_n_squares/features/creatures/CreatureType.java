@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.creatures;
 
+import at.koopro.spells_n_squares.core.config.Config;
 import net.minecraft.resources.Identifier;
 
 /**
@@ -13,6 +14,10 @@ public class CreatureType {
     private final boolean isTameable;
     private final boolean isHostile;
     
+    // Activation ranges; non-positive values use the config defaults
+    private double fullActivationRange = -1.0;
+    private double reducedActivationRange = -1.0;
+    
     public CreatureType(Identifier id, String name, String description, CreatureCategory category) {
         this(id, name, description, category, false, false);
     }
@@ -51,6 +56,33 @@ public class CreatureType {
         return isHostile;
     }
     
+    /**
+     * Overrides the configured activation ranges for this creature type.
+     * @param fullRange Distance to the nearest player within which the creature ticks fully
+     * @param reducedRange Distance within which its custom tick logic still runs at a reduced rate
+     * @return This creature type
+     */
+    public CreatureType withActivationRanges(double fullRange, double reducedRange) {
+        this.fullActivationRange = fullRange;
+        this.reducedActivationRange = Math.max(fullRange, reducedRange);
+        return this;
+    }
+    
+    /**
+     * Gets the distance within which creatures of this type run their full tick.
+     */
+    public double getFullActivationRange() {
+        return fullActivationRange > 0 ? fullActivationRange : Config.getCreatureFullActivationRange();
+    }
+    
+    /**
+     * Gets the distance within which creatures of this type run their custom tick logic at a reduced rate.
+     */
+    public double getReducedActivationRange() {
+        return reducedActivationRange > 0 ? reducedActivationRange
+            : Math.max(getFullActivationRange(), Config.getCreatureReducedActivationRange());
+    }
+    
     /**
      * Categories of magical creatures.
      */
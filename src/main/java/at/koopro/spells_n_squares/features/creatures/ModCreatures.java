@@ -422,7 +422,7 @@ public final class ModCreatures {
             CreatureType.CreatureCategory.HOSTILE,
             false,
             true
-        ));
+        ).withActivationRanges(48.0, 96.0));
         
         CreatureRegistry.register("swooping_evil", new CreatureType(
             ModIdentifierHelper.modId("swooping_evil"),
@@ -440,7 +440,7 @@ public final class ModCreatures {
             CreatureType.CreatureCategory.HOSTILE,
             false,
             true
-        ));
+        ).withActivationRanges(48.0, 96.0));
         
         CreatureRegistry.register("chimaera", new CreatureType(
             ModIdentifierHelper.modId("chimaera"),
@@ -503,7 +503,7 @@ public final class ModCreatures {
             CreatureType.CreatureCategory.HOSTILE,
             false,
             true
-        ));
+        ).withActivationRanges(48.0, 96.0));
         
         CreatureRegistry.register("pixie", new CreatureType(
             ModIdentifierHelper.modId("pixie"),
@@ -539,7 +539,7 @@ public final class ModCreatures {
             CreatureType.CreatureCategory.HOSTILE,
             false,
             true
-        ));
+        ).withActivationRanges(48.0, 96.0));
         
         CreatureRegistry.register("chinese_fireball", new CreatureType(
             ModIdentifierHelper.modId("chinese_fireball"),
@@ -548,7 +548,7 @@ public final class ModCreatures {
             CreatureType.CreatureCategory.HOSTILE,
             false,
             true
-        ));
+        ).withActivationRanges(48.0, 96.0));
         
         CreatureRegistry.register("swedish_short_snout", new CreatureType(
             ModIdentifierHelper.modId("swedish_short_snout"),
@@ -557,7 +557,7 @@ public final class ModCreatures {
             CreatureType.CreatureCategory.HOSTILE,
             false,
             true
-        ));
+        ).withActivationRanges(48.0, 96.0));
         
         CreatureRegistry.register("common_welsh_green", new CreatureType(
             ModIdentifierHelper.modId("common_welsh_green"),
@@ -566,7 +566,7 @@ public final class ModCreatures {
             CreatureType.CreatureCategory.HOSTILE,
             false,
             true
-        ));
+        ).withActivationRanges(48.0, 96.0));
         
         CreatureRegistry.register("hebridean_black", new CreatureType(
             ModIdentifierHelper.modId("hebridean_black"),
@@ -575,7 +575,7 @@ public final class ModCreatures {
             CreatureType.CreatureCategory.HOSTILE,
             false,
             true
-        ));
+        ).withActivationRanges(48.0, 96.0));
         
         CreatureRegistry.register("peruvian_vipertooth", new CreatureType(
             ModIdentifierHelper.modId("peruvian_vipertooth"),
@@ -584,7 +584,7 @@ public final class ModCreatures {
             CreatureType.CreatureCategory.HOSTILE,
             false,
             true
-        ));
+        ).withActivationRanges(48.0, 96.0));
         
         CreatureRegistry.register("romanian_longhorn", new CreatureType(
             ModIdentifierHelper.modId("romanian_longhorn"),
@@ -593,7 +593,7 @@ public final class ModCreatures {
             CreatureType.CreatureCategory.HOSTILE,
             false,
             true
-        ));
+        ).withActivationRanges(48.0, 96.0));
         
         CreatureRegistry.register("ukrainian_ironbelly", new CreatureType(
             ModIdentifierHelper.modId("ukrainian_ironbelly"),
@@ -602,7 +602,7 @@ public final class ModCreatures {
             CreatureType.CreatureCategory.HOSTILE,
             false,
             true
-        ));
+        ).withActivationRanges(48.0, 96.0));
         
         // Aquatic creatures
         CreatureRegistry.register("hippocampus", new CreatureType(
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.creatures.aquatic;
 
+import at.koopro.spells_n_squares.features.creatures.util.CreatureActivation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.AgeableMob;
 import net.minecraft.world.entity.EntityType;
@@ -49,6 +50,9 @@ public class KelpieEntity extends PathfinderMob {
     @Override
     public void tick() {
         super.tick();
+        if (!CreatureActivation.shouldRunCustomTick(this)) {
+            return;
+        }
         
         // Shape-shift when attacking (transform from horse to true form)
         if (!this.level().isClientSide() && this.getTarget() != null) {
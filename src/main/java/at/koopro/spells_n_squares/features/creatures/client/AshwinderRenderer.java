@@ -1,13 +1,15 @@
 package at.koopro.spells_n_squares.features.creatures.client;
 
+import at.koopro.spells_n_squares.core.client.BakedPrimitiveCache;
+import at.koopro.spells_n_squares.core.client.RenderLod;
 import at.koopro.spells_n_squares.core.client.RendererConstants;
-import at.koopro.spells_n_squares.core.client.RendererUtils;
 import at.koopro.spells_n_squares.features.creatures.hostile.AshwinderEntity;
 import com.mojang.blaze3d.vertex.PoseStack;
 import net.minecraft.client.renderer.SubmitNodeCollector;
 import net.minecraft.client.renderer.entity.EntityRenderer;
 import net.minecraft.client.renderer.entity.EntityRendererProvider;
 import net.minecraft.client.renderer.entity.state.EntityRenderState;
+import net.minecraft.client.renderer.rendertype.RenderType;
 import net.minecraft.client.renderer.rendertype.RenderTypes;
 import net.minecraft.client.renderer.state.CameraRenderState;
 
@@ -35,21 +37,19 @@ public class AshwinderRenderer extends EntityRenderer<AshwinderEntity, EntityRen
         super.submit(renderState, poseStack, collector, cameraState);
         
         float half = Math.max(renderState.boundingBoxWidth, renderState.boundingBoxHeight) * 0.5f;
+        RenderLod.Detail detail = RenderLod.detail(renderState.distanceToCameraSq, half);
+        if (detail == RenderLod.Detail.CULLED) {
+            return;
+        }
         
-        collector.submitCustomGeometry(
-            poseStack,
-            RenderTypes.entityTranslucent(RendererConstants.GLOW_TEXTURE),
-            (pose, buffer) -> {
-                PoseStack ps = new PoseStack();
-                ps.last().set(pose);
-                ps.pushPose();
-                
-                // Fire serpent body (red-orange)
-                RendererUtils.renderCube(buffer, ps, half * 0.4f, half * 0.6f, half * 0.4f, 0, 0xFFFF4400);
-                
-                ps.popPose();
-            }
-        );
+        RenderType renderType = RenderTypes.entityTranslucent(RendererConstants.GLOW_TEXTURE);
+        BakedPrimitiveCache.BakedMesh mesh = BakedPrimitiveCache.get(AshwinderRenderer.class, half, renderType, AshwinderRenderer::bakeMesh).forDetail(detail);
+        collector.submitCustomGeometry(poseStack, renderType, mesh::emit);
+    }
+    
+    private static void bakeMesh(BakedPrimitiveCache.MeshBuilder mesh, PoseStack ps, float half) {
+        // Fire serpent body (red-orange)
+        mesh.cube(ps, half * 0.4f, half * 0.6f, half * 0.4f, 0, 0xFFFF4400);
     }
 }
 
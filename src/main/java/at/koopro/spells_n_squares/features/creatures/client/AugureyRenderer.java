@@ -1,13 +1,15 @@
 package at.koopro.spells_n_squares.features.creatures.client;
 
+import at.koopro.spells_n_squares.core.client.BakedPrimitiveCache;
+import at.koopro.spells_n_squares.core.client.RenderLod;
 import at.koopro.spells_n_squares.core.client.RendererConstants;
-import at.koopro.spells_n_squares.core.client.RendererUtils;
 import at.koopro.spells_n_squares.features.creatures.companion.AugureyEntity;
 import com.mojang.blaze3d.vertex.PoseStack;
 import net.minecraft.client.renderer.SubmitNodeCollector;
 import net.minecraft.client.renderer.entity.EntityRenderer;
 import net.minecraft.client.renderer.entity.EntityRendererProvider;
 import net.minecraft.client.renderer.entity.state.EntityRenderState;
+import net.minecraft.client.renderer.rendertype.RenderType;
 import net.minecraft.client.renderer.rendertype.RenderTypes;
 import net.minecraft.client.renderer.state.CameraRenderState;
 
@@ -35,27 +37,25 @@ public class AugureyRenderer extends EntityRenderer<AugureyEntity, EntityRenderS
         super.submit(renderState, poseStack, collector, cameraState);
         
         float half = Math.max(renderState.boundingBoxWidth, renderState.boundingBoxHeight) * 0.5f;
+        RenderLod.Detail detail = RenderLod.detail(renderState.distanceToCameraSq, half);
+        if (detail == RenderLod.Detail.CULLED) {
+            return;
+        }
         
-        collector.submitCustomGeometry(
-            poseStack,
-            RenderTypes.entityTranslucent(RendererConstants.GLOW_TEXTURE),
-            (pose, buffer) -> {
-                PoseStack ps = new PoseStack();
-                ps.last().set(pose);
-                ps.pushPose();
-                
-                // Greenish-black bird body
-                RendererUtils.renderCube(buffer, ps, half * 0.8f, 0xFF1A2A1A);
-                
-                // Small head
-                ps.pushPose();
-                ps.translate(0, half * 0.6f, 0);
-                RendererUtils.renderCube(buffer, ps, half * 0.4f, 0xFF0A1A0A);
-                ps.popPose();
-                
-                ps.popPose();
-            }
-        );
+        RenderType renderType = RenderTypes.entityTranslucent(RendererConstants.GLOW_TEXTURE);
+        BakedPrimitiveCache.BakedMesh mesh = BakedPrimitiveCache.get(AugureyRenderer.class, half, renderType, AugureyRenderer::bakeMesh).forDetail(detail);
+        collector.submitCustomGeometry(poseStack, renderType, mesh::emit);
+    }
+    
+    private static void bakeMesh(BakedPrimitiveCache.MeshBuilder mesh, PoseStack ps, float half) {
+        // Greenish-black bird body
+        mesh.cube(ps, half * 0.8f, 0xFF1A2A1A);
+        
+        // Small head
+        ps.pushPose();
+        ps.translate(0, half * 0.6f, 0);
+        mesh.cube(ps, half * 0.4f, 0xFF0A1A0A);
+        ps.popPose();
     }
 }
 
@@ -1,13 +1,15 @@
 package at.koopro.spells_n_squares.features.creatures.client;
 
+import at.koopro.spells_n_squares.core.client.BakedPrimitiveCache;
+import at.koopro.spells_n_squares.core.client.RenderLod;
 import at.koopro.spells_n_squares.core.client.RendererConstants;
-import at.koopro.spells_n_squares.core.client.RendererUtils;
 import at.koopro.spells_n_squares.features.creatures.neutral.BillywigEntity;
 import com.mojang.blaze3d.vertex.PoseStack;
 import net.minecraft.client.renderer.SubmitNodeCollector;
 import net.minecraft.client.renderer.entity.EntityRenderer;
 import net.minecraft.client.renderer.entity.EntityRendererProvider;
 import net.minecraft.client.renderer.entity.state.EntityRenderState;
+import net.minecraft.client.renderer.rendertype.RenderType;
 import net.minecraft.client.renderer.rendertype.RenderTypes;
 import net.minecraft.client.renderer.state.CameraRenderState;
 
@@ -35,21 +37,19 @@ public class BillywigRenderer extends EntityRenderer<BillywigEntity, EntityRende
         super.submit(renderState, poseStack, collector, cameraState);
         
         float half = Math.max(renderState.boundingBoxWidth, renderState.boundingBoxHeight) * 0.5f;
+        RenderLod.Detail detail = RenderLod.detail(renderState.distanceToCameraSq, half);
+        if (detail == RenderLod.Detail.CULLED) {
+            return;
+        }
         
-        collector.submitCustomGeometry(
-            poseStack,
-            RenderTypes.entityTranslucent(RendererConstants.GLOW_TEXTURE),
-            (pose, buffer) -> {
-                PoseStack ps = new PoseStack();
-                ps.last().set(pose);
-                ps.pushPose();
-                
-                // Sapphire-blue insect body
-                RendererUtils.renderCube(buffer, ps, half * 0.5f, 0xFF0066CC);
-                
-                ps.popPose();
-            }
-        );
+        RenderType renderType = RenderTypes.entityTranslucent(RendererConstants.GLOW_TEXTURE);
+        BakedPrimitiveCache.BakedMesh mesh = BakedPrimitiveCache.get(BillywigRenderer.class, half, renderType, BillywigRenderer::bakeMesh).forDetail(detail);
+        collector.submitCustomGeometry(poseStack, renderType, mesh::emit);
+    }
+    
+    private static void bakeMesh(BakedPrimitiveCache.MeshBuilder mesh, PoseStack ps, float half) {
+        // Sapphire-blue insect body
+        mesh.cube(ps, half * 0.5f, 0xFF0066CC);
     }
 }
 
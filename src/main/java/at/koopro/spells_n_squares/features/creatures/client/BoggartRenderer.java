@@ -1,7 +1,8 @@
 package at.koopro.spells_n_squares.features.creatures.client;
 
+import at.koopro.spells_n_squares.core.client.BakedPrimitiveCache;
+import at.koopro.spells_n_squares.core.client.RenderLod;
 import at.koopro.spells_n_squares.core.client.RendererConstants;
-import at.koopro.spells_n_squares.core.client.RendererUtils;
 import at.koopro.spells_n_squares.features.creatures.hostile.BoggartEntity;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.math.Axis;
@@ -9,6 +10,7 @@ import net.minecraft.client.renderer.SubmitNodeCollector;
 import net.minecraft.client.renderer.entity.EntityRenderer;
 import net.minecraft.client.renderer.entity.EntityRendererProvider;
 import net.minecraft.client.renderer.entity.state.EntityRenderState;
+import net.minecraft.client.renderer.rendertype.RenderType;
 import net.minecraft.client.renderer.rendertype.RenderTypes;
 import net.minecraft.client.renderer.state.CameraRenderState;
 import net.minecraft.resources.Identifier;
@@ -39,26 +41,26 @@ public class BoggartRenderer extends EntityRenderer<BoggartEntity, EntityRenderS
         
         float time = renderState.ageInTicks;
         float half = Math.max(renderState.boundingBoxWidth, renderState.boundingBoxHeight) * 0.5f;
+        RenderLod.Detail detail = RenderLod.detail(renderState.distanceToCameraSq, half);
+        if (detail == RenderLod.Detail.CULLED) {
+            return;
+        }
         
-        collector.submitCustomGeometry(
-            poseStack,
-            RenderTypes.entityTranslucentEmissive(RendererConstants.GLOW_TEXTURE),
-            (pose, buffer) -> {
-                PoseStack ps = new PoseStack();
-                ps.last().set(pose);
-                ps.pushPose();
-                
-                // Shape-shifting effect
-                ps.mulPose(Axis.YP.rotation(time * 0.2f));
-                float scale = 1.0f + Mth.sin(time * 0.1f) * 0.2f;
-                ps.scale(scale, scale, scale);
-                
-                // Dark shifting form
-                RendererUtils.renderCube(buffer, ps, half * 0.8f, 0x80440044);
-                
-                ps.popPose();
-            }
-        );
+        RenderType renderType = RenderTypes.entityTranslucentEmissive(RendererConstants.GLOW_TEXTURE);
+        BakedPrimitiveCache.BakedMesh mesh = BakedPrimitiveCache.get(BoggartRenderer.class, half, renderType, BoggartRenderer::bakeMesh).forDetail(detail);
+        
+        // Shape-shifting effect (applied to the pose, the mesh itself is static)
+        poseStack.pushPose();
+        poseStack.mulPose(Axis.YP.rotation(time * 0.2f));
+        float scale = 1.0f + Mth.sin(time * 0.1f) * 0.2f;
+        poseStack.scale(scale, scale, scale);
+        collector.submitCustomGeometry(poseStack, renderType, mesh::emit);
+        poseStack.popPose();
+    }
+    
+    private static void bakeMesh(BakedPrimitiveCache.MeshBuilder mesh, PoseStack ps, float half) {
+        // Dark shifting form
+        mesh.cube(ps, half * 0.8f, 0x80440044);
     }
     
     public Identifier getTextureLocation(EntityRenderState state) {
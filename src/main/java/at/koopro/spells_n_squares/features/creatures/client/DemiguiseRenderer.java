@@ -1,13 +1,15 @@
 package at.koopro.spells_n_squares.features.creatures.client;
 
+import at.koopro.spells_n_squares.core.client.BakedPrimitiveCache;
+import at.koopro.spells_n_squares.core.client.RenderLod;
 import at.koopro.spells_n_squares.core.client.RendererConstants;
-import at.koopro.spells_n_squares.core.client.RendererUtils;
 import at.koopro.spells_n_squares.features.creatures.companion.DemiguiseEntity;
 import com.mojang.blaze3d.vertex.PoseStack;
 import net.minecraft.client.renderer.SubmitNodeCollector;
 import net.minecraft.client.renderer.entity.EntityRenderer;
 import net.minecraft.client.renderer.entity.EntityRendererProvider;
 import net.minecraft.client.renderer.entity.state.EntityRenderState;
+import net.minecraft.client.renderer.rendertype.RenderType;
 import net.minecraft.client.renderer.rendertype.RenderTypes;
 import net.minecraft.client.renderer.state.CameraRenderState;
 
@@ -35,39 +37,37 @@ public class DemiguiseRenderer extends EntityRenderer<DemiguiseEntity, EntityRen
         super.submit(renderState, poseStack, collector, cameraState);
         
         float half = Math.max(renderState.boundingBoxWidth, renderState.boundingBoxHeight) * 0.5f;
+        RenderLod.Detail detail = RenderLod.detail(renderState.distanceToCameraSq, half);
+        if (detail == RenderLod.Detail.CULLED) {
+            return;
+        }
         
-        collector.submitCustomGeometry(
-            poseStack,
-            RenderTypes.entityTranslucent(RendererConstants.GLOW_TEXTURE),
-            (pose, buffer) -> {
-                PoseStack ps = new PoseStack();
-                ps.last().set(pose);
-                ps.pushPose();
-                
-                // Ape-like body (silver/gray)
-                int color = 0xFFC0C0C0; // Silver-gray
-                RendererUtils.renderCube(buffer, ps, half * 0.6f, half * 0.8f, half * 0.5f, 0, color);
-                
-                // Head
-                ps.pushPose();
-                ps.translate(0, half * 0.7f, 0);
-                RendererUtils.renderCube(buffer, ps, half * 0.4f, 0xFFB0B0B0);
-                ps.popPose();
-                
-                // Arms
-                ps.pushPose();
-                ps.translate(half * 0.5f, 0, 0);
-                RendererUtils.renderCube(buffer, ps, half * 0.2f, half * 0.6f, half * 0.2f, 0, color);
-                ps.popPose();
-                
-                ps.pushPose();
-                ps.translate(-half * 0.5f, 0, 0);
-                RendererUtils.renderCube(buffer, ps, half * 0.2f, half * 0.6f, half * 0.2f, 0, color);
-                ps.popPose();
-                
-                ps.popPose();
-            }
-        );
+        RenderType renderType = RenderTypes.entityTranslucent(RendererConstants.GLOW_TEXTURE);
+        BakedPrimitiveCache.BakedMesh mesh = BakedPrimitiveCache.get(DemiguiseRenderer.class, half, renderType, DemiguiseRenderer::bakeMesh).forDetail(detail);
+        collector.submitCustomGeometry(poseStack, renderType, mesh::emit);
+    }
+    
+    private static void bakeMesh(BakedPrimitiveCache.MeshBuilder mesh, PoseStack ps, float half) {
+        // Ape-like body (silver/gray)
+        int color = 0xFFC0C0C0; // Silver-gray
+        mesh.cube(ps, half * 0.6f, half * 0.8f, half * 0.5f, 0, color);
+        
+        // Head
+        ps.pushPose();
+        ps.translate(0, half * 0.7f, 0);
+        mesh.cube(ps, half * 0.4f, 0xFFB0B0B0);
+        ps.popPose();
+        
+        // Arms
+        ps.pushPose();
+        ps.translate(half * 0.5f, 0, 0);
+        mesh.cube(ps, half * 0.2f, half * 0.6f, half * 0.2f, 0, color);
+        ps.popPose();
+        
+        ps.pushPose();
+        ps.translate(-half * 0.5f, 0, 0);
+        mesh.cube(ps, half * 0.2f, half * 0.6f, half * 0.2f, 0, color);
+        ps.popPose();
     }
 }
 
@@ -1,13 +1,15 @@
 package at.koopro.spells_n_squares.features.creatures.client;
 
+import at.koopro.spells_n_squares.core.client.BakedPrimitiveCache;
+import at.koopro.spells_n_squares.core.client.RenderLod;
 import at.koopro.spells_n_squares.core.client.RendererConstants;
-import at.koopro.spells_n_squares.core.client.RendererUtils;
 import at.koopro.spells_n_squares.features.creatures.hostile.ManticoreEntity;
 import com.mojang.blaze3d.vertex.PoseStack;
 import net.minecraft.client.renderer.SubmitNodeCollector;
 import net.minecraft.client.renderer.entity.EntityRenderer;
 import net.minecraft.client.renderer.entity.EntityRendererProvider;
 import net.minecraft.client.renderer.entity.state.EntityRenderState;
+import net.minecraft.client.renderer.rendertype.RenderType;
 import net.minecraft.client.renderer.rendertype.RenderTypes;
 import net.minecraft.client.renderer.state.CameraRenderState;
 
@@ -35,33 +37,31 @@ public class ManticoreRenderer extends EntityRenderer<ManticoreEntity, EntityRen
         super.submit(renderState, poseStack, collector, cameraState);
         
         float half = Math.max(renderState.boundingBoxWidth, renderState.boundingBoxHeight) * 0.5f;
+        RenderLod.Detail detail = RenderLod.detail(renderState.distanceToCameraSq, half);
+        if (detail == RenderLod.Detail.CULLED) {
+            return;
+        }
         
-        collector.submitCustomGeometry(
-            poseStack,
-            RenderTypes.entityTranslucent(RendererConstants.GLOW_TEXTURE),
-            (pose, buffer) -> {
-                PoseStack ps = new PoseStack();
-                ps.last().set(pose);
-                ps.pushPose();
-                
-                // Lion body
-                RendererUtils.renderCube(buffer, ps, half * 0.7f, 0xFFFFA500);
-                
-                // Human head
-                ps.pushPose();
-                ps.translate(0, half * 0.5f, 0);
-                RendererUtils.renderCube(buffer, ps, half * 0.3f, 0xFFFFDBB3);
-                ps.popPose();
-                
-                // Scorpion tail
-                ps.pushPose();
-                ps.translate(0, -half * 0.3f, -half * 0.5f);
-                RendererUtils.renderCube(buffer, ps, half * 0.2f, half * 0.6f, half * 0.2f, 0, 0xFF8B0000);
-                ps.popPose();
-                
-                ps.popPose();
-            }
-        );
+        RenderType renderType = RenderTypes.entityTranslucent(RendererConstants.GLOW_TEXTURE);
+        BakedPrimitiveCache.BakedMesh mesh = BakedPrimitiveCache.get(ManticoreRenderer.class, half, renderType, ManticoreRenderer::bakeMesh).forDetail(detail);
+        collector.submitCustomGeometry(poseStack, renderType, mesh::emit);
+    }
+    
+    private static void bakeMesh(BakedPrimitiveCache.MeshBuilder mesh, PoseStack ps, float half) {
+        // Lion body
+        mesh.cube(ps, half * 0.7f, 0xFFFFA500);
+        
+        // Human head
+        ps.pushPose();
+        ps.translate(0, half * 0.5f, 0);
+        mesh.cube(ps, half * 0.3f, 0xFFFFDBB3);
+        ps.popPose();
+        
+        // Scorpion tail
+        ps.pushPose();
+        ps.translate(0, -half * 0.3f, -half * 0.5f);
+        mesh.cube(ps, half * 0.2f, half * 0.6f, half * 0.2f, 0, 0xFF8B0000);
+        ps.popPose();
     }
 }
 
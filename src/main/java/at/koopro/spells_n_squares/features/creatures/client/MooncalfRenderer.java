@@ -1,13 +1,15 @@
 package at.koopro.spells_n_squares.features.creatures.client;
 
+import at.koopro.spells_n_squares.core.client.BakedPrimitiveCache;
+import at.koopro.spells_n_squares.core.client.RenderLod;
 import at.koopro.spells_n_squares.core.client.RendererConstants;
-import at.koopro.spells_n_squares.core.client.RendererUtils;
 import at.koopro.spells_n_squares.features.creatures.companion.MooncalfEntity;
 import com.mojang.blaze3d.vertex.PoseStack;
 import net.minecraft.client.renderer.SubmitNodeCollector;
 import net.minecraft.client.renderer.entity.EntityRenderer;
 import net.minecraft.client.renderer.entity.EntityRendererProvider;
 import net.minecraft.client.renderer.entity.state.EntityRenderState;
+import net.minecraft.client.renderer.rendertype.RenderType;
 import net.minecraft.client.renderer.rendertype.RenderTypes;
 import net.minecraft.client.renderer.state.CameraRenderState;
 import net.minecraft.resources.Identifier;
@@ -36,32 +38,30 @@ public class MooncalfRenderer extends EntityRenderer<MooncalfEntity, EntityRende
         super.submit(renderState, poseStack, collector, cameraState);
         
         float half = Math.max(renderState.boundingBoxWidth, renderState.boundingBoxHeight) * 0.5f;
+        RenderLod.Detail detail = RenderLod.detail(renderState.distanceToCameraSq, half);
+        if (detail == RenderLod.Detail.CULLED) {
+            return;
+        }
         
-        collector.submitCustomGeometry(
-            poseStack,
-            RenderTypes.entityTranslucent(RendererConstants.GLOW_TEXTURE),
-            (pose, buffer) -> {
-                PoseStack ps = new PoseStack();
-                ps.last().set(pose);
-                ps.pushPose();
-                
-                // Small body (pale/white colored)
-                RendererUtils.renderCube(buffer, ps, half * 0.8f, 0xFFE8E8E8);
-                
-                // Large eyes
-                ps.pushPose();
-                ps.translate(half * 0.3f, half * 0.2f, -half * 0.4f);
-                RendererUtils.renderCube(buffer, ps, half * 0.15f, 0xFF000000);
-                ps.popPose();
-                
-                ps.pushPose();
-                ps.translate(-half * 0.3f, half * 0.2f, -half * 0.4f);
-                RendererUtils.renderCube(buffer, ps, half * 0.15f, 0xFF000000);
-                ps.popPose();
-                
-                ps.popPose();
-            }
-        );
+        RenderType renderType = RenderTypes.entityTranslucent(RendererConstants.GLOW_TEXTURE);
+        BakedPrimitiveCache.BakedMesh mesh = BakedPrimitiveCache.get(MooncalfRenderer.class, half, renderType, MooncalfRenderer::bakeMesh).forDetail(detail);
+        collector.submitCustomGeometry(poseStack, renderType, mesh::emit);
+    }
+    
+    private static void bakeMesh(BakedPrimitiveCache.MeshBuilder mesh, PoseStack ps, float half) {
+        // Small body (pale/white colored)
+        mesh.cube(ps, half * 0.8f, 0xFFE8E8E8);
+        
+        // Large eyes
+        ps.pushPose();
+        ps.translate(half * 0.3f, half * 0.2f, -half * 0.4f);
+        mesh.cube(ps, half * 0.15f, 0xFF000000);
+        ps.popPose();
+        
+        ps.pushPose();
+        ps.translate(-half * 0.3f, half * 0.2f, -half * 0.4f);
+        mesh.cube(ps, half * 0.15f, 0xFF000000);
+        ps.popPose();
     }
     
     public Identifier getTextureLocation(EntityRenderState state) {
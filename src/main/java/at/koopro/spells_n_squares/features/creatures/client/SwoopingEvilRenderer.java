@@ -1,13 +1,15 @@
 package at.koopro.spells_n_squares.features.creatures.client;
 
+import at.koopro.spells_n_squares.core.client.BakedPrimitiveCache;
+import at.koopro.spells_n_squares.core.client.RenderLod;
 import at.koopro.spells_n_squares.core.client.RendererConstants;
-import at.koopro.spells_n_squares.core.client.RendererUtils;
 import at.koopro.spells_n_squares.features.creatures.hostile.SwoopingEvilEntity;
 import com.mojang.blaze3d.vertex.PoseStack;
 import net.minecraft.client.renderer.SubmitNodeCollector;
 import net.minecraft.client.renderer.entity.EntityRenderer;
 import net.minecraft.client.renderer.entity.EntityRendererProvider;
 import net.minecraft.client.renderer.entity.state.EntityRenderState;
+import net.minecraft.client.renderer.rendertype.RenderType;
 import net.minecraft.client.renderer.rendertype.RenderTypes;
 import net.minecraft.client.renderer.state.CameraRenderState;
 import net.minecraft.resources.Identifier;
@@ -36,32 +38,30 @@ public class SwoopingEvilRenderer extends EntityRenderer<SwoopingEvilEntity, Ent
         super.submit(renderState, poseStack, collector, cameraState);
         
         float half = Math.max(renderState.boundingBoxWidth, renderState.boundingBoxHeight) * 0.5f;
+        RenderLod.Detail detail = RenderLod.detail(renderState.distanceToCameraSq, half);
+        if (detail == RenderLod.Detail.CULLED) {
+            return;
+        }
         
-        collector.submitCustomGeometry(
-            poseStack,
-            RenderTypes.entityTranslucent(RendererConstants.GLOW_TEXTURE),
-            (pose, buffer) -> {
-                PoseStack ps = new PoseStack();
-                ps.last().set(pose);
-                ps.pushPose();
-                
-                // Winged body (dark/purple colored)
-                RendererUtils.renderCube(buffer, ps, half * 0.9f, 0xFF4A2A6B);
-                
-                // Wings
-                ps.pushPose();
-                ps.translate(half * 0.7f, 0, 0);
-                RendererUtils.renderCube(buffer, ps, half * 0.6f, 0xFF3A1A5B);
-                ps.popPose();
-                
-                ps.pushPose();
-                ps.translate(-half * 0.7f, 0, 0);
-                RendererUtils.renderCube(buffer, ps, half * 0.6f, 0xFF3A1A5B);
-                ps.popPose();
-                
-                ps.popPose();
-            }
-        );
+        RenderType renderType = RenderTypes.entityTranslucent(RendererConstants.GLOW_TEXTURE);
+        BakedPrimitiveCache.BakedMesh mesh = BakedPrimitiveCache.get(SwoopingEvilRenderer.class, half, renderType, SwoopingEvilRenderer::bakeMesh).forDetail(detail);
+        collector.submitCustomGeometry(poseStack, renderType, mesh::emit);
+    }
+    
+    private static void bakeMesh(BakedPrimitiveCache.MeshBuilder mesh, PoseStack ps, float half) {
+        // Winged body (dark/purple colored)
+        mesh.cube(ps, half * 0.9f, 0xFF4A2A6B);
+        
+        // Wings
+        ps.pushPose();
+        ps.translate(half * 0.7f, 0, 0);
+        mesh.cube(ps, half * 0.6f, 0xFF3A1A5B);
+        ps.popPose();
+        
+        ps.pushPose();
+        ps.translate(-half * 0.7f, 0, 0);
+        mesh.cube(ps, half * 0.6f, 0xFF3A1A5B);
+        ps.popPose();
     }
     
     public Identifier getTextureLocation(EntityRenderState state) {
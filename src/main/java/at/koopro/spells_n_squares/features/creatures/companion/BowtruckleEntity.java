@@ -1,6 +1,9 @@
 package at.koopro.spells_n_squares.features.creatures.companion;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.features.creatures.base.BaseTamableCreatureEntity;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureActivation;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureGoalHelper;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
@@ -14,13 +17,6 @@ import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
 import net.minecraft.world.entity.ai.attributes.Attributes;
-import net.minecraft.world.entity.ai.goal.FloatGoal;
-import net.minecraft.world.entity.ai.goal.FollowOwnerGoal;
-import net.minecraft.world.entity.ai.goal.LookAtPlayerGoal;
-import net.minecraft.world.entity.ai.goal.PanicGoal;
-import net.minecraft.world.entity.ai.goal.RandomLookAroundGoal;
-import net.minecraft.world.entity.ai.goal.SitWhenOrderedToGoal;
-import net.minecraft.world.entity.ai.goal.WaterAvoidingRandomStrollGoal;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
@@ -44,13 +40,7 @@ public class BowtruckleEntity extends BaseTamableCreatureEntity {
     
     @Override
     protected void registerGoals() {
-        this.goalSelector.addGoal(0, new FloatGoal(this));
-        this.goalSelector.addGoal(1, new PanicGoal(this, 2.0D));
-        this.goalSelector.addGoal(2, new SitWhenOrderedToGoal(this));
-        this.goalSelector.addGoal(3, new FollowOwnerGoal(this, 1.0D, 10.0F, 2.0F));
-        this.goalSelector.addGoal(4, new WaterAvoidingRandomStrollGoal(this, 1.0D));
-        this.goalSelector.addGoal(5, new LookAtPlayerGoal(this, Player.class, 8.0F));
-        this.goalSelector.addGoal(6, new RandomLookAroundGoal(this));
+        CreatureGoalHelper.registerCompanionGoals(this, 2.0D, 1.0D, 10.0F, 2.0F, 1.0D);
     }
     
     public static AttributeSupplier.Builder createAttributes() {
@@ -93,9 +83,12 @@ public class BowtruckleEntity extends BaseTamableCreatureEntity {
     @Override
     public void tick() {
         super.tick();
+        if (!CreatureActivation.shouldRunCustomTick(this)) {
+            return;
+        }
         
         if (this.level() instanceof ServerLevel serverLevel && this.isTame() && hasOwner() && !this.isOrderedToSit()) {
-            plantGrowthTimer++;
+            plantGrowthTimer += CreatureActivation.getCustomTickStep(this);
             
             // Periodically help plants grow
             if (plantGrowthTimer >= PLANT_GROWTH_INTERVAL) {
@@ -128,7 +121,7 @@ public class BowtruckleEntity extends BaseTamableCreatureEntity {
                             state.randomTick(level, checkPos, level.random);
                             
                             // Visual effect
-                            level.sendParticles(ParticleTypes.HAPPY_VILLAGER,
+                            ParticlePool.queueParticle(level, ParticleTypes.HAPPY_VILLAGER,
                                 checkPos.getX() + 0.5, checkPos.getY() + 0.5, checkPos.getZ() + 0.5,
                                 2, 0.2, 0.2, 0.2, 0.01);
                         }
@@ -1,19 +1,14 @@
 package at.koopro.spells_n_squares.features.creatures.companion;
 
 import at.koopro.spells_n_squares.features.creatures.base.BaseTamableCreatureEntity;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureActivation;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureGoalHelper;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.AgeableMob;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
 import net.minecraft.world.entity.ai.attributes.Attributes;
-import net.minecraft.world.entity.ai.goal.FloatGoal;
-import net.minecraft.world.entity.ai.goal.FollowOwnerGoal;
-import net.minecraft.world.entity.ai.goal.LookAtPlayerGoal;
-import net.minecraft.world.entity.ai.goal.PanicGoal;
-import net.minecraft.world.entity.ai.goal.RandomLookAroundGoal;
-import net.minecraft.world.entity.ai.goal.SitWhenOrderedToGoal;
-import net.minecraft.world.entity.ai.goal.WaterAvoidingRandomStrollGoal;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 
@@ -30,13 +25,7 @@ public class DemiguiseEntity extends BaseTamableCreatureEntity {
     
     @Override
     protected void registerGoals() {
-        this.goalSelector.addGoal(0, new FloatGoal(this));
-        this.goalSelector.addGoal(1, new PanicGoal(this, 1.5D));
-        this.goalSelector.addGoal(2, new SitWhenOrderedToGoal(this));
-        this.goalSelector.addGoal(3, new FollowOwnerGoal(this, 1.0D, 10.0F, 2.0F));
-        this.goalSelector.addGoal(4, new WaterAvoidingRandomStrollGoal(this, 1.0D));
-        this.goalSelector.addGoal(5, new LookAtPlayerGoal(this, Player.class, 8.0F));
-        this.goalSelector.addGoal(6, new RandomLookAroundGoal(this));
+        CreatureGoalHelper.registerCompanionGoals(this, 1.5D, 1.0D, 10.0F, 2.0F, 1.0D);
     }
     
     public static AttributeSupplier.Builder createAttributes() {
@@ -48,11 +37,14 @@ public class DemiguiseEntity extends BaseTamableCreatureEntity {
     @Override
     public void tick() {
         super.tick();
+        if (!CreatureActivation.shouldRunCustomTick(this)) {
+            return;
+        }
         
         // Toggle invisibility when threatened
         if (!this.level().isClientSide()) {
             if (invisibilityCooldown > 0) {
-                invisibilityCooldown--;
+                invisibilityCooldown = Math.max(0, invisibilityCooldown - CreatureActivation.getCustomTickStep(this));
             }
             
             // Turn invisible when players approach (precognition)
@@ -1,6 +1,9 @@
 package at.koopro.spells_n_squares.features.creatures.companion;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.features.creatures.base.BaseTamableCreatureEntity;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureActivation;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureGoalHelper;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -13,13 +16,6 @@ import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
 import net.minecraft.world.entity.ai.attributes.Attributes;
-import net.minecraft.world.entity.ai.goal.FloatGoal;
-import net.minecraft.world.entity.ai.goal.FollowOwnerGoal;
-import net.minecraft.world.entity.ai.goal.LookAtPlayerGoal;
-import net.minecraft.world.entity.ai.goal.MeleeAttackGoal;
-import net.minecraft.world.entity.ai.goal.RandomLookAroundGoal;
-import net.minecraft.world.entity.ai.goal.SitWhenOrderedToGoal;
-import net.minecraft.world.entity.ai.goal.WaterAvoidingRandomStrollGoal;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
@@ -41,13 +37,7 @@ public class ErumpentEntity extends BaseTamableCreatureEntity {
     
     @Override
     protected void registerGoals() {
-        this.goalSelector.addGoal(0, new FloatGoal(this));
-        this.goalSelector.addGoal(1, new SitWhenOrderedToGoal(this));
-        this.goalSelector.addGoal(2, new MeleeAttackGoal(this, 1.0D, true));
-        this.goalSelector.addGoal(3, new FollowOwnerGoal(this, 1.0D, 10.0F, 2.0F));
-        this.goalSelector.addGoal(4, new WaterAvoidingRandomStrollGoal(this, 1.0D));
-        this.goalSelector.addGoal(5, new LookAtPlayerGoal(this, Player.class, 8.0F));
-        this.goalSelector.addGoal(6, new RandomLookAroundGoal(this));
+        CreatureGoalHelper.registerAggressiveGoals(this, 1.0D, 1.0D, 10.0F, 2.0F, 1.0D);
     }
     
     public static AttributeSupplier.Builder createAttributes() {
@@ -105,9 +95,12 @@ public class ErumpentEntity extends BaseTamableCreatureEntity {
     @Override
     public void tick() {
         super.tick();
+        if (!CreatureActivation.shouldRunCustomTick(this)) {
+            return;
+        }
         
         if (this.level() instanceof ServerLevel serverLevel) {
-            explosionCooldownTimer++;
+            explosionCooldownTimer += CreatureActivation.getCustomTickStep(this);
             
             // When attacking or threatened, create explosive effects
             if (explosionCooldownTimer >= EXPLOSION_COOLDOWN && (this.getTarget() != null || this.random.nextFloat() < 0.05f)) {
@@ -124,11 +117,11 @@ public class ErumpentEntity extends BaseTamableCreatureEntity {
         AABB area = this.getBoundingBox().inflate(3.0);
         
         // Visual effect
-        level.sendParticles(ParticleTypes.EXPLOSION,
+        ParticlePool.queueParticle(level, ParticleTypes.EXPLOSION,
             this.getX(), this.getY() + 1.0, this.getZ(),
             5, 1.0, 1.0, 1.0, 0.1);
         
-        level.sendParticles(ParticleTypes.SMOKE,
+        ParticlePool.queueParticle(level, ParticleTypes.SMOKE,
             this.getX(), this.getY() + 1.0, this.getZ(),
             30, 2.0, 1.0, 2.0, 0.1);
         
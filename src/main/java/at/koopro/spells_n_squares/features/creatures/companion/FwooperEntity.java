@@ -1,31 +1,29 @@
 package at.koopro.spells_n_squares.features.creatures.companion;
 
 import at.koopro.spells_n_squares.features.creatures.base.BaseTamableCreatureEntity;
+import at.koopro.spells_n_squares.features.creatures.util.AuraSource;
+import at.koopro.spells_n_squares.features.creatures.util.AuraSystem;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureGoalHelper;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.entity.AgeableMob;
 import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
 import net.minecraft.world.entity.ai.attributes.Attributes;
-import net.minecraft.world.entity.ai.goal.FloatGoal;
-import net.minecraft.world.entity.ai.goal.FollowOwnerGoal;
-import net.minecraft.world.entity.ai.goal.LookAtPlayerGoal;
-import net.minecraft.world.entity.ai.goal.PanicGoal;
-import net.minecraft.world.entity.ai.goal.RandomLookAroundGoal;
-import net.minecraft.world.entity.ai.goal.SitWhenOrderedToGoal;
-import net.minecraft.world.entity.ai.goal.WaterAvoidingRandomStrollGoal;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 
+import java.util.List;
+
 /**
  * Fwooper - A brightly colored bird whose song can drive listeners insane.
  * Must be silenced with charms.
  */
-public class FwooperEntity extends BaseTamableCreatureEntity {
-    private int songTimer = 0;
+public class FwooperEntity extends BaseTamableCreatureEntity implements AuraSource {
     private static final int SONG_INTERVAL = 200; // Every 10 seconds
+    private static final List<AuraSystem.Aura> AURAS = List.of(new AuraSystem.Aura(8.0, SONG_INTERVAL, true));
     
     public FwooperEntity(EntityType<? extends FwooperEntity> type, Level level) {
         super(type, level);
@@ -33,13 +31,7 @@ public class FwooperEntity extends BaseTamableCreatureEntity {
     
     @Override
     protected void registerGoals() {
-        this.goalSelector.addGoal(0, new FloatGoal(this));
-        this.goalSelector.addGoal(1, new PanicGoal(this, 1.5D));
-        this.goalSelector.addGoal(2, new SitWhenOrderedToGoal(this));
-        this.goalSelector.addGoal(3, new FollowOwnerGoal(this, 1.0D, 10.0F, 2.0F));
-        this.goalSelector.addGoal(4, new WaterAvoidingRandomStrollGoal(this, 1.0D));
-        this.goalSelector.addGoal(5, new LookAtPlayerGoal(this, Player.class, 8.0F));
-        this.goalSelector.addGoal(6, new RandomLookAroundGoal(this));
+        CreatureGoalHelper.registerCompanionGoals(this, 1.5D, 1.0D, 10.0F, 2.0F, 1.0D);
     }
     
     public static AttributeSupplier.Builder createAttributes() {
@@ -49,31 +41,25 @@ public class FwooperEntity extends BaseTamableCreatureEntity {
     }
     
     @Override
-    public void tick() {
-        super.tick();
-        
-        // Sing periodically - causes confusion to nearby players
-        if (this.level() instanceof ServerLevel serverLevel && !this.isOrderedToSit()) {
-            songTimer++;
-            
-            if (songTimer >= SONG_INTERVAL) {
-                songTimer = 0;
-                
-                // Apply confusion effect to nearby players (madness-inducing song)
-                for (Player player : this.level().getEntitiesOfClass(Player.class, 
-                        this.getBoundingBox().inflate(8.0))) {
-                    if (!isOwner(player)) {
-                        player.addEffect(new MobEffectInstance(
-                            MobEffects.NAUSEA,
-                            200, // 10 seconds
-                            0,
-                            false,
-                            true,
-                            true
-                        ));
-                    }
-                }
-            }
+    public List<AuraSystem.Aura> getAuras() {
+        return AURAS;
+    }
+    
+    /**
+     * Sitting Fwoopers don't sing.
+     */
+    @Override
+    public boolean shouldPulse(AuraSystem.Aura aura) {
+        return !this.isOrderedToSit();
+    }
+    
+    /**
+     * Applies confusion effect to nearby players (madness-inducing song).
+     */
+    @Override
+    public void applyAura(ServerLevel level, AuraSystem.Aura aura, LivingEntity target, AuraSystem.AuraBatch batch) {
+        if (target instanceof Player player && !isOwner(player)) {
+            batch.addEffect(player, MobEffects.NAUSEA, 200, 0); // 10 seconds
         }
     }
     
@@ -1,6 +1,9 @@
 package at.koopro.spells_n_squares.features.creatures.companion;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.features.creatures.base.BaseTamableCreatureEntity;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureActivation;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureGoalHelper;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -13,12 +16,6 @@ import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
 import net.minecraft.world.entity.ai.attributes.Attributes;
-import net.minecraft.world.entity.ai.goal.FloatGoal;
-import net.minecraft.world.entity.ai.goal.FollowOwnerGoal;
-import net.minecraft.world.entity.ai.goal.LookAtPlayerGoal;
-import net.minecraft.world.entity.ai.goal.RandomLookAroundGoal;
-import net.minecraft.world.entity.ai.goal.SitWhenOrderedToGoal;
-import net.minecraft.world.entity.ai.goal.WaterAvoidingRandomStrollGoal;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
@@ -38,12 +35,7 @@ public class HouseElfEntity extends BaseTamableCreatureEntity {
     
     @Override
     protected void registerGoals() {
-        this.goalSelector.addGoal(0, new FloatGoal(this));
-        this.goalSelector.addGoal(1, new SitWhenOrderedToGoal(this));
-        this.goalSelector.addGoal(2, new FollowOwnerGoal(this, 1.0D, 10.0F, 2.0F));
-        this.goalSelector.addGoal(3, new WaterAvoidingRandomStrollGoal(this, 1.0D));
-        this.goalSelector.addGoal(4, new LookAtPlayerGoal(this, Player.class, 8.0F));
-        this.goalSelector.addGoal(5, new RandomLookAroundGoal(this));
+        CreatureGoalHelper.registerBasicGoals(this, 1.0D, 10.0F, 2.0F, 1.0D);
     }
     
     public static AttributeSupplier.Builder createAttributes() {
@@ -74,7 +66,7 @@ public class HouseElfEntity extends BaseTamableCreatureEntity {
                 
                 // Visual effect
                 if (this.level() instanceof ServerLevel serverLevel) {
-                    serverLevel.sendParticles(ParticleTypes.HAPPY_VILLAGER,
+                    ParticlePool.queueParticle(serverLevel, ParticleTypes.HAPPY_VILLAGER,
                         this.getX(), this.getY() + 1.0, this.getZ(),
                         20, 0.5, 0.5, 0.5, 0.1);
                 }
@@ -96,12 +88,15 @@ public class HouseElfEntity extends BaseTamableCreatureEntity {
     @Override
     public void tick() {
         super.tick();
+        if (!CreatureActivation.shouldRunCustomTick(this)) {
+            return;
+        }
         
         // House elves are helpful - occasionally help nearby players
         if (this.level() instanceof ServerLevel serverLevel && hasOwner() && this.tickCount % 100 == 0) {
             // Small helpful effect (could be expanded)
             if (this.tickCount % 200 == 0) {
-                serverLevel.sendParticles(ParticleTypes.ENCHANT,
+                ParticlePool.queueParticle(serverLevel, ParticleTypes.ENCHANT,
                     this.getX(), this.getY() + 1.0, this.getZ(),
                     3, 0.2, 0.2, 0.2, 0.01);
             }
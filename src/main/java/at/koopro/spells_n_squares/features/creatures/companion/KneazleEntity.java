@@ -1,6 +1,9 @@
 package at.koopro.spells_n_squares.features.creatures.companion;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.features.creatures.base.BaseTamableCreatureEntity;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureActivation;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureGoalHelper;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -14,13 +17,6 @@ import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
 import net.minecraft.world.entity.ai.attributes.Attributes;
-import net.minecraft.world.entity.ai.goal.FloatGoal;
-import net.minecraft.world.entity.ai.goal.FollowOwnerGoal;
-import net.minecraft.world.entity.ai.goal.LookAtPlayerGoal;
-import net.minecraft.world.entity.ai.goal.PanicGoal;
-import net.minecraft.world.entity.ai.goal.RandomLookAroundGoal;
-import net.minecraft.world.entity.ai.goal.SitWhenOrderedToGoal;
-import net.minecraft.world.entity.ai.goal.WaterAvoidingRandomStrollGoal;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
@@ -41,13 +37,7 @@ public class KneazleEntity extends BaseTamableCreatureEntity {
     
     @Override
     protected void registerGoals() {
-        this.goalSelector.addGoal(0, new FloatGoal(this));
-        this.goalSelector.addGoal(1, new PanicGoal(this, 1.5D));
-        this.goalSelector.addGoal(2, new SitWhenOrderedToGoal(this));
-        this.goalSelector.addGoal(3, new FollowOwnerGoal(this, 1.0D, 10.0F, 2.0F));
-        this.goalSelector.addGoal(4, new WaterAvoidingRandomStrollGoal(this, 1.0D));
-        this.goalSelector.addGoal(5, new LookAtPlayerGoal(this, Player.class, 8.0F));
-        this.goalSelector.addGoal(6, new RandomLookAroundGoal(this));
+        CreatureGoalHelper.registerCompanionGoals(this, 1.5D, 1.0D, 10.0F, 2.0F, 1.0D);
     }
     
     public static AttributeSupplier.Builder createAttributes() {
@@ -91,9 +81,12 @@ public class KneazleEntity extends BaseTamableCreatureEntity {
     @Override
     public void tick() {
         super.tick();
+        if (!CreatureActivation.shouldRunCustomTick(this)) {
+            return;
+        }
         
         if (this.level() instanceof ServerLevel serverLevel && this.isTame() && hasOwner() && !this.isOrderedToSit()) {
-            detectionTimer++;
+            detectionTimer += CreatureActivation.getCustomTickStep(this);
             
             // Periodically detect untrustworthy entities
             if (detectionTimer >= DETECTION_INTERVAL) {
@@ -115,7 +108,7 @@ public class KneazleEntity extends BaseTamableCreatureEntity {
             // Detect hostile mobs
             if (entity instanceof net.minecraft.world.entity.Mob mob && mob.getTarget() != null) {
                 // Visual warning
-                level.sendParticles(ParticleTypes.ANGRY_VILLAGER,
+                ParticlePool.queueParticle(level, ParticleTypes.ANGRY_VILLAGER,
                     entity.getX(), entity.getY() + entity.getBbHeight(), entity.getZ(),
                     5, 0.3, 0.3, 0.3, 0.05);
             }
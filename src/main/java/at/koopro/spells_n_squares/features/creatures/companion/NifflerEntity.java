@@ -1,7 +1,11 @@
 package at.koopro.spells_n_squares.features.creatures.companion;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
+import at.koopro.spells_n_squares.core.util.ItemEntityIndex;
 import at.koopro.spells_n_squares.features.creatures.base.BaseTamableCreatureEntity;
 import at.koopro.spells_n_squares.features.creatures.companion.ai.NifflerFindTreasureGoal;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureActivation;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureGoalHelper;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -17,17 +21,12 @@ import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
 import net.minecraft.world.entity.ai.attributes.Attributes;
 import net.minecraft.world.entity.ai.goal.FloatGoal;
-import net.minecraft.world.entity.ai.goal.FollowOwnerGoal;
-import net.minecraft.world.entity.ai.goal.LookAtPlayerGoal;
 import net.minecraft.world.entity.ai.goal.PanicGoal;
-import net.minecraft.world.entity.ai.goal.RandomLookAroundGoal;
 import net.minecraft.world.entity.ai.goal.SitWhenOrderedToGoal;
-import net.minecraft.world.entity.ai.goal.WaterAvoidingRandomStrollGoal;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.phys.AABB;
 
 import java.util.UUID;
 
@@ -51,10 +50,8 @@ public class NifflerEntity extends BaseTamableCreatureEntity {
         this.goalSelector.addGoal(1, new PanicGoal(this, 1.5D));
         this.goalSelector.addGoal(2, new SitWhenOrderedToGoal(this));
         this.goalSelector.addGoal(3, new NifflerFindTreasureGoal(this));
-        this.goalSelector.addGoal(4, new FollowOwnerGoal(this, 1.0D, 10.0F, 2.0F));
-        this.goalSelector.addGoal(5, new WaterAvoidingRandomStrollGoal(this, 1.0D));
-        this.goalSelector.addGoal(6, new LookAtPlayerGoal(this, Player.class, 8.0F));
-        this.goalSelector.addGoal(7, new RandomLookAroundGoal(this));
+        CreatureGoalHelper.addFollowOwnerGoal(this, 4, 1.0D, 10.0F, 2.0F);
+        CreatureGoalHelper.addIdleGoals(this, 5, 1.0D);
     }
     
     public static AttributeSupplier.Builder createAttributes() {
@@ -97,9 +94,12 @@ public class NifflerEntity extends BaseTamableCreatureEntity {
     @Override
     public void tick() {
         super.tick();
+        if (!CreatureActivation.shouldRunCustomTick(this)) {
+            return;
+        }
         
         if (this.level() instanceof ServerLevel serverLevel && this.isTame() && hasOwner()) {
-            treasureSearchTimer++;
+            treasureSearchTimer += CreatureActivation.getCustomTickStep(this);
             
             // Periodically search for treasure
             if (treasureSearchTimer >= TREASURE_SEARCH_INTERVAL) {
@@ -117,30 +117,13 @@ public class NifflerEntity extends BaseTamableCreatureEntity {
             return; // Don't search if sitting
         }
         
-        AABB searchArea = new AABB(this.blockPosition()).inflate(TREASURE_SEARCH_RADIUS);
-        var items = level.getEntitiesOfClass(ItemEntity.class, searchArea);
-        
-        ItemEntity bestItem = null;
-        double bestValue = 0.0;
-        
-        for (ItemEntity item : items) {
-            if (!item.isAlive() || item.hasPickUpDelay()) {
-                continue;
-            }
-            
-            ItemStack stack = item.getItem();
-            double value = getItemValue(stack);
-            
-            if (value > bestValue && value > 0) {
-                bestItem = item;
-                bestValue = value;
-            }
-        }
+        ItemEntity bestItem = ItemEntityIndex.findBest(level, this.position(), TREASURE_SEARCH_RADIUS,
+            item -> item.hasPickUpDelay() ? 0.0 : getItemValue(item.getItem()));
         
         if (bestItem != null) {
             this.targetItem = bestItem;
             // Visual effect
-            level.sendParticles(ParticleTypes.HAPPY_VILLAGER,
+            ParticlePool.queueParticle(level, ParticleTypes.HAPPY_VILLAGER,
                 bestItem.getX(), bestItem.getY() + 0.5, bestItem.getZ(),
                 3, 0.2, 0.2, 0.2, 0.01);
         }
@@ -222,7 +205,7 @@ public class NifflerEntity extends BaseTamableCreatureEntity {
             itemEntity.remove(Entity.RemovalReason.DISCARDED);
             
             // Visual and sound effects
-            serverLevel.sendParticles(ParticleTypes.HAPPY_VILLAGER,
+            ParticlePool.queueParticle(serverLevel, ParticleTypes.HAPPY_VILLAGER,
                 this.getX(), this.getY() + 0.5, this.getZ(),
                 10, 0.3, 0.3, 0.3, 0.05);
             
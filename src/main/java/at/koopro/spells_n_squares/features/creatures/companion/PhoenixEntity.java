@@ -1,6 +1,11 @@
 package at.koopro.spells_n_squares.features.creatures.companion;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.features.creatures.base.BaseTamableCreatureEntity;
+import at.koopro.spells_n_squares.features.creatures.util.AuraSource;
+import at.koopro.spells_n_squares.features.creatures.util.AuraSystem;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureActivation;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureGoalHelper;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -13,15 +18,10 @@ import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.entity.AgeableMob;
 import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
 import net.minecraft.world.entity.ai.attributes.Attributes;
-import net.minecraft.world.entity.ai.goal.FloatGoal;
-import net.minecraft.world.entity.ai.goal.FollowOwnerGoal;
-import net.minecraft.world.entity.ai.goal.LookAtPlayerGoal;
-import net.minecraft.world.entity.ai.goal.RandomLookAroundGoal;
-import net.minecraft.world.entity.ai.goal.SitWhenOrderedToGoal;
-import net.minecraft.world.entity.ai.goal.WaterAvoidingRandomStrollGoal;
 import net.minecraft.world.entity.ai.navigation.FlyingPathNavigation;
 import net.minecraft.world.entity.ai.navigation.PathNavigation;
 import net.minecraft.world.entity.player.Player;
@@ -30,15 +30,16 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
  * Phoenix - rare companion with resurrection and healing abilities.
  */
-public class PhoenixEntity extends BaseTamableCreatureEntity {
+public class PhoenixEntity extends BaseTamableCreatureEntity implements AuraSource {
     private static final int HEALING_AURA_RANGE = 8;
     private static final int HEALING_INTERVAL = 100; // Every 5 seconds
-    private int healingTimer = 0;
+    private static final List<AuraSystem.Aura> AURAS = List.of(new AuraSystem.Aura(HEALING_AURA_RANGE, HEALING_INTERVAL, true));
     private long lastResurrectionTick = 0;
     private static final int RESURRECTION_COOLDOWN = 12000; // 10 minutes
     
@@ -48,12 +49,7 @@ public class PhoenixEntity extends BaseTamableCreatureEntity {
     
     @Override
     protected void registerGoals() {
-        this.goalSelector.addGoal(0, new FloatGoal(this));
-        this.goalSelector.addGoal(1, new SitWhenOrderedToGoal(this));
-        this.goalSelector.addGoal(2, new FollowOwnerGoal(this, 1.5D, 10.0F, 2.0F));
-        this.goalSelector.addGoal(3, new WaterAvoidingRandomStrollGoal(this, 1.0D));
-        this.goalSelector.addGoal(4, new LookAtPlayerGoal(this, Player.class, 8.0F));
-        this.goalSelector.addGoal(5, new RandomLookAroundGoal(this));
+        CreatureGoalHelper.registerBasicGoals(this, 1.5D, 10.0F, 2.0F, 1.0D);
     }
     
     public static AttributeSupplier.Builder createAttributes() {
@@ -89,34 +85,11 @@ public class PhoenixEntity extends BaseTamableCreatureEntity {
     @Override
     public void tick() {
         super.tick();
+        if (!CreatureActivation.shouldRunCustomTick(this)) {
+            return;
+        }
         
         if (this.level() instanceof ServerLevel serverLevel) {
-            healingTimer++;
-            
-            // Healing aura for nearby players
-            if (healingTimer >= HEALING_INTERVAL) {
-                healingTimer = 0;
-                
-                for (Player player : this.level().getEntitiesOfClass(Player.class,
-                        this.getBoundingBox().inflate(HEALING_AURA_RANGE))) {
-                    if (player.getHealth() < player.getMaxHealth()) {
-                        player.addEffect(new MobEffectInstance(
-                            MobEffects.REGENERATION,
-                            100,
-                            0,
-                            false,
-                            true,
-                            true
-                        ));
-                        
-                        // Visual effect
-                        serverLevel.sendParticles(ParticleTypes.FLAME,
-                            player.getX(), player.getY() + 1.0, player.getZ(),
-                            5, 0.3, 0.3, 0.3, 0.02);
-                    }
-                }
-            }
-            
             // Check for owner death and attempt resurrection
             if (hasOwner() && this.tickCount % 20 == 0) {
                 checkAndResurrectOwner(serverLevel);
@@ -124,13 +97,33 @@ public class PhoenixEntity extends BaseTamableCreatureEntity {
             
             // Fire immunity particles
             if (this.tickCount % 5 == 0) {
-                serverLevel.sendParticles(ParticleTypes.FLAME,
+                ParticlePool.queueParticle(serverLevel, ParticleTypes.FLAME,
                     this.getX(), this.getY() + 0.5, this.getZ(),
                     1, 0.1, 0.1, 0.1, 0.01);
             }
         }
     }
     
+    @Override
+    public List<AuraSystem.Aura> getAuras() {
+        return AURAS;
+    }
+    
+    /**
+     * Healing aura for nearby players.
+     */
+    @Override
+    public void applyAura(ServerLevel level, AuraSystem.Aura aura, LivingEntity target, AuraSystem.AuraBatch batch) {
+        if (target.getHealth() < target.getMaxHealth()) {
+            batch.addEffect(target, MobEffects.REGENERATION, 100, 0);
+            
+            // Visual effect
+            ParticlePool.queueParticle(level, ParticleTypes.FLAME,
+                target.getX(), target.getY() + 1.0, target.getZ(),
+                5, 0.3, 0.3, 0.3, 0.02);
+        }
+    }
+    
     /**
      * Checks if owner is dead and attempts resurrection.
      */
@@ -153,7 +146,7 @@ public class PhoenixEntity extends BaseTamableCreatureEntity {
             serverOwner.addEffect(new MobEffectInstance(MobEffects.FIRE_RESISTANCE, 600, 0));
             
             // Visual effects
-            level.sendParticles(ParticleTypes.FLAME,
+            ParticlePool.queueParticle(level, ParticleTypes.FLAME,
                 serverOwner.getX(), serverOwner.getY() + 1.0, serverOwner.getZ(),
                 50, 1.0, 1.0, 1.0, 0.1);
             
@@ -1,6 +1,10 @@
 package at.koopro.spells_n_squares.features.creatures.companion;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.features.creatures.base.BaseTamableCreatureEntity;
+import at.koopro.spells_n_squares.features.creatures.util.AuraSource;
+import at.koopro.spells_n_squares.features.creatures.util.AuraSystem;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureGoalHelper;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -8,33 +12,28 @@ import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
-import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.entity.AgeableMob;
 import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
 import net.minecraft.world.entity.ai.attributes.Attributes;
-import net.minecraft.world.entity.ai.goal.FloatGoal;
-import net.minecraft.world.entity.ai.goal.FollowOwnerGoal;
-import net.minecraft.world.entity.ai.goal.LookAtPlayerGoal;
-import net.minecraft.world.entity.ai.goal.PanicGoal;
-import net.minecraft.world.entity.ai.goal.RandomLookAroundGoal;
-import net.minecraft.world.entity.ai.goal.SitWhenOrderedToGoal;
-import net.minecraft.world.entity.ai.goal.WaterAvoidingRandomStrollGoal;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.level.Level;
 
+import java.util.List;
+
 /**
  * Puffskein - a fluffy pet creature from Fantastic Beasts.
  * Provides comfort and regeneration to nearby players.
  */
-public class PuffskeinEntity extends BaseTamableCreatureEntity {
+public class PuffskeinEntity extends BaseTamableCreatureEntity implements AuraSource {
     private static final int COMFORT_RANGE = 6;
     private static final int COMFORT_INTERVAL = 100; // Every 5 seconds
-    private int comfortTimer = 0;
+    private static final List<AuraSystem.Aura> AURAS = List.of(new AuraSystem.Aura(COMFORT_RANGE, COMFORT_INTERVAL, true));
     
     public PuffskeinEntity(EntityType<? extends PuffskeinEntity> type, Level level) {
         super(type, level);
@@ -42,13 +41,7 @@ public class PuffskeinEntity extends BaseTamableCreatureEntity {
     
     @Override
     protected void registerGoals() {
-        this.goalSelector.addGoal(0, new FloatGoal(this));
-        this.goalSelector.addGoal(1, new PanicGoal(this, 1.5D));
-        this.goalSelector.addGoal(2, new SitWhenOrderedToGoal(this));
-        this.goalSelector.addGoal(3, new FollowOwnerGoal(this, 1.0D, 10.0F, 2.0F));
-        this.goalSelector.addGoal(4, new WaterAvoidingRandomStrollGoal(this, 1.0D));
-        this.goalSelector.addGoal(5, new LookAtPlayerGoal(this, Player.class, 8.0F));
-        this.goalSelector.addGoal(6, new RandomLookAroundGoal(this));
+        CreatureGoalHelper.registerCompanionGoals(this, 1.5D, 1.0D, 10.0F, 2.0F, 1.0D);
     }
     
     public static AttributeSupplier.Builder createAttributes() {
@@ -89,49 +82,40 @@ public class PuffskeinEntity extends BaseTamableCreatureEntity {
     }
     
     @Override
-    public void tick() {
-        super.tick();
-        
-        if (this.level() instanceof ServerLevel serverLevel && this.isTame() && hasOwner()) {
-            comfortTimer++;
-            
-            // Periodically provide comfort effects to nearby players
-            if (comfortTimer >= COMFORT_INTERVAL) {
-                comfortTimer = 0;
-                provideComfort(serverLevel);
-            }
-        }
+    public List<AuraSystem.Aura> getAuras() {
+        return AURAS;
     }
     
     /**
-     * Provides regeneration and comfort effects to nearby players.
+     * Only tamed Puffskeins provide comfort.
      */
-    private void provideComfort(ServerLevel level) {
-        for (Player player : this.level().getEntitiesOfClass(Player.class,
-                this.getBoundingBox().inflate(COMFORT_RANGE))) {
-            
-            // Give regeneration effect
-            player.addEffect(new MobEffectInstance(
-                MobEffects.REGENERATION,
-                100,
-                0,
-                false,
-                true,
-                true
-            ));
-            
-            // Visual effect
-            level.sendParticles(ParticleTypes.HEART,
-                player.getX(), player.getY() + 1.0, player.getZ(),
-                3, 0.3, 0.3, 0.3, 0.02);
-        }
-        
+    @Override
+    public boolean shouldPulse(AuraSystem.Aura aura) {
+        return this.isTame() && hasOwner();
+    }
+    
+    @Override
+    public void onPulse(ServerLevel level, AuraSystem.Aura aura) {
         // Visual effect on Puffskein
-        level.sendParticles(ParticleTypes.HEART,
+        ParticlePool.queueParticle(level, ParticleTypes.HEART,
             this.getX(), this.getY() + 0.5, this.getZ(),
             2, 0.2, 0.2, 0.2, 0.01);
     }
     
+    /**
+     * Provides regeneration and comfort effects to nearby players.
+     */
+    @Override
+    public void applyAura(ServerLevel level, AuraSystem.Aura aura, LivingEntity target, AuraSystem.AuraBatch batch) {
+        // Give regeneration effect
+        batch.addEffect(target, MobEffects.REGENERATION, 100, 0);
+        
+        // Visual effect
+        ParticlePool.queueParticle(level, ParticleTypes.HEART,
+            target.getX(), target.getY() + 1.0, target.getZ(),
+            3, 0.3, 0.3, 0.3, 0.02);
+    }
+    
     @Override
     public boolean isFood(ItemStack stack) {
         // Check if item is edible - accept common food items
@@ -0,0 +1,100 @@
+package at.koopro.spells_n_squares.features.creatures.companion.ai;
+
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.PathfinderMob;
+import net.minecraft.world.entity.TamableAnimal;
+import net.minecraft.world.entity.ai.goal.Goal;
+import net.minecraft.world.entity.player.Player;
+
+import java.util.EnumSet;
+
+/**
+ * Idle looking for companions: looking at a nearby player and looking around.
+ * Replaces LookAtPlayer and RandomLookAround. Instead of both goals rolling their chances (and
+ * LookAtPlayer searching for players) every tick, this goal decides once per interval, with the
+ * chances scaled so the behavior looks the same. Only holds the LOOK flag, so sitting and
+ * strolling companions still look at players; like RandomLookAround, they only look around
+ * while standing still.
+ */
+public class CompanionLookGoal extends Goal {
+    private static final double LOOK_DISTANCE = 8.0;
+    // Per-tick chance of the vanilla goals this replaces
+    private static final float LOOK_CHANCE_PER_TICK = 0.02f;
+
+    private final PathfinderMob mob;
+    private final int interval;
+    private int nextDecisionTick = 0;
+
+    private Player lookTarget;
+    private int remainingTicks;
+    private double lookX;
+    private double lookZ;
+
+    /**
+     * @param mob The companion
+     * @param interval Ticks between look decisions
+     */
+    public CompanionLookGoal(PathfinderMob mob, int interval) {
+        this.mob = mob;
+        this.interval = Math.max(1, interval);
+        this.setFlags(EnumSet.of(Flag.LOOK));
+    }
+
+    @Override
+    public boolean canUse() {
+        if (mob.tickCount < nextDecisionTick) {
+            return false;
+        }
+        nextDecisionTick = mob.tickCount + interval;
+
+        RandomSource random = mob.getRandom();
+        float lookChance = Math.min(1.0f, LOOK_CHANCE_PER_TICK * interval);
+
+        Player player = mob.level().getNearestPlayer(mob, LOOK_DISTANCE);
+        if (player != null && random.nextFloat() < lookChance) {
+            lookTarget = player;
+            remainingTicks = adjustedTickDelay(40 + random.nextInt(40));
+            return true;
+        }
+
+        boolean sitting = mob instanceof TamableAnimal tamable && tamable.isOrderedToSit();
+        if (!sitting && mob.getNavigation().isDone() && random.nextFloat() < lookChance) {
+            double angle = Math.PI * 2 * random.nextDouble();
+            lookTarget = null;
+            lookX = Math.cos(angle);
+            lookZ = Math.sin(angle);
+            remainingTicks = adjustedTickDelay(20 + random.nextInt(20));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean canContinueToUse() {
+        if (remainingTicks <= 0) {
+            return false;
+        }
+        return lookTarget == null
+            || (lookTarget.isAlive() && mob.distanceToSqr(lookTarget) <= LOOK_DISTANCE * LOOK_DISTANCE);
+    }
+
+    @Override
+    public void stop() {
+        lookTarget = null;
+    }
+
+    @Override
+    public boolean requiresUpdateEveryTick() {
+        return true;
+    }
+
+    @Override
+    public void tick() {
+        remainingTicks--;
+        if (lookTarget != null) {
+            mob.getLookControl().setLookAt(lookTarget.getX(), lookTarget.getEyeY(), lookTarget.getZ());
+        } else {
+            mob.getLookControl().setLookAt(mob.getX() + lookX, mob.getEyeY(), mob.getZ() + lookZ);
+        }
+    }
+}
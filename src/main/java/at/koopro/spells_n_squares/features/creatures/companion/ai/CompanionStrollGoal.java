@@ -0,0 +1,69 @@
+package at.koopro.spells_n_squares.features.creatures.companion.ai;
+
+import net.minecraft.world.entity.PathfinderMob;
+import net.minecraft.world.entity.TamableAnimal;
+import net.minecraft.world.entity.ai.goal.Goal;
+import net.minecraft.world.entity.ai.util.LandRandomPos;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.EnumSet;
+
+/**
+ * Idle strolling for companions, replacing WaterAvoidingRandomStroll.
+ * Instead of rolling its chance every tick, this goal decides once per interval, with the
+ * chance scaled so companions stroll as often as before. Only holds the MOVE flag, so
+ * {@link CompanionLookGoal} keeps working alongside it.
+ */
+public class CompanionStrollGoal extends Goal {
+    private static final int STROLL_INTERVAL_TICKS = 120;
+
+    private final PathfinderMob mob;
+    private final double strollSpeed;
+    private final int interval;
+    private int nextDecisionTick = 0;
+
+    private Vec3 strollTarget;
+
+    /**
+     * @param mob The companion
+     * @param strollSpeed Speed when strolling
+     * @param interval Ticks between stroll decisions
+     */
+    public CompanionStrollGoal(PathfinderMob mob, double strollSpeed, int interval) {
+        this.mob = mob;
+        this.strollSpeed = strollSpeed;
+        this.interval = Math.max(1, interval);
+        this.setFlags(EnumSet.of(Flag.MOVE));
+    }
+
+    @Override
+    public boolean canUse() {
+        if (mob.tickCount < nextDecisionTick || mob.isVehicle()) {
+            return false;
+        }
+        nextDecisionTick = mob.tickCount + interval;
+
+        boolean sitting = mob instanceof TamableAnimal tamable && tamable.isOrderedToSit();
+        if (sitting || mob.getRandom().nextFloat() >= Math.min(1.0f, (float) interval / STROLL_INTERVAL_TICKS)) {
+            return false;
+        }
+        strollTarget = LandRandomPos.getPos(mob, 10, 7);
+        return strollTarget != null;
+    }
+
+    @Override
+    public boolean canContinueToUse() {
+        return !mob.getNavigation().isDone() && !mob.isVehicle();
+    }
+
+    @Override
+    public void start() {
+        mob.getNavigation().moveTo(strollTarget.x, strollTarget.y, strollTarget.z, strollSpeed);
+    }
+
+    @Override
+    public void stop() {
+        mob.getNavigation().stop();
+        strollTarget = null;
+    }
+}
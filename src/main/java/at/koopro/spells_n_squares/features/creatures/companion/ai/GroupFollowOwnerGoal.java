@@ -0,0 +1,191 @@
+package at.koopro.spells_n_squares.features.creatures.companion.ai;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.TamableAnimal;
+import net.minecraft.world.entity.ai.goal.Goal;
+import net.minecraft.world.entity.ai.navigation.PathNavigation;
+import net.minecraft.world.level.ClipContext;
+import net.minecraft.world.level.pathfinder.Node;
+import net.minecraft.world.level.pathfinder.Path;
+import net.minecraft.world.level.pathfinder.PathType;
+import net.minecraft.world.phys.HitResult;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Follow-owner goal that shares one path between companions of the same owner and type.
+ * Behaves like the vanilla FollowOwnerGoal, but when several companions of one owner re-path
+ * from roughly the same spot, only the first one runs the pathfinder; the others follow a copy
+ * of its path, joining it at the node closest to them. Paths are only shared within one entity
+ * type, so companions with a different size or navigation (flying, ground) never follow each
+ * other's paths, and a companion that cannot walk straight to the path finds its own.
+ */
+public class GroupFollowOwnerGoal extends Goal {
+    // How long a computed path may be reused by the rest of the pack
+    private static final int PATH_SHARE_TICKS = 10;
+    // Companions within this distance of where the path was computed may reuse it
+    private static final double PACK_RADIUS = 4.0;
+    // Nodes searched for the closest entry point when joining a shared path
+    private static final int JOIN_SEARCH_NODES = 8;
+    // Furthest a companion may be from the node it joins
+    private static final double JOIN_DISTANCE = 2.0;
+
+    // Latest path per owner and companion type; server thread only
+    private static final Map<LivingEntity, Map<EntityType<?>, PackPath>> PACK_PATHS = new WeakHashMap<>();
+
+    /**
+     * A path computed for one companion of a pack.
+     */
+    private record PackPath(List<Node> nodes, BlockPos target, boolean reached, Vec3 origin, long gameTime) {
+    }
+
+    private final TamableAnimal tamable;
+    private final PathNavigation navigation;
+    private final double speedModifier;
+    private final float stopDistance;
+    private final float startDistance;
+    private LivingEntity owner;
+    private int timeToRecalcPath;
+    private float oldWaterCost;
+
+    /**
+     * @param tamable The companion
+     * @param speedModifier Movement speed
+     * @param startDistance Distance to the owner at which the companion starts following
+     * @param stopDistance Distance to the owner at which it stops
+     */
+    public GroupFollowOwnerGoal(TamableAnimal tamable, double speedModifier, float startDistance, float stopDistance) {
+        this.tamable = tamable;
+        this.navigation = tamable.getNavigation();
+        this.speedModifier = speedModifier;
+        this.startDistance = startDistance;
+        this.stopDistance = stopDistance;
+        this.setFlags(EnumSet.of(Flag.MOVE, Flag.LOOK));
+    }
+
+    @Override
+    public boolean canUse() {
+        LivingEntity livingOwner = tamable.getOwner();
+        if (livingOwner == null || tamable.unableToMoveToOwner()
+            || tamable.distanceToSqr(livingOwner) < startDistance * startDistance) {
+            return false;
+        }
+        this.owner = livingOwner;
+        return true;
+    }
+
+    @Override
+    public boolean canContinueToUse() {
+        if (navigation.isDone() || tamable.unableToMoveToOwner()) {
+            return false;
+        }
+        return tamable.distanceToSqr(owner) > stopDistance * stopDistance;
+    }
+
+    @Override
+    public void start() {
+        timeToRecalcPath = 0;
+        oldWaterCost = tamable.getPathfindingMalus(PathType.WATER);
+        tamable.setPathfindingMalus(PathType.WATER, 0.0f);
+    }
+
+    @Override
+    public void stop() {
+        owner = null;
+        navigation.stop();
+        tamable.setPathfindingMalus(PathType.WATER, oldWaterCost);
+    }
+
+    @Override
+    public void tick() {
+        boolean shouldTeleport = tamable.shouldTryTeleportToOwner();
+        if (!shouldTeleport) {
+            tamable.getLookControl().setLookAt(owner, 10.0f, tamable.getMaxHeadXRot());
+        }
+
+        if (--timeToRecalcPath <= 0) {
+            timeToRecalcPath = adjustedTickDelay(10);
+            if (shouldTeleport) {
+                tamable.tryToTeleportToOwner();
+            } else {
+                Path path = findPackPath();
+                if (path != null) {
+                    navigation.moveTo(path, speedModifier);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets a path to the owner, reusing the pack's latest path when this companion is close to its start.
+     */
+    private Path findPackPath() {
+        long gameTime = tamable.level().getGameTime();
+        Map<EntityType<?>, PackPath> ownerPaths = PACK_PATHS.computeIfAbsent(owner, k -> new HashMap<>());
+        PackPath shared = ownerPaths.get(tamable.getType());
+        if (shared != null && gameTime - shared.gameTime() <= PATH_SHARE_TICKS
+            && shared.origin().distanceToSqr(tamable.position()) <= PACK_RADIUS * PACK_RADIUS) {
+            Path joined = join(shared);
+            if (joined != null) {
+                return joined;
+            }
+        }
+
+        Path path = navigation.createPath(owner, 0);
+        if (path != null) {
+            // Navigation edits the path it follows, so the pack keeps its own node list
+            List<Node> nodes = new ArrayList<>(path.getNodeCount());
+            for (int i = 0; i < path.getNodeCount(); i++) {
+                nodes.add(path.getNode(i));
+            }
+            ownerPaths.put(tamable.getType(), new PackPath(nodes, path.getTarget(), path.canReach(), tamable.position(), gameTime));
+        }
+        return path;
+    }
+
+    /**
+     * Creates a copy of a pack path that starts at the node closest to this companion.
+     * @return The path, or null if the closest node is too far away or blocked
+     */
+    private Path join(PackPath shared) {
+        Node closest = null;
+        int closestIndex = 0;
+        double closestDistance = Double.MAX_VALUE;
+        int searchEnd = Math.min(shared.nodes().size(), JOIN_SEARCH_NODES);
+        for (int i = 0; i < searchEnd; i++) {
+            Node node = shared.nodes().get(i);
+            double distance = tamable.distanceToSqr(node.x + 0.5, node.y, node.z + 0.5);
+            if (distance < closestDistance) {
+                closestDistance = distance;
+                closest = node;
+                closestIndex = i;
+            }
+        }
+        if (closest == null || closestDistance > JOIN_DISTANCE * JOIN_DISTANCE || !canWalkStraightTo(closest)) {
+            return null;
+        }
+
+        Path path = new Path(new ArrayList<>(shared.nodes()), shared.target(), shared.reached());
+        path.setNextNodeIndex(closestIndex);
+        return path;
+    }
+
+    /**
+     * Checks that no blocks lie between the companion and a node.
+     */
+    private boolean canWalkStraightTo(Node node) {
+        // Trace slightly above the feet so the ground itself does not block
+        Vec3 from = tamable.position().add(0.0, 0.5, 0.0);
+        Vec3 to = new Vec3(node.x + 0.5, node.y + 0.5, node.z + 0.5);
+        return tamable.level().clip(new ClipContext(from, to, ClipContext.Block.COLLIDER, ClipContext.Fluid.NONE, tamable))
+            .getType() == HitResult.Type.MISS;
+    }
+}
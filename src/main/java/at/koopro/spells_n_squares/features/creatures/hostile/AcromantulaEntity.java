@@ -1,5 +1,7 @@
 package at.koopro.spells_n_squares.features.creatures.hostile;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureActivation;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
@@ -72,7 +74,7 @@ public class AcromantulaEntity extends PathfinderMob {
             ));
             
             // Visual effect
-            level.sendParticles(ParticleTypes.ITEM_SLIME,
+            ParticlePool.queueParticle(level, ParticleTypes.ITEM_SLIME,
                 player.getX(), player.getY() + 1.0, player.getZ(),
                 5, 0.3, 0.3, 0.3, 0.05);
         }
@@ -83,9 +85,12 @@ public class AcromantulaEntity extends PathfinderMob {
     @Override
     public void tick() {
         super.tick();
+        if (!CreatureActivation.shouldRunCustomTick(this)) {
+            return;
+        }
         
         if (this.level() instanceof ServerLevel serverLevel) {
-            webTimer++;
+            webTimer += CreatureActivation.getCustomTickStep(this);
             
             // Spawn web blocks periodically
             if (webTimer >= WEB_SPAWN_INTERVAL) {
@@ -1,5 +1,7 @@
 package at.koopro.spells_n_squares.features.creatures.hostile;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureActivation;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.AgeableMob;
@@ -49,10 +51,13 @@ public class AshwinderEntity extends PathfinderMob {
     @Override
     public void tick() {
         super.tick();
+        if (!CreatureActivation.shouldRunCustomTick(this)) {
+            return;
+        }
         
         // Fire-based creature - emit fire particles
         if (this.level() instanceof ServerLevel serverLevel && this.tickCount % 5 == 0) {
-            serverLevel.sendParticles(ParticleTypes.FLAME,
+            ParticlePool.queueParticle(serverLevel, ParticleTypes.FLAME,
                 this.getX(), this.getY() + 0.2, this.getZ(),
                 2, 0.1, 0.1, 0.1, 0.01);
         }
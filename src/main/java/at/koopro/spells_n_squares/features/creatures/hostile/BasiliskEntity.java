@@ -1,5 +1,9 @@
 package at.koopro.spells_n_squares.features.creatures.hostile;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
+import at.koopro.spells_n_squares.features.creatures.util.AuraSource;
+import at.koopro.spells_n_squares.features.creatures.util.AuraSystem;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureActivation;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
@@ -20,17 +24,17 @@ import net.minecraft.world.entity.ai.goal.WaterAvoidingRandomStrollGoal;
 import net.minecraft.world.entity.ai.goal.target.NearestAttackableTargetGoal;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.phys.AABB;
-import net.minecraft.world.phys.Vec3;
+
+import java.util.List;
 
 /**
  * Basilisk - giant serpent with petrifying gaze (Chamber of Secrets boss).
  * Extremely dangerous creature that can petrify players with its gaze.
  */
-public class BasiliskEntity extends PathfinderMob {
+public class BasiliskEntity extends PathfinderMob implements AuraSource {
     private static final int PETRIFY_INTERVAL = 100; // Every 5 seconds
-    private int petrifyTimer = 0;
     private static final double PETRIFY_RANGE = 16.0;
+    private static final List<AuraSystem.Aura> AURAS = List.of(new AuraSystem.Aura(PETRIFY_RANGE, PETRIFY_INTERVAL, true));
     
     public BasiliskEntity(EntityType<? extends BasiliskEntity> type, Level level) {
         super(type, level);
@@ -59,53 +63,55 @@ public class BasiliskEntity extends PathfinderMob {
     @Override
     public void tick() {
         super.tick();
+        if (!CreatureActivation.shouldRunCustomTick(this)) {
+            return;
+        }
         
         if (this.level() instanceof ServerLevel serverLevel) {
-            petrifyTimer++;
-            
-            // Petrifying gaze attack
-            if (petrifyTimer >= PETRIFY_INTERVAL && this.getTarget() != null) {
-                petrifyTimer = 0;
-                performPetrifyingGaze(serverLevel);
-            }
-            
             // Visual effect - glowing eyes
             if (this.tickCount % 10 == 0) {
-                serverLevel.sendParticles(ParticleTypes.ENCHANT,
+                ParticlePool.queueParticle(serverLevel, ParticleTypes.ENCHANT,
                     this.getX(), this.getY() + 2.0, this.getZ(),
                     5, 0.3, 0.3, 0.3, 0.05);
             }
         }
     }
     
+    @Override
+    public List<AuraSystem.Aura> getAuras() {
+        return AURAS;
+    }
+    
+    /**
+     * The petrifying gaze is only used while the Basilisk has a target.
+     */
+    @Override
+    public boolean shouldPulse(AuraSystem.Aura aura) {
+        return this.getTarget() != null;
+    }
+    
     /**
      * Performs the petrifying gaze attack on nearby players.
      */
-    private void performPetrifyingGaze(ServerLevel level) {
-        AABB gazeArea = new AABB(this.blockPosition()).inflate(PETRIFY_RANGE);
-        var entities = level.getEntitiesOfClass(LivingEntity.class, gazeArea,
-            entity -> entity != this && entity.isAlive() && entity instanceof Player);
-        
-        for (LivingEntity target : entities) {
-            // Check if target is looking at the Basilisk (simplified - just check if in range)
-            Vec3 toTarget = target.position().subtract(this.position());
-            double distance = toTarget.length();
-            
-            if (distance <= PETRIFY_RANGE) {
-                // Apply petrification effects
-                target.addEffect(new MobEffectInstance(MobEffects.SLOWNESS, 200, 4)); // Extreme slowness
-                target.addEffect(new MobEffectInstance(MobEffects.MINING_FATIGUE, 200, 4)); // Mining fatigue
-                target.addEffect(new MobEffectInstance(MobEffects.WEAKNESS, 200, 2)); // Weakness
-                
-                // Visual effect
-                level.sendParticles(ParticleTypes.ITEM_SLIME,
-                    target.getX(), target.getY() + 1.0, target.getZ(),
-                    20, 0.5, 0.5, 0.5, 0.1);
-                
-                level.playSound(null, target.blockPosition(),
-                    SoundEvents.ENCHANTMENT_TABLE_USE, SoundSource.HOSTILE, 1.0f, 0.5f);
-            }
+    @Override
+    public void applyAura(ServerLevel level, AuraSystem.Aura aura, LivingEntity target, AuraSystem.AuraBatch batch) {
+        // Check if target is looking at the Basilisk (simplified - just check if in range)
+        if (target.distanceToSqr(this) > PETRIFY_RANGE * PETRIFY_RANGE) {
+            return;
         }
+        
+        // Apply petrification effects
+        batch.addEffect(target, MobEffects.SLOWNESS, 200, 4); // Extreme slowness
+        batch.addEffect(target, MobEffects.MINING_FATIGUE, 200, 4); // Mining fatigue
+        batch.addEffect(target, MobEffects.WEAKNESS, 200, 2); // Weakness
+        
+        // Visual effect
+        ParticlePool.queueParticle(level, ParticleTypes.ITEM_SLIME,
+            target.getX(), target.getY() + 1.0, target.getZ(),
+            20, 0.5, 0.5, 0.5, 0.1);
+        
+        level.playSound(null, target.blockPosition(),
+            SoundEvents.ENCHANTMENT_TABLE_USE, SoundSource.HOSTILE, 1.0f, 0.5f);
     }
     
     @Override
@@ -1,13 +1,17 @@
 package at.koopro.spells_n_squares.features.creatures.hostile;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
+import at.koopro.spells_n_squares.features.creatures.util.AuraSource;
+import at.koopro.spells_n_squares.features.creatures.util.AuraSystem;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureActivation;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
-import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.PathfinderMob;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
@@ -23,13 +27,15 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
 
+import java.util.List;
+
 /**
  * Boggart - shape-shifting fear entity that transforms into player's fear.
  * Can be defeated with Riddikulus spell (simplified as taking damage from laughter).
  */
-public class BoggartEntity extends PathfinderMob {
+public class BoggartEntity extends PathfinderMob implements AuraSource {
     private static final int FEAR_EFFECT_INTERVAL = 60; // Every 3 seconds
-    private int fearTimer = 0;
+    private static final List<AuraSystem.Aura> AURAS = List.of(new AuraSystem.Aura(8.0, FEAR_EFFECT_INTERVAL, true));
     private int laughterDamage = 0; // Damage from Riddikulus spell
     private static final int LAUGHTER_THRESHOLD = 20; // Damage needed to defeat
     
@@ -64,7 +70,7 @@ public class BoggartEntity extends PathfinderMob {
         
         if (this.level() instanceof ServerLevel serverLevel) {
             // Visual effect
-            serverLevel.sendParticles(ParticleTypes.HAPPY_VILLAGER,
+            ParticlePool.queueParticle(serverLevel, ParticleTypes.HAPPY_VILLAGER,
                 this.getX(), this.getY() + 1.0, this.getZ(),
                 10, 0.5, 0.5, 0.5, 0.1);
             
@@ -80,60 +86,40 @@ public class BoggartEntity extends PathfinderMob {
     @Override
     public void tick() {
         super.tick();
+        if (!CreatureActivation.shouldRunCustomTick(this)) {
+            return;
+        }
         
         if (this.level() instanceof ServerLevel serverLevel) {
-            fearTimer++;
-            
-            // Apply fear effects to nearby players
-            if (fearTimer >= FEAR_EFFECT_INTERVAL) {
-                fearTimer = 0;
-                
-                for (Player player : this.level().getEntitiesOfClass(Player.class,
-                        this.getBoundingBox().inflate(8.0))) {
-                    // Apply fear effects (weakness, slowness, darkness)
-                    player.addEffect(new MobEffectInstance(
-                        MobEffects.WEAKNESS,
-                        100,
-                        1,
-                        false,
-                        true,
-                        true
-                    ));
-                    
-                    player.addEffect(new MobEffectInstance(
-                        MobEffects.SLOWNESS,
-                        100,
-                        1,
-                        false,
-                        true,
-                        true
-                    ));
-                    
-                    player.addEffect(new MobEffectInstance(
-                        MobEffects.DARKNESS,
-                        100,
-                        0,
-                        false,
-                        true,
-                        true
-                    ));
-                    
-                    // Visual effect
-                    serverLevel.sendParticles(ParticleTypes.SOUL,
-                        player.getX(), player.getY() + 1.0, player.getZ(),
-                        5, 0.3, 0.3, 0.3, 0.05);
-                }
-            }
-            
             // Shape-shifting visual effect (particles)
             if (this.tickCount % 20 == 0) {
-                serverLevel.sendParticles(ParticleTypes.PORTAL,
+                ParticlePool.queueParticle(serverLevel, ParticleTypes.PORTAL,
                     this.getX(), this.getY() + 1.0, this.getZ(),
                     3, 0.3, 0.3, 0.3, 0.02);
             }
         }
     }
     
+    @Override
+    public List<AuraSystem.Aura> getAuras() {
+        return AURAS;
+    }
+    
+    /**
+     * Applies fear effects (weakness, slowness, darkness) to nearby players.
+     */
+    @Override
+    public void applyAura(ServerLevel level, AuraSystem.Aura aura, LivingEntity target, AuraSystem.AuraBatch batch) {
+        batch.addEffect(target, MobEffects.WEAKNESS, 100, 1);
+        batch.addEffect(target, MobEffects.SLOWNESS, 100, 1);
+        batch.addEffect(target, MobEffects.DARKNESS, 100, 0);
+        
+        // Visual effect
+        ParticlePool.queueParticle(level, ParticleTypes.SOUL,
+            target.getX(), target.getY() + 1.0, target.getZ(),
+            5, 0.3, 0.3, 0.3, 0.05);
+    }
+    
     @Override
     protected void addAdditionalSaveData(ValueOutput output) {
         super.addAdditionalSaveData(output);
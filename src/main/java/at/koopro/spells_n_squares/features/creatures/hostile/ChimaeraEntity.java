@@ -1,5 +1,7 @@
 package at.koopro.spells_n_squares.features.creatures.hostile;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureActivation;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
@@ -56,9 +58,12 @@ public class ChimaeraEntity extends PathfinderMob {
     @Override
     public void tick() {
         super.tick();
+        if (!CreatureActivation.shouldRunCustomTick(this)) {
+            return;
+        }
         
         if (this.level() instanceof ServerLevel serverLevel) {
-            specialAttackTimer++;
+            specialAttackTimer += CreatureActivation.getCustomTickStep(this);
             
             // Multi-headed special attack
             if (specialAttackTimer >= SPECIAL_ATTACK_INTERVAL && this.getTarget() != null) {
@@ -79,19 +84,19 @@ public class ChimaeraEntity extends PathfinderMob {
             switch (attackType) {
                 case 0: // Fire breath
                     target.addEffect(new MobEffectInstance(MobEffects.WITHER, 100, 0));
-                    level.sendParticles(ParticleTypes.FLAME,
+                    ParticlePool.queueParticle(level, ParticleTypes.FLAME,
                         target.getX(), target.getY() + 1.0, target.getZ(),
                         15, 0.5, 0.5, 0.5, 0.05);
                     break;
                 case 1: // Poison breath
                     target.addEffect(new MobEffectInstance(MobEffects.POISON, 200, 1));
-                    level.sendParticles(ParticleTypes.ITEM_SLIME,
+                    ParticlePool.queueParticle(level, ParticleTypes.ITEM_SLIME,
                         target.getX(), target.getY() + 1.0, target.getZ(),
                         15, 0.5, 0.5, 0.5, 0.05);
                     break;
                 case 2: // Stunning roar
                     target.addEffect(new MobEffectInstance(MobEffects.SLOWNESS, 100, 2));
-                    level.sendParticles(ParticleTypes.EXPLOSION,
+                    ParticlePool.queueParticle(level, ParticleTypes.EXPLOSION,
                         target.getX(), target.getY() + 1.0, target.getZ(),
                         10, 0.5, 0.5, 0.5, 0.1);
                     break;
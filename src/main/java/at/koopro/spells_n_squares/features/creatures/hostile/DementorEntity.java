@@ -1,13 +1,16 @@
 package at.koopro.spells_n_squares.features.creatures.hostile;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
+import at.koopro.spells_n_squares.features.creatures.util.AuraSource;
+import at.koopro.spells_n_squares.features.creatures.util.AuraSystem;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
-import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.PathfinderMob;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
@@ -23,12 +26,14 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
 
+import java.util.List;
+
 /**
  * Dementor entity - a soul-sucking hostile creature that requires Patronus to defeat.
  */
-public class DementorEntity extends PathfinderMob {
+public class DementorEntity extends PathfinderMob implements AuraSource {
     private static final int SOUL_DRAIN_INTERVAL = 40; // Every 2 seconds
-    private int soulDrainTimer = 0;
+    private static final List<AuraSystem.Aura> AURAS = List.of(new AuraSystem.Aura(8.0, SOUL_DRAIN_INTERVAL, true));
     
     public DementorEntity(EntityType<? extends DementorEntity> type, Level level) {
         super(type, level);
@@ -54,47 +59,26 @@ public class DementorEntity extends PathfinderMob {
     }
     
     @Override
-    public void tick() {
-        super.tick();
+    public List<AuraSystem.Aura> getAuras() {
+        return AURAS;
+    }
+    
+    /**
+     * Drains souls from nearby players.
+     */
+    @Override
+    public void applyAura(ServerLevel level, AuraSystem.Aura aura, LivingEntity target, AuraSystem.AuraBatch batch) {
+        // Apply negative effects
+        batch.addEffect(target, MobEffects.WEAKNESS, 100, 1);
+        batch.addEffect(target, MobEffects.DARKNESS, 100, 0);
+        
+        // Deal damage
+        batch.hurt(target, level.damageSources().magic(), 2.0f);
         
-        if (this.level() instanceof ServerLevel serverLevel) {
-            soulDrainTimer++;
-            
-            // Drain souls from nearby players every interval
-            if (soulDrainTimer >= SOUL_DRAIN_INTERVAL) {
-                soulDrainTimer = 0;
-                
-                for (Player player : this.level().getEntitiesOfClass(Player.class, 
-                        this.getBoundingBox().inflate(8.0))) {
-                    // Apply negative effects
-                    player.addEffect(new MobEffectInstance(
-                        MobEffects.WEAKNESS,
-                        100,
-                        1,
-                        false,
-                        true,
-                        true
-                    ));
-                    
-                    player.addEffect(new MobEffectInstance(
-                        MobEffects.DARKNESS,
-                        100,
-                        0,
-                        false,
-                        true,
-                        true
-                    ));
-                    
-                    // Deal damage
-                    player.hurt(level().damageSources().magic(), 2.0f);
-                    
-                    // Visual effects
-                    serverLevel.sendParticles(ParticleTypes.SOUL,
-                        player.getX(), player.getY() + 1.0, player.getZ(),
-                        10, 0.5, 0.5, 0.5, 0.1);
-                }
-            }
-        }
+        // Visual effects
+        ParticlePool.queueParticle(level, ParticleTypes.SOUL,
+            target.getX(), target.getY() + 1.0, target.getZ(),
+            10, 0.5, 0.5, 0.5, 0.1);
     }
     
     @Override
@@ -1,12 +1,14 @@
 package at.koopro.spells_n_squares.features.creatures.hostile;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
+import at.koopro.spells_n_squares.features.creatures.util.AuraSource;
+import at.koopro.spells_n_squares.features.creatures.util.AuraSystem;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureActivation;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
-import net.minecraft.world.effect.MobEffectInstance;
-import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
@@ -26,13 +28,21 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
+import net.minecraft.world.phys.AABB;
+
+import java.util.List;
 
 /**
  * Dragon - powerful boss creature with fire breath and high health.
  */
-public class DragonEntity extends PathfinderMob {
+public class DragonEntity extends PathfinderMob implements AuraSource {
     private static final int FIRE_BREATH_INTERVAL = 80; // Every 4 seconds
-    private int fireBreathTimer = 0;
+    // Farthest cone cell (11 blocks ahead) plus the 1 block hit margin around each cell
+    private static final double FIRE_BREATH_RANGE = 13.0;
+    private static final List<AuraSystem.Aura> AURAS = List.of(new AuraSystem.Aura(FIRE_BREATH_RANGE, FIRE_BREATH_INTERVAL, false));
+    
+    // Fire cells of the current breath, 5 rows of 5
+    private final BlockPos[] breathCells = new BlockPos[25];
     
     public DragonEntity(EntityType<? extends DragonEntity> type, Level level) {
         super(type, level);
@@ -62,34 +72,37 @@ public class DragonEntity extends PathfinderMob {
     @Override
     public void tick() {
         super.tick();
+        if (!CreatureActivation.shouldRunCustomTick(this)) {
+            return;
+        }
         
         if (this.level() instanceof ServerLevel serverLevel) {
-            fireBreathTimer++;
-            
-            // Fire breath attack
-            if (fireBreathTimer >= FIRE_BREATH_INTERVAL) {
-                fireBreathTimer = 0;
-                performFireBreath(serverLevel);
-            }
-            
             // Fire particles
             if (this.tickCount % 5 == 0) {
-                serverLevel.sendParticles(ParticleTypes.FLAME,
+                ParticlePool.queueParticle(serverLevel, ParticleTypes.FLAME,
                     this.getX(), this.getY() + 1.0, this.getZ(),
                     3, 0.5, 0.5, 0.5, 0.02);
             }
         }
     }
     
+    @Override
+    public List<AuraSystem.Aura> getAuras() {
+        return AURAS;
+    }
+    
     /**
      * Performs fire breath attack in a cone in front of the dragon.
+     * Places the fire blocks and remembers the cone for {@link #applyAura}.
      */
-    private void performFireBreath(ServerLevel level) {
+    @Override
+    public void onPulse(ServerLevel level, AuraSystem.Aura aura) {
         // Get direction dragon is facing
         double dx = this.getLookAngle().x;
         double dz = this.getLookAngle().z;
         
         // Create fire in a cone
+        int cell = 0;
         for (int i = 0; i < 5; i++) {
             for (int j = -2; j <= 2; j++) {
                 double distance = 3 + i * 2;
@@ -101,32 +114,39 @@ public class DragonEntity extends PathfinderMob {
                     1,
                     (int) offsetZ
                 );
+                breathCells[cell++] = firePos;
                 
                 // Place fire block if air
                 if (level.getBlockState(firePos).isAir() && 
                     level.getBlockState(firePos.below()).isSolid()) {
                     level.setBlock(firePos, Blocks.FIRE.defaultBlockState(), 3);
                 }
-                
-                // Damage entities in area
-                for (LivingEntity entity : level.getEntitiesOfClass(LivingEntity.class,
-                        new net.minecraft.world.phys.AABB(firePos).inflate(1.0))) {
-                    if (entity != this) {
-                        entity.setRemainingFireTicks(100); // 5 seconds (20 ticks per second)
-                        entity.hurt(level.damageSources().onFire(), 5.0f);
-                        
-                        // Visual effect
-                        level.sendParticles(ParticleTypes.FLAME,
-                            entity.getX(), entity.getY() + 1.0, entity.getZ(),
-                            10, 0.3, 0.3, 0.3, 0.05);
-                    }
-                }
             }
         }
         
         level.playSound(null, this.blockPosition(), SoundEvents.BLAZE_SHOOT, SoundSource.HOSTILE, 1.0f, 0.5f);
     }
     
+    /**
+     * Damages entities inside the fire breath cone.
+     */
+    @Override
+    public void applyAura(ServerLevel level, AuraSystem.Aura aura, LivingEntity target, AuraSystem.AuraBatch batch) {
+        AABB targetBox = target.getBoundingBox();
+        for (BlockPos firePos : breathCells) {
+            if (firePos != null && new AABB(firePos).inflate(1.0).intersects(targetBox)) {
+                batch.setOnFire(target, 100); // 5 seconds (20 ticks per second)
+                batch.hurt(target, level.damageSources().onFire(), 5.0f);
+                
+                // Visual effect
+                ParticlePool.queueParticle(level, ParticleTypes.FLAME,
+                    target.getX(), target.getY() + 1.0, target.getZ(),
+                    10, 0.3, 0.3, 0.3, 0.05);
+                return;
+            }
+        }
+    }
+    
     @Override
     protected void dropCustomDeathLoot(ServerLevel level, net.minecraft.world.damagesource.DamageSource source, boolean recentlyHit) {
         super.dropCustomDeathLoot(level, source, recentlyHit);
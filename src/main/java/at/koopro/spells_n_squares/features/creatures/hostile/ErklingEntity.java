@@ -1,12 +1,14 @@
 package at.koopro.spells_n_squares.features.creatures.hostile;
 
+import at.koopro.spells_n_squares.features.creatures.util.AuraSource;
+import at.koopro.spells_n_squares.features.creatures.util.AuraSystem;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
-import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.entity.AgeableMob;
 import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.PathfinderMob;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
@@ -20,12 +22,14 @@ import net.minecraft.world.entity.ai.goal.target.NearestAttackableTargetGoal;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 
+import java.util.List;
+
 /**
  * Erkling - An elf-like creature that lures children with music before eating them.
  */
-public class ErklingEntity extends PathfinderMob {
-    private int musicTimer = 0;
+public class ErklingEntity extends PathfinderMob implements AuraSource {
     private static final int MUSIC_INTERVAL = 100; // Every 5 seconds
+    private static final List<AuraSystem.Aura> AURAS = List.of(new AuraSystem.Aura(12.0, MUSIC_INTERVAL, true));
     
     public ErklingEntity(EntityType<? extends ErklingEntity> type, Level level) {
         super(type, level);
@@ -51,34 +55,26 @@ public class ErklingEntity extends PathfinderMob {
     }
     
     @Override
-    public void tick() {
-        super.tick();
-        
-        // Lure with music - apply enchantment effect
-        if (!this.level().isClientSide()) {
-            musicTimer++;
-            
-            if (musicTimer >= MUSIC_INTERVAL) {
-                musicTimer = 0;
-                
-                // Play music and enchant nearby players
-                this.level().playSound(null, this.blockPosition(), SoundEvents.NOTE_BLOCK_CHIME.value(), 
-                    SoundSource.NEUTRAL, 1.0f, 1.2f);
-                
-                for (Player player : this.level().getEntitiesOfClass(Player.class, 
-                        this.getBoundingBox().inflate(12.0))) {
-                    // Lure effect - slow movement toward erkling
-                    player.addEffect(new MobEffectInstance(
-                        MobEffects.SLOWNESS,
-                        100,
-                        0,
-                        false,
-                        true,
-                        true
-                    ));
-                }
-            }
-        }
+    public List<AuraSystem.Aura> getAuras() {
+        return AURAS;
+    }
+    
+    /**
+     * Plays the luring music.
+     */
+    @Override
+    public void onPulse(ServerLevel level, AuraSystem.Aura aura) {
+        level.playSound(null, this.blockPosition(), SoundEvents.NOTE_BLOCK_CHIME.value(), 
+            SoundSource.NEUTRAL, 1.0f, 1.2f);
+    }
+    
+    /**
+     * Enchants nearby players with the music.
+     */
+    @Override
+    public void applyAura(ServerLevel level, AuraSystem.Aura aura, LivingEntity target, AuraSystem.AuraBatch batch) {
+        // Lure effect - slow movement toward erkling
+        batch.addEffect(target, MobEffects.SLOWNESS, 100, 0);
     }
     
     // Erklings don't breed
@@ -1,10 +1,12 @@
 package at.koopro.spells_n_squares.features.creatures.hostile;
 
+import at.koopro.spells_n_squares.features.creatures.util.AuraSource;
+import at.koopro.spells_n_squares.features.creatures.util.AuraSystem;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.entity.AgeableMob;
 import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.PathfinderMob;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
@@ -18,12 +20,15 @@ import net.minecraft.world.entity.ai.goal.target.NearestAttackableTargetGoal;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 
+import java.util.List;
+
 /**
  * Lethifold - A dangerous, black, cloak-like creature that suffocates its victims in their sleep.
  * Requires Patronus charm to repel.
  */
-public class LethifoldEntity extends PathfinderMob {
+public class LethifoldEntity extends PathfinderMob implements AuraSource {
     private static final int SUFFOCATION_INTERVAL = 40; // Every 2 seconds
+    private static final List<AuraSystem.Aura> AURAS = List.of(new AuraSystem.Aura(3.0, SUFFOCATION_INTERVAL, true));
     
     public LethifoldEntity(EntityType<? extends LethifoldEntity> type, Level level) {
         super(type, level);
@@ -49,26 +54,18 @@ public class LethifoldEntity extends PathfinderMob {
     }
     
     @Override
-    public void tick() {
-        super.tick();
-        
-        // Suffocation attack on nearby players
-        if (this.level() instanceof ServerLevel serverLevel && this.tickCount % SUFFOCATION_INTERVAL == 0) {
-            for (Player player : this.level().getEntitiesOfClass(Player.class, 
-                    this.getBoundingBox().inflate(3.0))) {
-                // Suffocation effect
-                player.addEffect(new MobEffectInstance(
-                    MobEffects.WITHER,
-                    100,
-                    0,
-                    false,
-                    true,
-                    true
-                ));
-                
-                player.hurt(level().damageSources().magic(), 2.0f);
-            }
-        }
+    public List<AuraSystem.Aura> getAuras() {
+        return AURAS;
+    }
+    
+    /**
+     * Suffocation attack on nearby players.
+     */
+    @Override
+    public void applyAura(ServerLevel level, AuraSystem.Aura aura, LivingEntity target, AuraSystem.AuraBatch batch) {
+        // Suffocation effect
+        batch.addEffect(target, MobEffects.WITHER, 100, 0);
+        batch.hurt(target, level.damageSources().magic(), 2.0f);
     }
     
     // Lethifolds don't breed
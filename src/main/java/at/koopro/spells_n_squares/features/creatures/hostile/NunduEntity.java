@@ -1,10 +1,12 @@
 package at.koopro.spells_n_squares.features.creatures.hostile;
 
+import at.koopro.spells_n_squares.features.creatures.util.AuraSource;
+import at.koopro.spells_n_squares.features.creatures.util.AuraSystem;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.entity.AgeableMob;
 import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.PathfinderMob;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
@@ -18,12 +20,15 @@ import net.minecraft.world.entity.ai.goal.target.NearestAttackableTargetGoal;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 
+import java.util.List;
+
 /**
  * Nundu - A giant leopard-like creature whose breath causes disease and death.
  * Extremely dangerous boss creature.
  */
-public class NunduEntity extends PathfinderMob {
+public class NunduEntity extends PathfinderMob implements AuraSource {
     private static final int BREATH_INTERVAL = 60; // Every 3 seconds
+    private static final List<AuraSystem.Aura> AURAS = List.of(new AuraSystem.Aura(8.0, BREATH_INTERVAL, true));
     
     public NunduEntity(EntityType<? extends NunduEntity> type, Level level) {
         super(type, level);
@@ -50,26 +55,18 @@ public class NunduEntity extends PathfinderMob {
     }
     
     @Override
-    public void tick() {
-        super.tick();
-        
-        // Disease breath attack
-        if (this.level() instanceof ServerLevel serverLevel && this.tickCount % BREATH_INTERVAL == 0) {
-            for (Player player : this.level().getEntitiesOfClass(Player.class, 
-                    this.getBoundingBox().inflate(8.0))) {
-                // Disease breath - wither effect
-                player.addEffect(new MobEffectInstance(
-                    MobEffects.WITHER,
-                    200,
-                    1,
-                    false,
-                    true,
-                    true
-                ));
-                
-                player.hurt(level().damageSources().magic(), 5.0f);
-            }
-        }
+    public List<AuraSystem.Aura> getAuras() {
+        return AURAS;
+    }
+    
+    /**
+     * Disease breath attack on nearby players.
+     */
+    @Override
+    public void applyAura(ServerLevel level, AuraSystem.Aura aura, LivingEntity target, AuraSystem.AuraBatch batch) {
+        // Disease breath - wither effect
+        batch.addEffect(target, MobEffects.WITHER, 200, 1);
+        batch.hurt(target, level.damageSources().magic(), 5.0f);
     }
     
     // Nundus don't breed
@@ -1,5 +1,7 @@
 package at.koopro.spells_n_squares.features.creatures.hostile;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureActivation;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
@@ -53,12 +55,15 @@ public class SwoopingEvilEntity extends Monster {
     @Override
     public void tick() {
         super.tick();
+        if (!CreatureActivation.shouldRunCustomTick(this)) {
+            return;
+        }
         
         // Swooping Evil flies
         if (!this.onGround() && this.level() instanceof ServerLevel serverLevel) {
             // Visual effect when flying
             if (this.tickCount % 10 == 0) {
-                serverLevel.sendParticles(ParticleTypes.SMOKE,
+                ParticlePool.queueParticle(serverLevel, ParticleTypes.SMOKE,
                     this.getX(), this.getY(), this.getZ(),
                     2, 0.1, 0.1, 0.1, 0.01);
             }
@@ -73,7 +78,7 @@ public class SwoopingEvilEntity extends Monster {
             living.addEffect(new MobEffectInstance(MobEffects.POISON, 100, 1));
             
             // Visual effect
-            level.sendParticles(ParticleTypes.ITEM_SLIME,
+            ParticlePool.queueParticle(level, ParticleTypes.ITEM_SLIME,
                 target.getX(), target.getY() + 1.0, target.getZ(),
                 10, 0.3, 0.3, 0.3, 0.05);
             
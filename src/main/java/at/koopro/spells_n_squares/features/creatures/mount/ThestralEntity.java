@@ -1,6 +1,9 @@
 package at.koopro.spells_n_squares.features.creatures.mount;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.features.creatures.base.BaseTamableCreatureEntity;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureActivation;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureGoalHelper;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -15,12 +18,6 @@ import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
 import net.minecraft.world.entity.ai.attributes.Attributes;
-import net.minecraft.world.entity.ai.goal.FloatGoal;
-import net.minecraft.world.entity.ai.goal.FollowOwnerGoal;
-import net.minecraft.world.entity.ai.goal.LookAtPlayerGoal;
-import net.minecraft.world.entity.ai.goal.RandomLookAroundGoal;
-import net.minecraft.world.entity.ai.goal.SitWhenOrderedToGoal;
-import net.minecraft.world.entity.ai.goal.WaterAvoidingRandomStrollGoal;
 import net.minecraft.world.entity.ai.navigation.FlyingPathNavigation;
 import net.minecraft.world.entity.ai.navigation.PathNavigation;
 import net.minecraft.world.entity.player.Player;
@@ -39,12 +36,7 @@ public class ThestralEntity extends BaseTamableCreatureEntity {
     
     @Override
     protected void registerGoals() {
-        this.goalSelector.addGoal(0, new FloatGoal(this));
-        this.goalSelector.addGoal(1, new SitWhenOrderedToGoal(this));
-        this.goalSelector.addGoal(2, new FollowOwnerGoal(this, 1.5D, 10.0F, 2.0F));
-        this.goalSelector.addGoal(3, new WaterAvoidingRandomStrollGoal(this, 1.0D));
-        this.goalSelector.addGoal(4, new LookAtPlayerGoal(this, Player.class, 8.0F));
-        this.goalSelector.addGoal(5, new RandomLookAroundGoal(this));
+        CreatureGoalHelper.registerMountGoals(this, 1.5D, 10.0F, 2.0F, 1.0D);
     }
     
     public static AttributeSupplier.Builder createAttributes() {
@@ -110,14 +102,20 @@ public class ThestralEntity extends BaseTamableCreatureEntity {
         
         // Apply invisibility effect to make it invisible to those who haven't seen death
         // The renderer will handle visibility based on player's death count
-        if (this.tickCount % 20 == 0) {
+        // Refreshed before the activation check so it does not run out while the Thestral is dormant
+        MobEffectInstance invisibility = this.getEffect(MobEffects.INVISIBILITY);
+        if (invisibility == null || invisibility.getDuration() <= 20) {
             this.addEffect(new MobEffectInstance(MobEffects.INVISIBILITY, 40, 0, false, false, false));
         }
         
+        if (!CreatureActivation.shouldRunCustomTick(this)) {
+            return;
+        }
+        
         // Visual effects when flying
         if (this.level() instanceof ServerLevel serverLevel && !this.onGround()) {
             if (this.tickCount % 15 == 0) {
-                serverLevel.sendParticles(ParticleTypes.SOUL,
+                ParticlePool.queueParticle(serverLevel, ParticleTypes.SOUL,
                     this.getX(), this.getY(), this.getZ(),
                     3, 0.3, 0.1, 0.3, 0.01);
             }
@@ -1,6 +1,9 @@
 package at.koopro.spells_n_squares.features.creatures.mount;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.features.creatures.base.BaseTamableCreatureEntity;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureActivation;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureGoalHelper;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -13,12 +16,6 @@ import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
 import net.minecraft.world.entity.ai.attributes.Attributes;
-import net.minecraft.world.entity.ai.goal.FloatGoal;
-import net.minecraft.world.entity.ai.goal.FollowOwnerGoal;
-import net.minecraft.world.entity.ai.goal.LookAtPlayerGoal;
-import net.minecraft.world.entity.ai.goal.RandomLookAroundGoal;
-import net.minecraft.world.entity.ai.goal.SitWhenOrderedToGoal;
-import net.minecraft.world.entity.ai.goal.WaterAvoidingRandomStrollGoal;
 import net.minecraft.world.entity.ai.navigation.FlyingPathNavigation;
 import net.minecraft.world.entity.ai.navigation.PathNavigation;
 import net.minecraft.world.entity.player.Player;
@@ -41,12 +38,7 @@ public class ThunderbirdEntity extends BaseTamableCreatureEntity {
     
     @Override
     protected void registerGoals() {
-        this.goalSelector.addGoal(0, new FloatGoal(this));
-        this.goalSelector.addGoal(1, new SitWhenOrderedToGoal(this));
-        this.goalSelector.addGoal(2, new FollowOwnerGoal(this, 1.5D, 10.0F, 2.0F));
-        this.goalSelector.addGoal(3, new WaterAvoidingRandomStrollGoal(this, 1.0D));
-        this.goalSelector.addGoal(4, new LookAtPlayerGoal(this, Player.class, 8.0F));
-        this.goalSelector.addGoal(5, new RandomLookAroundGoal(this));
+        CreatureGoalHelper.registerMountGoals(this, 1.5D, 10.0F, 2.0F, 1.0D);
     }
     
     public static AttributeSupplier.Builder createAttributes() {
@@ -97,9 +89,12 @@ public class ThunderbirdEntity extends BaseTamableCreatureEntity {
     @Override
     public void tick() {
         super.tick();
+        if (!CreatureActivation.shouldRunCustomTick(this)) {
+            return;
+        }
         
         if (this.level() instanceof ServerLevel serverLevel) {
-            stormCooldownTimer++;
+            stormCooldownTimer += CreatureActivation.getCustomTickStep(this);
             
             // Periodically create storm effects when flying
             if (stormCooldownTimer >= STORM_COOLDOWN && !this.onGround() && this.random.nextFloat() < 0.1f) {
@@ -109,7 +104,7 @@ public class ThunderbirdEntity extends BaseTamableCreatureEntity {
             
             // Visual effects when flying
             if (!this.onGround() && this.tickCount % 5 == 0) {
-                serverLevel.sendParticles(ParticleTypes.CLOUD,
+                ParticlePool.queueParticle(serverLevel, ParticleTypes.CLOUD,
                     this.getX(), this.getY(), this.getZ(),
                     3, 0.3, 0.1, 0.3, 0.02);
             }
@@ -122,7 +117,7 @@ public class ThunderbirdEntity extends BaseTamableCreatureEntity {
     private void createStormEffect(ServerLevel level) {
         // Lightning particles
         for (int i = 0; i < 10; i++) {
-            level.sendParticles(ParticleTypes.ELECTRIC_SPARK,
+            ParticlePool.queueParticle(level, ParticleTypes.ELECTRIC_SPARK,
                 this.getX() + (this.random.nextDouble() - 0.5) * 3.0,
                 this.getY() + this.random.nextDouble() * 2.0,
                 this.getZ() + (this.random.nextDouble() - 0.5) * 3.0,
@@ -130,7 +125,7 @@ public class ThunderbirdEntity extends BaseTamableCreatureEntity {
         }
         
         // Cloud particles
-        level.sendParticles(ParticleTypes.CLOUD,
+        ParticlePool.queueParticle(level, ParticleTypes.CLOUD,
             this.getX(), this.getY(), this.getZ(),
             20, 2.0, 1.0, 2.0, 0.1);
         
@@ -1,6 +1,9 @@
 package at.koopro.spells_n_squares.features.creatures.mount;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.features.creatures.base.BaseTamableCreatureEntity;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureActivation;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureGoalHelper;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -13,12 +16,6 @@ import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
 import net.minecraft.world.entity.ai.attributes.Attributes;
-import net.minecraft.world.entity.ai.goal.FloatGoal;
-import net.minecraft.world.entity.ai.goal.FollowOwnerGoal;
-import net.minecraft.world.entity.ai.goal.LookAtPlayerGoal;
-import net.minecraft.world.entity.ai.goal.RandomLookAroundGoal;
-import net.minecraft.world.entity.ai.goal.SitWhenOrderedToGoal;
-import net.minecraft.world.entity.ai.goal.WaterAvoidingRandomStrollGoal;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
@@ -42,12 +39,7 @@ public class ZouwuEntity extends BaseTamableCreatureEntity {
     
     @Override
     protected void registerGoals() {
-        this.goalSelector.addGoal(0, new FloatGoal(this));
-        this.goalSelector.addGoal(1, new SitWhenOrderedToGoal(this));
-        this.goalSelector.addGoal(2, new FollowOwnerGoal(this, 1.5D, 10.0F, 2.0F));
-        this.goalSelector.addGoal(3, new WaterAvoidingRandomStrollGoal(this, 1.2D));
-        this.goalSelector.addGoal(4, new LookAtPlayerGoal(this, Player.class, 8.0F));
-        this.goalSelector.addGoal(5, new RandomLookAroundGoal(this));
+        CreatureGoalHelper.registerMountGoals(this, 1.5D, 10.0F, 2.0F, 1.2D);
     }
     
     public static AttributeSupplier.Builder createAttributes() {
@@ -93,9 +85,12 @@ public class ZouwuEntity extends BaseTamableCreatureEntity {
     @Override
     public void tick() {
         super.tick();
+        if (!CreatureActivation.shouldRunCustomTick(this)) {
+            return;
+        }
         
         if (this.level() instanceof ServerLevel serverLevel) {
-            teleportCooldownTimer++;
+            teleportCooldownTimer += CreatureActivation.getCustomTickStep(this);
             
             // Periodically teleport when following owner or in danger
             if (teleportCooldownTimer >= TELEPORT_COOLDOWN && this.isTame() && hasOwner()) {
@@ -127,7 +122,7 @@ public class ZouwuEntity extends BaseTamableCreatureEntity {
         // Ensure valid position
         if (level.noCollision(this, this.getBoundingBox().move(teleportPos.subtract(currentPos)))) {
             // Visual effect at origin
-            level.sendParticles(ParticleTypes.PORTAL,
+            ParticlePool.queueParticle(level, ParticleTypes.PORTAL,
                 currentPos.x, currentPos.y, currentPos.z,
                 20, 0.5, 0.5, 0.5, 0.1);
             
@@ -136,7 +131,7 @@ public class ZouwuEntity extends BaseTamableCreatureEntity {
             teleportCooldownTimer = 0;
             
             // Visual effect at destination
-            level.sendParticles(ParticleTypes.PORTAL,
+            ParticlePool.queueParticle(level, ParticleTypes.PORTAL,
                 teleportPos.x, teleportPos.y, teleportPos.z,
                 20, 0.5, 0.5, 0.5, 0.1);
             
@@ -1,5 +1,7 @@
 package at.koopro.spells_n_squares.features.creatures.neutral;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureActivation;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.AgeableMob;
@@ -43,10 +45,13 @@ public class ClabbertEntity extends PathfinderMob {
     @Override
     public void tick() {
         super.tick();
+        if (!CreatureActivation.shouldRunCustomTick(this)) {
+            return;
+        }
         
         // Flash warts when danger approaches
         if (this.level() instanceof ServerLevel serverLevel) {
-            flashTimer++;
+            flashTimer += CreatureActivation.getCustomTickStep(this);
             
             boolean dangerNearby = false;
             for (Player player : this.level().getEntitiesOfClass(Player.class, 
@@ -57,7 +62,7 @@ public class ClabbertEntity extends PathfinderMob {
             
             if (dangerNearby && flashTimer % 10 == 0) {
                 // Flash effect
-                serverLevel.sendParticles(ParticleTypes.GLOW,
+                ParticlePool.queueParticle(serverLevel, ParticleTypes.GLOW,
                     this.getX(), this.getY() + 0.5, this.getZ(),
                     5, 0.2, 0.2, 0.2, 0.01);
             }
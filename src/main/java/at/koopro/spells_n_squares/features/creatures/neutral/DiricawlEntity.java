@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.creatures.neutral;
 
+import at.koopro.spells_n_squares.features.creatures.util.CreatureActivation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.AgeableMob;
 import net.minecraft.world.entity.EntityType;
@@ -44,6 +45,9 @@ public class DiricawlEntity extends PathfinderMob {
     @Override
     public void tick() {
         super.tick();
+        if (!CreatureActivation.shouldRunCustomTick(this)) {
+            return;
+        }
         
         // Vanishing ability when threatened
         if (!this.level().isClientSide() && vanishCooldown == 0) {
@@ -62,7 +66,7 @@ public class DiricawlEntity extends PathfinderMob {
         }
         
         if (vanishCooldown > 0) {
-            vanishCooldown--;
+            vanishCooldown = Math.max(0, vanishCooldown - CreatureActivation.getCustomTickStep(this));
         }
     }
     
@@ -1,5 +1,7 @@
 package at.koopro.spells_n_squares.features.creatures.neutral;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
+import at.koopro.spells_n_squares.features.creatures.util.CreatureActivation;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.AgeableMob;
@@ -46,10 +48,13 @@ public class FireCrabEntity extends PathfinderMob {
     @Override
     public void tick() {
         super.tick();
+        if (!CreatureActivation.shouldRunCustomTick(this)) {
+            return;
+        }
         
         // Shoot flames from rear periodically
         if (this.level() instanceof ServerLevel serverLevel) {
-            flameTimer++;
+            flameTimer += CreatureActivation.getCustomTickStep(this);
             
             if (flameTimer >= FLAME_INTERVAL) {
                 flameTimer = 0;
@@ -58,7 +63,7 @@ public class FireCrabEntity extends PathfinderMob {
                 double rearX = this.getX() - Math.cos(this.getYRot() * Math.PI / 180.0) * 0.5;
                 double rearZ = this.getZ() - Math.sin(this.getYRot() * Math.PI / 180.0) * 0.5;
                 
-                serverLevel.sendParticles(ParticleTypes.FLAME,
+                ParticlePool.queueParticle(serverLevel, ParticleTypes.FLAME,
                     rearX, this.getY() + 0.3, rearZ,
                     10, 0.2, 0.1, 0.2, 0.05);
             }
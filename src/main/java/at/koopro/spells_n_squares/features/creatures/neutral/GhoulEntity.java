@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.creatures.neutral;
 
+import at.koopro.spells_n_squares.features.creatures.util.CreatureActivation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
@@ -45,10 +46,13 @@ public class GhoulEntity extends PathfinderMob {
     @Override
     public void tick() {
         super.tick();
+        if (!CreatureActivation.shouldRunCustomTick(this)) {
+            return;
+        }
         
         // Make noise periodically
         if (!this.level().isClientSide()) {
-            noiseTimer++;
+            noiseTimer += CreatureActivation.getCustomTickStep(this);
             
             if (noiseTimer >= NOISE_INTERVAL) {
                 noiseTimer = 0;
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.creatures.neutral;
 
+import at.koopro.spells_n_squares.features.creatures.util.CreatureActivation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
@@ -44,9 +45,12 @@ public class StreelerEntity extends PathfinderMob {
     @Override
     public void tick() {
         super.tick();
+        if (!CreatureActivation.shouldRunCustomTick(this)) {
+            return;
+        }
         
         // Change color hourly (simplified to every minute)
-        colorTimer++;
+        colorTimer += CreatureActivation.getCustomTickStep(this);
         if (colorTimer >= COLOR_CHANGE_INTERVAL) {
             colorTimer = 0;
             // Color change is visual only - handled by renderer
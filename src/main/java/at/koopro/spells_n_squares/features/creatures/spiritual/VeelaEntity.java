@@ -1,10 +1,12 @@
 package at.koopro.spells_n_squares.features.creatures.spiritual;
 
+import at.koopro.spells_n_squares.features.creatures.util.AuraSource;
+import at.koopro.spells_n_squares.features.creatures.util.AuraSystem;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.entity.AgeableMob;
 import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.PathfinderMob;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
@@ -16,13 +18,15 @@ import net.minecraft.world.entity.ai.goal.WaterAvoidingRandomStrollGoal;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 
+import java.util.List;
+
 /**
  * Veela - Beautiful, semi-human magical beings who can enchant men with their dance.
  */
-public class VeelaEntity extends PathfinderMob {
+public class VeelaEntity extends PathfinderMob implements AuraSource {
     private boolean isAngered = false;
-    private int danceTimer = 0;
     private static final int DANCE_INTERVAL = 100; // Every 5 seconds
+    private static final List<AuraSystem.Aura> AURAS = List.of(new AuraSystem.Aura(10.0, DANCE_INTERVAL, true));
     
     public VeelaEntity(EntityType<? extends VeelaEntity> type, Level level) {
         super(type, level);
@@ -43,36 +47,28 @@ public class VeelaEntity extends PathfinderMob {
     }
     
     @Override
-    public void tick() {
-        super.tick();
-        
-        // Enchantment dance
-        if (!this.level().isClientSide()) {
-            danceTimer++;
-            
-            if (danceTimer >= DANCE_INTERVAL) {
-                danceTimer = 0;
-                
-                // Enchant nearby players with dance
-                for (Player player : this.level().getEntitiesOfClass(Player.class, 
-                        this.getBoundingBox().inflate(10.0))) {
-                    if (!isAngered) {
-                        // Enchantment effect
-                        player.addEffect(new MobEffectInstance(
-                            MobEffects.LEVITATION,
-                            100,
-                            0,
-                            false,
-                            true,
-                            true
-                        ));
-                    }
-                }
-            }
-        }
+    public List<AuraSystem.Aura> getAuras() {
+        return AURAS;
+    }
+    
+    /**
+     * Angered Veela don't dance.
+     */
+    @Override
+    public boolean shouldPulse(AuraSystem.Aura aura) {
+        return !isAngered;
+    }
+    
+    /**
+     * Enchants nearby players with the dance.
+     */
+    @Override
+    public void applyAura(ServerLevel level, AuraSystem.Aura aura, LivingEntity target, AuraSystem.AuraBatch batch) {
+        // Enchantment effect
+        batch.addEffect(target, MobEffects.LEVITATION, 100, 0);
     }
     
-    // Veela transform when angered - handled in tick()
+    // Veela transform when angered
     // Veela don't breed
 }
 
@@ -0,0 +1,44 @@
+package at.koopro.spells_n_squares.features.creatures.util;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.LivingEntity;
+
+import java.util.List;
+
+/**
+ * Implemented by creatures that affect their surroundings periodically.
+ * The creature's auras are registered with {@link AuraSystem} when it joins a server level and
+ * removed when it leaves; the creature does not poll for targets itself.
+ */
+public interface AuraSource {
+
+    /**
+     * Gets the auras of this creature.
+     * Should return a shared constant list.
+     */
+    List<AuraSystem.Aura> getAuras();
+
+    /**
+     * Checks whether an aura should pulse this time (e.g. only while the creature has a target).
+     */
+    default boolean shouldPulse(AuraSystem.Aura aura) {
+        return true;
+    }
+
+    /**
+     * Called once per pulse, before the aura is applied to its targets.
+     */
+    default void onPulse(ServerLevel level, AuraSystem.Aura aura) {
+    }
+
+    /**
+     * Applies an aura to one target in range.
+     * Status effects and damage should go through the batch so that overlapping auras of the
+     * same kind are applied once per target.
+     * @param level The level
+     * @param aura The pulsing aura
+     * @param target A target within the aura's radius
+     * @param batch Collects effects for this tick
+     */
+    void applyAura(ServerLevel level, AuraSystem.Aura aura, LivingEntity target, AuraSystem.AuraBatch batch);
+}
@@ -0,0 +1,299 @@
+package at.koopro.spells_n_squares.features.creatures.util;
+
+import at.koopro.spells_n_squares.SpellsNSquares;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.minecraft.core.Holder;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.damagesource.DamageSource;
+import net.minecraft.world.effect.MobEffect;
+import net.minecraft.world.effect.MobEffectInstance;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.phys.AABB;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared engine for creature auras (Dementor soul drain, Boggart fear, Dragon fire breath, ...).
+ * Creatures implementing {@link AuraSource} are registered when they join a server level. Once
+ * per level tick, all auras that are due are matched against one spatial snapshot of that tick:
+ * the level's player list for player-only auras, and entity lists per chunk section, fetched at
+ * most once per tick, for auras that hit any living entity. Status effects, fire and damage are
+ * collected in an {@link AuraBatch} and applied once per target, so overlapping auras of a
+ * Dementor farm or dragon arena do not multiply the work.
+ */
+@EventBusSubscriber(modid = SpellsNSquares.MODID)
+public final class AuraSystem {
+
+    /**
+     * An aura definition, shared by all creatures of a type.
+     * @param radius How far beyond the creature's bounding box the aura reaches
+     * @param interval Ticks between pulses
+     * @param playersOnly Whether only players are affected
+     */
+    public record Aura(double radius, int interval, boolean playersOnly) {
+    }
+
+    // Entities whose own position lies in a neighbouring section can still overlap an aura
+    private static final double SECTION_MARGIN = 2.0;
+
+    // Registered aura sources per level
+    private static final Map<ServerLevel, ReferenceLinkedOpenHashSet<Entity>> sourcesByLevel = new HashMap<>();
+
+    // Reused per pass; auras are only processed on the server thread
+    private static final List<Entity> passSources = new ArrayList<>();
+    private static final List<LivingEntity> passTargets = new ArrayList<>();
+    private static final Snapshot snapshot = new Snapshot();
+    private static final AuraBatch batch = new AuraBatch();
+
+    private AuraSystem() {
+        // Utility class - prevent instantiation
+    }
+
+    @SubscribeEvent
+    public static void onEntityJoinLevel(EntityJoinLevelEvent event) {
+        if (event.getLevel() instanceof ServerLevel level && event.getEntity() instanceof AuraSource) {
+            sourcesByLevel.computeIfAbsent(level, k -> new ReferenceLinkedOpenHashSet<>()).add(event.getEntity());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeaveLevel(EntityLeaveLevelEvent event) {
+        if (event.getLevel() instanceof ServerLevel level && event.getEntity() instanceof AuraSource) {
+            ReferenceLinkedOpenHashSet<Entity> sources = sourcesByLevel.get(level);
+            if (sources != null) {
+                sources.remove(event.getEntity());
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            sourcesByLevel.remove(level);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        sourcesByLevel.clear();
+    }
+
+    /**
+     * Pulses all due auras of a level.
+     */
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        if (!(event.getLevel() instanceof ServerLevel level)) {
+            return;
+        }
+        ReferenceLinkedOpenHashSet<Entity> sources = sourcesByLevel.get(level);
+        if (sources == null || sources.isEmpty()) {
+            return;
+        }
+
+        long gameTime = level.getGameTime();
+        boolean snapshotStarted = false;
+        // Auras may add or remove entities, so iterate over a copy
+        passSources.addAll(sources);
+        try {
+            for (Entity entity : passSources) {
+                // Dormant creatures are frozen, so their auras are too
+                if (!entity.isAlive() || CreatureActivation.getTier(entity) == CreatureActivation.Tier.DORMANT) {
+                    continue;
+                }
+                AuraSource source = (AuraSource) entity;
+                for (Aura aura : source.getAuras()) {
+                    // The entity id spreads pulses of the same aura type over different ticks
+                    if ((gameTime + entity.getId()) % aura.interval() != 0 || !source.shouldPulse(aura)) {
+                        continue;
+                    }
+                    if (!snapshotStarted) {
+                        snapshot.begin(level);
+                        snapshotStarted = true;
+                    }
+
+                    source.onPulse(level, aura);
+                    snapshot.collect(entity.getBoundingBox().inflate(aura.radius()), aura.playersOnly(), entity, passTargets);
+                    for (LivingEntity target : passTargets) {
+                        source.applyAura(level, aura, target, batch);
+                    }
+                }
+            }
+            if (snapshotStarted) {
+                batch.apply();
+            }
+        } finally {
+            passSources.clear();
+            passTargets.clear();
+            snapshot.end();
+            batch.clear();
+        }
+    }
+
+    /**
+     * Gets the number of registered aura sources in a level.
+     */
+    public static int getSourceCount(ServerLevel level) {
+        ReferenceLinkedOpenHashSet<Entity> sources = sourcesByLevel.get(level);
+        return sources == null ? 0 : sources.size();
+    }
+
+    /**
+     * Entities of the current tick, fetched lazily per chunk section.
+     */
+    private static final class Snapshot {
+        private final Long2ObjectOpenHashMap<List<LivingEntity>> sections = new Long2ObjectOpenHashMap<>();
+        private ServerLevel level;
+
+        void begin(ServerLevel level) {
+            this.level = level;
+        }
+
+        void end() {
+            level = null;
+            sections.clear();
+        }
+
+        /**
+         * Collects the targets whose bounding box intersects an area.
+         */
+        void collect(AABB area, boolean playersOnly, Entity source, List<LivingEntity> out) {
+            out.clear();
+            if (playersOnly) {
+                for (ServerPlayer player : level.players()) {
+                    if (player != source && player.isAlive() && !player.isSpectator()
+                        && player.getBoundingBox().intersects(area)) {
+                        out.add(player);
+                    }
+                }
+                return;
+            }
+
+            int minX = SectionPos.posToSectionCoord(area.minX - SECTION_MARGIN);
+            int minY = SectionPos.posToSectionCoord(area.minY - SECTION_MARGIN);
+            int minZ = SectionPos.posToSectionCoord(area.minZ - SECTION_MARGIN);
+            int maxX = SectionPos.posToSectionCoord(area.maxX + SECTION_MARGIN);
+            int maxY = SectionPos.posToSectionCoord(area.maxY + SECTION_MARGIN);
+            int maxZ = SectionPos.posToSectionCoord(area.maxZ + SECTION_MARGIN);
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    for (int z = minZ; z <= maxZ; z++) {
+                        for (LivingEntity entity : section(x, y, z)) {
+                            if (entity != source && entity.isAlive() && !entity.isSpectator()
+                                && entity.getBoundingBox().intersects(area)) {
+                                out.add(entity);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        private List<LivingEntity> section(int x, int y, int z) {
+            long key = SectionPos.asLong(x, y, z);
+            List<LivingEntity> entities = sections.get(key);
+            if (entities == null) {
+                AABB box = new AABB(
+                    SectionPos.sectionToBlockCoord(x), SectionPos.sectionToBlockCoord(y), SectionPos.sectionToBlockCoord(z),
+                    SectionPos.sectionToBlockCoord(x + 1), SectionPos.sectionToBlockCoord(y + 1), SectionPos.sectionToBlockCoord(z + 1));
+                // Each entity belongs to the section containing its position, so none is listed twice
+                entities = level.getEntitiesOfClass(LivingEntity.class, box,
+                    entity -> SectionPos.asLong(entity.blockPosition()) == key);
+                sections.put(key, entities);
+            }
+            return entities;
+        }
+    }
+
+    /**
+     * Effects collected during one aura pass, applied once per target.
+     * For each target only the strongest instance of each status effect, the longest burn
+     * and the highest damage are kept.
+     */
+    public static final class AuraBatch {
+        private static final class Pending {
+            final Map<Holder<MobEffect>, MobEffectInstance> effects = new LinkedHashMap<>();
+            int fireTicks;
+            DamageSource damageSource;
+            float damage;
+        }
+
+        private final Map<LivingEntity, Pending> pending = new LinkedHashMap<>();
+
+        private AuraBatch() {
+        }
+
+        /**
+         * Adds a status effect for a target.
+         */
+        public void addEffect(LivingEntity target, Holder<MobEffect> effect, int duration, int amplifier) {
+            Map<Holder<MobEffect>, MobEffectInstance> effects = pending(target).effects;
+            MobEffectInstance existing = effects.get(effect);
+            if (existing == null || amplifier > existing.getAmplifier()
+                || amplifier == existing.getAmplifier() && duration > existing.getDuration()) {
+                effects.put(effect, new MobEffectInstance(effect, duration, amplifier, false, true, true));
+            }
+        }
+
+        /**
+         * Sets a target on fire.
+         */
+        public void setOnFire(LivingEntity target, int ticks) {
+            Pending entry = pending(target);
+            entry.fireTicks = Math.max(entry.fireTicks, ticks);
+        }
+
+        /**
+         * Damages a target.
+         */
+        public void hurt(LivingEntity target, DamageSource source, float amount) {
+            Pending entry = pending(target);
+            if (amount > entry.damage) {
+                entry.damage = amount;
+                entry.damageSource = source;
+            }
+        }
+
+        private Pending pending(LivingEntity target) {
+            return pending.computeIfAbsent(target, k -> new Pending());
+        }
+
+        void apply() {
+            for (Map.Entry<LivingEntity, Pending> entry : pending.entrySet()) {
+                LivingEntity target = entry.getKey();
+                Pending effects = entry.getValue();
+                if (!target.isAlive()) {
+                    continue;
+                }
+                for (MobEffectInstance effect : effects.effects.values()) {
+                    target.addEffect(effect);
+                }
+                if (effects.fireTicks > 0) {
+                    target.setRemainingFireTicks(Math.max(target.getRemainingFireTicks(), effects.fireTicks));
+                }
+                if (effects.damage > 0.0f) {
+                    target.hurt(effects.damageSource, effects.damage);
+                }
+            }
+        }
+
+        void clear() {
+            pending.clear();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package at.koopro.spells_n_squares.features.creatures.util;
+
+import at.koopro.spells_n_squares.SpellsNSquares;
+import at.koopro.spells_n_squares.core.config.Config;
+import at.koopro.spells_n_squares.core.registry.CreatureRegistry;
+import at.koopro.spells_n_squares.features.creatures.CreatureType;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.PathfinderMob;
+import net.minecraft.world.entity.TamableAnimal;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.EntityTickEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Distance-tiered activation for mod creatures.
+ * Every registered creature is assigned a tier from its distance to the nearest player, using
+ * the ranges of its {@link CreatureType}:
+ * - FULL: vanilla AI and the creature's own tick logic run every tick; always used while fighting
+ * - REDUCED: vanilla AI runs every tick, the creature's own tick logic every few ticks
+ * - DORMANT: idle creatures on the ground only tick occasionally
+ * Creatures opt their custom logic in with {@link #shouldRunCustomTick}.
+ */
+@EventBusSubscriber(modid = SpellsNSquares.MODID)
+public final class CreatureActivation {
+
+    /**
+     * Activation tier of a creature.
+     */
+    public enum Tier {
+        FULL,
+        REDUCED,
+        DORMANT
+    }
+
+    // Creatures' own tick checks use multiples of this interval, so they still line up when reduced
+    public static final int REDUCED_TICK_INTERVAL = 5;
+
+    // Dormant creatures still tick this often, so despawning, aging and effects keep progressing
+    public static final int DORMANT_TICK_INTERVAL = 20;
+
+    // How often tiers are recomputed
+    private static final int UPDATE_INTERVAL = 10;
+
+    private static final Map<ServerLevel, LevelTiers> tiersByLevel = new HashMap<>();
+
+    private CreatureActivation() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Tiers of the creatures in one level.
+     */
+    private static final class LevelTiers {
+        final Reference2ObjectOpenHashMap<PathfinderMob, Tier> tiers = new Reference2ObjectOpenHashMap<>();
+        final int[] counts = new int[Tier.values().length];
+    }
+
+    @SubscribeEvent
+    public static void onEntityJoinLevel(EntityJoinLevelEvent event) {
+        if (event.getLevel() instanceof ServerLevel level && event.getEntity() instanceof PathfinderMob mob
+            && getCreatureType(mob) != null) {
+            tiersByLevel.computeIfAbsent(level, k -> new LevelTiers()).tiers.put(mob, Tier.FULL);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeaveLevel(EntityLeaveLevelEvent event) {
+        if (event.getLevel() instanceof ServerLevel level && event.getEntity() instanceof PathfinderMob mob) {
+            LevelTiers levelTiers = tiersByLevel.get(level);
+            if (levelTiers != null) {
+                levelTiers.tiers.remove(mob);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            tiersByLevel.remove(level);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        tiersByLevel.clear();
+    }
+
+    /**
+     * Recomputes the tiers of a level's creatures.
+     */
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Pre event) {
+        if (!(event.getLevel() instanceof ServerLevel level) || level.getGameTime() % UPDATE_INTERVAL != 0) {
+            return;
+        }
+        LevelTiers levelTiers = tiersByLevel.get(level);
+        if (levelTiers == null) {
+            return;
+        }
+
+        boolean enabled = Config.isCreatureActivationEnabled();
+        Arrays.fill(levelTiers.counts, 0);
+        for (Reference2ObjectMap.Entry<PathfinderMob, Tier> entry : levelTiers.tiers.reference2ObjectEntrySet()) {
+            Tier tier = enabled ? computeTier(level, entry.getKey()) : Tier.FULL;
+            entry.setValue(tier);
+            levelTiers.counts[tier.ordinal()]++;
+        }
+    }
+
+    /**
+     * Skips the ticks of dormant creatures.
+     */
+    @SubscribeEvent
+    public static void onEntityTick(EntityTickEvent.Pre event) {
+        if (event.getEntity() instanceof PathfinderMob mob && getTier(mob) == Tier.DORMANT
+            && mob.tickCount % DORMANT_TICK_INTERVAL != 0) {
+            event.setCanceled(true);
+        }
+    }
+
+    private static Tier computeTier(ServerLevel level, PathfinderMob mob) {
+        CreatureType type = getCreatureType(mob);
+        double nearestSqr = Double.MAX_VALUE;
+        for (ServerPlayer player : level.players()) {
+            nearestSqr = Math.min(nearestSqr, player.distanceToSqr(mob));
+        }
+
+        // Fighting creatures keep their full behavior wherever they are
+        double fullRange = type.getFullActivationRange();
+        if (nearestSqr <= fullRange * fullRange || mob.getTarget() != null || mob.hurtTime > 0) {
+            return Tier.FULL;
+        }
+        double reducedRange = type.getReducedActivationRange();
+        if (nearestSqr <= reducedRange * reducedRange || !isIdle(mob)) {
+            return Tier.REDUCED;
+        }
+        return Tier.DORMANT;
+    }
+
+    /**
+     * Checks if a creature can be frozen without visible side effects
+     * (resting on the ground, not fighting, burning, leashed, carrying anyone or following an owner).
+     */
+    private static boolean isIdle(PathfinderMob mob) {
+        if (mob instanceof TamableAnimal tamable && tamable.isTame() && !tamable.isOrderedToSit()) {
+            return false;
+        }
+        return mob.onGround() && !mob.isInWater() && mob.getTarget() == null
+            && mob.hurtTime == 0 && !mob.isOnFire() && !mob.isLeashed()
+            && !mob.isPassenger() && !mob.isVehicle();
+    }
+
+    private static CreatureType getCreatureType(Entity entity) {
+        return CreatureRegistry.get(BuiltInRegistries.ENTITY_TYPE.getKey(entity.getType()));
+    }
+
+    /**
+     * Gets the activation tier of a creature.
+     * Client-side entities and entities that are not mod creatures are always FULL.
+     */
+    public static Tier getTier(Entity entity) {
+        if (!(entity.level() instanceof ServerLevel level)) {
+            return Tier.FULL;
+        }
+        LevelTiers levelTiers = tiersByLevel.get(level);
+        if (levelTiers == null) {
+            return Tier.FULL;
+        }
+        Tier tier = levelTiers.tiers.get(entity);
+        return tier != null ? tier : Tier.FULL;
+    }
+
+    /**
+     * Checks if a creature should run its own tick logic (particles, timers, abilities) this tick.
+     * Call after {@code super.tick()}; in the reduced tier this passes every
+     * {@link #REDUCED_TICK_INTERVAL} ticks. Timers and cooldowns advanced in that logic must
+     * step by {@link #getCustomTickStep} so they keep real time.
+     */
+    public static boolean shouldRunCustomTick(Entity entity) {
+        return switch (getTier(entity)) {
+            case FULL -> true;
+            case REDUCED -> entity.tickCount % REDUCED_TICK_INTERVAL == 0;
+            case DORMANT -> false;
+        };
+    }
+
+    /**
+     * Gets how many ticks a timer should advance in a custom tick that just ran.
+     * @return 1 in the full tier, {@link #REDUCED_TICK_INTERVAL} in the reduced tier
+     */
+    public static int getCustomTickStep(Entity entity) {
+        return getTier(entity) == Tier.REDUCED ? REDUCED_TICK_INTERVAL : 1;
+    }
+
+    /**
+     * Gets how many creatures are in each tier, summed over all levels.
+     * @return Counts indexed by {@link Tier#ordinal()}, as of the last tier update
+     */
+    public static int[] getTierCounts() {
+        int[] counts = new int[Tier.values().length];
+        for (LevelTiers levelTiers : tiersByLevel.values()) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += levelTiers.counts[i];
+            }
+        }
+        return counts;
+    }
+}
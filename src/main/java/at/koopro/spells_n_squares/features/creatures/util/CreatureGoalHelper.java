@@ -1,6 +1,9 @@
 package at.koopro.spells_n_squares.features.creatures.util;
 
-import net.minecraft.world.entity.PathfinderMob;
+import at.koopro.spells_n_squares.core.config.Config;
+import at.koopro.spells_n_squares.features.creatures.companion.ai.CompanionLookGoal;
+import at.koopro.spells_n_squares.features.creatures.companion.ai.CompanionStrollGoal;
+import at.koopro.spells_n_squares.features.creatures.companion.ai.GroupFollowOwnerGoal;
 import net.minecraft.world.entity.TamableAnimal;
 import net.minecraft.world.entity.ai.goal.FloatGoal;
 import net.minecraft.world.entity.ai.goal.FollowOwnerGoal;
@@ -15,6 +18,7 @@ import net.minecraft.world.entity.player.Player;
 /**
  * Utility class for registering common AI goals for creature entities.
  * Provides standardized goal registration patterns to reduce duplication.
+ * Follow and idle goals depend on the configured {@link Config.CompanionAiProfile}.
  */
 public final class CreatureGoalHelper {
     private CreatureGoalHelper() {
@@ -23,84 +27,112 @@ public final class CreatureGoalHelper {
     
     /**
      * Registers basic goals that most tamable creatures need.
-     * Includes: Float, SitWhenOrderedTo, FollowOwner, WaterAvoidingRandomStroll, LookAtPlayer, RandomLookAround
+     * Includes: Float, SitWhenOrderedTo, FollowOwner, idle goals
      * 
      * @param entity The entity to register goals for
-     * @param followSpeed Speed for FollowOwnerGoal (typically 1.0-1.5)
+     * @param followSpeed Speed when following the owner (typically 1.0-1.5)
      * @param followMinDistance Minimum distance for FollowOwnerGoal (typically 10.0)
      * @param followMaxDistance Maximum distance for FollowOwnerGoal (typically 2.0)
-     * @param strollSpeed Speed for WaterAvoidingRandomStrollGoal (typically 1.0)
+     * @param strollSpeed Speed when strolling (typically 1.0)
      */
     public static void registerBasicGoals(TamableAnimal entity, double followSpeed, float followMinDistance, float followMaxDistance, double strollSpeed) {
         entity.goalSelector.addGoal(0, new FloatGoal(entity));
         entity.goalSelector.addGoal(1, new SitWhenOrderedToGoal(entity));
-        entity.goalSelector.addGoal(2, new FollowOwnerGoal(entity, followSpeed, followMinDistance, followMaxDistance));
-        entity.goalSelector.addGoal(3, new WaterAvoidingRandomStrollGoal(entity, strollSpeed));
-        entity.goalSelector.addGoal(4, new LookAtPlayerGoal(entity, Player.class, 8.0F));
-        entity.goalSelector.addGoal(5, new RandomLookAroundGoal(entity));
+        addFollowOwnerGoal(entity, 2, followSpeed, followMinDistance, followMaxDistance);
+        addIdleGoals(entity, 3, strollSpeed);
     }
     
     /**
      * Registers companion creature goals (includes PanicGoal).
-     * Includes: Float, Panic, SitWhenOrderedTo, FollowOwner, WaterAvoidingRandomStroll, LookAtPlayer, RandomLookAround
+     * Includes: Float, Panic, SitWhenOrderedTo, FollowOwner, idle goals
      * 
      * @param entity The entity to register goals for
      * @param panicSpeed Speed for PanicGoal (typically 1.5-2.0)
-     * @param followSpeed Speed for FollowOwnerGoal (typically 1.0)
+     * @param followSpeed Speed when following the owner (typically 1.0)
      * @param followMinDistance Minimum distance for FollowOwnerGoal (typically 10.0)
      * @param followMaxDistance Maximum distance for FollowOwnerGoal (typically 2.0)
-     * @param strollSpeed Speed for WaterAvoidingRandomStrollGoal (typically 1.0)
+     * @param strollSpeed Speed when strolling (typically 1.0)
      */
     public static void registerCompanionGoals(TamableAnimal entity, double panicSpeed, double followSpeed, float followMinDistance, float followMaxDistance, double strollSpeed) {
         entity.goalSelector.addGoal(0, new FloatGoal(entity));
         entity.goalSelector.addGoal(1, new PanicGoal(entity, panicSpeed));
         entity.goalSelector.addGoal(2, new SitWhenOrderedToGoal(entity));
-        entity.goalSelector.addGoal(3, new FollowOwnerGoal(entity, followSpeed, followMinDistance, followMaxDistance));
-        entity.goalSelector.addGoal(4, new WaterAvoidingRandomStrollGoal(entity, strollSpeed));
-        entity.goalSelector.addGoal(5, new LookAtPlayerGoal(entity, Player.class, 8.0F));
-        entity.goalSelector.addGoal(6, new RandomLookAroundGoal(entity));
+        addFollowOwnerGoal(entity, 3, followSpeed, followMinDistance, followMaxDistance);
+        addIdleGoals(entity, 4, strollSpeed);
     }
     
     /**
      * Registers mount creature goals (no PanicGoal, optimized for mounts).
-     * Includes: Float, SitWhenOrderedTo, FollowOwner, WaterAvoidingRandomStroll, LookAtPlayer, RandomLookAround
+     * Includes: Float, SitWhenOrderedTo, FollowOwner, idle goals
      * 
      * @param entity The entity to register goals for
-     * @param followSpeed Speed for FollowOwnerGoal (typically 1.5)
+     * @param followSpeed Speed when following the owner (typically 1.5)
      * @param followMinDistance Minimum distance for FollowOwnerGoal (typically 10.0)
      * @param followMaxDistance Maximum distance for FollowOwnerGoal (typically 2.0)
-     * @param strollSpeed Speed for WaterAvoidingRandomStrollGoal (typically 1.0-1.2)
+     * @param strollSpeed Speed when strolling (typically 1.0-1.2)
      */
     public static void registerMountGoals(TamableAnimal entity, double followSpeed, float followMinDistance, float followMaxDistance, double strollSpeed) {
         entity.goalSelector.addGoal(0, new FloatGoal(entity));
         entity.goalSelector.addGoal(1, new SitWhenOrderedToGoal(entity));
-        entity.goalSelector.addGoal(2, new FollowOwnerGoal(entity, followSpeed, followMinDistance, followMaxDistance));
-        entity.goalSelector.addGoal(3, new WaterAvoidingRandomStrollGoal(entity, strollSpeed));
-        entity.goalSelector.addGoal(4, new LookAtPlayerGoal(entity, Player.class, 8.0F));
-        entity.goalSelector.addGoal(5, new RandomLookAroundGoal(entity));
+        addFollowOwnerGoal(entity, 2, followSpeed, followMinDistance, followMaxDistance);
+        addIdleGoals(entity, 3, strollSpeed);
     }
     
     /**
      * Registers aggressive creature goals (includes MeleeAttackGoal).
-     * Includes: Float, SitWhenOrderedTo, MeleeAttack, FollowOwner, WaterAvoidingRandomStroll, LookAtPlayer, RandomLookAround
+     * Includes: Float, SitWhenOrderedTo, MeleeAttack, FollowOwner, idle goals
      * 
      * @param entity The entity to register goals for
      * @param attackSpeed Speed for MeleeAttackGoal (typically 1.0-1.2)
-     * @param followSpeed Speed for FollowOwnerGoal (typically 1.0)
+     * @param followSpeed Speed when following the owner (typically 1.0)
      * @param followMinDistance Minimum distance for FollowOwnerGoal (typically 10.0)
      * @param followMaxDistance Maximum distance for FollowOwnerGoal (typically 2.0)
-     * @param strollSpeed Speed for WaterAvoidingRandomStrollGoal (typically 1.0)
+     * @param strollSpeed Speed when strolling (typically 1.0)
      */
     public static void registerAggressiveGoals(TamableAnimal entity, double attackSpeed, double followSpeed, float followMinDistance, float followMaxDistance, double strollSpeed) {
         entity.goalSelector.addGoal(0, new FloatGoal(entity));
         entity.goalSelector.addGoal(1, new SitWhenOrderedToGoal(entity));
         entity.goalSelector.addGoal(2, new MeleeAttackGoal(entity, attackSpeed, true));
-        entity.goalSelector.addGoal(3, new FollowOwnerGoal(entity, followSpeed, followMinDistance, followMaxDistance));
-        entity.goalSelector.addGoal(4, new WaterAvoidingRandomStrollGoal(entity, strollSpeed));
-        entity.goalSelector.addGoal(5, new LookAtPlayerGoal(entity, Player.class, 8.0F));
-        entity.goalSelector.addGoal(6, new RandomLookAroundGoal(entity));
+        addFollowOwnerGoal(entity, 3, followSpeed, followMinDistance, followMaxDistance);
+        addIdleGoals(entity, 4, strollSpeed);
+    }
+    
+    /**
+     * Registers the follow-owner goal of the configured profile.
+     * LIGHTWEIGHT companions of the same owner share their paths.
+     * 
+     * @param entity The entity to register the goal for
+     * @param priority Goal priority
+     * @param followSpeed Speed when following the owner
+     * @param followMinDistance Distance at which the entity starts following
+     * @param followMaxDistance Distance at which it stops
+     */
+    public static void addFollowOwnerGoal(TamableAnimal entity, int priority, double followSpeed, float followMinDistance, float followMaxDistance) {
+        if (Config.getCompanionAiProfile() == Config.CompanionAiProfile.LIGHTWEIGHT) {
+            entity.goalSelector.addGoal(priority, new GroupFollowOwnerGoal(entity, followSpeed, followMinDistance, followMaxDistance));
+        } else {
+            entity.goalSelector.addGoal(priority, new FollowOwnerGoal(entity, followSpeed, followMinDistance, followMaxDistance));
+        }
+    }
+    
+    /**
+     * Registers the idle goals (stroll, look at player, look around) of the configured profile.
+     * VANILLA adds three goals starting at the given priority; LIGHTWEIGHT adds a stroll goal and
+     * a look goal that decide once per configured interval.
+     * 
+     * @param entity The entity to register the goals for
+     * @param priority Priority of the first idle goal
+     * @param strollSpeed Speed when strolling
+     */
+    public static void addIdleGoals(TamableAnimal entity, int priority, double strollSpeed) {
+        if (Config.getCompanionAiProfile() == Config.CompanionAiProfile.LIGHTWEIGHT) {
+            int interval = Config.getCompanionIdleInterval();
+            entity.goalSelector.addGoal(priority, new CompanionStrollGoal(entity, strollSpeed, interval));
+            entity.goalSelector.addGoal(priority + 1, new CompanionLookGoal(entity, interval));
+        } else {
+            entity.goalSelector.addGoal(priority, new WaterAvoidingRandomStrollGoal(entity, strollSpeed));
+            entity.goalSelector.addGoal(priority + 1, new LookAtPlayerGoal(entity, Player.class, 8.0F));
+            entity.goalSelector.addGoal(priority + 2, new RandomLookAroundGoal(entity));
+        }
     }
 }
-
-
-
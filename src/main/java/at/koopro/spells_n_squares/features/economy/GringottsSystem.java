@@ -1,17 +1,23 @@
 package at.koopro.spells_n_squares.features.economy;
 
+import at.koopro.spells_n_squares.core.persistence.ModPersistence;
+import at.koopro.spells_n_squares.core.persistence.PersistentMap;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.UUIDUtil;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.saveddata.SavedDataType;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * System for managing Gringotts bank vaults.
  */
 public final class GringottsSystem {
-    private static final Map<UUID, VaultData> PLAYER_VAULTS = new HashMap<>();
+    private static final SavedDataType<PersistentMap<UUID, VaultData>> PLAYER_VAULTS =
+        PersistentMap.type("gringotts_vaults", UUIDUtil.CODEC, VaultData.CODEC);
     
     private GringottsSystem() {
     }
@@ -20,7 +26,7 @@ public final class GringottsSystem {
      * Gets vault data for a player.
      */
     public static VaultData getVault(Player player) {
-        return PLAYER_VAULTS.getOrDefault(player.getUUID(), new VaultData(player.getUUID()));
+        return ModPersistence.map(PLAYER_VAULTS).getOrDefault(player.getUUID(), new VaultData(player.getUUID()));
     }
     
     /**
@@ -33,7 +39,7 @@ public final class GringottsSystem {
         
         VaultData vault = getVault(player);
         VaultData newVault = vault.add(galleons, sickles, knuts);
-        PLAYER_VAULTS.put(player.getUUID(), newVault);
+        ModPersistence.map(PLAYER_VAULTS).put(player.getUUID(), newVault);
         return true;
     }
     
@@ -47,7 +53,7 @@ public final class GringottsSystem {
         }
         
         VaultData newVault = vault.remove(galleons, sickles, knuts);
-        PLAYER_VAULTS.put(player.getUUID(), newVault);
+        ModPersistence.map(PLAYER_VAULTS).put(player.getUUID(), newVault);
         CurrencySystem.addCurrency(player, galleons, sickles, knuts);
         return true;
     }
@@ -56,6 +62,23 @@ public final class GringottsSystem {
      * Represents vault data for a player.
      */
     public static class VaultData {
+        public static final Codec<VaultData> CODEC = RecordCodecBuilder.create(instance ->
+            instance.group(
+                UUIDUtil.CODEC.fieldOf("ownerId").forGetter(VaultData::getOwnerId),
+                Codec.INT.fieldOf("galleons").forGetter(VaultData::getGalleons),
+                Codec.INT.fieldOf("sickles").forGetter(VaultData::getSickles),
+                Codec.INT.fieldOf("knuts").forGetter(VaultData::getKnuts),
+                BlockPos.CODEC.optionalFieldOf("vaultLocation").forGetter(v -> Optional.ofNullable(v.getVaultLocation()))
+            ).apply(instance, (ownerId, galleons, sickles, knuts, location) -> {
+                VaultData vault = new VaultData(ownerId);
+                vault.galleons = galleons;
+                vault.sickles = sickles;
+                vault.knuts = knuts;
+                vault.vaultLocation = location.orElse(null);
+                return vault;
+            })
+        );
+        
         private final UUID ownerId;
         private int galleons = 0;
         private int sickles = 0;
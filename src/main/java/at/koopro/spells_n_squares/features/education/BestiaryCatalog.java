@@ -0,0 +1,112 @@
+package at.koopro.spells_n_squares.features.education;
+
+import at.koopro.spells_n_squares.features.education.BestiaryCreatureRegistry.CreatureCategory;
+import at.koopro.spells_n_squares.features.education.BestiaryCreatureRegistry.CreatureEntry;
+import net.minecraft.resources.Identifier;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable, numbered list of bestiary entries.
+ * The server builds one per data pack reload and each client builds one from the synced entries;
+ * entry indices are the same on both sides. The search index is built on the first search.
+ */
+public final class BestiaryCatalog {
+    public static final BestiaryCatalog EMPTY = new BestiaryCatalog(List.of());
+
+    private final List<CreatureEntry> entries;
+    private final Map<Identifier, CreatureEntry> byId;
+    private volatile BestiarySearchIndex searchIndex;
+
+    /**
+     * @param entries The entries; each entry's index must be its position in the list
+     */
+    public BestiaryCatalog(List<CreatureEntry> entries) {
+        this.entries = List.copyOf(entries);
+        Map<Identifier, CreatureEntry> ids = new HashMap<>();
+        for (CreatureEntry entry : this.entries) {
+            ids.put(entry.getId(), entry);
+        }
+        this.byId = Map.copyOf(ids);
+    }
+
+    /**
+     * Gets all entries in catalog order.
+     */
+    public List<CreatureEntry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Gets the number of entries.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets an entry by index.
+     * @return The entry, or null if the index is out of range
+     */
+    public CreatureEntry getByIndex(int index) {
+        return index >= 0 && index < entries.size() ? entries.get(index) : null;
+    }
+
+    /**
+     * Gets an entry by creature ID.
+     * @return The entry, or null if the creature is not in the catalog
+     */
+    public CreatureEntry get(Identifier id) {
+        return byId.get(id);
+    }
+
+    /**
+     * Gets the IDs of all entries.
+     */
+    public Set<Identifier> getIds() {
+        return byId.keySet();
+    }
+
+    /**
+     * Gets the entries of a category in catalog order.
+     */
+    public List<CreatureEntry> getByCategory(CreatureCategory category) {
+        List<CreatureEntry> result = new ArrayList<>();
+        for (CreatureEntry entry : entries) {
+            if (entry.getCategory() == category) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the entries whose name or description has words starting with each word of the query.
+     * @return Matching entries in catalog order; all entries for a blank query
+     */
+    public List<CreatureEntry> search(String query) {
+        BitSet matches = getSearchIndex().search(query);
+        if (matches == null) {
+            return entries;
+        }
+        List<CreatureEntry> result = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            result.add(entries.get(i));
+        }
+        return result;
+    }
+
+    private BestiarySearchIndex getSearchIndex() {
+        BestiarySearchIndex index = searchIndex;
+        if (index == null) {
+            index = new BestiarySearchIndex(entries);
+            searchIndex = index;
+        }
+        return index;
+    }
+}
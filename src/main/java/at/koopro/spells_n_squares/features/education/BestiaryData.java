@@ -1,14 +1,18 @@
 package at.koopro.spells_n_squares.features.education;
 
+import at.koopro.spells_n_squares.features.education.network.BestiaryDiscoveredPayload;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.minecraft.core.component.DataComponentType;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.Identifier;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
+import net.neoforged.neoforge.network.PacketDistributor;
 import net.neoforged.neoforge.registries.DeferredHolder;
 import net.neoforged.neoforge.registries.DeferredRegister;
 
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -69,6 +73,21 @@ public final class BestiaryData {
         public int getDiscoveredCount() {
             return discoveredCreatures.size();
         }
+        
+        /**
+         * Gets the discovered creatures as a bitset keyed by catalog index.
+         * Creatures that are no longer in the catalog are left out.
+         */
+        public BitSet toBitSet(BestiaryCatalog catalog) {
+            BitSet bits = new BitSet(catalog.size());
+            for (Identifier creatureId : discoveredCreatures) {
+                BestiaryCreatureRegistry.CreatureEntry entry = catalog.get(creatureId);
+                if (entry != null) {
+                    bits.set(entry.getIndex());
+                }
+            }
+            return bits;
+        }
     }
     
     // Static storage for player bestiary data (UUID -> BestiaryComponent)
@@ -106,6 +125,14 @@ public final class BestiaryData {
             setBestiaryData(player, updated);
         }
     }
+    
+    /**
+     * Sends a player's discovered creatures to their client.
+     */
+    public static void syncToClient(ServerPlayer player) {
+        BitSet bits = getBestiaryData(player).toBitSet(BestiaryCreatureRegistry.getCatalog());
+        PacketDistributor.sendToPlayer(player, new BestiaryDiscoveredPayload(bits.toLongArray()));
+    }
 }
 
 
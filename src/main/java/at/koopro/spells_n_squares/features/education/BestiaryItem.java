@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.education;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.core.registry.ModEntities;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
@@ -47,9 +48,6 @@ public class BestiaryItem extends Item {
             return InteractionResult.FAIL;
         }
         
-        // Initialize creature registry
-        BestiaryCreatureRegistry.initialize();
-        
         // Scan for nearby creatures and discover them
         Vec3 pos = player.position();
         AABB scanArea = new AABB(pos, pos).inflate(SCAN_RANGE);
@@ -70,7 +68,7 @@ public class BestiaryItem extends Item {
         }
         
         // Visual effect
-        serverLevel.sendParticles(ParticleTypes.ENCHANT,
+        ParticlePool.queueParticle(serverLevel, ParticleTypes.ENCHANT,
             pos.x, pos.y + 1.0, pos.z,
             20, 1.0, 1.0, 1.0, 0.1);
         
@@ -79,6 +77,7 @@ public class BestiaryItem extends Item {
         
         // Show discovery notifications
         if (!newlyDiscovered.isEmpty()) {
+            BestiaryData.syncToClient(serverPlayer);
             serverPlayer.sendSystemMessage(Component.translatable("message.spells_n_squares.bestiary.discovered", 
                 newlyDiscovered.size()));
             for (Identifier creatureId : newlyDiscovered) {
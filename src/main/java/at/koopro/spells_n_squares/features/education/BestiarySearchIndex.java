@@ -0,0 +1,87 @@
+package at.koopro.spells_n_squares.features.education;
+
+import at.koopro.spells_n_squares.features.education.BestiaryCreatureRegistry.CreatureEntry;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Word prefix index over the names and descriptions of bestiary entries.
+ * Every word is stored once, in sorted order, with the indices of the entries containing it.
+ * A query word is looked up with a binary search followed by a walk over the words it is a
+ * prefix of, so a search only touches matching words instead of every entry's text.
+ */
+public final class BestiarySearchIndex {
+    private final String[] words;
+    private final int[][] postings;
+
+    /**
+     * @param entries The entries to index; each entry's index must be its position in the list
+     */
+    public BestiarySearchIndex(Iterable<CreatureEntry> entries) {
+        TreeMap<String, IntArrayList> index = new TreeMap<>();
+        for (CreatureEntry entry : entries) {
+            addWords(index, entry.getName(), entry.getIndex());
+            addWords(index, entry.getDescription(), entry.getIndex());
+        }
+
+        words = new String[index.size()];
+        postings = new int[index.size()][];
+        int i = 0;
+        for (Map.Entry<String, IntArrayList> word : index.entrySet()) {
+            words[i] = word.getKey();
+            postings[i] = word.getValue().toIntArray();
+            i++;
+        }
+    }
+
+    private static void addWords(TreeMap<String, IntArrayList> index, String text, int entryIndex) {
+        for (String word : tokenize(text)) {
+            IntArrayList entries = index.computeIfAbsent(word, k -> new IntArrayList());
+            // Entries are added in order, so a duplicate can only be the last one
+            if (entries.isEmpty() || entries.getInt(entries.size() - 1) != entryIndex) {
+                entries.add(entryIndex);
+            }
+        }
+    }
+
+    private static String[] tokenize(String text) {
+        String normalized = text.toLowerCase(Locale.ROOT).strip();
+        return normalized.isEmpty() ? new String[0] : normalized.split("[^\\p{L}\\p{N}]+");
+    }
+
+    /**
+     * Finds the entries having, for every word of the query, a word starting with it.
+     * @param query The search query
+     * @return Indices of the matching entries, or null if the query has no words
+     */
+    public BitSet search(String query) {
+        BitSet result = null;
+        for (String queryWord : tokenize(query)) {
+            if (queryWord.isEmpty()) {
+                continue;
+            }
+            BitSet wordMatches = new BitSet();
+            int start = Arrays.binarySearch(words, queryWord);
+            for (int i = start >= 0 ? start : -start - 1; i < words.length && words[i].startsWith(queryWord); i++) {
+                for (int entryIndex : postings[i]) {
+                    wordMatches.set(entryIndex);
+                }
+            }
+
+            if (result == null) {
+                result = wordMatches;
+            } else {
+                result.and(wordMatches);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+}
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.education;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -40,7 +41,7 @@ public class RecipeBookItem extends Item {
             Vec3 pos = player.position();
             
             // Visual effect
-            serverLevel.sendParticles(ParticleTypes.ENCHANT,
+            ParticlePool.queueParticle(serverLevel, ParticleTypes.ENCHANT,
                 pos.x, pos.y + 1.0, pos.z,
                 20, 1.0, 1.0, 1.0, 0.1);
             
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.education;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.core.registry.SpellRegistry;
 import at.koopro.spells_n_squares.features.spell.SpellManager;
 import net.minecraft.core.particles.ParticleTypes;
@@ -59,7 +60,7 @@ public class SpellBookItem extends Item {
                 Vec3 pos = player.position();
                 
                 // Visual effect
-                serverLevel.sendParticles(ParticleTypes.ENCHANT,
+                ParticlePool.queueParticle(serverLevel, ParticleTypes.ENCHANT,
                     pos.x, pos.y + 1.5, pos.z,
                     30, 1.5, 1.5, 1.5, 0.1);
                 
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.education;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.core.registry.SpellRegistry;
 import at.koopro.spells_n_squares.features.spell.SpellManager;
 import net.minecraft.core.particles.ParticleTypes;
@@ -55,7 +56,7 @@ public class TextbookItem extends Item {
             
             if (learnedCount > 0) {
                 // Visual effect
-                serverLevel.sendParticles(ParticleTypes.ENCHANT,
+                ParticlePool.queueParticle(serverLevel, ParticleTypes.ENCHANT,
                     pos.x, pos.y + 1.5, pos.z,
                     50, 2.0, 2.0, 2.0, 0.1);
                 
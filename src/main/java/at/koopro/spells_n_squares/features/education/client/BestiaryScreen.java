@@ -1,14 +1,12 @@
 package at.koopro.spells_n_squares.features.education.client;
 
 import at.koopro.spells_n_squares.features.education.BestiaryCreatureRegistry;
-import at.koopro.spells_n_squares.features.education.BestiaryData;
 import at.koopro.spells_n_squares.features.education.BestiaryMenu;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.components.Button;
 import net.minecraft.client.gui.components.EditBox;
 import net.minecraft.client.gui.screens.inventory.AbstractContainerScreen;
 import net.minecraft.network.chat.Component;
-import net.minecraft.resources.Identifier;
 import net.minecraft.world.entity.player.Inventory;
 
 import java.util.ArrayList;
@@ -33,6 +31,7 @@ public class BestiaryScreen extends AbstractContainerScreen<BestiaryMenu> {
     private int scrollOffset = 0;
     private EditBox searchBox;
     private List<BestiaryCreatureRegistry.CreatureEntry> filteredCreatures = new ArrayList<>();
+    private int catalogGeneration;
     
     public BestiaryScreen(BestiaryMenu menu, Inventory playerInventory, Component title) {
         super(menu, playerInventory, title);
@@ -47,9 +46,6 @@ public class BestiaryScreen extends AbstractContainerScreen<BestiaryMenu> {
         int leftX = this.leftPos;
         int topY = this.topPos;
         
-        // Initialize creature registry if not already done
-        BestiaryCreatureRegistry.initialize();
-        
         // Create search box
         this.searchBox = new EditBox(this.font, leftX + 5, topY + 5, LIST_PANEL_WIDTH - 10, SEARCH_HEIGHT, 
             Component.translatable("gui.spells_n_squares.bestiary.search"));
@@ -133,25 +129,14 @@ public class BestiaryScreen extends AbstractContainerScreen<BestiaryMenu> {
     
     private void updateFilteredCreatures() {
         filteredCreatures.clear();
+        catalogGeneration = ClientBestiary.getGeneration();
         
-        List<BestiaryCreatureRegistry.CreatureEntry> allCreatures = 
-            new ArrayList<>(BestiaryCreatureRegistry.getAllCreatures());
-        
-        // Filter by category
-        if (selectedCategory != null) {
-            allCreatures.removeIf(entry -> entry.getCategory() != selectedCategory);
-        }
-        
-        // Filter by search query
-        if (!searchQuery.isEmpty()) {
-            String lowerQuery = searchQuery.toLowerCase();
-            allCreatures.removeIf(entry -> 
-                !entry.getName().toLowerCase().contains(lowerQuery) &&
-                !entry.getDescription().toLowerCase().contains(lowerQuery)
-            );
+        // Search the index, then filter the matches by category
+        for (BestiaryCreatureRegistry.CreatureEntry entry : ClientBestiary.getCatalog().search(searchQuery)) {
+            if (selectedCategory == null || entry.getCategory() == selectedCategory) {
+                filteredCreatures.add(entry);
+            }
         }
-        
-        filteredCreatures.addAll(allCreatures);
         scrollOffset = Math.min(scrollOffset, Math.max(0, filteredCreatures.size() - getVisibleCreatureCount()));
         
         // Auto-select first creature if none selected
@@ -191,6 +176,12 @@ public class BestiaryScreen extends AbstractContainerScreen<BestiaryMenu> {
         int leftX = this.leftPos;
         int topY = this.topPos;
         
+        // The server sent a new catalog (e.g. after /reload)
+        if (catalogGeneration != ClientBestiary.getGeneration()) {
+            selectedCreature = null;
+            updateFilteredCreatures();
+        }
+        
         // Draw title
         guiGraphics.drawCenteredString(this.font, this.title, leftX + this.imageWidth / 2, topY + 10, 0xFFFFFF);
         
@@ -205,7 +196,7 @@ public class BestiaryScreen extends AbstractContainerScreen<BestiaryMenu> {
             int y = listStartY + (i - startIndex) * (CREATURE_BUTTON_HEIGHT + 2);
             
             // Check if discovered
-            boolean isDiscovered = BestiaryData.hasDiscovered(this.menu.getPlayer(), creature.getId());
+            boolean isDiscovered = ClientBestiary.isDiscovered(creature);
             boolean isSelected = selectedCreature != null && selectedCreature.getId().equals(creature.getId());
             
             // Draw creature button background
@@ -236,8 +227,8 @@ public class BestiaryScreen extends AbstractContainerScreen<BestiaryMenu> {
         }
         
         // Draw discovery count
-        int discoveredCount = BestiaryData.getBestiaryData(this.menu.getPlayer()).getDiscoveredCount();
-        int totalCount = BestiaryCreatureRegistry.getAllCreatures().size();
+        int discoveredCount = ClientBestiary.getDiscoveredCount();
+        int totalCount = ClientBestiary.getCatalog().size();
         String discoveryText = String.format("Discovered: %d/%d", discoveredCount, totalCount);
         guiGraphics.drawString(this.font, discoveryText, leftX + 5, topY + this.imageHeight - 20, 0xCCCCCC, false);
     }
@@ -245,7 +236,7 @@ public class BestiaryScreen extends AbstractContainerScreen<BestiaryMenu> {
     private void renderCreatureDetails(GuiGraphics guiGraphics, int x, int y, 
                                      BestiaryCreatureRegistry.CreatureEntry creature,
                                      int mouseX, int mouseY) {
-        boolean isDiscovered = BestiaryData.hasDiscovered(this.menu.getPlayer(), creature.getId());
+        boolean isDiscovered = ClientBestiary.isDiscovered(creature);
         
         int currentY = y;
         
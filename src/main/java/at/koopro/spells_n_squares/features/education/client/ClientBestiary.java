@@ -0,0 +1,114 @@
+package at.koopro.spells_n_squares.features.education.client;
+
+import at.koopro.spells_n_squares.SpellsNSquares;
+import at.koopro.spells_n_squares.features.education.BestiaryCatalog;
+import at.koopro.spells_n_squares.features.education.BestiaryCreatureRegistry.CreatureEntry;
+import at.koopro.spells_n_squares.features.education.BestiaryCreatureRegistry.LongText;
+import at.koopro.spells_n_squares.features.education.network.BestiaryCatalogPayload;
+import at.koopro.spells_n_squares.features.education.network.BestiaryTextPayload;
+import at.koopro.spells_n_squares.features.education.network.BestiaryTextRequestPayload;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.ClientPlayerNetworkEvent;
+import net.neoforged.neoforge.client.network.ClientPacketDistributor;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Client-side copy of the bestiary catalog and the local player's discoveries.
+ * Long texts are requested from the server the first time an entry's details are shown and
+ * kept until the catalog changes.
+ */
+@EventBusSubscriber(modid = SpellsNSquares.MODID, value = Dist.CLIENT)
+public final class ClientBestiary {
+    private static BestiaryCatalog catalog = BestiaryCatalog.EMPTY;
+    private static BitSet discovered = new BitSet();
+    // Bumped whenever the catalog is replaced, so open screens rebuild their lists
+    private static int generation = 0;
+
+    private static final Int2ObjectOpenHashMap<LongText> texts = new Int2ObjectOpenHashMap<>();
+    private static final IntOpenHashSet requestedTexts = new IntOpenHashSet();
+
+    private ClientBestiary() {
+        // Utility class - prevent instantiation
+    }
+
+    @SubscribeEvent
+    public static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        applyCatalog(List.of());
+        discovered = new BitSet();
+    }
+
+    /**
+     * Replaces the catalog with the one received from the server.
+     */
+    public static void applyCatalog(List<BestiaryCatalogPayload.Entry> received) {
+        texts.clear();
+        requestedTexts.clear();
+        List<CreatureEntry> entries = new ArrayList<>(received.size());
+        for (BestiaryCatalogPayload.Entry entry : received) {
+            int index = entries.size();
+            entries.add(new CreatureEntry(index, entry.id(), entry.data(), () -> requestText(index)));
+        }
+        catalog = new BestiaryCatalog(entries);
+        generation++;
+    }
+
+    /**
+     * Replaces the discovered creatures with the ones received from the server.
+     */
+    public static void applyDiscovered(BitSet bits) {
+        discovered = bits;
+    }
+
+    /**
+     * Stores the long texts of an entry received from the server.
+     */
+    public static void applyText(BestiaryTextPayload payload) {
+        CreatureEntry entry = catalog.getByIndex(payload.index());
+        if (entry != null && entry.getId().equals(payload.id())) {
+            texts.put(payload.index(), new LongText(payload.behavior(), payload.lore()));
+        }
+    }
+
+    private static LongText requestText(int index) {
+        LongText text = texts.get(index);
+        if (text == null && requestedTexts.add(index)) {
+            ClientPacketDistributor.sendToServer(new BestiaryTextRequestPayload(index));
+        }
+        return text;
+    }
+
+    /**
+     * Gets the catalog.
+     */
+    public static BestiaryCatalog getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * Gets the catalog generation; changes whenever a new catalog is received.
+     */
+    public static int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Checks if the local player has discovered a creature.
+     */
+    public static boolean isDiscovered(CreatureEntry entry) {
+        return discovered.get(entry.getIndex());
+    }
+
+    /**
+     * Gets the number of creatures the local player has discovered.
+     */
+    public static int getDiscoveredCount() {
+        return discovered.cardinality();
+    }
+}
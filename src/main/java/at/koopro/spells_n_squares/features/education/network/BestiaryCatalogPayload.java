@@ -0,0 +1,69 @@
+package at.koopro.spells_n_squares.features.education.network;
+
+import at.koopro.spells_n_squares.core.util.ModIdentifierHelper;
+import at.koopro.spells_n_squares.features.education.BestiaryCreatureRegistry.CatalogData;
+import at.koopro.spells_n_squares.features.education.BestiaryCreatureRegistry.CreatureCategory;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.Identifier;
+
+import java.util.List;
+
+/**
+ * Network payload for syncing the bestiary catalog from server to client.
+ * Sent on join and after data pack reloads. Entries are in catalog order, so their position is
+ * the index used by discovery bitsets; long texts are requested separately when needed.
+ */
+public record BestiaryCatalogPayload(List<Entry> entries) implements CustomPacketPayload {
+    public static final CustomPacketPayload.Type<BestiaryCatalogPayload> TYPE =
+        new CustomPacketPayload.Type<>(ModIdentifierHelper.modId("bestiary_catalog"));
+
+    private static final StreamCodec<ByteBuf, CreatureCategory> CATEGORY_CODEC =
+        ByteBufCodecs.VAR_INT.map(i -> CreatureCategory.values()[i], CreatureCategory::ordinal);
+
+    private static final StreamCodec<ByteBuf, CatalogData> DATA_CODEC = StreamCodec.of(
+        (buf, data) -> {
+            ByteBufCodecs.STRING_UTF8.encode(buf, data.name());
+            CATEGORY_CODEC.encode(buf, data.category());
+            ByteBufCodecs.STRING_UTF8.encode(buf, data.description());
+            ByteBufCodecs.STRING_UTF8.encode(buf, data.habitat());
+            ByteBufCodecs.STRING_UTF8.encode(buf, data.abilities());
+            ByteBufCodecs.STRING_UTF8.encode(buf, data.stats());
+            ByteBufCodecs.STRING_UTF8.encode(buf, data.taming());
+            ByteBufCodecs.BOOL.encode(buf, data.implemented());
+        },
+        buf -> new CatalogData(
+            ByteBufCodecs.STRING_UTF8.decode(buf),
+            CATEGORY_CODEC.decode(buf),
+            ByteBufCodecs.STRING_UTF8.decode(buf),
+            ByteBufCodecs.STRING_UTF8.decode(buf),
+            ByteBufCodecs.STRING_UTF8.decode(buf),
+            ByteBufCodecs.STRING_UTF8.decode(buf),
+            ByteBufCodecs.STRING_UTF8.decode(buf),
+            ByteBufCodecs.BOOL.decode(buf)
+        )
+    );
+
+    public record Entry(Identifier id, CatalogData data) {
+        public static final StreamCodec<ByteBuf, Entry> CODEC = StreamCodec.composite(
+            Identifier.STREAM_CODEC,
+            Entry::id,
+            DATA_CODEC,
+            Entry::data,
+            Entry::new
+        );
+    }
+
+    public static final StreamCodec<ByteBuf, BestiaryCatalogPayload> STREAM_CODEC = StreamCodec.composite(
+        Entry.CODEC.apply(ByteBufCodecs.list()),
+        BestiaryCatalogPayload::entries,
+        BestiaryCatalogPayload::new
+    );
+
+    @Override
+    public CustomPacketPayload.Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
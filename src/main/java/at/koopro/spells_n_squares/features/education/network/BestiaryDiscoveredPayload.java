@@ -0,0 +1,46 @@
+package at.koopro.spells_n_squares.features.education.network;
+
+import at.koopro.spells_n_squares.core.util.ModIdentifierHelper;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+
+import java.util.BitSet;
+
+/**
+ * Network payload for syncing a player's discovered creatures from server to client.
+ * The discoveries are a bitset keyed by catalog index, as produced by {@link BitSet#toLongArray()}.
+ */
+public record BestiaryDiscoveredPayload(long[] bits) implements CustomPacketPayload {
+    public static final CustomPacketPayload.Type<BestiaryDiscoveredPayload> TYPE =
+        new CustomPacketPayload.Type<>(ModIdentifierHelper.modId("bestiary_discovered"));
+
+    public static final StreamCodec<ByteBuf, BestiaryDiscoveredPayload> STREAM_CODEC = StreamCodec.of(
+        (buf, payload) -> {
+            ByteBufCodecs.VAR_INT.encode(buf, payload.bits().length);
+            for (long word : payload.bits()) {
+                buf.writeLong(word);
+            }
+        },
+        buf -> {
+            long[] bits = new long[ByteBufCodecs.VAR_INT.decode(buf)];
+            for (int i = 0; i < bits.length; i++) {
+                bits[i] = buf.readLong();
+            }
+            return new BestiaryDiscoveredPayload(bits);
+        }
+    );
+
+    /**
+     * Converts the payload back to a bitset.
+     */
+    public BitSet toBitSet() {
+        return BitSet.valueOf(bits);
+    }
+
+    @Override
+    public CustomPacketPayload.Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,34 @@
+package at.koopro.spells_n_squares.features.education.network;
+
+import at.koopro.spells_n_squares.core.util.ModIdentifierHelper;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.Identifier;
+
+/**
+ * Network payload for sending the long texts of a bestiary entry from server to client.
+ * Carries the creature ID as well, so a reply to a request made before a reload is ignored.
+ */
+public record BestiaryTextPayload(int index, Identifier id, String behavior, String lore) implements CustomPacketPayload {
+    public static final CustomPacketPayload.Type<BestiaryTextPayload> TYPE =
+        new CustomPacketPayload.Type<>(ModIdentifierHelper.modId("bestiary_text"));
+
+    public static final StreamCodec<ByteBuf, BestiaryTextPayload> STREAM_CODEC = StreamCodec.composite(
+        ByteBufCodecs.VAR_INT,
+        BestiaryTextPayload::index,
+        Identifier.STREAM_CODEC,
+        BestiaryTextPayload::id,
+        ByteBufCodecs.STRING_UTF8,
+        BestiaryTextPayload::behavior,
+        ByteBufCodecs.STRING_UTF8,
+        BestiaryTextPayload::lore,
+        BestiaryTextPayload::new
+    );
+
+    @Override
+    public CustomPacketPayload.Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
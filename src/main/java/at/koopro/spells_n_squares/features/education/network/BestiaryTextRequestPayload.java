@@ -0,0 +1,27 @@
+package at.koopro.spells_n_squares.features.education.network;
+
+import at.koopro.spells_n_squares.core.util.ModIdentifierHelper;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+
+/**
+ * Network payload for requesting the long texts of a bestiary entry.
+ * Sent from client to server the first time an entry's details are shown.
+ */
+public record BestiaryTextRequestPayload(int index) implements CustomPacketPayload {
+    public static final CustomPacketPayload.Type<BestiaryTextRequestPayload> TYPE =
+        new CustomPacketPayload.Type<>(ModIdentifierHelper.modId("bestiary_text_request"));
+
+    public static final StreamCodec<ByteBuf, BestiaryTextRequestPayload> STREAM_CODEC = StreamCodec.composite(
+        ByteBufCodecs.VAR_INT,
+        BestiaryTextRequestPayload::index,
+        BestiaryTextRequestPayload::new
+    );
+
+    @Override
+    public CustomPacketPayload.Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
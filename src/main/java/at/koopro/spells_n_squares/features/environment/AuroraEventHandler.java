@@ -1,7 +1,7 @@
 package at.koopro.spells_n_squares.features.environment;
 
 import at.koopro.spells_n_squares.SpellsNSquares;
-import net.minecraft.core.particles.ParticleTypes;
+import at.koopro.spells_n_squares.core.registry.ParticleEffectRegistry;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
@@ -30,6 +30,9 @@ public class AuroraEventHandler {
     // Aurora duration in ticks (5 minutes)
     private static final int AURORA_DURATION = 6000;
     
+    // Aurora height; the horizontal position follows each viewer
+    private static final Vec3 AURORA_ORIGIN = new Vec3(0.0, 200.0, 0.0);
+    
     @SubscribeEvent
     public static void onLevelTick(LevelTickEvent.Post event) {
         if (event.getLevel().isClientSide() || !(event.getLevel() instanceof ServerLevel serverLevel)) {
@@ -116,40 +119,10 @@ public class AuroraEventHandler {
         
         /**
          * Spawns aurora particles in the sky.
+         * Each client lays out the arc above its own player.
          */
         private void spawnAuroraParticles(ServerLevel level) {
-            // Spawn particles in a wide arc across the sky
-            int particleCount = 50;
-            // Use first player's position or world origin
-            double centerX = 0.0;
-            double centerZ = 0.0;
-            if (!level.players().isEmpty()) {
-                Player firstPlayer = level.players().get(0);
-                centerX = firstPlayer.getX();
-                centerZ = firstPlayer.getZ();
-            }
-            double y = 200.0; // High in the sky
-            
-            for (int i = 0; i < particleCount; i++) {
-                double angle = (i / (double) particleCount) * Math.PI * 2;
-                double radius = 50.0 + random.nextDouble() * 30.0;
-                double x = centerX + Math.cos(angle) * radius;
-                double z = centerZ + Math.sin(angle) * radius;
-                double offsetY = Math.sin(angle * 2) * 10.0; // Wave pattern
-                
-                // Use end rod particles with custom colors (Minecraft doesn't support colored particles directly,
-                // but we can use different particle types for variety)
-                net.minecraft.core.particles.ParticleOptions particle;
-                int particleType = random.nextInt(4);
-                switch (particleType) {
-                    case 0 -> particle = ParticleTypes.END_ROD;
-                    case 1 -> particle = ParticleTypes.ELECTRIC_SPARK;
-                    case 2 -> particle = ParticleTypes.WAX_ON;
-                    default -> particle = ParticleTypes.GLOW;
-                }
-                
-                level.sendParticles(particle, x, y + offsetY, z, 1, 0.0, 0.0, 0.0, 0.0);
-            }
+            ParticleEffectRegistry.spawn(level, ParticleEffectRegistry.AURORA, AURORA_ORIGIN, 1.0f);
         }
     }
     
@@ -1,6 +1,7 @@
 package at.koopro.spells_n_squares.features.environment;
 
 import at.koopro.spells_n_squares.SpellsNSquares;
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.core.registry.ModEntities;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
@@ -148,7 +149,7 @@ public class CreatureMigrationHandler {
                     level.addFreshEntity(entity);
                     
                     // Visual effect
-                    level.sendParticles(ParticleTypes.ENCHANT,
+                    ParticlePool.queueParticle(level, ParticleTypes.ENCHANT,
                         spawnPos.getX() + 0.5, spawnPos.getY() + 1.0, spawnPos.getZ() + 0.5,
                         20, 1.0, 1.0, 1.0, 0.1);
                     
@@ -2,6 +2,7 @@ package at.koopro.spells_n_squares.features.environment;
 
 import at.koopro.spells_n_squares.SpellsNSquares;
 import at.koopro.spells_n_squares.core.registry.ModEntities;
+import at.koopro.spells_n_squares.core.registry.ParticleEffectRegistry;
 import at.koopro.spells_n_squares.features.creatures.companion.MooncalfEntity;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
@@ -11,6 +12,7 @@ import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.event.tick.LevelTickEvent;
@@ -40,6 +42,9 @@ public class FullMoonEventHandler {
     // Moon phase offset (0 = new moon, 4 = full moon)
     private static final int FULL_MOON_PHASE = 4;
     
+    // Moon ring height; the horizontal position follows each viewer
+    private static final Vec3 MOON_RING_ORIGIN = new Vec3(0.0, 200.0, 0.0);
+    
     @SubscribeEvent
     public static void onLevelTick(LevelTickEvent.Post event) {
         if (event.getLevel().isClientSide() || !(event.getLevel() instanceof ServerLevel serverLevel)) {
@@ -130,28 +135,10 @@ public class FullMoonEventHandler {
     
     /**
      * Spawns moon particles in the sky.
+     * Each client lays out the ring above its own player.
      */
     private static void spawnMoonParticles(ServerLevel level) {
-        // Use first player's position or world origin
-        double centerX = 0.0;
-        double centerZ = 0.0;
-        if (!level.players().isEmpty()) {
-            Player firstPlayer = level.players().get(0);
-            centerX = firstPlayer.getX();
-            centerZ = firstPlayer.getZ();
-        }
-        double y = 200.0; // High in the sky
-        
-        // Spawn particles in a circle around the moon
-        for (int i = 0; i < 20; i++) {
-            double angle = (i / 20.0) * Math.PI * 2;
-            double radius = 30.0 + level.getRandom().nextDouble() * 10.0;
-            double x = centerX + Math.cos(angle) * radius;
-            double z = centerZ + Math.sin(angle) * radius;
-            
-            level.sendParticles(ParticleTypes.END_ROD,
-                x, y, z, 1, 0.0, 0.0, 0.0, 0.0);
-        }
+        ParticleEffectRegistry.spawn(level, ParticleEffectRegistry.FULL_MOON, MOON_RING_ORIGIN, 1.0f);
     }
     
     /**
@@ -1,40 +1,61 @@
 package at.koopro.spells_n_squares.features.flashlight;
 
 import at.koopro.spells_n_squares.SpellsNSquares;
+import at.koopro.spells_n_squares.core.client.DynamicLightEngine;
 import at.koopro.spells_n_squares.core.registry.ModItems;
-import at.koopro.spells_n_squares.core.util.LightBlockManager;
 import at.koopro.spells_n_squares.core.util.LightConstants;
-import at.koopro.spells_n_squares.features.flashlight.FlashlightItem;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.client.Minecraft;
 import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.Vec3;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.client.event.ClientTickEvent;
-
-import java.util.HashSet;
-import java.util.Set;
+import net.neoforged.neoforge.event.level.LevelEvent;
 
 /**
  * Client-side handler for flashlight light emission.
- * Places temporary light blocks when the flashlight is held and on.
+ * Feeds the lit cone in front of the player into the dynamic light overlay while the flashlight
+ * is held and on; no blocks are placed in the world.
+ * <p>
+ * Cone shapes are precomputed as block offsets per quantized yaw/pitch bucket. The cone is only
+ * resolved against the world when the player's block or bucket changes, and only the blocks
+ * that were added or removed since the last update are passed on to the light engine.
  */
 @EventBusSubscriber(modid = SpellsNSquares.MODID, value = Dist.CLIENT)
 public class FlashlightLightHandler {
-    // Light block manager for this handler instance
-    private static final LightBlockManager lightManager = new LightBlockManager();
-    private static BlockPos lastPlayerBlockPos = null;
-    private static float lastYaw = Float.NaN;
+    // Owner key of the flashlight cone in the dynamic light engine
+    private static final Object LIGHT_OWNER = new Object();
+    
+    // Cone template resolution, matching the turn threshold
+    private static final int BUCKET_DEGREES = LightConstants.FLASHLIGHT_TURN_THRESHOLD;
+    private static final int YAW_BUCKETS = 360 / BUCKET_DEGREES;
+    private static final int PITCH_BUCKETS = 180 / BUCKET_DEGREES + 1;
+    
+    // Packed block offsets of the cone per bucket, built on first use
+    private static final long[][] coneTemplates = new long[YAW_BUCKETS * PITCH_BUCKETS][];
+    
+    // Currently lit positions and scratch sets for the next update, reused between updates
+    private static LongOpenHashSet litPositions = new LongOpenHashSet();
+    private static LongOpenHashSet nextPositions = new LongOpenHashSet();
+    private static final LongOpenHashSet added = new LongOpenHashSet();
+    private static final LongOpenHashSet removed = new LongOpenHashSet();
+    private static final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+    
+    private static boolean active = false;
+    private static long lastPlayerBlockPos;
+    private static int lastBucket = -1;
     
     @SubscribeEvent
     public static void onClientTick(ClientTickEvent.Post event) {
         Minecraft mc = Minecraft.getInstance();
         if (mc.level == null || mc.player == null) {
-            lightManager.clearAllLights(mc);
+            clearLights();
             return;
         }
         
@@ -42,132 +63,156 @@ public class FlashlightLightHandler {
         
         // Find held flashlight using utility
         var flashlightStackOpt = at.koopro.spells_n_squares.core.util.PlayerItemUtils.findHeldItem(player, ModItems.FLASHLIGHT.get());
-        boolean hasFlashlight = flashlightStackOpt.isPresent();
         boolean isOn = flashlightStackOpt.map(FlashlightItem::isOn).orElse(false);
+        if (!isOn) {
+            clearLights();
+            return;
+        }
         
-        BlockPos currentBlockPos = player.blockPosition();
-        float currentYaw = player.getYRot();
-        
-        // Clear lights if flashlight is off, not held, or player moved/turned significantly
-        boolean shouldClear = !hasFlashlight || !isOn;
-        boolean playerMoved = lastPlayerBlockPos != null && !currentBlockPos.equals(lastPlayerBlockPos);
-        boolean playerTurned = !Float.isNaN(lastYaw) && Math.abs(currentYaw - lastYaw) > LightConstants.FLASHLIGHT_TURN_THRESHOLD;
-        
-        if (shouldClear || playerMoved || playerTurned) {
-            if (shouldClear) {
-                lightManager.clearAllLights(mc);
-            } else {
-                // Update lights when player moves or turns
-                updateLights(mc, player);
-            }
-        } else if (hasFlashlight && isOn) {
-            // Update lights if nothing changed but we should maintain them
-            updateLights(mc, player);
+        // Only resolve the cone again when the player moved to another block or changed bucket
+        long playerBlockPos = player.blockPosition().asLong();
+        int bucket = bucketIndex(player.getYRot(), player.getXRot());
+        if (active && playerBlockPos == lastPlayerBlockPos && bucket == lastBucket) {
+            return;
         }
         
-        lastPlayerBlockPos = currentBlockPos;
-        lastYaw = currentYaw;
+        updateLights(mc, playerBlockPos, bucket);
+        active = true;
+        lastPlayerBlockPos = playerBlockPos;
+        lastBucket = bucket;
     }
     
-    private static void placeLightIfPossible(Minecraft mc, BlockPos playerPos, BlockPos lightPos, Set<BlockPos> newLightPositions) {
-        // Don't place lights too close to player
-        if (lightPos.distSqr(playerPos) < LightConstants.MIN_DISTANCE_SQR) {
-            return;
+    /**
+     * Forgets the lit cone when the client level goes away, so the next level starts from scratch.
+     */
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel().isClientSide()) {
+            clearLights();
+        }
+    }
+    
+    private static void clearLights() {
+        if (active) {
+            DynamicLightEngine.remove(LIGHT_OWNER);
+            litPositions.clear();
+            active = false;
+            lastBucket = -1;
+        }
+    }
+    
+    private static int bucketIndex(float yaw, float pitch) {
+        int yawBucket = Math.floorMod(Math.round(yaw / BUCKET_DEGREES), YAW_BUCKETS);
+        int pitchBucket = Math.clamp(Math.round((pitch + 90.0f) / BUCKET_DEGREES), 0, PITCH_BUCKETS - 1);
+        return yawBucket * PITCH_BUCKETS + pitchBucket;
+    }
+    
+    private static void updateLights(Minecraft mc, long playerBlockPos, int bucket) {
+        long[] template = coneTemplates[bucket];
+        if (template == null) {
+            template = buildConeTemplate(bucket);
+            coneTemplates[bucket] = template;
         }
         
-        BlockState currentState = mc.level.getBlockState(lightPos);
-        BlockPos targetPos = lightPos;
+        // Resolve the cone against the world around the player's block
+        int baseX = BlockPos.getX(playerBlockPos);
+        int baseY = BlockPos.getY(playerBlockPos);
+        int baseZ = BlockPos.getZ(playerBlockPos);
+        nextPositions.clear();
+        for (long offset : template) {
+            resolveLight(mc, baseX + BlockPos.getX(offset), baseY + BlockPos.getY(offset), baseZ + BlockPos.getZ(offset));
+        }
         
-        // If the target position is a solid block, try placing light on top of it or in the air above it
-        if (!currentState.isAir() && !currentState.canBeReplaced()) {
-            // Try placing one block above the solid block
-            BlockPos abovePos = lightPos.above();
-            BlockState aboveState = mc.level.getBlockState(abovePos);
-            
-            if (aboveState.isAir() || aboveState.canBeReplaced()) {
-                targetPos = abovePos;
-                currentState = aboveState;
-            } else {
-                // If above is also solid, try placing slightly higher (for looking at floors)
-                BlockPos higherPos = lightPos.above(2);
-                BlockState higherState = mc.level.getBlockState(higherPos);
-                if (higherState.isAir() || higherState.canBeReplaced()) {
-                    targetPos = higherPos;
-                    currentState = higherState;
-                } else {
-                    // Can't place here, skip
-                    return;
-                }
+        // Diff against the current cone and hand only the changes to the light engine
+        added.clear();
+        removed.clear();
+        LongIterator it = nextPositions.iterator();
+        while (it.hasNext()) {
+            long pos = it.nextLong();
+            if (!litPositions.contains(pos)) {
+                added.add(pos);
             }
         }
-        
-        // Only place lights in air or replaceable blocks
-        if (currentState.isAir() || currentState.canBeReplaced()) {
-            // Check if we already have a light here
-            if (!lightManager.hasLightAt(targetPos)) {
-                // Place a light block
-                if (lightManager.placeLightBlock(mc, targetPos)) {
-                    newLightPositions.add(targetPos);
-                }
-            } else {
-                newLightPositions.add(targetPos);
+        it = litPositions.iterator();
+        while (it.hasNext()) {
+            long pos = it.nextLong();
+            if (!nextPositions.contains(pos)) {
+                removed.add(pos);
             }
         }
+        DynamicLightEngine.updateBlockLights(LIGHT_OWNER, added, removed, LightConstants.MAX_LIGHT_LEVEL,
+            LightConstants.FLASHLIGHT_LIGHT_SPREAD);
+        
+        LongOpenHashSet previous = litPositions;
+        litPositions = nextPositions;
+        nextPositions = previous;
     }
     
-    private static void updateLights(Minecraft mc, Player player) {
-        if (mc.level == null) {
-            return;
+    /**
+     * Lights the air at a cone block, or above it if the block is solid.
+     */
+    private static void resolveLight(Minecraft mc, int x, int y, int z) {
+        // If the target position is a solid block, light the air above it instead (for looking at floors)
+        for (int up = 0; up <= 2; up++) {
+            BlockState state = mc.level.getBlockState(cursor.set(x, y + up, z));
+            if (state.isAir() || state.canBeReplaced()) {
+                nextPositions.add(BlockPos.asLong(x, y + up, z));
+                return;
+            }
         }
+        // Can't light here, skip
+    }
+    
+    /**
+     * Builds the cone offsets, relative to the player's block, for the center direction of a bucket.
+     */
+    private static long[] buildConeTemplate(int bucket) {
+        float yaw = (bucket / PITCH_BUCKETS) * BUCKET_DEGREES;
+        float pitch = (bucket % PITCH_BUCKETS) * BUCKET_DEGREES - 90.0f;
+        Vec3 lookVec = Vec3.directionFromRotation(pitch, yaw);
+        boolean lookingDown = pitch > LightConstants.LOOKING_DOWN_THRESHOLD;
         
-        // Calculate the direction the player is looking
-        Vec3 lookVec = player.getLookAngle();
-        Vec3 playerPos = player.position();
-        BlockPos playerBlockPos = player.blockPosition();
-        
-        // Calculate positions for light blocks in a cone in front of the player
-        Set<BlockPos> newLightPositions = new HashSet<>();
-        
-        // Get player's pitch to handle downward/upward angles
-        float pitch = player.getXRot();
-        boolean lookingDown = pitch > 20.0f; // Looking down more than 20 degrees
-        
-        // Place lights in a cone pattern in front of the player
-        // Use a more efficient approach: place lights along the look direction with a cone spread
+        LongOpenHashSet offsets = new LongOpenHashSet();
         for (int distance = 2; distance <= LightConstants.FLASHLIGHT_LIGHT_RANGE; distance += 1) {
-            Vec3 targetPos = playerPos.add(lookVec.scale(distance));
-            BlockPos targetBlockPos = BlockPos.containing(targetPos);
+            // Cone center along the look direction, from the middle of the player's block
+            int cx = Mth.floor(0.5 + lookVec.x * distance);
+            int cy = Mth.floor(lookVec.y * distance);
+            int cz = Mth.floor(0.5 + lookVec.z * distance);
             
-            // When looking down, also check the block directly below the target
+            // When looking down, also light the block directly below the target
             if (lookingDown) {
-                BlockPos belowPos = targetBlockPos.below();
-                placeLightIfPossible(mc, playerBlockPos, belowPos, newLightPositions);
+                addOffset(offsets, cx, cy - 1, cz);
             }
             
             // Calculate beam width (wider at base, narrower at tip)
             int beamWidth = Math.max(1, (int)(2.5 - distance * 0.2));
             
-            // Place lights in a cross pattern for efficiency (fewer blocks)
             // Center light
-            placeLightIfPossible(mc, playerBlockPos, targetBlockPos, newLightPositions);
+            addOffset(offsets, cx, cy, cz);
             
-            // Place lights in a small cross pattern around the center
+            // Lights in a small cross pattern around the center
             for (int offset = 1; offset <= beamWidth; offset++) {
                 // Horizontal spread
-                placeLightIfPossible(mc, playerBlockPos, targetBlockPos.offset(offset, 0, 0), newLightPositions);
-                placeLightIfPossible(mc, playerBlockPos, targetBlockPos.offset(-offset, 0, 0), newLightPositions);
-                placeLightIfPossible(mc, playerBlockPos, targetBlockPos.offset(0, 0, offset), newLightPositions);
-                placeLightIfPossible(mc, playerBlockPos, targetBlockPos.offset(0, 0, -offset), newLightPositions);
+                addOffset(offsets, cx + offset, cy, cz);
+                addOffset(offsets, cx - offset, cy, cz);
+                addOffset(offsets, cx, cy, cz + offset);
+                addOffset(offsets, cx, cy, cz - offset);
                 
-                // Vertical spread (less when looking down to avoid placing lights too high)
+                // Vertical spread (less when looking down to avoid lighting too high)
                 if (!lookingDown || offset <= 1) {
-                    placeLightIfPossible(mc, playerBlockPos, targetBlockPos.offset(0, offset, 0), newLightPositions);
+                    addOffset(offsets, cx, cy + offset, cz);
                 }
-                placeLightIfPossible(mc, playerBlockPos, targetBlockPos.offset(0, -offset, 0), newLightPositions);
+                addOffset(offsets, cx, cy - offset, cz);
             }
         }
-        
-        // Remove lights that are no longer needed
-        lightManager.removeObsoleteLights(mc, newLightPositions);
+        return offsets.toLongArray();
+    }
+    
+    private static void addOffset(LongOpenHashSet offsets, int dx, int dy, int dz) {
+        // Don't light blocks too close to the player
+        if (dx * dx + dy * dy + dz * dz < LightConstants.MIN_DISTANCE_SQR) {
+            return;
+        }
+        offsets.add(BlockPos.asLong(dx, dy, dz));
     }
 }
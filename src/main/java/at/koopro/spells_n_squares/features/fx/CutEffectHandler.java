@@ -23,47 +23,40 @@ import java.util.List;
 @EventBusSubscriber(modid = SpellsNSquares.MODID, value = Dist.CLIENT)
 public class CutEffectHandler {
     
+    // Cut kinds, used for the per-kind caps
+    private static final int KIND_SCREEN = 0;
+    private static final int KIND_WORLD = 1;
+    
     // Active cuts on screen/entities
-    private static final List<CutEffect> activeCuts = new ArrayList<>();
+    private static final FxTimeline<CutEffect> activeCuts = new FxTimeline<>(CutEffect::new,
+        8,  // KIND_SCREEN
+        16  // KIND_WORLD
+    );
     
     /**
      * Represents an active cut effect.
      */
-    private static class CutEffect {
+    private static class CutEffect extends FxTimeline.Entry<CutEffect> {
         Vec3 startPos;      // Start of cut line (screen or world space)
         Vec3 endPos;        // End of cut line
-        float intensity;    // Visual intensity (0.0 to 1.0)
-        int duration;       // Duration in ticks
-        int age;            // Current age in ticks
         int color;          // ARGB color (red for cuts)
         boolean screenSpace; // Whether this is a screen-space cut
         
-        CutEffect(Vec3 start, Vec3 end, float intensity, int duration, int color, boolean screenSpace) {
-            this.startPos = start;
-            this.endPos = end;
-            this.intensity = intensity;
-            this.duration = duration;
-            this.age = 0;
-            this.color = color;
-            this.screenSpace = screenSpace;
-        }
-        
-        void tick() {
-            age++;
+        @Override
+        protected boolean canMerge(CutEffect other) {
+            // Every cut has its own line
+            return false;
         }
         
-        boolean isExpired() {
-            return age >= duration;
-        }
-        
-        float getCurrentIntensity() {
-            // Fade out over time
-            float progress = (float) age / duration;
-            return intensity * (1.0f - progress);
+        @Override
+        protected void reset() {
+            startPos = null;
+            endPos = null;
         }
         
         float getCurrentAlpha() {
-            return getCurrentIntensity();
+            // Fade out over time
+            return currentStrength();
         }
     }
     
@@ -83,7 +76,18 @@ public class CutEffectHandler {
         }
         
         float adjustedIntensity = (float) (intensity * Config.getScreenEffectIntensity());
-        activeCuts.add(new CutEffect(start, end, adjustedIntensity, duration, color, screenSpace));
+        CutEffect cut = activeCuts.obtain();
+        cut.startPos = start;
+        cut.endPos = end;
+        cut.color = color;
+        cut.screenSpace = screenSpace;
+        // Cuts on the local player's screen take precedence over world cuts under load
+        if (screenSpace) {
+            cut.begin(KIND_SCREEN, FxTimeline.Priority.NORMAL, adjustedIntensity, duration);
+        } else {
+            cut.begin(KIND_WORLD, FxTimeline.Priority.LOW, adjustedIntensity, duration);
+        }
+        activeCuts.add(cut);
     }
     
     /**
@@ -162,10 +166,7 @@ public class CutEffectHandler {
      */
     @SubscribeEvent
     public static void onClientTick(ClientTickEvent.Post event) {
-        activeCuts.removeIf(cut -> {
-            cut.tick();
-            return cut.isExpired();
-        });
+        activeCuts.tick();
     }
     
     /**
@@ -182,12 +183,12 @@ public class CutEffectHandler {
         int width = mc.getWindow().getGuiScaledWidth();
         int height = mc.getWindow().getGuiScaledHeight();
         
-        // Render screen-space cuts
-        for (CutEffect cut : activeCuts) {
+        // Render screen-space cuts within the frame budget
+        activeCuts.render(cut -> {
             if (cut.screenSpace) {
                 renderScreenCut(guiGraphics, width, height, cut);
             }
-        }
+        });
     }
     
     /**
@@ -260,9 +261,10 @@ public class CutEffectHandler {
     
     /**
      * Gets all active cuts (for potential world-space rendering).
+     * The entries are reused once they expire, so the list is only valid until the next tick.
      */
     public static List<CutEffect> getActiveCuts() {
-        return new ArrayList<>(activeCuts);
+        return new ArrayList<>(activeCuts.active());
     }
 }
 
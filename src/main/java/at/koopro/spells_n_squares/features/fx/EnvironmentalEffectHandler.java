@@ -1,10 +1,9 @@
 package at.koopro.spells_n_squares.features.fx;
 
-import at.koopro.spells_n_squares.SpellsNSquares;
 import at.koopro.spells_n_squares.core.config.Config;
 import at.koopro.spells_n_squares.core.fx.FXConfigHelper;
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.core.registry.ModTags;
-import at.koopro.spells_n_squares.core.util.EventUtils;
 import at.koopro.spells_n_squares.core.util.PlayerItemUtils;
 import at.koopro.spells_n_squares.features.robes.House;
 import at.koopro.spells_n_squares.features.robes.HouseRobeBonusHandler;
@@ -13,47 +12,38 @@ import at.koopro.spells_n_squares.features.wand.WandDataHelper;
 import at.koopro.spells_n_squares.features.wand.WandVisualEffects;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.phys.Vec3;
-import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.fml.common.EventBusSubscriber;
-import net.neoforged.neoforge.event.tick.PlayerTickEvent;
 
 /**
  * Handles environmental effects (auras, ambient particles, world effects).
+ * Player auras are driven by the PlayerTickScheduler.
  */
-@EventBusSubscriber(modid = SpellsNSquares.MODID)
 public class EnvironmentalEffectHandler {
     
     // Aura particle spawn interval (every 10 ticks = 0.5 seconds)
-    private static final int AURA_INTERVAL = 10;
+    public static final int AURA_INTERVAL = 10;
     
-    @SubscribeEvent
-    public static void onPlayerTick(PlayerTickEvent.Post event) {
-        if (!EventUtils.isServerSide(event) || !Config.areEnvironmentalEffectsEnabled()) {
+    /**
+     * Spawns wand and house robe auras around the player.
+     */
+    public static void tick(ServerPlayer player, ServerLevel serverLevel) {
+        if (!Config.areEnvironmentalEffectsEnabled()) {
             return;
         }
         
-        Player player = event.getEntity();
-        
-        // Only spawn auras periodically
-        if (player.tickCount % AURA_INTERVAL != 0) {
-            return;
+        // Wand aura
+        ItemStack wand = PlayerItemUtils.findHeldItemByTag(player, ModTags.WANDS).orElse(ItemStack.EMPTY);
+        if (!wand.isEmpty()) {
+            WandVisualEffects.spawnWandAura(serverLevel, player, wand);
         }
         
-        if (player.level() instanceof ServerLevel serverLevel) {
-            // Wand aura
-            ItemStack wand = PlayerItemUtils.findHeldItemByTag(player, ModTags.WANDS).orElse(ItemStack.EMPTY);
-            if (!wand.isEmpty()) {
-                WandVisualEffects.spawnWandAura(serverLevel, player, wand);
-            }
-            
-            // House robe aura
-            House houseSet = HouseRobeBonusHandler.getWornHouseSet(player);
-            if (houseSet != null) {
-                spawnHouseRobeAura(serverLevel, player, houseSet);
-            }
+        // House robe aura
+        House houseSet = HouseRobeBonusHandler.getWornHouseSet(player);
+        if (houseSet != null) {
+            spawnHouseRobeAura(serverLevel, player, houseSet);
         }
     }
     
@@ -81,7 +71,7 @@ public class EnvironmentalEffectHandler {
             
             Vec3 particlePos = new Vec3(x, y, z);
             if (FXConfigHelper.shouldRenderParticles(player, particlePos)) {
-                level.sendParticles(
+                ParticlePool.queueParticle(level,
                     particle,
                     x, y, z,
                     1,
@@ -110,7 +100,7 @@ public class EnvironmentalEffectHandler {
             case UNICORN_HAIR -> ParticleTypes.ELECTRIC_SPARK;
         };
         
-        level.sendParticles(
+        ParticlePool.queueParticle(level,
             particle,
             position.x, position.y, position.z,
             residueCount,
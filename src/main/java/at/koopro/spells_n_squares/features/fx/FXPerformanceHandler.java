@@ -5,6 +5,7 @@ import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.server.level.ServerLevel;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
 import net.neoforged.neoforge.event.tick.LevelTickEvent;
 
 /**
@@ -23,4 +24,12 @@ public class FXPerformanceHandler {
             ParticlePool.flush(serverLevel);
         }
     }
+    
+    /**
+     * Drops any particles still queued when the server stops.
+     */
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        ParticlePool.clear();
+    }
 }
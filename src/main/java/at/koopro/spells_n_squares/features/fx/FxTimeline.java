@@ -0,0 +1,274 @@
+package at.koopro.spells_n_squares.features.fx;
+
+import at.koopro.spells_n_squares.SpellsNSquares;
+import at.koopro.spells_n_squares.core.config.Config;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.RenderFrameEvent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Timeline of short-lived client screen effects, shared by the screen effect, cut and
+ * post-processing managers.
+ * Effect instances are pooled, each effect kind has a cap on concurrent entries, and an effect
+ * that matches an active one is merged into it (opacities are blended) instead of stacking.
+ * Rendering is limited by a per-frame millisecond budget shared by all timelines; once it is
+ * used up, lower priority effects are skipped for the rest of the frame.
+ *
+ * @param <E> The effect type
+ */
+@EventBusSubscriber(modid = SpellsNSquares.MODID, value = Dist.CLIENT)
+public final class FxTimeline<E extends FxTimeline.Entry<E>> {
+
+    /**
+     * Render priority of an effect.
+     */
+    public enum Priority {
+        /** Skipped once half of the frame budget is used */
+        LOW,
+        /** Skipped once the frame budget is used */
+        NORMAL,
+        /** Always rendered */
+        HIGH
+    }
+
+    // Maximum number of idle instances kept per timeline
+    private static final int POOL_LIMIT = 32;
+
+    // Render time spent by all timelines in the current frame
+    private static long frameNanosSpent = 0;
+
+    /**
+     * Base class for timeline effects.
+     * Subclasses hold their own visual parameters and are reused through the pool.
+     */
+    public abstract static class Entry<E extends Entry<E>> {
+        int kind;
+        Priority priority = Priority.NORMAL;
+        float strength;
+        int duration;
+        int age;
+
+        /**
+         * Sets the timeline parameters of a freshly obtained effect.
+         * @param kind The effect kind, used for the concurrency cap
+         * @param priority The render priority
+         * @param strength The intensity or opacity
+         * @param duration Duration in ticks
+         */
+        public void begin(int kind, Priority priority, float strength, int duration) {
+            this.kind = kind;
+            this.priority = priority;
+            this.strength = strength;
+            this.duration = Math.max(1, duration);
+            this.age = 0;
+        }
+
+        /**
+         * Gets how far the effect has progressed (0.0 to 1.0).
+         */
+        public float progress() {
+            return (float) age / duration;
+        }
+
+        /**
+         * Gets the current strength; fades out linearly by default.
+         */
+        public float currentStrength() {
+            return strength * (1.0f - progress());
+        }
+
+        /**
+         * Checks whether another effect of the same kind can be merged into this one.
+         */
+        protected abstract boolean canMerge(E other);
+
+        /**
+         * Clears references before the effect is returned to the pool.
+         */
+        protected void reset() {
+        }
+
+        /**
+         * Merges another effect into this one.
+         * The strengths are blended like stacked translucent layers and the effect restarts with
+         * the longer of the remaining durations.
+         */
+        void mergeFrom(E other) {
+            float current = currentStrength();
+            strength = Math.max(other.strength, current + other.strength * Math.max(0.0f, 1.0f - current));
+            duration = Math.max(duration - age, other.duration);
+            age = 0;
+            if (other.priority.ordinal() > priority.ordinal()) {
+                priority = other.priority;
+            }
+        }
+    }
+
+    private final Supplier<E> factory;
+    private final int[] kindCaps;
+    private final int[] kindCounts;
+    // Sorted by priority, highest first
+    private final List<E> active = new ArrayList<>();
+    private final List<E> activeView = Collections.unmodifiableList(active);
+    private final ArrayDeque<E> pool = new ArrayDeque<>();
+
+    /**
+     * Creates a timeline.
+     * @param factory Creates new effect instances when the pool is empty
+     * @param kindCaps Maximum concurrent effects per kind, indexed by kind
+     */
+    public FxTimeline(Supplier<E> factory, int... kindCaps) {
+        this.factory = factory;
+        this.kindCaps = kindCaps.clone();
+        this.kindCounts = new int[kindCaps.length];
+    }
+
+    /**
+     * Gets an effect instance to fill in and pass to {@link #add}.
+     */
+    public E obtain() {
+        E effect = pool.poll();
+        return effect != null ? effect : factory.get();
+    }
+
+    /**
+     * Adds an effect obtained from {@link #obtain()}.
+     * The effect is merged into a matching active effect, or replaces the weakest effect of its
+     * kind when the kind is at its cap. Ownership passes to the timeline.
+     */
+    public void add(E effect) {
+        for (E existing : active) {
+            if (existing.kind == effect.kind && existing.canMerge(effect)) {
+                existing.mergeFrom(effect);
+                release(effect);
+                resort(existing);
+                return;
+            }
+        }
+
+        if (kindCounts[effect.kind] >= kindCaps[effect.kind]) {
+            E weakest = null;
+            for (E existing : active) {
+                if (existing.kind == effect.kind
+                    && (weakest == null || existing.currentStrength() < weakest.currentStrength())) {
+                    weakest = existing;
+                }
+            }
+            if (weakest == null || weakest.currentStrength() > effect.strength) {
+                release(effect);
+                return;
+            }
+            active.remove(weakest);
+            kindCounts[weakest.kind]--;
+            release(weakest);
+        }
+
+        insert(effect);
+        kindCounts[effect.kind]++;
+    }
+
+    /**
+     * Ages all effects and recycles expired ones.
+     */
+    public void tick() {
+        for (int i = active.size() - 1; i >= 0; i--) {
+            E effect = active.get(i);
+            effect.age++;
+            if (effect.age >= effect.duration) {
+                active.remove(i);
+                kindCounts[effect.kind]--;
+                release(effect);
+            }
+        }
+    }
+
+    /**
+     * Renders the active effects, highest priority first, within the frame budget.
+     * @param renderer Renders a single effect
+     */
+    public void render(Consumer<? super E> renderer) {
+        long budget = (long) (Config.getFxFrameBudgetMs() * 1_000_000L);
+        for (E effect : active) {
+            if (effect.priority == Priority.LOW && frameNanosSpent >= budget / 2
+                || effect.priority == Priority.NORMAL && frameNanosSpent >= budget) {
+                continue;
+            }
+            long start = System.nanoTime();
+            renderer.accept(effect);
+            frameNanosSpent += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Gets a read-only view of the active effects, highest priority first.
+     */
+    public List<E> active() {
+        return activeView;
+    }
+
+    /**
+     * Checks if there are no active effects.
+     */
+    public boolean isEmpty() {
+        return active.isEmpty();
+    }
+
+    /**
+     * Removes all active effects.
+     */
+    public void clear() {
+        for (E effect : active) {
+            release(effect);
+        }
+        active.clear();
+        Arrays.fill(kindCounts, 0);
+    }
+
+    private void insert(E effect) {
+        int index = 0;
+        while (index < active.size() && active.get(index).priority.ordinal() >= effect.priority.ordinal()) {
+            index++;
+        }
+        active.add(index, effect);
+    }
+
+    private void resort(E effect) {
+        // Merging can only raise the priority
+        int index = active.indexOf(effect);
+        if (index > 0 && active.get(index - 1).priority.ordinal() < effect.priority.ordinal()) {
+            active.remove(index);
+            insert(effect);
+        }
+    }
+
+    private void release(E effect) {
+        effect.reset();
+        if (pool.size() < POOL_LIMIT) {
+            pool.push(effect);
+        }
+    }
+
+    /**
+     * Charges work done outside {@link #render} (such as a composited post pass) to the frame budget.
+     */
+    public static void chargeFrameBudget(long nanos) {
+        frameNanosSpent += nanos;
+    }
+
+    /**
+     * Resets the shared frame budget.
+     */
+    @SubscribeEvent
+    public static void onRenderFrame(RenderFrameEvent.Pre event) {
+        frameNanosSpent = 0;
+    }
+}
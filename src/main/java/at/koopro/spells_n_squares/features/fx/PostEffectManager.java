@@ -0,0 +1,187 @@
+package at.koopro.spells_n_squares.features.fx;
+
+import at.koopro.spells_n_squares.SpellsNSquares;
+import at.koopro.spells_n_squares.core.util.ModIdentifierHelper;
+import com.mojang.blaze3d.framegraph.FrameGraphBuilder;
+import com.mojang.blaze3d.pipeline.RenderTarget;
+import com.mojang.blaze3d.resource.CrossFrameResourcePool;
+import com.mojang.logging.LogUtils;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.LevelTargetBundle;
+import net.minecraft.client.renderer.PostChain;
+import net.minecraft.resources.Identifier;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.AddClientReloadListenersEvent;
+import net.neoforged.neoforge.client.event.RenderFrameEvent;
+import net.neoforged.neoforge.client.resources.VanillaClientListeners;
+import org.slf4j.Logger;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Owns the mod's post-processing chains.
+ * Chains are resolved and compiled once per resource reload (after the vanilla shaders), so
+ * triggering an effect never loads or compiles anything on the render path. All chains active
+ * in a frame are composited into a single frame graph pass whose intermediate targets come
+ * from a pool that is dropped when the window is resized.
+ */
+@EventBusSubscriber(modid = SpellsNSquares.MODID, value = Dist.CLIENT)
+public final class PostEffectManager {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    // Post effect identifiers (assets/spells_n_squares/post_effect/<name>.json)
+    public static final Identifier INVERTED_COLORS = ModIdentifierHelper.modId("inverted_colors");
+    public static final Identifier GRAYSCALE = ModIdentifierHelper.modId("grayscale");
+
+    private static final Identifier RELOAD_LISTENER_ID = ModIdentifierHelper.modId("post_effects");
+
+    // Post effects compiled on every reload
+    private static final Set<Identifier> KNOWN_EFFECTS = Set.of(INVERTED_COLORS, GRAYSCALE);
+
+    // Keep intermediate targets for a few frames, like the vanilla game renderer
+    private static final int POOL_FRAMES = 3;
+
+    // Compiled chains; replaced as a whole on reload
+    private static volatile Map<Identifier, PostChain> chains = Map.of();
+
+    private static final CrossFrameResourcePool resourcePool = new CrossFrameResourcePool(POOL_FRAMES);
+    private static int poolWidth = -1;
+    private static int poolHeight = -1;
+
+    // Timings
+    private static double lastCompileMillis = 0.0;
+    private static double lastPassMillis = 0.0;
+    private static double averagePassMillis = 0.0;
+    private static int lastPassChains = 0;
+
+    private PostEffectManager() {
+    }
+
+    /**
+     * Registers the reload listener that compiles the chains.
+     */
+    @SubscribeEvent
+    public static void onAddReloadListeners(AddClientReloadListenersEvent event) {
+        event.addListener(RELOAD_LISTENER_ID, (ResourceManagerReloadListener) PostEffectManager::reload);
+        // Post chains reference vanilla shaders, so compile after them
+        event.addDependency(VanillaClientListeners.SHADERS, RELOAD_LISTENER_ID);
+    }
+
+    /**
+     * Resolves and compiles all known chains.
+     */
+    private static void reload(ResourceManager resourceManager) {
+        long start = System.nanoTime();
+        Minecraft mc = Minecraft.getInstance();
+        Map<Identifier, PostChain> compiled = new HashMap<>();
+        for (Identifier id : KNOWN_EFFECTS) {
+            PostChain chain = mc.getShaderManager().getPostChain(id, LevelTargetBundle.MAIN_TARGETS);
+            if (chain != null) {
+                compiled.put(id, chain);
+            } else {
+                LOGGER.warn("Post effect {} failed to load; its fallback overlay will be used", id);
+            }
+        }
+        chains = Map.copyOf(compiled);
+        resourcePool.clear();
+        ShaderEffectHandler.clearShaderCache();
+
+        lastCompileMillis = (System.nanoTime() - start) / 1_000_000.0;
+        LOGGER.debug("Compiled {}/{} post effects in {} ms", compiled.size(), KNOWN_EFFECTS.size(),
+            String.format("%.2f", lastCompileMillis));
+    }
+
+    /**
+     * Gets a compiled chain.
+     *
+     * @param effectId The post effect identifier
+     * @return The chain, or null if it is unknown or failed to compile
+     */
+    public static PostChain getChain(Identifier effectId) {
+        return chains.get(effectId);
+    }
+
+    /**
+     * Checks if a post effect compiled successfully.
+     */
+    public static boolean isAvailable(Identifier effectId) {
+        return chains.containsKey(effectId);
+    }
+
+    /**
+     * Applies the given chains to the main render target in one frame graph pass.
+     *
+     * @param active The chains to apply, in order
+     */
+    public static void process(List<PostChain> active) {
+        if (active.isEmpty()) {
+            return;
+        }
+
+        RenderTarget mainTarget = Minecraft.getInstance().getMainRenderTarget();
+        if (mainTarget.width != poolWidth || mainTarget.height != poolHeight) {
+            // Pooled targets have the old size; drop them instead of waiting for them to expire
+            resourcePool.clear();
+            poolWidth = mainTarget.width;
+            poolHeight = mainTarget.height;
+        }
+
+        long start = System.nanoTime();
+        FrameGraphBuilder frameGraph = new FrameGraphBuilder();
+        PostChain.TargetBundle targets = PostChain.TargetBundle.of(PostChain.MAIN_TARGET_ID,
+            frameGraph.importExternal("main", mainTarget));
+        for (PostChain chain : active) {
+            chain.addToFrame(frameGraph, mainTarget.width, mainTarget.height, targets);
+        }
+        frameGraph.execute(resourcePool);
+
+        long elapsed = System.nanoTime() - start;
+        FxTimeline.chargeFrameBudget(elapsed);
+        lastPassMillis = elapsed / 1_000_000.0;
+        averagePassMillis = averagePassMillis * 0.9 + lastPassMillis * 0.1;
+        lastPassChains = active.size();
+    }
+
+    /**
+     * Releases pooled targets that were not used for a few frames.
+     */
+    @SubscribeEvent
+    public static void onRenderFrame(RenderFrameEvent.Post event) {
+        resourcePool.endFrame();
+    }
+
+    /**
+     * Gets how long the last reload took to compile the chains, in milliseconds.
+     */
+    public static double getLastCompileMillis() {
+        return lastCompileMillis;
+    }
+
+    /**
+     * Gets how long the last post-processing pass took, in milliseconds.
+     */
+    public static double getLastPassMillis() {
+        return lastPassMillis;
+    }
+
+    /**
+     * Gets the moving average of the post-processing pass time, in milliseconds.
+     */
+    public static double getAveragePassMillis() {
+        return averagePassMillis;
+    }
+
+    /**
+     * Gets how many chains were composited in the last pass.
+     */
+    public static int getLastPassChains() {
+        return lastPassChains;
+    }
+}
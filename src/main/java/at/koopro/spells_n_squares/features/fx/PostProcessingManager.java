@@ -5,7 +5,6 @@ import at.koopro.spells_n_squares.core.config.Config;
 import at.koopro.spells_n_squares.core.util.ModIdentifierHelper;
 import com.mojang.blaze3d.pipeline.CompiledRenderPipeline;
 import com.mojang.blaze3d.pipeline.RenderPipeline;
-import com.mojang.blaze3d.resource.GraphicsResourceAllocator;
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.DefaultVertexFormat;
 import com.mojang.blaze3d.vertex.VertexFormat;
@@ -13,7 +12,6 @@ import com.mojang.logging.LogUtils;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.PostChain;
 import net.minecraft.resources.Identifier;
-import net.minecraft.server.packs.resources.ResourceProvider;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
@@ -22,7 +20,6 @@ import net.neoforged.neoforge.client.event.RegisterRenderPipelinesEvent;
 import net.neoforged.neoforge.client.event.RenderLevelStageEvent;
 import org.slf4j.Logger;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -30,23 +27,22 @@ import java.util.Map;
 
 /**
  * Manages post-processing shader effects applied to the entire rendered frame.
- * Uses NeoForge's PostChain system for screen-wide effects like inverted colors and grayscale.
+ * Uses NeoForge's PostChain system for screen-wide effects like inverted colors and grayscale;
+ * the chains themselves are compiled and run by {@link PostEffectManager}.
  */
 @EventBusSubscriber(modid = SpellsNSquares.MODID, value = Dist.CLIENT)
 public class PostProcessingManager {
     private static final Logger LOGGER = LogUtils.getLogger();
     
-    // Cached PostChain instances for each shader
-    private static final Map<Identifier, PostChain> postChains = new HashMap<>();
-    
-    // Active post-processing effects
-    private static final List<PostProcessingEffect> activeEffects = new ArrayList<>();
+    // Active post-processing effects; effects using the same shader merge
+    private static final FxTimeline<PostProcessingEffect> activeEffects = new FxTimeline<>(PostProcessingEffect::new, 4);
     
     // Post-processing shader identifiers
-    public static final Identifier INVERTED_COLORS_POST_SHADER = 
-        ModIdentifierHelper.modId("shaders/post/inverted_colors");
-    public static final Identifier GRAYSCALE_POST_SHADER = 
-        ModIdentifierHelper.modId("shaders/post/grayscale");
+    public static final Identifier INVERTED_COLORS_POST_SHADER = PostEffectManager.INVERTED_COLORS;
+    public static final Identifier GRAYSCALE_POST_SHADER = PostEffectManager.GRAYSCALE;
+    
+    // Chains collected for this frame's composited pass
+    private static final List<PostChain> frameChains = new ArrayList<>();
     
     // Render pipelines for core shaders (using NeoForge custom shader resources)
     // Shader paths are relative to the shaders/ directory (e.g., "core/lumos_orb" -> "shaders/core/lumos_orb.vsh")
@@ -72,111 +68,23 @@ public class PostProcessingManager {
     /**
      * Represents an active post-processing effect.
      */
-    private static class PostProcessingEffect {
+    private static class PostProcessingEffect extends FxTimeline.Entry<PostProcessingEffect> {
         Identifier shaderId;
-        float intensity;
-        int duration;
-        int age;
-        
-        PostProcessingEffect(Identifier shaderId, float intensity, int duration) {
-            this.shaderId = shaderId;
-            this.intensity = intensity;
-            this.duration = duration;
-            this.age = 0;
-        }
         
-        void tick() {
-            age++;
+        @Override
+        protected boolean canMerge(PostProcessingEffect other) {
+            // Running the same chain twice in a frame adds nothing
+            return shaderId.equals(other.shaderId);
         }
         
-        boolean isExpired() {
-            return age >= duration;
+        @Override
+        protected void reset() {
+            shaderId = null;
         }
         
         float getCurrentIntensity() {
             // Fade out over time
-            float progress = (float) age / duration;
-            return intensity * (1.0f - progress);
-        }
-    }
-    
-    /**
-     * Gets or creates a PostChain for the given shader identifier.
-     * PostChains are created lazily when first needed.
-     * 
-     * @param shaderId The shader identifier
-     * @return The PostChain instance, or null if creation failed
-     */
-    private static PostChain getOrCreatePostChain(Identifier shaderId) {
-        // Check cache first
-        PostChain cached = postChains.get(shaderId);
-        if (cached != null) {
-            return cached;
-        }
-        
-        // Create new PostChain lazily
-        Minecraft mc = Minecraft.getInstance();
-        if (mc == null || mc.getMainRenderTarget() == null || mc.getResourceManager() == null) {
-            return null;
-        }
-        
-        try {
-            // PostChain has a private constructor: PostChain(List, Map, Set, CachedOrthoProjectionMatrixBuffer)
-            // The API has changed - PostChain must be loaded from JSON using internal parsing
-            // Try to find a static factory method or use reflection to call a method that loads from JSON
-            ResourceProvider resourceProvider = mc.getResourceManager();
-            PostChain chain = null;
-            
-            // Try to find static methods that might load PostChain from JSON
-            java.lang.reflect.Method[] allMethods = PostChain.class.getDeclaredMethods();
-            for (java.lang.reflect.Method method : allMethods) {
-                if (java.lang.reflect.Modifier.isStatic(method.getModifiers()) && 
-                    PostChain.class.isAssignableFrom(method.getReturnType())) {
-                    java.lang.Class<?>[] paramTypes = method.getParameterTypes();
-                    // Look for methods that take TextureManager, ResourceProvider, and Identifier/ResourceLocation
-                    if (paramTypes.length >= 3) {
-                        try {
-                            method.setAccessible(true);
-                            if (paramTypes.length == 3) {
-                                chain = (PostChain) method.invoke(null, 
-                                    mc.getTextureManager(), 
-                                    resourceProvider, 
-                                    shaderId);
-                            } else if (paramTypes.length == 4 && 
-                                paramTypes[3] == com.mojang.blaze3d.pipeline.RenderTarget.class) {
-                                chain = (PostChain) method.invoke(null, 
-                                    mc.getTextureManager(), 
-                                    resourceProvider, 
-                                    mc.getMainRenderTarget(),
-                                    shaderId);
-                            }
-                            if (chain != null) {
-                                LOGGER.debug("Successfully created PostChain for shader: {} using static method {}", shaderId, method.getName());
-                                break;
-                            }
-                        } catch (Exception e) {
-                            // Continue trying other methods
-                        }
-                    }
-                }
-            }
-            
-            // If no static method found, PostChain API has changed significantly
-            // Post-processing shaders may need to use RenderPipeline instead
-            if (chain == null) {
-                LOGGER.warn("PostChain cannot be created for {}. The API has changed - PostChain now uses a private constructor. " +
-                    "Post-processing shaders (grayscale, inverted colors) are temporarily unavailable. " +
-                    "Consider using RenderPipeline for post-processing effects instead.", shaderId);
-                return null;
-            }
-            
-            if (chain != null) {
-                postChains.put(shaderId, chain);
-            }
-            return chain;
-        } catch (Exception e) {
-            LOGGER.warn("Unexpected error creating PostChain for {}: {}", shaderId, e.getMessage(), e);
-            return null;
+            return currentStrength();
         }
     }
     
@@ -193,7 +101,10 @@ public class PostProcessingManager {
         }
         
         float adjustedIntensity = (float) (intensity * Config.getScreenEffectIntensity());
-        activeEffects.add(new PostProcessingEffect(shaderId, adjustedIntensity, duration));
+        PostProcessingEffect effect = activeEffects.obtain();
+        effect.shaderId = shaderId;
+        effect.begin(0, FxTimeline.Priority.NORMAL, adjustedIntensity, duration);
+        activeEffects.add(effect);
     }
     
     /**
@@ -226,23 +137,19 @@ public class PostProcessingManager {
             return;
         }
         
-        // Apply each active effect
-        for (PostProcessingEffect effect : activeEffects) {
-            PostChain chain = getOrCreatePostChain(effect.shaderId);
-            if (chain != null) {
-                try {
-                    float currentIntensity = effect.getCurrentIntensity();
-                    if (currentIntensity > 0.001f) {
-                        // Process the post-processing chain
-                        // Note: Uniform setting would need to be done via shader manager if needed
-                        // For now, using basic process() - intensity is set via JSON defaults
-                        chain.process(mc.getMainRenderTarget(), GraphicsResourceAllocator.UNPOOLED);
-                    }
-                } catch (Exception e) {
-                    LOGGER.warn("Failed to apply post-processing effect {}: {}", 
-                        effect.shaderId, e.getMessage());
-                }
+        // Collect the active effects within the frame budget and apply them in one pass
+        // Note: intensity is set via JSON defaults; effects on the same chain are merged by the timeline
+        frameChains.clear();
+        activeEffects.render(effect -> {
+            PostChain chain = PostEffectManager.getChain(effect.shaderId);
+            if (chain != null && effect.getCurrentIntensity() > 0.001f) {
+                frameChains.add(chain);
             }
+        });
+        try {
+            PostEffectManager.process(frameChains);
+        } catch (Exception e) {
+            LOGGER.warn("Failed to apply post-processing effects: {}", e.getMessage());
         }
     }
     
@@ -251,25 +158,21 @@ public class PostProcessingManager {
      */
     @SubscribeEvent
     public static void onClientTick(ClientTickEvent.Post event) {
-        activeEffects.removeIf(effect -> {
-            effect.tick();
-            return effect.isExpired();
-        });
+        activeEffects.tick();
     }
     
     /**
      * Checks if a post-processing shader is available.
-     * Attempts to create the PostChain if not already cached.
+     * Chains are compiled on resource reload, so this is only a lookup.
      * 
      * @param shaderId The shader identifier
-     * @return true if the PostChain can be created and is available
+     * @return true if the PostChain compiled and is available
      */
     public static boolean isPostProcessingShaderAvailable(Identifier shaderId) {
         if (!Config.areShaderEffectsEnabled()) {
             return false;
         }
-        PostChain chain = getOrCreatePostChain(shaderId);
-        return chain != null;
+        return PostEffectManager.isAvailable(shaderId);
     }
     
     /**
@@ -315,6 +218,7 @@ public class PostProcessingManager {
         } catch (Exception e) {
             LOGGER.error("Error checking pipeline validity: {}", e.getMessage(), e);
         }
+        ShaderEffectHandler.clearShaderCache();
     }
     
     /**
@@ -12,87 +12,71 @@ import net.neoforged.neoforge.client.event.RenderGuiEvent;
 import net.neoforged.neoforge.client.event.ClientTickEvent;
 import net.neoforged.neoforge.client.event.ViewportEvent;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Client-side manager for screen effects (shake, overlays, distortion).
  */
 @EventBusSubscriber(modid = SpellsNSquares.MODID, value = Dist.CLIENT)
 public class ScreenEffectManager {
     
-    // Active screen effects
-    private static final List<ScreenShake> activeShakes = new ArrayList<>();
-    private static final List<ScreenOverlay> activeOverlays = new ArrayList<>();
+    // Active screen effects; all shakes merge into one entry
+    private static final FxTimeline<ScreenShake> activeShakes = new FxTimeline<>(ScreenShake::new, 1);
+    private static final FxTimeline<ScreenOverlay> activeOverlays = new FxTimeline<>(ScreenOverlay::new,
+        2, // VIGNETTE
+        2, // FLASH
+        4  // GLOW
+    );
     
     /**
      * Represents an active screen shake effect.
      */
-    private static class ScreenShake {
-        float intensity;
-        int duration;
-        int age;
-        
-        ScreenShake(float intensity, int duration) {
-            this.intensity = intensity;
-            this.duration = duration;
-            this.age = 0;
-        }
-        
-        void tick() {
-            age++;
-        }
-        
-        boolean isExpired() {
-            return age >= duration;
+    private static class ScreenShake extends FxTimeline.Entry<ScreenShake> {
+        @Override
+        protected boolean canMerge(ScreenShake other) {
+            return true;
         }
         
         float getCurrentIntensity() {
             // Fade out over time
-            float progress = (float) age / duration;
-            return intensity * (1.0f - progress);
+            return currentStrength();
         }
     }
     
     /**
      * Represents an active screen overlay effect.
      */
-    public static class ScreenOverlay {
+    public static class ScreenOverlay extends FxTimeline.Entry<ScreenOverlay> {
         int color; // ARGB
-        float opacity;
-        int duration;
-        int age;
         OverlayType type;
         
         public enum OverlayType {
-            VIGNETTE, // Damage overlay
-            FLASH,    // Brief flash effect
-            GLOW      // Subtle glow effect
-        }
-        
-        ScreenOverlay(int color, float opacity, int duration, OverlayType type) {
-            this.color = color;
-            this.opacity = opacity;
-            this.duration = duration;
-            this.age = 0;
-            this.type = type;
-        }
-        
-        void tick() {
-            age++;
+            VIGNETTE(FxTimeline.Priority.NORMAL), // Damage overlay
+            FLASH(FxTimeline.Priority.HIGH),      // Brief flash effect
+            GLOW(FxTimeline.Priority.LOW);        // Subtle glow effect
+            
+            private final FxTimeline.Priority priority;
+            
+            OverlayType(FxTimeline.Priority priority) {
+                this.priority = priority;
+            }
         }
         
-        boolean isExpired() {
-            return age >= duration;
+        @Override
+        protected boolean canMerge(ScreenOverlay other) {
+            // Identical overlays blend their opacity instead of stacking
+            return type == other.type && color == other.color;
         }
         
-        float getCurrentOpacity() {
-            float progress = (float) age / duration;
+        @Override
+        public float currentStrength() {
             // Fade out for most overlays
             if (type == OverlayType.FLASH) {
-                return opacity * (1.0f - progress);
+                return super.currentStrength();
             }
-            return opacity;
+            return strength;
+        }
+        
+        float getCurrentOpacity() {
+            return currentStrength();
         }
     }
     
@@ -105,7 +89,9 @@ public class ScreenEffectManager {
         }
         
         float adjustedIntensity = (float) (intensity * Config.getScreenEffectIntensity());
-        activeShakes.add(new ScreenShake(adjustedIntensity, duration));
+        ScreenShake shake = activeShakes.obtain();
+        shake.begin(0, FxTimeline.Priority.HIGH, adjustedIntensity, duration);
+        activeShakes.add(shake);
     }
     
     /**
@@ -117,7 +103,11 @@ public class ScreenEffectManager {
         }
         
         float adjustedOpacity = (float) (opacity * Config.getScreenEffectIntensity());
-        activeOverlays.add(new ScreenOverlay(color, adjustedOpacity, duration, type));
+        ScreenOverlay overlay = activeOverlays.obtain();
+        overlay.color = color;
+        overlay.type = type;
+        overlay.begin(type.ordinal(), type.priority, adjustedOpacity, duration);
+        activeOverlays.add(overlay);
     }
     
     /**
@@ -139,15 +129,8 @@ public class ScreenEffectManager {
      */
     @SubscribeEvent
     public static void onClientTick(ClientTickEvent.Post event) {
-        activeShakes.removeIf(shake -> {
-            shake.tick();
-            return shake.isExpired();
-        });
-        
-        activeOverlays.removeIf(overlay -> {
-            overlay.tick();
-            return overlay.isExpired();
-        });
+        activeShakes.tick();
+        activeOverlays.tick();
     }
     
     /**
@@ -169,10 +152,8 @@ public class ScreenEffectManager {
         // Instead, we'll apply shake by offsetting overlay rendering positions
         Vec3 shake = getShakeOffset();
         
-        // Render overlays (shake will be applied per-overlay if needed)
-        for (ScreenOverlay overlay : activeOverlays) {
-            renderOverlay(guiGraphics, width, height, overlay, shake);
-        }
+        // Render overlays within the frame budget (shake will be applied per-overlay if needed)
+        activeOverlays.render(overlay -> renderOverlay(guiGraphics, width, height, overlay, shake));
     }
     
     /**
@@ -283,7 +264,7 @@ public class ScreenEffectManager {
         }
         
         float totalIntensity = 0.0f;
-        for (ScreenShake shake : activeShakes) {
+        for (ScreenShake shake : activeShakes.active()) {
             totalIntensity += shake.getCurrentIntensity();
         }
         
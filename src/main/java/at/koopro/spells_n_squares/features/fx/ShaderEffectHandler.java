@@ -28,12 +28,10 @@ public class ShaderEffectHandler {
     public static final Identifier GRAYSCALE_SHADER = ModIdentifierHelper.modId("shaders/core/grayscale");
     
     // Post-processing shader identifiers
-    public static final Identifier INVERTED_COLORS_POST_SHADER = 
-        ModIdentifierHelper.modId("shaders/post/inverted_colors");
-    public static final Identifier GRAYSCALE_POST_SHADER = 
-        ModIdentifierHelper.modId("shaders/post/grayscale");
+    public static final Identifier INVERTED_COLORS_POST_SHADER = PostEffectManager.INVERTED_COLORS;
+    public static final Identifier GRAYSCALE_POST_SHADER = PostEffectManager.GRAYSCALE;
     
-    // Cache for shader availability
+    // Cache for shader availability; cleared when shaders are reloaded or pipelines are checked
     private static final Map<Identifier, Boolean> shaderCache = new HashMap<>();
     
     /**
@@ -95,6 +93,14 @@ public class ShaderEffectHandler {
         return available;
     }
     
+    /**
+     * Clears the shader availability cache.
+     * Called after post effects are recompiled and after the render pipelines are validated.
+     */
+    public static void clearShaderCache() {
+        shaderCache.clear();
+    }
+    
     /**
      * Gets the RenderType identifier for lumos orb shader.
      * Returns the shader identifier if available, otherwise returns null for fallback.
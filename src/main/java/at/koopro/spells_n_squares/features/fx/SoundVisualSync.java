@@ -3,6 +3,7 @@ package at.koopro.spells_n_squares.features.fx;
 import at.koopro.spells_n_squares.SpellsNSquares;
 import at.koopro.spells_n_squares.core.api.addon.events.AddonEventBus;
 import at.koopro.spells_n_squares.core.api.addon.events.SpellCastEvent;
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.core.registry.ModSounds;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
@@ -43,7 +44,7 @@ public class SoundVisualSync {
         // Spawn particle burst on sound cue
         if (level instanceof ServerLevel serverLevel) {
             net.minecraft.world.phys.Vec3 pos = player.position().add(0, player.getEyeHeight(), 0);
-            serverLevel.sendParticles(
+            ParticlePool.queueParticle(serverLevel,
                 ParticleTypes.ENCHANT,
                 pos.x, pos.y, pos.z,
                 5,
@@ -67,7 +68,7 @@ public class SoundVisualSync {
         if (sound == ModSounds.LUMOS.value()) {
             // Lumos: bright particle burst
             if (level instanceof ServerLevel serverLevel) {
-                serverLevel.sendParticles(
+                ParticlePool.queueParticle(serverLevel,
                     ParticleTypes.END_ROD,
                     position.x, position.y, position.z,
                     10,
@@ -78,7 +79,7 @@ public class SoundVisualSync {
         } else if (sound == ModSounds.NOX.value()) {
             // Nox: dark particle burst
             if (level instanceof ServerLevel serverLevel) {
-                serverLevel.sendParticles(
+                ParticlePool.queueParticle(serverLevel,
                     ParticleTypes.SMOKE,
                     position.x, position.y, position.z,
                     10,
@@ -104,7 +105,7 @@ public class SoundVisualSync {
                 case "time_turner":
                     // Time distortion effect
                     ShaderEffectHandler.triggerTimeDistortion();
-                    serverLevel.sendParticles(
+                    ParticlePool.queueParticle(serverLevel,
                         ParticleTypes.TOTEM_OF_UNDYING,
                         pos.x, pos.y, pos.z,
                         20,
@@ -114,7 +115,7 @@ public class SoundVisualSync {
                     break;
                 case "sneakoscope":
                     // Alert effect
-                    serverLevel.sendParticles(
+                    ParticlePool.queueParticle(serverLevel,
                         ParticleTypes.ELECTRIC_SPARK,
                         pos.x, pos.y, pos.z,
                         5,
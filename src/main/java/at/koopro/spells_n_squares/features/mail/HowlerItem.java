@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.mail;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.core.registry.ModDataComponents;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
@@ -52,7 +53,7 @@ public class HowlerItem extends Item {
             SoundEvents.VILLAGER_AMBIENT, SoundSource.PLAYERS, 2.0f, 0.3f);
         
         // Visual effects - red particles
-        serverLevel.sendParticles(
+        ParticlePool.queueParticle(serverLevel,
             ParticleTypes.ANGRY_VILLAGER,
             pos.x, pos.y + 1.5, pos.z,
             50,
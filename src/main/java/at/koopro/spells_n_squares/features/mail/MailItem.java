@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.mail;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -129,7 +130,7 @@ public class MailItem extends Item {
         
         // Visual and sound effects
         Vec3 pos = sender.position();
-        level.sendParticles(ParticleTypes.ENCHANT,
+        ParticlePool.queueParticle(level, ParticleTypes.ENCHANT,
             pos.x, pos.y + 1.5, pos.z,
             20, 0.5, 0.5, 0.5, 0.1);
         
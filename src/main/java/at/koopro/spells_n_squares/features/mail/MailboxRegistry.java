@@ -0,0 +1,170 @@
+package at.koopro.spells_n_squares.features.mail;
+
+import at.koopro.spells_n_squares.SpellsNSquares;
+import at.koopro.spells_n_squares.block.mail.MailboxBlock;
+import at.koopro.spells_n_squares.core.persistence.ModPersistence;
+import at.koopro.spells_n_squares.core.persistence.PersistentMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.GlobalPos;
+import net.minecraft.core.UUIDUtil;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.saveddata.SavedDataType;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Registry of placed mailboxes, keyed by owner.
+ * Mailboxes register themselves when placed and unregister when removed, so mail delivery
+ * can find a player's mailbox with a hash lookup instead of scanning the world.
+ * Entries in a chunk are validated when the chunk loads, which drops mailboxes that were
+ * removed without going through the block (e.g. by world editing tools).
+ */
+@EventBusSubscriber(modid = SpellsNSquares.MODID)
+public final class MailboxRegistry {
+    private MailboxRegistry() {
+    }
+
+    // Mailbox positions per owner, persisted with the world
+    private static final SavedDataType<PersistentMap<UUID, List<GlobalPos>>> MAILBOXES =
+        PersistentMap.type("mailboxes", UUIDUtil.CODEC,
+            GlobalPos.CODEC.listOf().<List<GlobalPos>>xmap(ArrayList::new, list -> list));
+
+    /**
+     * Per-level reverse index (chunk -> mailbox position -> owner), used for removal and chunk validation.
+     */
+    private static final Map<ResourceKey<Level>, Long2ObjectMap<Map<BlockPos, UUID>>> ownersByChunk = new HashMap<>();
+    private static PersistentMap<UUID, List<GlobalPos>> indexedStore;
+
+    /**
+     * Gets the persistent mailbox store, rebuilding the reverse index if a different store
+     * has been loaded since it was built.
+     */
+    private static PersistentMap<UUID, List<GlobalPos>> store() {
+        PersistentMap<UUID, List<GlobalPos>> store = ModPersistence.map(MAILBOXES);
+        if (store != indexedStore) {
+            ownersByChunk.clear();
+            for (Map.Entry<UUID, List<GlobalPos>> entry : store.entrySet()) {
+                for (GlobalPos mailbox : entry.getValue()) {
+                    chunkOwners(mailbox.dimension(), mailbox.pos(), true).put(mailbox.pos(), entry.getKey());
+                }
+            }
+            indexedStore = store;
+        }
+        return store;
+    }
+
+    private static Map<BlockPos, UUID> chunkOwners(ResourceKey<Level> dimension, BlockPos pos, boolean create) {
+        Long2ObjectMap<Map<BlockPos, UUID>> chunks = create
+            ? ownersByChunk.computeIfAbsent(dimension, k -> new Long2ObjectOpenHashMap<>())
+            : ownersByChunk.get(dimension);
+        if (chunks == null) {
+            return null;
+        }
+        long chunk = ChunkPos.asLong(pos);
+        return create ? chunks.computeIfAbsent(chunk, k -> new HashMap<>()) : chunks.get(chunk);
+    }
+
+    /**
+     * Registers a mailbox for its owner.
+     * @param level The level the mailbox is in
+     * @param pos The mailbox position
+     * @param ownerId The owner's UUID
+     */
+    public static void register(ServerLevel level, BlockPos pos, UUID ownerId) {
+        unregister(level, pos);
+
+        BlockPos mailboxPos = pos.immutable();
+        store().computeIfAbsent(ownerId, k -> new ArrayList<>()).add(GlobalPos.of(level.dimension(), mailboxPos));
+        chunkOwners(level.dimension(), mailboxPos, true).put(mailboxPos, ownerId);
+    }
+
+    /**
+     * Unregisters the mailbox at a position, if any.
+     * @param level The level the mailbox was in
+     * @param pos The mailbox position
+     */
+    public static void unregister(ServerLevel level, BlockPos pos) {
+        PersistentMap<UUID, List<GlobalPos>> store = store();
+        Map<BlockPos, UUID> owners = chunkOwners(level.dimension(), pos, false);
+        if (owners == null) {
+            return;
+        }
+
+        UUID ownerId = owners.remove(pos);
+        if (ownerId == null) {
+            return;
+        }
+
+        List<GlobalPos> mailboxes = store.get(ownerId);
+        if (mailboxes != null) {
+            mailboxes.remove(GlobalPos.of(level.dimension(), pos.immutable()));
+            if (mailboxes.isEmpty()) {
+                store.remove(ownerId);
+            } else {
+                store.setDirty();
+            }
+        }
+    }
+
+    /**
+     * Finds the owner's mailbox closest to a position in the given level.
+     * @param level The level to search in
+     * @param ownerId The owner's UUID
+     * @param from The position to measure distance from
+     * @return The closest mailbox position, or null if the owner has no mailbox in this level
+     */
+    public static BlockPos findNearest(ServerLevel level, UUID ownerId, BlockPos from) {
+        List<GlobalPos> mailboxes = store().get(ownerId);
+        if (mailboxes == null) {
+            return null;
+        }
+
+        BlockPos nearest = null;
+        double nearestDistance = Double.MAX_VALUE;
+        for (GlobalPos mailbox : mailboxes) {
+            if (mailbox.dimension() != level.dimension()) {
+                continue;
+            }
+            double distance = mailbox.pos().distSqr(from);
+            if (distance < nearestDistance) {
+                nearest = mailbox.pos();
+                nearestDistance = distance;
+            }
+        }
+        return nearest;
+    }
+
+    @SubscribeEvent
+    public static void onChunkLoad(ChunkEvent.Load event) {
+        if (event.isNewChunk() || !(event.getLevel() instanceof ServerLevel level)) {
+            return;
+        }
+
+        store();
+        ChunkAccess chunk = event.getChunk();
+        Map<BlockPos, UUID> owners = chunkOwners(level.dimension(), chunk.getPos().getWorldPosition(), false);
+        if (owners == null || owners.isEmpty()) {
+            return;
+        }
+
+        // Drop mailboxes that no longer exist in the loaded chunk
+        for (BlockPos pos : new ArrayList<>(owners.keySet())) {
+            if (!(chunk.getBlockState(pos).getBlock() instanceof MailboxBlock)) {
+                unregister(level, pos);
+            }
+        }
+    }
+}
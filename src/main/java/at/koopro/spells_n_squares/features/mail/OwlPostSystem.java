@@ -1,11 +1,17 @@
 package at.koopro.spells_n_squares.features.mail;
 
+import at.koopro.spells_n_squares.core.persistence.ModPersistence;
+import at.koopro.spells_n_squares.core.persistence.PersistentMap;
+import at.koopro.spells_n_squares.core.tick.DeliveryScheduler;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.minecraft.core.UUIDUtil;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.saveddata.SavedDataType;
 
 import java.util.*;
 
@@ -16,11 +22,18 @@ public final class OwlPostSystem {
     private OwlPostSystem() {
     }
     
-    // Pending mail deliveries: recipient UUID -> list of mail items
-    private static final Map<UUID, List<PendingMail>> pendingDeliveries = new HashMap<>();
+    // Pending mail deliveries: recipient UUID -> list of mail items, persisted with the world
+    private static final SavedDataType<PersistentMap<UUID, List<PendingMail>>> PENDING_DELIVERIES =
+        PersistentMap.type("owl_post_pending", UUIDUtil.CODEC,
+            PendingMail.CODEC.listOf().<List<PendingMail>>xmap(ArrayList::new, list -> list));
+    
+    // Due-time ordered queue of the pending deliveries above
+    private static final DeliveryScheduler<PendingMail> SCHEDULER =
+        DeliveryScheduler.create("owl_post", OwlPostSystem::deliver);
     
     /**
      * Pending mail delivery information.
+     * The delivery time is the absolute game tick the mail arrives at.
      */
     public record PendingMail(
         ItemStack mailItem,
@@ -28,6 +41,14 @@ public final class OwlPostSystem {
         long deliveryTime,
         double distance
     ) {
+        public static final Codec<PendingMail> CODEC = RecordCodecBuilder.create(instance ->
+            instance.group(
+                ItemStack.OPTIONAL_CODEC.fieldOf("mailItem").forGetter(PendingMail::mailItem),
+                UUIDUtil.CODEC.fieldOf("senderId").forGetter(PendingMail::senderId),
+                Codec.LONG.fieldOf("deliveryTime").forGetter(PendingMail::deliveryTime),
+                Codec.DOUBLE.fieldOf("distance").forGetter(PendingMail::distance)
+            ).apply(instance, PendingMail::new)
+        );
     }
     
     /**
@@ -51,17 +72,17 @@ public final class OwlPostSystem {
         }
         
         double distance = senderPos.distanceTo(recipientPos);
-        // Delivery time: base 100 ticks (5 seconds) + 1 tick per block distance
-        long deliveryTime = 100 + (long)(distance * 0.1);
+        // Delivery time: base 100 ticks (5 seconds) + 1 tick per 10 blocks distance
+        long deliveryTime = DeliveryScheduler.currentTick() + 100 + (long)(distance * 0.1);
         
-        // If spawning owl, create owl entity
+        // If spawning owl, create owl entity (visual only, delivery is always scheduled)
         if (spawnOwl && mailItem.getItem() instanceof MailItem) {
             spawnOwlForDelivery(mailItem, senderId, recipientId, senderPos, recipientPos);
-        } else {
-            // Otherwise, use scheduled delivery
-            pendingDeliveries.computeIfAbsent(recipientId, k -> new ArrayList<>())
-                .add(new PendingMail(mailItem, senderId, deliveryTime, distance));
         }
+        
+        PendingMail mail = new PendingMail(mailItem, senderId, deliveryTime, distance);
+        ModPersistence.map(PENDING_DELIVERIES).computeIfAbsent(recipientId, k -> new ArrayList<>()).add(mail);
+        SCHEDULER.schedule(recipientId, deliveryTime, mail);
     }
     
     /**
@@ -75,40 +96,37 @@ public final class OwlPostSystem {
     }
     
     /**
-     * Processes pending mail deliveries for a player.
-     * Should be called on server tick.
+     * Re-queues all persisted deliveries after the world has loaded.
+     * Mail that came due while the server was offline is delivered on the first tick
+     * (or on the recipient's next login).
      */
-    public static void processDeliveries(ServerPlayer player, ServerLevel level) {
-        UUID playerId = player.getUUID();
-        List<PendingMail> pending = pendingDeliveries.get(playerId);
-        
-        if (pending == null || pending.isEmpty()) {
-            return;
-        }
-        
-        long currentTime = level.getGameTime();
-        List<PendingMail> toDeliver = new ArrayList<>();
-        List<PendingMail> remaining = new ArrayList<>();
-        
-        for (PendingMail mail : pending) {
-            if (currentTime >= mail.deliveryTime()) {
-                toDeliver.add(mail);
-            } else {
-                remaining.add(mail);
+    public static void restorePendingDeliveries() {
+        SCHEDULER.clear();
+        for (Map.Entry<UUID, List<PendingMail>> entry : ModPersistence.map(PENDING_DELIVERIES).entrySet()) {
+            for (PendingMail mail : entry.getValue()) {
+                SCHEDULER.schedule(entry.getKey(), mail.deliveryTime(), mail);
             }
         }
-        
-        // Deliver ready mail
-        for (PendingMail mail : toDeliver) {
-            deliverMail(player, mail.mailItem(), level);
+    }
+    
+    /**
+     * Delivers a due mail to its recipient and removes it from the persisted pending list.
+     */
+    private static void deliver(ServerPlayer player, ServerLevel level, PendingMail mail) {
+        UUID playerId = player.getUUID();
+        PersistentMap<UUID, List<PendingMail>> pendingDeliveries = ModPersistence.map(PENDING_DELIVERIES);
+        List<PendingMail> pending = pendingDeliveries.get(playerId);
+        if (pending == null || !pending.remove(mail)) {
+            return; // Already delivered
         }
         
-        // Update pending list
-        if (remaining.isEmpty()) {
+        if (pending.isEmpty()) {
             pendingDeliveries.remove(playerId);
         } else {
-            pendingDeliveries.put(playerId, remaining);
+            pendingDeliveries.setDirty();
         }
+        
+        deliverMail(player, mail.mailItem(), level);
     }
     
     /**
@@ -138,34 +156,18 @@ public final class OwlPostSystem {
     }
     
     /**
-     * Finds a player's mailbox near their location.
-     * TODO: Implement proper mailbox finding (could store mailbox positions per player)
+     * Finds the player's own mailbox closest to them in their current level.
      */
     private static net.minecraft.core.BlockPos findPlayerMailbox(net.minecraft.server.level.ServerLevel level, 
                                                                  net.minecraft.server.level.ServerPlayer player) {
-        // Search in a 32 block radius around player
-        net.minecraft.core.BlockPos playerPos = player.blockPosition();
-        int searchRadius = 32;
-        
-        for (int x = -searchRadius; x <= searchRadius; x++) {
-            for (int y = -searchRadius; y <= searchRadius; y++) {
-                for (int z = -searchRadius; z <= searchRadius; z++) {
-                    net.minecraft.core.BlockPos checkPos = playerPos.offset(x, y, z);
-                    if (level.getBlockState(checkPos).getBlock() instanceof at.koopro.spells_n_squares.block.mail.MailboxBlock) {
-                        return checkPos;
-                    }
-                }
-            }
-        }
-        
-        return null;
+        return MailboxRegistry.findNearest(level, player.getUUID(), player.blockPosition());
     }
     
     /**
      * Gets pending mail count for a player.
      */
     public static int getPendingMailCount(UUID playerId) {
-        List<PendingMail> pending = pendingDeliveries.get(playerId);
+        List<PendingMail> pending = ModPersistence.map(PENDING_DELIVERIES).get(playerId);
         return pending != null ? pending.size() : 0;
     }
     
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.misc;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
@@ -37,7 +38,7 @@ public class DungbombItem extends Item {
         pos = pos.add(0, 0.5, 0);
         
         // Create explosion effect
-        serverLevel.sendParticles(
+        ParticlePool.queueParticle(serverLevel,
             ParticleTypes.CLOUD,
             pos.x, pos.y, pos.z,
             50,
@@ -1,12 +1,19 @@
 package at.koopro.spells_n_squares.features.playerclass;
 
+import at.koopro.spells_n_squares.core.api.addon.events.AddonEventBus;
+import at.koopro.spells_n_squares.core.api.addon.events.PlayerClassChangeEvent;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minecraft.world.entity.player.Player;
+import net.neoforged.bus.api.SubscribeEvent;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Resolves and combines abilities from multiple player classes.
  * Handles ability priority, stacking, and conflicts.
+ * Resolved abilities are cached per player until the player's classes change, so ability
+ * checks do not allocate.
  */
 public final class ClassAbilityResolver {
     private ClassAbilityResolver() {
@@ -55,7 +62,51 @@ public final class ClassAbilityResolver {
     // Ability priority map (ability ID -> priority)
     private static final Map<String, Integer> abilityPriorities = new HashMap<>();
     
+    // Dense index per ability ID, used by the resolved ability bitsets
+    private static final Object2IntOpenHashMap<String> abilityOrdinals = new Object2IntOpenHashMap<>();
+    
+    // Resolved abilities per player UUID, one cache per side (the integrated server and the client
+    // run on different threads); invalidated when the player's classes change
+    private static final Map<UUID, ResolvedAbilities> serverCache = new ConcurrentHashMap<>();
+    private static final Map<UUID, ResolvedAbilities> clientCache = new ConcurrentHashMap<>();
+    
+    /**
+     * Immutable, ID-indexed view of a player's resolved abilities.
+     */
+    private static final class ResolvedAbilities {
+        private static final ResolvedAbilities EMPTY = new ResolvedAbilities(new BitSet(), new Ability[0]);
+        
+        // Never modified after construction
+        private final BitSet present;
+        private final Ability[] byOrdinal;
+        private final Set<Ability> all;
+        private final Map<Ability.AbilityType, Set<Ability>> byType = new EnumMap<>(Ability.AbilityType.class);
+        
+        ResolvedAbilities(BitSet present, Ability[] byOrdinal) {
+            this.present = present;
+            this.byOrdinal = byOrdinal;
+            
+            Set<Ability> allAbilities = new HashSet<>();
+            Map<Ability.AbilityType, Set<Ability>> typed = new EnumMap<>(Ability.AbilityType.class);
+            for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1)) {
+                Ability ability = byOrdinal[i];
+                allAbilities.add(ability);
+                typed.computeIfAbsent(ability.type(), k -> new HashSet<>()).add(ability);
+            }
+            this.all = Collections.unmodifiableSet(allAbilities);
+            for (Ability.AbilityType type : Ability.AbilityType.values()) {
+                Set<Ability> ofType = typed.get(type);
+                byType.put(type, ofType == null ? Collections.emptySet() : Collections.unmodifiableSet(ofType));
+            }
+        }
+        
+        Ability get(int ordinal) {
+            return ordinal >= 0 && present.get(ordinal) ? byOrdinal[ordinal] : null;
+        }
+    }
+    
     static {
+        abilityOrdinals.defaultReturnValue(-1);
         initializeDefaultAbilities();
     }
     
@@ -229,31 +280,103 @@ public final class ClassAbilityResolver {
     public static void registerClassAbility(PlayerClass playerClass, Ability ability) {
         classAbilities.computeIfAbsent(playerClass, k -> new HashSet<>()).add(ability);
         abilityPriorities.put(ability.id(), ability.priority());
+        if (!abilityOrdinals.containsKey(ability.id())) {
+            abilityOrdinals.put(ability.id(), abilityOrdinals.size());
+        }
+        invalidateAll();
     }
     
     /**
-     * Gets all active abilities for a player based on their classes.
-     * Combines abilities from all classes, resolving conflicts by priority.
+     * Registers the class change listener.
+     * This should be called during mod initialization.
+     */
+    public static void initialize() {
+        AddonEventBus.getInstance().register(ClassAbilityResolver.class);
+    }
+    
+    /**
+     * Drops the cached abilities of a player whose classes changed.
+     */
+    @SubscribeEvent
+    public static void onPlayerClassChange(PlayerClassChangeEvent event) {
+        invalidate(event.getPlayer());
+    }
+    
+    /**
+     * Drops the cached abilities of a player.
+     * Called whenever a class is added to or removed from the player.
      * @param player The player
-     * @return Set of active abilities
      */
-    public static Set<Ability> getActiveAbilities(Player player) {
-        Set<PlayerClass> classes = PlayerClassManager.getPlayerClasses(player);
-        Map<String, Ability> abilityMap = new HashMap<>();
+    public static void invalidate(Player player) {
+        cacheFor(player).remove(player.getUUID());
+    }
+    
+    /**
+     * Drops the cached abilities of all client-side players.
+     * Called when the client receives new class data from the server.
+     */
+    public static void invalidateClient() {
+        clientCache.clear();
+    }
+    
+    /**
+     * Drops all cached abilities on both sides.
+     */
+    public static void invalidateAll() {
+        serverCache.clear();
+        clientCache.clear();
+    }
+    
+    private static Map<UUID, ResolvedAbilities> cacheFor(Player player) {
+        return player.level().isClientSide() ? clientCache : serverCache;
+    }
+    
+    /**
+     * Gets the resolved abilities of a player, resolving them on the first call after a change.
+     */
+    private static ResolvedAbilities resolve(Player player) {
+        Map<UUID, ResolvedAbilities> cache = cacheFor(player);
+        ResolvedAbilities cached = cache.get(player.getUUID());
+        if (cached != null) {
+            return cached;
+        }
         
-        // Collect all abilities from all classes
-        for (PlayerClass clazz : classes) {
-            Set<Ability> abilities = classAbilities.getOrDefault(clazz, Collections.emptySet());
-            for (Ability ability : abilities) {
-                // If ability already exists, keep the one with higher priority
-                Ability existing = abilityMap.get(ability.id());
-                if (existing == null || ability.priority() > existing.priority()) {
-                    abilityMap.put(ability.id(), ability);
+        Set<PlayerClass> classes = PlayerClassManager.getPlayerClasses(player);
+        ResolvedAbilities resolved;
+        if (classes.isEmpty()) {
+            resolved = ResolvedAbilities.EMPTY;
+        } else {
+            BitSet present = new BitSet(abilityOrdinals.size());
+            Ability[] byOrdinal = new Ability[abilityOrdinals.size()];
+            
+            // Collect all abilities from all classes
+            for (PlayerClass clazz : classes) {
+                Set<Ability> abilities = classAbilities.getOrDefault(clazz, Collections.emptySet());
+                for (Ability ability : abilities) {
+                    // If ability already exists, keep the one with higher priority
+                    int ordinal = abilityOrdinals.getInt(ability.id());
+                    Ability existing = byOrdinal[ordinal];
+                    if (existing == null || ability.priority() > existing.priority()) {
+                        byOrdinal[ordinal] = ability;
+                        present.set(ordinal);
+                    }
                 }
             }
+            resolved = new ResolvedAbilities(present, byOrdinal);
         }
         
-        return new HashSet<>(abilityMap.values());
+        cache.put(player.getUUID(), resolved);
+        return resolved;
+    }
+    
+    /**
+     * Gets all active abilities for a player based on their classes.
+     * Combines abilities from all classes, resolving conflicts by priority.
+     * @param player The player
+     * @return Unmodifiable set of active abilities
+     */
+    public static Set<Ability> getActiveAbilities(Player player) {
+        return resolve(player).all;
     }
     
     /**
@@ -263,13 +386,7 @@ public final class ClassAbilityResolver {
      * @return The ability, or null if player doesn't have it
      */
     public static Ability getAbility(Player player, String abilityId) {
-        Set<Ability> abilities = getActiveAbilities(player);
-        for (Ability ability : abilities) {
-            if (ability.id().equals(abilityId)) {
-                return ability;
-            }
-        }
-        return null;
+        return resolve(player).get(abilityOrdinals.getInt(abilityId));
     }
     
     /**
@@ -286,17 +403,10 @@ public final class ClassAbilityResolver {
      * Gets abilities by type for a player.
      * @param player The player
      * @param type The ability type
-     * @return Set of abilities of the specified type
+     * @return Unmodifiable set of abilities of the specified type
      */
     public static Set<Ability> getAbilitiesByType(Player player, Ability.AbilityType type) {
-        Set<Ability> allAbilities = getActiveAbilities(player);
-        Set<Ability> filtered = new HashSet<>();
-        for (Ability ability : allAbilities) {
-            if (ability.type() == type) {
-                filtered.add(ability);
-            }
-        }
-        return filtered;
+        return resolve(player).byType.get(type);
     }
     
     /**
@@ -118,8 +118,9 @@ public class PlayerClassManager {
         }
         
         // Add to in-memory cache
-        playerClasses.put(player, new HashSet<>(classes));
         classes.add(playerClass);
+        playerClasses.put(player, new HashSet<>(classes));
+        ClassAbilityResolver.invalidate(player);
         
         // Persist to data component
         PlayerClassData.addClass(player, playerClass, acquiredBy);
@@ -156,6 +157,7 @@ public class PlayerClassManager {
         } else {
             playerClasses.put(player, new HashSet<>(classes));
         }
+        ClassAbilityResolver.invalidate(player);
         
         // Persist to data component
         PlayerClassData.removeClass(player, playerClass);
@@ -274,6 +276,7 @@ public class PlayerClassManager {
      */
     public static void clearPlayerData(Player player) {
         playerClasses.remove(player);
+        ClassAbilityResolver.invalidate(player);
     }
     
     /**
@@ -286,6 +289,7 @@ public class PlayerClassManager {
         if (!classes.isEmpty()) {
             playerClasses.put(player, new HashSet<>(classes));
         }
+        ClassAbilityResolver.invalidate(player);
     }
     
     /**
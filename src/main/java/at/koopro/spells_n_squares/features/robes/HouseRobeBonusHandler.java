@@ -1,21 +1,21 @@
 package at.koopro.spells_n_squares.features.robes;
 
-import at.koopro.spells_n_squares.SpellsNSquares;
 import at.koopro.spells_n_squares.core.registry.ModItems;
-import at.koopro.spells_n_squares.core.util.EventUtils;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
-import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.fml.common.EventBusSubscriber;
-import net.neoforged.neoforge.event.tick.PlayerTickEvent;
 
 /**
  * Handles house robe set bonuses.
+ * Driven by the PlayerTickScheduler.
  */
-@EventBusSubscriber(modid = SpellsNSquares.MODID)
 public class HouseRobeBonusHandler {
     
+    // Set bonuses are re-evaluated every 20 ticks (1 second)
+    public static final int BONUS_INTERVAL = 20;
+    
     /**
      * Checks if a player is wearing a full house robe set (chest + legs + boots).
      */
@@ -75,13 +75,7 @@ public class HouseRobeBonusHandler {
     /**
      * Applies house robe set bonuses.
      */
-    @SubscribeEvent
-    public static void onPlayerTick(PlayerTickEvent.Post event) {
-        if (!EventUtils.isServerSide(event)) {
-            return;
-        }
-        
-        Player player = event.getEntity();
+    public static void tick(ServerPlayer player, ServerLevel level) {
         House houseSet = getWornHouseSet(player);
         
         if (houseSet == null) {
@@ -1,7 +1,12 @@
 package at.koopro.spells_n_squares.features.social;
 
+import at.koopro.spells_n_squares.core.persistence.ModPersistence;
+import at.koopro.spells_n_squares.core.persistence.PersistentMap;
+import com.mojang.serialization.Codec;
+import net.minecraft.core.UUIDUtil;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.saveddata.SavedDataType;
 
 import java.util.*;
 
@@ -213,8 +218,10 @@ public final class FriendshipSystem {
         }
     }
     
-    // Friendship points (player1 UUID -> player2 UUID -> points)
-    private static final Map<UUID, Map<UUID, Integer>> friendshipPoints = new HashMap<>();
+    // Friendship points (player1 UUID -> player2 UUID -> points), persisted with the world
+    private static final SavedDataType<PersistentMap<UUID, Map<UUID, Integer>>> FRIENDSHIP_POINTS =
+        PersistentMap.type("friendship_points", UUIDUtil.CODEC,
+            Codec.unboundedMap(UUIDUtil.STRING_CODEC, Codec.INT).<Map<UUID, Integer>>xmap(HashMap::new, map -> map));
     
     // Active friendship quests (player UUID -> quest UUID -> quest data)
     private static final Map<UUID, Map<String, FriendshipQuest>> activeQuests = new HashMap<>();
@@ -266,6 +273,7 @@ public final class FriendshipSystem {
         UUID id1 = player1.getUUID();
         UUID id2 = player2.getUUID();
         
+        PersistentMap<UUID, Map<UUID, Integer>> friendshipPoints = ModPersistence.map(FRIENDSHIP_POINTS);
         friendshipPoints.computeIfAbsent(id1, k -> new HashMap<>()).merge(id2, points, Integer::sum);
         friendshipPoints.computeIfAbsent(id2, k -> new HashMap<>()).merge(id1, points, Integer::sum);
     }
@@ -274,7 +282,7 @@ public final class FriendshipSystem {
      * Gets friendship points between two players.
      */
     public static int getFriendshipPoints(Player player1, Player player2) {
-        Map<UUID, Integer> points = friendshipPoints.get(player1.getUUID());
+        Map<UUID, Integer> points = ModPersistence.map(FRIENDSHIP_POINTS).get(player1.getUUID());
         if (points == null) {
             return 0;
         }
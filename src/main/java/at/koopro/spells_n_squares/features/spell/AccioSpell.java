@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.spell;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.core.registry.SpellRegistry;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
@@ -76,7 +77,7 @@ public class AccioSpell implements Spell {
             pulled = true;
             
             // Visual effect trail
-            serverLevel.sendParticles(
+            ParticlePool.queueParticle(serverLevel,
                 ParticleTypes.ENCHANT,
                 entityPos.x, entityPos.y + entity.getBbHeight() / 2, entityPos.z,
                 3,
@@ -91,7 +92,7 @@ public class AccioSpell implements Spell {
                 SoundEvents.ENCHANTMENT_TABLE_USE, SoundSource.PLAYERS, 0.8f, 1.5f);
             
             // Visual effect at target area
-            serverLevel.sendParticles(
+            ParticlePool.queueParticle(serverLevel,
                 ParticleTypes.END_ROD,
                 targetPos.x, targetPos.y, targetPos.z,
                 15,
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.spell;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.features.convenience.WaypointSystem;
 import at.koopro.spells_n_squares.features.convenience.network.WaypointListPayload;
 import net.minecraft.core.BlockPos;
@@ -267,16 +268,16 @@ public class ApparitionSpell implements Spell {
         serverLevel.playSound(null, player.getX(), player.getY(), player.getZ(),
             SoundEvents.PLAYER_HURT, SoundSource.PLAYERS, 1.0f, 0.5f);
         
-        serverLevel.sendParticles(ParticleTypes.DAMAGE_INDICATOR,
+        ParticlePool.queueParticle(serverLevel, ParticleTypes.DAMAGE_INDICATOR,
             player.getX(), player.getY() + 1.0, player.getZ(),
             15, 0.5, 0.5, 0.5, 0.1);
     }
     
     private void spawnApparitionParticles(ServerLevel level, Vec3 pos) {
-        level.sendParticles(ParticleTypes.POOF, pos.x, pos.y, pos.z, 30, 0.5, 0.5, 0.5, 0.1);
-        level.sendParticles(ParticleTypes.SQUID_INK, pos.x, pos.y, pos.z, 20, 0.6, 0.6, 0.6, 0.05);
-        level.sendParticles(ParticleTypes.CLOUD, pos.x, pos.y, pos.z, 15, 0.4, 0.4, 0.4, 0.08);
-        level.sendParticles(ParticleTypes.PORTAL, pos.x, pos.y, pos.z, 25, 0.5, 0.5, 0.5, 0.05);
+        ParticlePool.queueParticle(level, ParticleTypes.POOF, pos.x, pos.y, pos.z, 30, 0.5, 0.5, 0.5, 0.1);
+        ParticlePool.queueParticle(level, ParticleTypes.SQUID_INK, pos.x, pos.y, pos.z, 20, 0.6, 0.6, 0.6, 0.05);
+        ParticlePool.queueParticle(level, ParticleTypes.CLOUD, pos.x, pos.y, pos.z, 15, 0.4, 0.4, 0.4, 0.08);
+        ParticlePool.queueParticle(level, ParticleTypes.PORTAL, pos.x, pos.y, pos.z, 25, 0.5, 0.5, 0.5, 0.05);
     }
     
     private void playApparitionSound(Level level, Vec3 pos) {
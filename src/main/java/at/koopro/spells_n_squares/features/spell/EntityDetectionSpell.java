@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.spell;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.Identifier;
@@ -71,7 +72,7 @@ public class EntityDetectionSpell implements Spell {
             
             // Visual effect on detected entity
             Vec3 entityPos = entity.position();
-            serverLevel.sendParticles(ParticleTypes.END_ROD,
+            ParticlePool.queueParticle(serverLevel, ParticleTypes.END_ROD,
                 entityPos.x, entityPos.y + entity.getEyeHeight(), entityPos.z,
                 10, 0.2, 0.2, 0.2, 0.05);
         }
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.spell;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.core.registry.SpellRegistry;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.resources.Identifier;
@@ -63,7 +64,7 @@ public class EvanescoSpell implements Spell {
             
             // Visual effect
             Vec3 itemPos = itemEntity.position();
-            serverLevel.sendParticles(
+            ParticlePool.queueParticle(serverLevel,
                 ParticleTypes.POOF,
                 itemPos.x, itemPos.y, itemPos.z,
                 15,
@@ -78,7 +79,7 @@ public class EvanescoSpell implements Spell {
                 SoundEvents.AMETHYST_BLOCK_CHIME, SoundSource.PLAYERS, 0.6f, 1.5f);
             
             // Visual effect at target area
-            serverLevel.sendParticles(
+            ParticlePool.queueParticle(serverLevel,
                 ParticleTypes.POOF,
                 targetPos.x, targetPos.y, targetPos.z,
                 20,
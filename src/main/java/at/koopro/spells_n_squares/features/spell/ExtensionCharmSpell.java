@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.spell;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
@@ -64,7 +65,7 @@ public class ExtensionCharmSpell implements Spell {
         // Full implementation would create an expanded interior dimension
         
         Vec3 centerVec = Vec3.atCenterOf(center);
-        level.sendParticles(ParticleTypes.ENCHANT, centerVec.x, centerVec.y, centerVec.z,
+        ParticlePool.queueParticle(level, ParticleTypes.ENCHANT, centerVec.x, centerVec.y, centerVec.z,
             100, EXPANSION_RADIUS, EXPANSION_RADIUS, EXPANSION_RADIUS, 0.1);
         
         // Place some magical blocks as visual indicator
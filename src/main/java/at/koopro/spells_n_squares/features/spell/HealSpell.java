@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.spell;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.resources.Identifier;
 import net.minecraft.server.level.ServerLevel;
@@ -49,7 +50,7 @@ public class HealSpell implements Spell {
             SoundEvents.EXPERIENCE_ORB_PICKUP, SoundSource.PLAYERS, 0.5f, 1.2f);
         
         if (level instanceof ServerLevel serverLevel) {
-            serverLevel.sendParticles(ParticleTypes.HEART,
+            ParticlePool.queueParticle(serverLevel, ParticleTypes.HEART,
                 player.getX(), player.getY() + 1.0, player.getZ(),
                 5, 0.5, 0.5, 0.5, 0.1);
         }
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.spell;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.core.registry.SpellRegistry;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.resources.Identifier;
@@ -91,7 +92,7 @@ public class ImmobulusSpell implements Spell {
                 
                 // Visual effect
                 Vec3 entityPos = entity.position();
-                serverLevel.sendParticles(
+                ParticlePool.queueParticle(serverLevel,
                     ParticleTypes.SNOWFLAKE,
                     entityPos.x, entityPos.y + entity.getBbHeight() / 2, entityPos.z,
                     20,
@@ -107,7 +108,7 @@ public class ImmobulusSpell implements Spell {
                 SoundEvents.GLASS_BREAK, SoundSource.PLAYERS, 0.8f, 0.5f);
             
             // Visual effect at target area
-            serverLevel.sendParticles(
+            ParticlePool.queueParticle(serverLevel,
                 ParticleTypes.ITEM_SNOWBALL,
                 targetPos.x, targetPos.y, targetPos.z,
                 15,
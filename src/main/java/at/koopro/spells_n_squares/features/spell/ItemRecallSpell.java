@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.spell;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.Identifier;
@@ -70,7 +71,7 @@ public class ItemRecallSpell implements Spell {
             recalled++;
             
             // Visual effect at original position
-            serverLevel.sendParticles(ParticleTypes.END_ROD,
+            ParticlePool.queueParticle(serverLevel, ParticleTypes.END_ROD,
                 itemPos.x, itemPos.y, itemPos.z,
                 5, 0.1, 0.1, 0.1, 0.05);
         }
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.spell;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.core.registry.SpellRegistry;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.resources.Identifier;
@@ -79,7 +80,7 @@ public class LanglockSpell implements Spell {
                 
                 // Visual effect
                 Vec3 entityPos = entity.position();
-                serverLevel.sendParticles(
+                ParticlePool.queueParticle(serverLevel,
                     ParticleTypes.ITEM_SLIME,
                     entityPos.x, entityPos.y + entity.getBbHeight() * 0.8, entityPos.z,
                     15,
@@ -95,7 +96,7 @@ public class LanglockSpell implements Spell {
                 SoundEvents.SLIME_ATTACK, SoundSource.PLAYERS, 0.6f, 0.8f);
             
             // Visual effect at target area
-            serverLevel.sendParticles(
+            ParticlePool.queueParticle(serverLevel,
                 ParticleTypes.ITEM_SLIME,
                 targetPos.x, targetPos.y, targetPos.z,
                 20,
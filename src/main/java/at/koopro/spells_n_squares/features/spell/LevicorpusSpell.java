@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.spell;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.core.registry.SpellRegistry;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.resources.Identifier;
@@ -76,7 +77,7 @@ public class LevicorpusSpell implements Spell {
                 
                 // Visual effect
                 Vec3 entityPos = entity.position();
-                serverLevel.sendParticles(
+                ParticlePool.queueParticle(serverLevel,
                     ParticleTypes.ENCHANT,
                     entityPos.x, entityPos.y + entity.getBbHeight(), entityPos.z,
                     20,
@@ -92,7 +93,7 @@ public class LevicorpusSpell implements Spell {
                 SoundEvents.ENDERMAN_TELEPORT, SoundSource.PLAYERS, 0.7f, 1.2f);
             
             // Visual effect at target area
-            serverLevel.sendParticles(
+            ParticlePool.queueParticle(serverLevel,
                 ParticleTypes.ENCHANT,
                 targetPos.x, targetPos.y + 1.0, targetPos.z,
                 25,
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.spell;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.core.registry.SpellRegistry;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.resources.Identifier;
@@ -70,7 +71,7 @@ public class LiberacorpusSpell implements Spell {
                 
                 // Visual effect
                 Vec3 entityPos = entity.position();
-                serverLevel.sendParticles(
+                ParticlePool.queueParticle(serverLevel,
                     ParticleTypes.ENCHANT,
                     entityPos.x, entityPos.y + entity.getBbHeight(), entityPos.z,
                     15,
@@ -86,7 +87,7 @@ public class LiberacorpusSpell implements Spell {
                 SoundEvents.ENDERMAN_TELEPORT, SoundSource.PLAYERS, 0.6f, 1.5f);
             
             // Visual effect at target area
-            serverLevel.sendParticles(
+            ParticlePool.queueParticle(serverLevel,
                 ParticleTypes.ENCHANT,
                 targetPos.x, targetPos.y + 1.0, targetPos.z,
                 20,
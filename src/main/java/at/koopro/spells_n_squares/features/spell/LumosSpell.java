@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.spell;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.core.registry.ModDataComponents;
 import at.koopro.spells_n_squares.core.registry.ModSounds;
 import at.koopro.spells_n_squares.core.registry.ModTags;
@@ -63,6 +64,7 @@ public class LumosSpell implements Spell {
                 at.koopro.spells_n_squares.core.registry.ModEntities.LIGHT_ORB.get(),
                 level
             );
+            orb.setPos(spawnPos);
             level.addFreshEntity(orb);
             
             // Turn off Lumos on the wand
@@ -87,15 +89,15 @@ public class LumosSpell implements Spell {
             if (level instanceof ServerLevel serverLevel) {
                 if (newState) {
                     // Lumos: bright particles
-                    serverLevel.sendParticles(ParticleTypes.END_ROD,
+                    ParticlePool.queueParticle(serverLevel, ParticleTypes.END_ROD,
                         player.getX(), player.getY() + 1.0, player.getZ(),
                         15, 0.5, 0.5, 0.5, 0.1);
-                    serverLevel.sendParticles(ParticleTypes.ELECTRIC_SPARK,
+                    ParticlePool.queueParticle(serverLevel, ParticleTypes.ELECTRIC_SPARK,
                         player.getX(), player.getY() + 1.0, player.getZ(),
                         10, 0.3, 0.3, 0.3, 0.05);
                 } else {
                     // Nox: dark particles
-                    serverLevel.sendParticles(ParticleTypes.SMOKE,
+                    ParticlePool.queueParticle(serverLevel, ParticleTypes.SMOKE,
                         player.getX(), player.getY() + 1.0, player.getZ(),
                         10, 0.3, 0.3, 0.3, 0.05);
                 }
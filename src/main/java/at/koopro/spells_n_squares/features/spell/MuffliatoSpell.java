@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.spell;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.core.registry.SpellRegistry;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.resources.Identifier;
@@ -52,7 +53,7 @@ public class MuffliatoSpell implements Spell {
             SoundEvents.BEE_LOOP, SoundSource.PLAYERS, 0.5f, 0.5f);
         
         // Visual effect - buzzing particles
-        serverLevel.sendParticles(
+        ParticlePool.queueParticle(serverLevel,
             ParticleTypes.NOTE,
             pos.x, pos.y + player.getEyeHeight(), pos.z,
             20,
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.spell;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.core.registry.SpellRegistry;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.resources.Identifier;
@@ -56,7 +57,7 @@ public class OrchideousSpell implements Spell {
         level.addFreshEntity(flowerEntity);
         
         // Visual effect
-        serverLevel.sendParticles(
+        ParticlePool.queueParticle(serverLevel,
             ParticleTypes.HAPPY_VILLAGER,
             pos.x, pos.y, pos.z,
             20,
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.spell;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.core.registry.SpellRegistry;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.resources.Identifier;
@@ -51,7 +52,7 @@ public class PericulumSpell implements Spell {
             Vec3 sparkPos = pos.add(direction.scale(i * 0.5));
             sparkPos = sparkPos.add(0, i * 0.5, 0);
             
-            serverLevel.sendParticles(
+            ParticlePool.queueParticle(serverLevel,
                 ParticleTypes.FLAME,
                 sparkPos.x, sparkPos.y, sparkPos.z,
                 10,
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.spell;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.Identifier;
@@ -44,7 +45,7 @@ public class PortableCraftingSpell implements Spell {
         
         // Visual effect
         Vec3 pos = player.position();
-        serverLevel.sendParticles(ParticleTypes.ENCHANT, pos.x, pos.y + 1.0, pos.z,
+        ParticlePool.queueParticle(serverLevel, ParticleTypes.ENCHANT, pos.x, pos.y + 1.0, pos.z,
             30, 0.3, 0.3, 0.3, 0.1);
         
         // Simplified: send message for now
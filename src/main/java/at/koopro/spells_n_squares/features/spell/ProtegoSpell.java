@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.spell;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.features.spell.entity.ShieldOrbEntity;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.resources.Identifier;
@@ -90,13 +91,13 @@ public class ProtegoSpell implements Spell {
             SoundEvents.ENCHANTMENT_TABLE_USE, SoundSource.PLAYERS, 1.0f, 1.5f);
         
         // Initial burst effect when shield is cast
-        serverLevel.sendParticles(
+        ParticlePool.queueParticle(serverLevel,
             ParticleTypes.ELECTRIC_SPARK,
             pos.x, pos.y, pos.z,
             50, 1.5, 1.0, 1.5, 0.1
         );
         
-        serverLevel.sendParticles(
+        ParticlePool.queueParticle(serverLevel,
             ParticleTypes.ENCHANT,
             pos.x, pos.y, pos.z,
             30, 1.2, 0.8, 1.2, 0.05
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.spell;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.core.registry.SpellRegistry;
 import at.koopro.spells_n_squares.features.creatures.hostile.BoggartEntity;
 import net.minecraft.core.particles.ParticleTypes;
@@ -67,7 +68,7 @@ public class RiddikulusSpell implements Spell {
                 // Visual effects - happy particles
                 Vec3 boggartPos = boggart.position();
                 for (int i = 0; i < 20; i++) {
-                    serverLevel.sendParticles(
+                    ParticlePool.queueParticle(serverLevel,
                         ParticleTypes.HAPPY_VILLAGER,
                         boggartPos.x, boggartPos.y + boggart.getBbHeight() / 2, boggartPos.z,
                         1,
@@ -84,7 +85,7 @@ public class RiddikulusSpell implements Spell {
         
         if (hitBoggart) {
             // Visual effect at target area
-            serverLevel.sendParticles(
+            ParticlePool.queueParticle(serverLevel,
                 ParticleTypes.ENCHANT,
                 targetPos.x, targetPos.y, targetPos.z,
                 15,
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.spell;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.core.registry.SpellRegistry;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.resources.Identifier;
@@ -80,7 +81,7 @@ public class SilencioSpell implements Spell {
                 
                 // Visual effect
                 Vec3 entityPos = entity.position();
-                serverLevel.sendParticles(
+                ParticlePool.queueParticle(serverLevel,
                     ParticleTypes.CLOUD,
                     entityPos.x, entityPos.y + entity.getBbHeight() / 2, entityPos.z,
                     15,
@@ -96,7 +97,7 @@ public class SilencioSpell implements Spell {
                 SoundEvents.AMETHYST_BLOCK_CHIME, SoundSource.PLAYERS, 0.5f, 0.1f);
             
             // Visual effect at target area
-            serverLevel.sendParticles(
+            ParticlePool.queueParticle(serverLevel,
                 ParticleTypes.CLOUD,
                 targetPos.x, targetPos.y, targetPos.z,
                 20,
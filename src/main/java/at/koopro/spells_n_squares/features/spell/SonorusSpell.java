@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.spell;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.core.registry.SpellRegistry;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.resources.Identifier;
@@ -49,7 +50,7 @@ public class SonorusSpell implements Spell {
         Vec3 pos = player.position();
         
         // Visual effect
-        serverLevel.sendParticles(
+        ParticlePool.queueParticle(serverLevel,
             ParticleTypes.NOTE,
             pos.x, pos.y + player.getEyeHeight(), pos.z,
             30,
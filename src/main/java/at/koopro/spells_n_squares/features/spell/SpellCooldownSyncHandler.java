@@ -0,0 +1,18 @@
+package at.koopro.spells_n_squares.features.spell;
+
+import at.koopro.spells_n_squares.SpellsNSquares;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+
+/**
+ * Flushes batched spell cooldown changes to clients once per server tick.
+ */
+@EventBusSubscriber(modid = SpellsNSquares.MODID)
+public class SpellCooldownSyncHandler {
+
+    @SubscribeEvent
+    public static void onServerTick(ServerTickEvent.Post event) {
+        SpellManager.flushCooldownSync(event.getServer());
+    }
+}
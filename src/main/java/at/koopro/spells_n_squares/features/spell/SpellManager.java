@@ -3,11 +3,19 @@ package at.koopro.spells_n_squares.features.spell;
 import at.koopro.spells_n_squares.core.api.addon.events.AddonEventBus;
 import at.koopro.spells_n_squares.core.api.addon.events.SpellCastEvent;
 import at.koopro.spells_n_squares.core.api.addon.events.SpellSlotChangeEvent;
+import at.koopro.spells_n_squares.core.persistence.ModPersistence;
+import at.koopro.spells_n_squares.core.persistence.PersistentMap;
 import at.koopro.spells_n_squares.core.registry.SpellRegistry;
+import at.koopro.spells_n_squares.features.spell.network.SpellCooldownSyncPayload;
+import com.mojang.serialization.Codec;
+import net.minecraft.core.UUIDUtil;
 import net.minecraft.resources.Identifier;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.saveddata.SavedDataType;
+import net.neoforged.neoforge.network.PacketDistributor;
 
 import java.util.*;
 import java.util.Set;
@@ -25,14 +33,69 @@ public class SpellManager {
     public static final int MAX_SLOTS = 4;
     public static final int[] SLOTS = {SLOT_TOP, SLOT_BOTTOM, SLOT_LEFT, SLOT_RIGHT};
     
+    // Slot assignments are stored as slot index -> spell ID, empty slots are omitted
+    private static final Codec<Identifier[]> SLOTS_CODEC = Codec.unboundedMap(Codec.STRING, Identifier.CODEC).xmap(
+        map -> {
+            Identifier[] slots = new Identifier[MAX_SLOTS];
+            map.forEach((slot, spellId) -> {
+                int index = Integer.parseInt(slot);
+                if (isValidSlot(index)) {
+                    slots[index] = spellId;
+                }
+            });
+            return slots;
+        },
+        slots -> {
+            Map<String, Identifier> map = new HashMap<>();
+            for (int i = 0; i < slots.length; i++) {
+                if (slots[i] != null) {
+                    map.put(String.valueOf(i), slots[i]);
+                }
+            }
+            return map;
+        }
+    );
+    
     // Per-player spell slot assignments (slot index -> spell ID)
-    private static final Map<UUID, Identifier[]> playerSpellSlots = new HashMap<>();
+    private static final SavedDataType<PersistentMap<UUID, Identifier[]>> SPELL_SLOTS =
+        PersistentMap.type("spell_slots", UUIDUtil.CODEC, SLOTS_CODEC);
     
-    // Per-player spell cooldowns (spell ID -> remaining ticks)
-    private static final Map<UUID, Map<Identifier, Integer>> playerCooldowns = new HashMap<>();
+    // Cooldown tables are stored as spell ID -> expiry game tick, so indices may change between versions
+    private static final Codec<long[]> COOLDOWN_TABLE_CODEC = Codec.unboundedMap(Identifier.CODEC, Codec.LONG).xmap(
+        map -> {
+            long[] table = new long[SpellRegistry.size()];
+            map.forEach((spellId, expiresAt) -> {
+                int index = SpellRegistry.getIndex(spellId);
+                if (index >= 0) {
+                    table[index] = expiresAt;
+                }
+            });
+            return table;
+        },
+        table -> {
+            Map<Identifier, Long> map = new HashMap<>();
+            for (int i = 0; i < table.length; i++) {
+                Identifier spellId = SpellRegistry.getId(i);
+                if (table[i] > 0 && spellId != null) {
+                    map.put(spellId, table[i]);
+                }
+            }
+            return map;
+        }
+    );
+    
+    // Per-player spell cooldowns (spell index -> expiry game tick, 0 = not on cooldown)
+    private static final SavedDataType<PersistentMap<UUID, long[]>> COOLDOWNS =
+        PersistentMap.type("spell_cooldowns", UUIDUtil.CODEC, COOLDOWN_TABLE_CODEC);
     
     // Per-player learned spells (set of spell IDs)
-    private static final Map<UUID, Set<Identifier>> playerLearnedSpells = new HashMap<>();
+    private static final SavedDataType<PersistentMap<UUID, Set<Identifier>>> LEARNED_SPELLS =
+        PersistentMap.type("learned_spells", UUIDUtil.CODEC,
+            Identifier.CODEC.listOf().<Set<Identifier>>xmap(HashSet::new, ArrayList::new));
+    
+    // Cooldown changes waiting to be sent, batched per player and flushed once per server tick
+    // (player UUID -> spell ID -> expiry game tick, 0 = cancelled)
+    private static final Map<UUID, Map<Identifier, Long>> pendingCooldownSync = new HashMap<>();
     
     /**
      * Validates if a slot index is valid.
@@ -55,7 +118,7 @@ public class SpellManager {
         }
         
         UUID uuid = player.getUUID();
-        Identifier[] slots = playerSpellSlots.computeIfAbsent(uuid, k -> new Identifier[MAX_SLOTS]);
+        Identifier[] slots = ModPersistence.map(SPELL_SLOTS).computeIfAbsent(uuid, k -> new Identifier[MAX_SLOTS]);
         
         Identifier oldSpellId = slots[slot];
         slots[slot] = spellId;
@@ -84,7 +147,7 @@ public class SpellManager {
         }
         
         UUID uuid = player.getUUID();
-        Identifier[] slots = playerSpellSlots.get(uuid);
+        Identifier[] slots = ModPersistence.map(SPELL_SLOTS).get(uuid);
         if (slots == null) {
             return null;
         }
@@ -92,6 +155,16 @@ public class SpellManager {
         return slots[slot];
     }
     
+    /**
+     * Checks if a player has any spell slot assignments stored.
+     * Used to only assign default spells to players joining for the first time.
+     * @param player The player
+     * @return true if the player has stored slot assignments
+     */
+    public static boolean hasSpellSlots(Player player) {
+        return ModPersistence.map(SPELL_SLOTS).containsKey(player.getUUID());
+    }
+    
     /**
      * Casts the spell in the specified slot for a player.
      * @param player The player casting
@@ -130,11 +203,6 @@ public class SpellManager {
             // Fire event
             SpellCastEvent event = new SpellCastEvent(player, spell, level, slot);
             AddonEventBus.getInstance().post(event);
-            
-            // Sync cooldowns to client
-            if (player instanceof ServerPlayer serverPlayer) {
-                syncCooldownsToClient(serverPlayer);
-            }
         }
         
         return success;
@@ -151,30 +219,92 @@ public class SpellManager {
             return;
         }
         
-        UUID uuid = player.getUUID();
-        Map<Identifier, Integer> cooldowns = playerCooldowns.computeIfAbsent(uuid, k -> new HashMap<>());
-        cooldowns.put(spellId, ticks);
+        int index = SpellRegistry.getIndex(spellId);
+        if (index < 0) {
+            return;
+        }
+        
+        long expiresAt = player.level().getGameTime() + ticks;
+        long[] table = getCooldownTable(player, true);
+        table[index] = expiresAt;
+        queueCooldownSync(player, spellId, expiresAt);
     }
     
     /**
-     * Checks if a spell is on cooldown for a player.
+     * Cancels a spell's cooldown for a player.
      * @param player The player
      * @param spellId The spell ID
-     * @return true if on cooldown
      */
-    public static boolean isOnCooldown(Player player, Identifier spellId) {
+    public static void clearCooldown(Player player, Identifier spellId) {
         if (spellId == null) {
-            return false;
+            return;
         }
         
-        UUID uuid = player.getUUID();
-        Map<Identifier, Integer> cooldowns = playerCooldowns.get(uuid);
-        if (cooldowns == null) {
-            return false;
+        int index = SpellRegistry.getIndex(spellId);
+        long[] table = getCooldownTable(player, false);
+        if (index < 0 || table == null || table[index] <= player.level().getGameTime()) {
+            return;
+        }
+        table[index] = 0L;
+        ModPersistence.map(COOLDOWNS).setDirty();
+        queueCooldownSync(player, spellId, 0L);
+    }
+    
+    /**
+     * Gets a player's cooldown table, indexed by {@link SpellRegistry#getIndex}.
+     * @param player The player
+     * @param create Whether to create the table if the player has none (marks the store dirty)
+     * @return The table, or null if the player has none and create is false
+     */
+    private static long[] getCooldownTable(Player player, boolean create) {
+        PersistentMap<UUID, long[]> store = ModPersistence.map(COOLDOWNS);
+        long[] table = create ? store.computeIfAbsent(player.getUUID(), k -> new long[SpellRegistry.size()])
+            : store.get(player.getUUID());
+        if (table != null && table.length < SpellRegistry.size()) {
+            // Tables decoded before every spell was registered are widened on first use
+            table = Arrays.copyOf(table, SpellRegistry.size());
+            store.put(player.getUUID(), table);
+        }
+        return table;
+    }
+    
+    /**
+     * Queues a cooldown change for the next batched sync.
+     * Only starts and cancellations are synced; the client counts down to the expiry itself.
+     */
+    private static void queueCooldownSync(Player player, Identifier spellId, long expiresAt) {
+        if (player instanceof ServerPlayer) {
+            pendingCooldownSync.computeIfAbsent(player.getUUID(), k -> new HashMap<>()).put(spellId, expiresAt);
+        }
+    }
+    
+    /**
+     * Sends all queued cooldown changes, one payload per player.
+     * Called once at the end of every server tick.
+     * @param server The server
+     */
+    public static void flushCooldownSync(MinecraftServer server) {
+        if (pendingCooldownSync.isEmpty()) {
+            return;
         }
         
-        Integer remaining = cooldowns.get(spellId);
-        return remaining != null && remaining > 0;
+        for (Map.Entry<UUID, Map<Identifier, Long>> entry : pendingCooldownSync.entrySet()) {
+            ServerPlayer serverPlayer = server.getPlayerList().getPlayer(entry.getKey());
+            if (serverPlayer != null) {
+                PacketDistributor.sendToPlayer(serverPlayer, new SpellCooldownSyncPayload(entry.getValue(), false));
+            }
+        }
+        pendingCooldownSync.clear();
+    }
+    
+    /**
+     * Checks if a spell is on cooldown for a player.
+     * @param player The player
+     * @param spellId The spell ID
+     * @return true if on cooldown
+     */
+    public static boolean isOnCooldown(Player player, Identifier spellId) {
+        return getRemainingCooldown(player, spellId) > 0;
     }
     
     /**
@@ -188,46 +318,23 @@ public class SpellManager {
             return 0;
         }
         
-        UUID uuid = player.getUUID();
-        Map<Identifier, Integer> cooldowns = playerCooldowns.get(uuid);
-        if (cooldowns == null) {
+        int index = SpellRegistry.getIndex(spellId);
+        long[] table = getCooldownTable(player, false);
+        if (index < 0 || table == null) {
             return 0;
         }
         
-        Integer remaining = cooldowns.get(spellId);
-        return remaining != null ? Math.max(0, remaining) : 0;
+        return (int) Math.max(0L, table[index] - player.level().getGameTime());
     }
     
     /**
-     * Ticks all cooldowns for a player. Call this every tick.
+     * Ticks all cooldowns for a player.
+     * Cooldowns are stored as expiry game ticks and expire on their own, so this does nothing.
+     * Kept for API compatibility.
      * @param player The player
      */
     public static void tickCooldowns(Player player) {
-        UUID uuid = player.getUUID();
-        Map<Identifier, Integer> cooldowns = playerCooldowns.get(uuid);
-        if (cooldowns == null || cooldowns.isEmpty()) {
-            return;
-        }
-        
-        // Decrement all cooldowns and remove expired ones
-        Iterator<Map.Entry<Identifier, Integer>> iterator = cooldowns.entrySet().iterator();
-        boolean changed = false;
-        while (iterator.hasNext()) {
-            Map.Entry<Identifier, Integer> entry = iterator.next();
-            int remaining = entry.getValue() - 1;
-            if (remaining <= 0) {
-                iterator.remove();
-                changed = true;
-            } else {
-                entry.setValue(remaining);
-                changed = true;
-            }
-        }
-        
-        // Sync to client if cooldowns changed
-        if (changed && player instanceof ServerPlayer serverPlayer) {
-            syncCooldownsToClient(serverPlayer);
-        }
+        // Nothing to do - remaining time is derived from the game time
     }
     
     /**
@@ -242,7 +349,7 @@ public class SpellManager {
         }
         
         UUID uuid = player.getUUID();
-        Set<Identifier> learnedSpells = playerLearnedSpells.get(uuid);
+        Set<Identifier> learnedSpells = ModPersistence.map(LEARNED_SPELLS).get(uuid);
         return learnedSpells != null && learnedSpells.contains(spellId);
     }
     
@@ -263,26 +370,25 @@ public class SpellManager {
         }
         
         UUID uuid = player.getUUID();
-        Set<Identifier> learnedSpells = playerLearnedSpells.computeIfAbsent(uuid, k -> new HashSet<>());
+        PersistentMap<UUID, Set<Identifier>> store = ModPersistence.map(LEARNED_SPELLS);
+        Set<Identifier> learnedSpells = store.computeIfAbsent(uuid, k -> new HashSet<>());
         
         if (learnedSpells.contains(spellId)) {
             return false; // Already learned
         }
         
         learnedSpells.add(spellId);
+        store.setDirty();
         return true; // Newly learned
     }
     
     /**
-     * Clears all spell data for a player.
      * Called when a player disconnects.
+     * Slots, cooldowns and learned spells are world-persistent and kept for the next login.
      * @param player The player
      */
     public static void clearPlayerData(Player player) {
-        UUID uuid = player.getUUID();
-        playerSpellSlots.remove(uuid);
-        playerCooldowns.remove(uuid);
-        playerLearnedSpells.remove(uuid);
+        // Nothing to clear - spell data lives in the world's persistent storage
     }
     
     /**
@@ -296,12 +402,26 @@ public class SpellManager {
     }
     
     /**
-     * Syncs cooldowns to the client for a server player.
-     * TODO: Implement network sync when network payloads are enabled
+     * Sends the full cooldown state to the client for a server player.
+     * Used on login; afterwards only starts and cancellations are synced.
      * @param serverPlayer The server player
      */
     public static void syncCooldownsToClient(ServerPlayer serverPlayer) {
-        // TODO: Send SpellCooldownSyncPayload to client
-        // Currently commented out in ModNetwork.java until network payloads are implemented
+        UUID uuid = serverPlayer.getUUID();
+        long now = serverPlayer.level().getGameTime();
+        Map<Identifier, Long> expiries = new HashMap<>();
+        long[] table = getCooldownTable(serverPlayer, false);
+        if (table != null) {
+            for (int i = 0; i < table.length; i++) {
+                Identifier spellId = SpellRegistry.getId(i);
+                if (table[i] > now && spellId != null) {
+                    expiries.put(spellId, table[i]);
+                }
+            }
+        }
+        
+        // The full state supersedes any queued deltas
+        pendingCooldownSync.remove(uuid);
+        PacketDistributor.sendToPlayer(serverPlayer, new SpellCooldownSyncPayload(expiries, true));
     }
 }
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.spell;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.resources.Identifier;
@@ -54,10 +55,10 @@ public class TeleportSpell implements Spell {
                 SoundEvents.ENDERMAN_TELEPORT, SoundSource.PLAYERS, 1.0f, 1.0f);
             
             if (level instanceof ServerLevel serverLevel) {
-                serverLevel.sendParticles(ParticleTypes.PORTAL,
+                ParticlePool.queueParticle(serverLevel, ParticleTypes.PORTAL,
                     currentPos.x, currentPos.y + 1.0, currentPos.z,
                     20, 0.5, 0.5, 0.5, 0.1);
-                serverLevel.sendParticles(ParticleTypes.PORTAL,
+                ParticlePool.queueParticle(serverLevel, ParticleTypes.PORTAL,
                     targetPos.x, targetPos.y + 1.0, targetPos.z,
                     20, 0.5, 0.5, 0.5, 0.1);
             }
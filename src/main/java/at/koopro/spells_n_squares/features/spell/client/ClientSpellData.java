@@ -2,6 +2,7 @@ package at.koopro.spells_n_squares.features.spell.client;
 
 import at.koopro.spells_n_squares.features.spell.SpellManager;
 import at.koopro.spells_n_squares.features.playerclass.PlayerClass;
+import net.minecraft.client.Minecraft;
 import net.minecraft.resources.Identifier;
 
 import java.util.HashMap;
@@ -15,8 +16,8 @@ public class ClientSpellData {
     // Client-side spell slot assignments (slot index -> spell ID)
     private static final Identifier[] clientSpellSlots = new Identifier[SpellManager.MAX_SLOTS];
     
-    // Client-side spell cooldowns (spell ID -> remaining ticks)
-    private static final Map<Identifier, Integer> clientCooldowns = new HashMap<>();
+    // Client-side spell cooldowns (spell ID -> game tick the cooldown expires at)
+    private static final Map<Identifier, Long> clientCooldowns = new HashMap<>();
     
     // Client-side player class
     private static PlayerClass clientPlayerClass = PlayerClass.NONE;
@@ -62,11 +63,7 @@ public class ClientSpellData {
      * @return true if the spell is on cooldown
      */
     public static boolean isOnCooldown(Identifier spellId) {
-        if (spellId == null) {
-            return false;
-        }
-        Integer cooldown = clientCooldowns.get(spellId);
-        return cooldown != null && cooldown > 0;
+        return getCooldown(spellId) > 0;
     }
     
     /**
@@ -78,50 +75,68 @@ public class ClientSpellData {
         if (spellId == null) {
             return 0;
         }
-        return clientCooldowns.getOrDefault(spellId, 0);
+        Long expiresAt = clientCooldowns.get(spellId);
+        if (expiresAt == null) {
+            return 0;
+        }
+        return (int) Math.max(0L, expiresAt - getGameTime());
     }
     
     /**
      * Sets the cooldown for a spell.
      * @param spellId The spell ID
-     * @param ticks The cooldown duration in ticks
+     * @param ticks The cooldown duration in ticks, starting now
      */
     public static void setCooldown(Identifier spellId, int ticks) {
         if (spellId == null) {
             return;
         }
         if (ticks > 0) {
-            clientCooldowns.put(spellId, ticks);
+            clientCooldowns.put(spellId, getGameTime() + ticks);
         } else {
             clientCooldowns.remove(spellId);
         }
     }
     
     /**
-     * Updates all cooldowns from server data.
-     * @param cooldowns Map of spell IDs to cooldown ticks
+     * Applies a cooldown sync from the server.
+     * @param expiries Map of spell IDs to the game tick their cooldown expires at (0 = cancelled)
+     * @param full true if this is the complete cooldown state, false if it only contains changes
      */
-    public static void updateCooldowns(Map<Identifier, Integer> cooldowns) {
-        if (cooldowns == null) {
+    public static void applyCooldownSync(Map<Identifier, Long> expiries, boolean full) {
+        if (full) {
+            clientCooldowns.clear();
+        }
+        if (expiries == null) {
             return;
         }
-        clientCooldowns.clear();
-        clientCooldowns.putAll(cooldowns);
+        long now = getGameTime();
+        for (Map.Entry<Identifier, Long> entry : expiries.entrySet()) {
+            long expiresAt = entry.getValue();
+            if (expiresAt > now) {
+                clientCooldowns.put(entry.getKey(), expiresAt);
+            } else {
+                clientCooldowns.remove(entry.getKey());
+            }
+        }
     }
     
     /**
-     * Ticks all cooldowns, decrementing them by 1.
+     * Removes expired cooldowns.
+     * Remaining time is derived from the game time, so nothing needs to be decremented.
      * Called every client tick.
      */
     public static void tickCooldowns() {
-        clientCooldowns.entrySet().removeIf(entry -> {
-            int newValue = entry.getValue() - 1;
-            if (newValue <= 0) {
-                return true; // Remove expired cooldowns
-            }
-            entry.setValue(newValue);
-            return false;
-        });
+        if (clientCooldowns.isEmpty()) {
+            return;
+        }
+        long now = getGameTime();
+        clientCooldowns.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+    
+    private static long getGameTime() {
+        Minecraft minecraft = Minecraft.getInstance();
+        return minecraft.level != null ? minecraft.level.getGameTime() : 0L;
     }
     
     /**
@@ -0,0 +1,87 @@
+package at.koopro.spells_n_squares.features.spell.client;
+
+import at.koopro.spells_n_squares.SpellsNSquares;
+import at.koopro.spells_n_squares.core.client.DynamicLightEngine;
+import at.koopro.spells_n_squares.core.util.LightConstants;
+import at.koopro.spells_n_squares.features.spell.LumosManager;
+import at.koopro.spells_n_squares.features.spell.entity.LightOrbEntity;
+import net.minecraft.client.Minecraft;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Player;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.ClientTickEvent;
+import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Client-side handler that feeds Lumos wands and light orbs into the dynamic light overlay.
+ * Lights follow their holder or orb block by block; the light engine skips updates that
+ * did not move the light to another block.
+ */
+@EventBusSubscriber(modid = SpellsNSquares.MODID, value = Dist.CLIENT)
+public class LumosLightHandler {
+    // Players whose Lumos light is currently registered
+    private static final Set<Player> litPlayers = new HashSet<>();
+    // Light orbs in the client level
+    private static final Set<LightOrbEntity> orbs = new HashSet<>();
+
+    @SubscribeEvent
+    public static void onClientTick(ClientTickEvent.Post event) {
+        Minecraft mc = Minecraft.getInstance();
+        if (mc.level == null) {
+            return;
+        }
+
+        for (Player player : mc.level.players()) {
+            if (LumosManager.isLumosActive(player)) {
+                DynamicLightEngine.setPointLight(player, BlockPos.containing(player.getEyePosition()),
+                    LightConstants.MAX_LIGHT_LEVEL, LightConstants.LUMOS_LIGHT_RANGE);
+                litPlayers.add(player);
+            } else if (litPlayers.remove(player)) {
+                DynamicLightEngine.remove(player);
+            }
+        }
+
+        for (LightOrbEntity orb : orbs) {
+            DynamicLightEngine.setPointLight(orb, orb.blockPosition(),
+                LightConstants.MAX_LIGHT_LEVEL, LightConstants.LIGHT_ORB_LIGHT_RANGE);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityJoinLevel(EntityJoinLevelEvent event) {
+        if (event.getLevel().isClientSide() && event.getEntity() instanceof LightOrbEntity orb) {
+            orbs.add(orb);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeaveLevel(EntityLeaveLevelEvent event) {
+        if (!event.getLevel().isClientSide()) {
+            return;
+        }
+        Entity entity = event.getEntity();
+        if (entity instanceof LightOrbEntity orb) {
+            orbs.remove(orb);
+            DynamicLightEngine.remove(orb);
+        } else if (entity instanceof Player player && litPlayers.remove(player)) {
+            DynamicLightEngine.remove(player);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel().isClientSide()) {
+            litPlayers.clear();
+            orbs.clear();
+            DynamicLightEngine.clear();
+        }
+    }
+}
@@ -12,30 +12,34 @@ import java.util.Map;
 
 /**
  * Network payload for syncing spell cooldowns from server to client.
- * Contains a map of spell IDs to remaining cooldown ticks.
+ * Contains a map of spell IDs to the game tick at which their cooldown expires.
+ * An expiry of 0 means the cooldown was cancelled. Delta payloads only contain spells whose
+ * cooldown started or was cancelled; full payloads replace the client's cooldowns entirely.
  */
-public record SpellCooldownSyncPayload(Map<Identifier, Integer> cooldowns) implements CustomPacketPayload {
+public record SpellCooldownSyncPayload(Map<Identifier, Long> expiries, boolean full) implements CustomPacketPayload {
     public static final CustomPacketPayload.Type<SpellCooldownSyncPayload> TYPE =
         new CustomPacketPayload.Type<>(ModIdentifierHelper.modId("spell_cooldown_sync"));
     
     private static final StreamCodec<ByteBuf, Identifier> IDENTIFIER_CODEC =
         ByteBufCodecs.STRING_UTF8.map(Identifier::parse, Identifier::toString);
     
-    private static final StreamCodec<ByteBuf, Map<Identifier, Integer>> MAP_CODEC =
-        ByteBufCodecs.map(HashMap::new, IDENTIFIER_CODEC, ByteBufCodecs.VAR_INT);
+    private static final StreamCodec<ByteBuf, Map<Identifier, Long>> MAP_CODEC =
+        ByteBufCodecs.map(HashMap::new, IDENTIFIER_CODEC, ByteBufCodecs.VAR_LONG);
     
     public static final StreamCodec<ByteBuf, SpellCooldownSyncPayload> STREAM_CODEC = StreamCodec.composite(
         MAP_CODEC,
-        SpellCooldownSyncPayload::cooldowns,
+        SpellCooldownSyncPayload::expiries,
+        ByteBufCodecs.BOOL,
+        SpellCooldownSyncPayload::full,
         SpellCooldownSyncPayload::new
     );
     
     /**
-     * Converts the cooldowns to a map.
-     * @return Map of spell IDs to cooldown ticks
+     * Converts the expiries to a map.
+     * @return Map of spell IDs to expiry game ticks (0 = cancelled)
      */
-    public Map<Identifier, Integer> toMap() {
-        return cooldowns != null ? cooldowns : new HashMap<>();
+    public Map<Identifier, Long> toMap() {
+        return expiries != null ? expiries : new HashMap<>();
     }
     
     @Override
@@ -43,4 +47,3 @@ public record SpellCooldownSyncPayload(Map<Identifier, Integer> cooldowns) imple
         return TYPE;
     }
 }
-
@@ -1,8 +1,14 @@
 package at.koopro.spells_n_squares.features.transportation;
 
+import at.koopro.spells_n_squares.core.persistence.ModPersistence;
+import at.koopro.spells_n_squares.core.persistence.PersistentMap;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.saveddata.SavedDataType;
 
 import java.util.*;
 
@@ -13,14 +19,23 @@ public final class FlooNetworkManager {
     private FlooNetworkManager() {
     }
     
-    // Map of fireplace positions to their network connections
-    // Using HashMap - order doesn't matter, O(1) lookup needed
-    private static final Map<FlooLocation, Set<FlooLocation>> network = new HashMap<>();
+    // Map of fireplace positions to their network connections, persisted with the world
+    private static final SavedDataType<PersistentMap<FlooLocation, Set<FlooLocation>>> NETWORK =
+        PersistentMap.type("floo_network", FlooLocation.CODEC,
+            FlooLocation.CODEC.listOf().<Set<FlooLocation>>xmap(HashSet::new, ArrayList::new));
     
     /**
      * Represents a fireplace location in the network.
      */
     public record FlooLocation(ResourceKey<Level> dimension, BlockPos pos, String name) {
+        public static final Codec<FlooLocation> CODEC = RecordCodecBuilder.create(instance ->
+            instance.group(
+                ResourceKey.codec(Registries.DIMENSION).fieldOf("dimension").forGetter(FlooLocation::dimension),
+                BlockPos.CODEC.fieldOf("pos").forGetter(FlooLocation::pos),
+                Codec.STRING.fieldOf("name").forGetter(FlooLocation::name)
+            ).apply(instance, FlooLocation::new)
+        );
+        
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
@@ -40,13 +55,14 @@ public final class FlooNetworkManager {
      */
     public static void registerFireplace(ResourceKey<Level> dimension, BlockPos pos, String name) {
         FlooLocation location = new FlooLocation(dimension, pos, name);
-        network.putIfAbsent(location, new HashSet<>());
+        ModPersistence.map(NETWORK).putIfAbsent(location, new HashSet<>());
     }
     
     /**
      * Connects two fireplaces in the network.
      */
     public static void connectFireplaces(FlooLocation loc1, FlooLocation loc2) {
+        PersistentMap<FlooLocation, Set<FlooLocation>> network = ModPersistence.map(NETWORK);
         network.computeIfAbsent(loc1, k -> new HashSet<>()).add(loc2);
         network.computeIfAbsent(loc2, k -> new HashSet<>()).add(loc1);
     }
@@ -55,21 +71,21 @@ public final class FlooNetworkManager {
      * Gets all connected fireplaces from a location.
      */
     public static Set<FlooLocation> getConnectedFireplaces(FlooLocation location) {
-        return network.getOrDefault(location, Collections.emptySet());
+        return ModPersistence.map(NETWORK).getOrDefault(location, Collections.emptySet());
     }
     
     /**
      * Gets all fireplaces in the network.
      */
     public static Set<FlooLocation> getAllFireplaces() {
-        return network.keySet();
+        return ModPersistence.map(NETWORK).keySet();
     }
     
     /**
      * Finds a fireplace by name.
      */
     public static Optional<FlooLocation> findFireplaceByName(String name) {
-        return network.keySet().stream()
+        return ModPersistence.map(NETWORK).keySet().stream()
             .filter(loc -> loc.name().equalsIgnoreCase(name))
             .findFirst();
     }
@@ -78,11 +94,13 @@ public final class FlooNetworkManager {
      * Removes a fireplace from the network.
      */
     public static void removeFireplace(FlooLocation location) {
+        PersistentMap<FlooLocation, Set<FlooLocation>> network = ModPersistence.map(NETWORK);
         // Remove from all connections
         for (Set<FlooLocation> connections : network.values()) {
             connections.remove(location);
         }
         network.remove(location);
+        network.setDirty();
     }
 }
 
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.transportation;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
@@ -68,8 +69,8 @@ public class FlooPowderItem extends Item {
         FlooNetworkManager.registerFireplace(level.dimension(), fireplacePos, location.name());
         
         Vec3 pos = Vec3.atCenterOf(fireplacePos);
-        level.sendParticles(ParticleTypes.FLAME, pos.x, pos.y, pos.z, 50, 0.3, 0.5, 0.3, 0.1);
-        level.sendParticles(ParticleTypes.ELECTRIC_SPARK, pos.x, pos.y, pos.z, 30, 0.2, 0.3, 0.2, 0.05);
+        ParticlePool.queueParticle(level, ParticleTypes.FLAME, pos.x, pos.y, pos.z, 50, 0.3, 0.5, 0.3, 0.1);
+        ParticlePool.queueParticle(level, ParticleTypes.ELECTRIC_SPARK, pos.x, pos.y, pos.z, 30, 0.2, 0.3, 0.2, 0.05);
         
         var connected = FlooNetworkManager.getConnectedFireplaces(location);
         if (connected.isEmpty()) {
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.features.transportation;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
@@ -71,16 +72,16 @@ public class PortkeyItem extends Item {
     
     private void teleportPlayer(ServerPlayer player, PortkeyData.PortkeyDataComponent data, ServerLevel level) {
         Vec3 pos = player.position();
-        level.sendParticles(ParticleTypes.PORTAL, pos.x, pos.y, pos.z, 30, 0.5, 0.5, 0.5, 0.1);
-        level.sendParticles(ParticleTypes.END_ROD, pos.x, pos.y, pos.z, 20, 0.3, 0.3, 0.3, 0.05);
+        ParticlePool.queueParticle(level, ParticleTypes.PORTAL, pos.x, pos.y, pos.z, 30, 0.5, 0.5, 0.5, 0.1);
+        ParticlePool.queueParticle(level, ParticleTypes.END_ROD, pos.x, pos.y, pos.z, 20, 0.3, 0.3, 0.3, 0.05);
         
         ServerLevel targetLevel = level.getServer().getLevel(data.dimension());
         if (targetLevel != null) {
             player.teleportTo(targetLevel, data.x(), data.y(), data.z(),
                 java.util.Set.of(), player.getYRot(), player.getXRot(), false);
             
-            level.sendParticles(ParticleTypes.PORTAL, data.x(), data.y(), data.z(), 30, 0.5, 0.5, 0.5, 0.1);
-            level.sendParticles(ParticleTypes.END_ROD, data.x(), data.y(), data.z(), 20, 0.3, 0.3, 0.3, 0.05);
+            ParticlePool.queueParticle(level, ParticleTypes.PORTAL, data.x(), data.y(), data.z(), 30, 0.5, 0.5, 0.5, 0.1);
+            ParticlePool.queueParticle(level, ParticleTypes.END_ROD, data.x(), data.y(), data.z(), 20, 0.3, 0.3, 0.3, 0.05);
         }
     }
     
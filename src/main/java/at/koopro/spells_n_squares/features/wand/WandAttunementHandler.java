@@ -3,19 +3,17 @@ package at.koopro.spells_n_squares.features.wand;
 import at.koopro.spells_n_squares.SpellsNSquares;
 import at.koopro.spells_n_squares.core.api.addon.events.AddonEventBus;
 import at.koopro.spells_n_squares.core.api.addon.events.SpellCastEvent;
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.core.registry.ModTags;
 import at.koopro.spells_n_squares.features.wand.WandVisualEffects;
-import at.koopro.spells_n_squares.core.util.EventUtils;
 import at.koopro.spells_n_squares.core.util.PlayerItemUtils;
 import at.koopro.spells_n_squares.features.spell.SpellManager;
 import net.minecraft.resources.Identifier;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
-import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.fml.common.EventBusSubscriber;
-import net.neoforged.neoforge.event.tick.PlayerTickEvent;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -32,6 +30,9 @@ public class WandAttunementHandler {
     // Timeout for attunement sequence (10 seconds)
     private static final int SEQUENCE_TIMEOUT = 200; // ticks
     
+    // Timed-out sequences are cleaned up once per second
+    public static final int CLEANUP_INTERVAL = 20;
+    
     /**
      * Represents attunement progress for a player.
      */
@@ -99,14 +100,13 @@ public class WandAttunementHandler {
     }
     
     /**
-     * Initialize the handler by registering with AddonEventBus and game event bus.
+     * Initialize the handler by registering with AddonEventBus.
      * This should be called during mod initialization.
+     * Timeout cleanup is driven by the PlayerTickScheduler.
      */
     public static void initialize() {
         WandAttunementHandler instance = new WandAttunementHandler();
         AddonEventBus.getInstance().register(instance);
-        // Register instance to game event bus for PlayerTickEvent
-        net.neoforged.neoforge.common.NeoForge.EVENT_BUS.register(instance);
     }
     
     /**
@@ -157,7 +157,7 @@ public class WandAttunementHandler {
                 
                 // Visual feedback
                 if (level instanceof ServerLevel serverLevel) {
-                    serverLevel.sendParticles(
+                    ParticlePool.queueParticle(serverLevel,
                         net.minecraft.core.particles.ParticleTypes.TOTEM_OF_UNDYING,
                         player.getX(), player.getY() + 1.0, player.getZ(),
                         20, 0.5, 0.5, 0.5, 0.1
@@ -180,20 +180,14 @@ public class WandAttunementHandler {
     /**
      * Ticks attunement progress and cleans up timed-out sequences.
      */
-    @SubscribeEvent
-    public void onPlayerTick(PlayerTickEvent.Post event) {
-        if (!EventUtils.isServerSide(event)) {
-            return;
-        }
-        
-        Player player = event.getEntity();
+    public static void tick(ServerPlayer player, ServerLevel level) {
         AttunementProgress progress = attunementProgress.get(player);
         if (progress == null) {
             return;
         }
         
         // Check timeout
-        int currentTick = (int) player.level().getGameTime();
+        int currentTick = (int) level.getGameTime();
         if (currentTick - progress.lastCastTick > SEQUENCE_TIMEOUT) {
             attunementProgress.remove(player);
         }
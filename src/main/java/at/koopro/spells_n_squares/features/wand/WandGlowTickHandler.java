@@ -1,42 +1,28 @@
 package at.koopro.spells_n_squares.features.wand;
 
-import at.koopro.spells_n_squares.SpellsNSquares;
 import at.koopro.spells_n_squares.core.registry.ModTags;
-import at.koopro.spells_n_squares.core.util.EventUtils;
 import at.koopro.spells_n_squares.core.util.PlayerItemUtils;
-import net.minecraft.world.entity.player.Player;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.item.ItemStack;
-import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.fml.common.EventBusSubscriber;
-import net.neoforged.neoforge.event.tick.PlayerTickEvent;
 
 /**
  * Handles periodic visual effects for wands (charged glow).
+ * Driven by the PlayerTickScheduler.
  */
-@EventBusSubscriber(modid = SpellsNSquares.MODID)
 public class WandGlowTickHandler {
     
     // Spawn glow particles every 20 ticks (1 second)
-    private static final int GLOW_INTERVAL = 20;
+    public static final int GLOW_INTERVAL = 20;
     
-    @SubscribeEvent
-    public static void onPlayerTick(PlayerTickEvent.Post event) {
-        if (!EventUtils.isServerSide(event)) {
-            return;
-        }
-        
-        Player player = event.getEntity();
-        
-        // Only spawn glow every GLOW_INTERVAL ticks
-        if (player.tickCount % GLOW_INTERVAL != 0) {
-            return;
-        }
-        
+    /**
+     * Spawns the charged glow for attuned wands held by the player.
+     */
+    public static void tick(ServerPlayer player, ServerLevel level) {
         ItemStack wand = PlayerItemUtils.findHeldItemByTag(player, ModTags.WANDS).orElse(ItemStack.EMPTY);
         if (!wand.isEmpty() && WandDataHelper.isAttuned(wand)) {
             // Spawn charged glow particles
-            WandVisualEffects.spawnChargedGlow(player.level(), player, wand);
+            WandVisualEffects.spawnChargedGlow(level, player, wand);
         }
     }
 }
-
@@ -2,7 +2,9 @@ package at.koopro.spells_n_squares.features.wand;
 
 import at.koopro.spells_n_squares.core.config.Config;
 import at.koopro.spells_n_squares.core.fx.FXConfigHelper;
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.core.registry.ParticleEffectRegistry;
+import at.koopro.spells_n_squares.core.util.ModIdentifierHelper;
 import net.minecraft.core.particles.ParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.resources.Identifier;
@@ -12,6 +14,11 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
 
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Handles visual effects for wands based on their core type.
  */
@@ -19,6 +26,36 @@ public final class WandVisualEffects {
     private WandVisualEffects() {
     }
     
+    // Per-core procedural effects generated on the client
+    private static final Map<WandCore, Identifier> TRAIL_EFFECTS = new EnumMap<>(WandCore.class);
+    private static final Map<WandCore, Identifier> GLOW_EFFECTS = new EnumMap<>(WandCore.class);
+    private static final Map<WandCore, Identifier> AURA_EFFECTS = new EnumMap<>(WandCore.class);
+    
+    /**
+     * Registers the per-core wand particle effect templates.
+     * Called during common setup.
+     */
+    public static void registerParticleEffects() {
+        for (WandCore core : WandCore.values()) {
+            String name = core.name().toLowerCase(Locale.ROOT);
+            
+            Identifier trail = ModIdentifierHelper.modId("wand_trail_" + name);
+            ParticleEffectRegistry.register(trail, ParticleEffectRegistry.ParticleEffectTemplate.trail(
+                getTrailParticle(core), 10, 0.2, 0.1));
+            TRAIL_EFFECTS.put(core, trail);
+            
+            Identifier glow = ModIdentifierHelper.modId("wand_glow_" + name);
+            ParticleEffectRegistry.register(glow, ParticleEffectRegistry.ParticleEffectTemplate.ring(
+                List.of(getGlowParticle(core)), 5, 0.2, 0.0, 0.0, 0.0, false));
+            GLOW_EFFECTS.put(core, glow);
+            
+            Identifier aura = ModIdentifierHelper.modId("wand_aura_" + name);
+            ParticleEffectRegistry.register(aura, ParticleEffectRegistry.ParticleEffectTemplate.ring(
+                List.of(getGlowParticle(core)), 2, 0.3, 0.2, 0.0, 0.2, false));
+            AURA_EFFECTS.put(core, aura);
+        }
+    }
+    
     /**
      * Spawns particle trail effects when casting a spell.
      */
@@ -32,53 +69,28 @@ public final class WandVisualEffects {
             return;
         }
         
-        ParticleOptions particle = getTrailParticle(core);
-        Vec3 pos = player.position().add(0, player.getEyeHeight(), 0);
-        Vec3 look = player.getLookAngle();
-        
         if (level instanceof ServerLevel serverLevel) {
-            int baseCount = 10;
-            int particleCount = FXConfigHelper.calculateParticleCountWithLOD(player, pos, baseCount);
+            Vec3 pos = player.position().add(0, player.getEyeHeight(), 0);
             
-            // Spawn particles along the cast direction
-            for (int i = 0; i < particleCount; i++) {
-                double offsetX = look.x * i * 0.2 + (level.getRandom().nextDouble() - 0.5) * 0.1;
-                double offsetY = look.y * i * 0.2 + (level.getRandom().nextDouble() - 0.5) * 0.1;
-                double offsetZ = look.z * i * 0.2 + (level.getRandom().nextDouble() - 0.5) * 0.1;
-                
-                Vec3 particlePos = new Vec3(pos.x + offsetX, pos.y + offsetY, pos.z + offsetZ);
-                
-                if (FXConfigHelper.shouldRenderParticles(player, particlePos)) {
-                    serverLevel.sendParticles(
-                        particle,
-                        particlePos.x, particlePos.y, particlePos.z,
-                        1,
-                        0.0, 0.0, 0.0,
-                        0.0
-                    );
-                }
-            }
+            // Particles are laid out along the cast direction by each client
+            ParticleEffectRegistry.spawn(serverLevel, TRAIL_EFFECTS.get(core), pos, player.getLookAngle(), 1.0f);
             
             // Add core-specific burst effect
-            spawnCoreBurst(serverLevel, player, core, pos);
+            spawnCoreBurst(serverLevel, core, pos);
         }
     }
     
     /**
      * Spawns a core-specific burst effect on spell cast.
      */
-    private static void spawnCoreBurst(ServerLevel level, Player player, WandCore core, Vec3 position) {
+    private static void spawnCoreBurst(ServerLevel level, WandCore core, Vec3 position) {
         Identifier effectId = switch (core) {
             case PHOENIX_FEATHER -> Identifier.fromNamespaceAndPath("spells_n_squares", "golden_burst");
             case DRAGON_HEARTSTRING -> Identifier.fromNamespaceAndPath("spells_n_squares", "fire_burst");
             case UNICORN_HAIR -> Identifier.fromNamespaceAndPath("spells_n_squares", "silver_mist");
         };
         
-        ParticleEffectRegistry.ParticleEffectTemplate template = ParticleEffectRegistry.get(effectId);
-        if (template != null) {
-            double multiplier = FXConfigHelper.getEffectiveParticleMultiplier();
-            template.spawn(level, position, multiplier);
-        }
+        ParticleEffectRegistry.spawn(level, effectId, position, 1.0f);
     }
     
     /**
@@ -106,7 +118,7 @@ public final class WandVisualEffects {
             int particleCount = FXConfigHelper.calculateParticleCountWithLOD(nearestPlayer, position, baseCount);
             
             ParticleOptions particle = getImpactParticle(core);
-            serverLevel.sendParticles(
+            ParticlePool.queueParticle(serverLevel,
                 particle,
                 position.x, position.y, position.z,
                 particleCount,
@@ -133,7 +145,7 @@ public final class WandVisualEffects {
             case UNICORN_HAIR -> ParticleTypes.ELECTRIC_SPARK;
         };
         
-        level.sendParticles(
+        ParticlePool.queueParticle(level,
             glowParticle,
             position.x, position.y, position.z,
             layerCount,
@@ -160,34 +172,11 @@ public final class WandVisualEffects {
             return;
         }
         
-        ParticleOptions particle = getGlowParticle(core);
-        Vec3 pos = player.position().add(0, player.getEyeHeight() - 0.2, 0);
-        Vec3 look = player.getLookAngle();
-        Vec3 right = look.cross(new Vec3(0, 1, 0)).normalize();
-        
         if (level instanceof ServerLevel serverLevel) {
-            int baseCount = 5;
-            int particleCount = FXConfigHelper.calculateParticleCount(baseCount);
-            
-            // Spawn particles around the wand tip
-            for (int i = 0; i < particleCount; i++) {
-                double angle = (i / (double) particleCount) * Math.PI * 2;
-                double radius = 0.2;
-                double x = pos.x + look.x * 0.5 + right.x * radius * Math.cos(angle);
-                double y = pos.y + look.y * 0.5;
-                double z = pos.z + look.z * 0.5 + right.z * radius * Math.cos(angle);
-                
-                Vec3 particlePos = new Vec3(x, y, z);
-                if (FXConfigHelper.shouldRenderParticles(player, particlePos)) {
-                    serverLevel.sendParticles(
-                        particle,
-                        x, y, z,
-                        1,
-                        0.0, 0.0, 0.0,
-                        0.0
-                    );
-                }
-            }
+            Vec3 pos = player.position().add(0, player.getEyeHeight() - 0.2, 0);
+            // The ring is offset towards the wand tip
+            Vec3 tipOffset = player.getLookAngle().scale(0.5);
+            ParticleEffectRegistry.spawn(serverLevel, GLOW_EFFECTS.get(core), pos, tipOffset, 1.0f);
         }
     }
     
@@ -206,28 +195,7 @@ public final class WandVisualEffects {
         
         if (level instanceof ServerLevel serverLevel) {
             Vec3 pos = player.position().add(0, player.getEyeHeight() - 0.1, 0);
-            ParticleOptions particle = getGlowParticle(core);
-            
-            // Spawn subtle aura particles
-            int auraCount = FXConfigHelper.calculateParticleCount(2);
-            for (int i = 0; i < auraCount; i++) {
-                double angle = level.getRandom().nextDouble() * Math.PI * 2;
-                double radius = 0.3 + level.getRandom().nextDouble() * 0.2;
-                double x = pos.x + Math.cos(angle) * radius;
-                double y = pos.y + (level.getRandom().nextDouble() - 0.5) * 0.2;
-                double z = pos.z + Math.sin(angle) * radius;
-                
-                Vec3 particlePos = new Vec3(x, y, z);
-                if (FXConfigHelper.shouldRenderParticles(player, particlePos)) {
-                    serverLevel.sendParticles(
-                        particle,
-                        x, y, z,
-                        1,
-                        0.0, 0.0, 0.0,
-                        0.0
-                    );
-                }
-            }
+            ParticleEffectRegistry.spawn(serverLevel, AURA_EFFECTS.get(core), pos, 1.0f);
         }
     }
     
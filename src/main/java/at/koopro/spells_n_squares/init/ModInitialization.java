@@ -4,6 +4,7 @@ import at.koopro.spells_n_squares.core.api.SpellFeature;
 import at.koopro.spells_n_squares.core.registry.AddonRegistry;
 import at.koopro.spells_n_squares.core.registry.FeatureRegistry;
 import at.koopro.spells_n_squares.core.registry.ModBlocks;
+import at.koopro.spells_n_squares.core.registry.ModBlockEntities;
 import at.koopro.spells_n_squares.core.registry.ModCreativeTabs;
 import at.koopro.spells_n_squares.core.registry.ModDataComponents;
 import at.koopro.spells_n_squares.core.registry.ModEntities;
@@ -13,10 +14,20 @@ import at.koopro.spells_n_squares.core.registry.PlayerDataManagerAdapters;
 import at.koopro.spells_n_squares.core.registry.PlayerDataManagerRegistry;
 import at.koopro.spells_n_squares.core.config.Config;
 import at.koopro.spells_n_squares.core.network.ModNetwork;
+import at.koopro.spells_n_squares.core.tick.PlayerTickScheduler;
+import at.koopro.spells_n_squares.core.util.ModIdentifierHelper;
+import at.koopro.spells_n_squares.features.artifacts.SneakoscopeItem;
+import at.koopro.spells_n_squares.features.artifacts.TimeTurnerSnapshotHandler;
+import at.koopro.spells_n_squares.features.cloak.CloakShimmerHandler;
+import at.koopro.spells_n_squares.features.cloak.InvisibilityCloakHandler;
+import at.koopro.spells_n_squares.features.convenience.AutoRepairHandler;
+import at.koopro.spells_n_squares.features.fx.EnvironmentalEffectHandler;
+import at.koopro.spells_n_squares.features.robes.HouseRobeBonusHandler;
 import at.koopro.spells_n_squares.features.cloak.CloakChargeData;
 import at.koopro.spells_n_squares.features.gear.SocketData;
 import at.koopro.spells_n_squares.features.wand.WandAttunementHandler;
 import at.koopro.spells_n_squares.features.wand.WandData;
+import at.koopro.spells_n_squares.features.wand.WandGlowTickHandler;
 import at.koopro.spells_n_squares.features.artifacts.TimeTurnerItem;
 import at.koopro.spells_n_squares.features.flashlight.FlashlightItem;
 import com.mojang.logging.LogUtils;
@@ -37,6 +48,7 @@ public class ModInitialization {
      */
     public static void registerRegistries(IEventBus modEventBus, ModContainer modContainer) {
         ModBlocks.BLOCKS.register(modEventBus);
+        ModBlockEntities.BLOCK_ENTITIES.register(modEventBus);
         ModItems.ITEMS.register(modEventBus);
         ModCreativeTabs.CREATIVE_TABS.register(modEventBus);
         ModSounds.SOUNDS.register(modEventBus);
@@ -85,6 +97,30 @@ public class ModInitialization {
         PlayerDataManagerRegistry.register(new PlayerDataManagerAdapters.LumosManagerAdapter());
     }
     
+    /**
+     * Registers all periodic per-player tasks with the player tick scheduler.
+     */
+    private static void registerPlayerTickTasks() {
+        PlayerTickScheduler.register(ModIdentifierHelper.modId("invisibility_cloak"),
+            InvisibilityCloakHandler.CHECK_INTERVAL, InvisibilityCloakHandler::tick);
+        PlayerTickScheduler.register(ModIdentifierHelper.modId("cloak_shimmer"),
+            CloakShimmerHandler.SHIMMER_INTERVAL, CloakShimmerHandler::tick);
+        PlayerTickScheduler.register(ModIdentifierHelper.modId("sneakoscope"),
+            SneakoscopeItem.SneakoscopeHandler.CHECK_INTERVAL, SneakoscopeItem.SneakoscopeHandler::tick);
+        PlayerTickScheduler.register(ModIdentifierHelper.modId("environmental_aura"),
+            EnvironmentalEffectHandler.AURA_INTERVAL, EnvironmentalEffectHandler::tick);
+        PlayerTickScheduler.register(ModIdentifierHelper.modId("time_turner_snapshot"),
+            TimeTurnerSnapshotHandler.SNAPSHOT_INTERVAL, TimeTurnerSnapshotHandler::tick);
+        PlayerTickScheduler.register(ModIdentifierHelper.modId("wand_glow"),
+            WandGlowTickHandler.GLOW_INTERVAL, WandGlowTickHandler::tick);
+        PlayerTickScheduler.register(ModIdentifierHelper.modId("house_robe_bonus"),
+            HouseRobeBonusHandler.BONUS_INTERVAL, HouseRobeBonusHandler::tick);
+        PlayerTickScheduler.register(ModIdentifierHelper.modId("wand_attunement"),
+            WandAttunementHandler.CLEANUP_INTERVAL, WandAttunementHandler::tick);
+        PlayerTickScheduler.register(ModIdentifierHelper.modId("auto_repair"),
+            AutoRepairHandler.REPAIR_INTERVAL, AutoRepairHandler::tick);
+    }
+    
     /**
      * Registers event handlers and network.
      */
@@ -99,8 +135,13 @@ public class ModInitialization {
         // Note: ServerEventHandler is automatically registered via @EventBusSubscriber annotation
         // Initialize wand attunement handler
         WandAttunementHandler.initialize();
+        // Invalidate resolved class abilities on class changes
+        at.koopro.spells_n_squares.features.playerclass.ClassAbilityResolver.initialize();
+        // Register periodic per-player tasks
+        registerPlayerTickTasks();
         // Initialize particle effect registry
         at.koopro.spells_n_squares.core.registry.ParticleEffectRegistry.initializeDefaults();
+        at.koopro.spells_n_squares.features.wand.WandVisualEffects.registerParticleEffects();
         // Initialize sound-visual sync
         at.koopro.spells_n_squares.features.fx.SoundVisualSync.initialize();
         // Note: spells_n_squares.class is not registered to event bus as it has no @SubscribeEvent methods
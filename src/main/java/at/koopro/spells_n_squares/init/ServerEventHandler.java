@@ -2,7 +2,9 @@ package at.koopro.spells_n_squares.init;
 
 import at.koopro.spells_n_squares.SpellsNSquares;
 import at.koopro.spells_n_squares.core.registry.PlayerDataManagerRegistry;
+import at.koopro.spells_n_squares.core.tick.PerformanceCommands;
 import at.koopro.spells_n_squares.features.convenience.WaypointCommands;
+import at.koopro.spells_n_squares.features.playerclass.ClassAbilityResolver;
 import at.koopro.spells_n_squares.features.spell.SpellManager;
 import at.koopro.spells_n_squares.core.registry.SpellRegistry;
 import at.koopro.spells_n_squares.features.wand.WandAttunementHandler;
@@ -31,6 +33,7 @@ public class ServerEventHandler {
     public static void onRegisterCommands(RegisterCommandsEvent event) {
         // DebugCommands removed - re-implement if needed
         WaypointCommands.register(event.getDispatcher());
+        PerformanceCommands.register(event.getDispatcher());
     }
     
     /**
@@ -39,15 +42,17 @@ public class ServerEventHandler {
      */
     @SubscribeEvent
     public static void onPlayerLoggedIn(PlayerEvent.PlayerLoggedInEvent event) {
-        // Set up default spell assignments for new players
-        SpellManager.setSpellInSlot(event.getEntity(), SpellManager.SLOT_TOP, 
-            SpellRegistry.spellId("heal"));
-        SpellManager.setSpellInSlot(event.getEntity(), SpellManager.SLOT_BOTTOM, 
-            SpellRegistry.spellId("protego"));
-        SpellManager.setSpellInSlot(event.getEntity(), SpellManager.SLOT_LEFT, 
-            SpellRegistry.spellId("fireball"));
-        SpellManager.setSpellInSlot(event.getEntity(), SpellManager.SLOT_RIGHT, 
-            SpellRegistry.spellId("lightning"));
+        // Set up default spell assignments for new players (existing assignments are persisted)
+        if (!SpellManager.hasSpellSlots(event.getEntity())) {
+            SpellManager.setSpellInSlot(event.getEntity(), SpellManager.SLOT_TOP, 
+                SpellRegistry.spellId("heal"));
+            SpellManager.setSpellInSlot(event.getEntity(), SpellManager.SLOT_BOTTOM, 
+                SpellRegistry.spellId("protego"));
+            SpellManager.setSpellInSlot(event.getEntity(), SpellManager.SLOT_LEFT, 
+                SpellRegistry.spellId("fireball"));
+            SpellManager.setSpellInSlot(event.getEntity(), SpellManager.SLOT_RIGHT, 
+                SpellRegistry.spellId("lightning"));
+        }
         
         // Sync all player data to the client
         ServerPlayer serverPlayer = at.koopro.spells_n_squares.core.util.PlayerValidationUtils.asServerPlayer(event.getEntity());
@@ -66,6 +71,8 @@ public class ServerEventHandler {
         // SpellHandler removed - cleanup handled by PlayerDataManagerRegistry
         // Clear attunement progress
         WandAttunementHandler.clearPlayerData(event.getEntity());
+        // Drop cached class abilities
+        ClassAbilityResolver.invalidate(event.getEntity());
     }
 }
 
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.item.cloak;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.core.registry.ModItems;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.InteractionHand;
@@ -48,7 +49,7 @@ public class RevealerDustItem extends Item {
                     target.setInvisible(false);
                     
                     // Visual effect
-                    serverLevel.sendParticles(
+                    ParticlePool.queueParticle(serverLevel,
                         net.minecraft.core.particles.ParticleTypes.GLOW,
                         target.getX(), target.getY() + 1.0, target.getZ(),
                         20, 0.5, 0.5, 0.5, 0.1
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.item.transportation;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.features.transportation.FlooNetworkManager;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
@@ -81,8 +82,8 @@ public class FlooPowderItem extends Item {
         
         // Visual effect: green flames
         Vec3 pos = Vec3.atCenterOf(fireplacePos);
-        level.sendParticles(ParticleTypes.FLAME, pos.x, pos.y, pos.z, 50, 0.3, 0.5, 0.3, 0.1);
-        level.sendParticles(ParticleTypes.ELECTRIC_SPARK, pos.x, pos.y, pos.z, 30, 0.2, 0.3, 0.2, 0.05);
+        ParticlePool.queueParticle(level, ParticleTypes.FLAME, pos.x, pos.y, pos.z, 50, 0.3, 0.5, 0.3, 0.1);
+        ParticlePool.queueParticle(level, ParticleTypes.ELECTRIC_SPARK, pos.x, pos.y, pos.z, 30, 0.2, 0.3, 0.2, 0.05);
         
         // Show available destinations
         var connected = FlooNetworkManager.getConnectedFireplaces(location);
@@ -1,5 +1,6 @@
 package at.koopro.spells_n_squares.item.transportation;
 
+import at.koopro.spells_n_squares.core.fx.ParticlePool;
 import at.koopro.spells_n_squares.features.transportation.PortkeyData;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
@@ -86,8 +87,8 @@ public class PortkeyItem extends Item {
     private void teleportPlayer(ServerPlayer player, PortkeyData.PortkeyDataComponent data, ServerLevel level) {
         // Visual effect before teleport
         Vec3 pos = player.position();
-        level.sendParticles(ParticleTypes.PORTAL, pos.x, pos.y, pos.z, 30, 0.5, 0.5, 0.5, 0.1);
-        level.sendParticles(ParticleTypes.END_ROD, pos.x, pos.y, pos.z, 20, 0.3, 0.3, 0.3, 0.05);
+        ParticlePool.queueParticle(level, ParticleTypes.PORTAL, pos.x, pos.y, pos.z, 30, 0.5, 0.5, 0.5, 0.1);
+        ParticlePool.queueParticle(level, ParticleTypes.END_ROD, pos.x, pos.y, pos.z, 20, 0.3, 0.3, 0.3, 0.05);
         
         // Teleport
         ServerLevel targetLevel = level.getServer().getLevel(data.dimension());
@@ -96,8 +97,8 @@ public class PortkeyItem extends Item {
                 java.util.Set.of(), player.getYRot(), player.getXRot(), false);
             
             // Visual effect after teleport
-            level.sendParticles(ParticleTypes.PORTAL, data.x(), data.y(), data.z(), 30, 0.5, 0.5, 0.5, 0.1);
-            level.sendParticles(ParticleTypes.END_ROD, data.x(), data.y(), data.z(), 20, 0.3, 0.3, 0.3, 0.05);
+            ParticlePool.queueParticle(level, ParticleTypes.PORTAL, data.x(), data.y(), data.z(), 30, 0.5, 0.5, 0.5, 0.1);
+            ParticlePool.queueParticle(level, ParticleTypes.END_ROD, data.x(), data.y(), data.z(), 20, 0.3, 0.3, 0.3, 0.05);
         }
     }
     
@@ -0,0 +1,23 @@
+package at.koopro.spells_n_squares.mixin.client;
+
+import at.koopro.spells_n_squares.core.client.DynamicLightEngine;
+import net.minecraft.client.renderer.entity.EntityRenderer;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.Entity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Lets entities standing in dynamic light be lit by it.
+ */
+@Mixin(EntityRenderer.class)
+public abstract class EntityRendererMixin {
+    @Inject(method = "getBlockLightLevel", at = @At("RETURN"), cancellable = true)
+    private void spells_n_squares$applyDynamicLight(Entity entity, BlockPos pos, CallbackInfoReturnable<Integer> cir) {
+        if (DynamicLightEngine.isActive()) {
+            cir.setReturnValue(Math.max(cir.getReturnValueI(), DynamicLightEngine.getLightLevel(pos)));
+        }
+    }
+}
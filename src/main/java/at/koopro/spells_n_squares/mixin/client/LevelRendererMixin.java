@@ -0,0 +1,29 @@
+package at.koopro.spells_n_squares.mixin.client;
+
+import at.koopro.spells_n_squares.core.client.DynamicLightEngine;
+import net.minecraft.client.renderer.LevelRenderer;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.BlockAndTintGetter;
+import net.minecraft.world.level.block.state.BlockState;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Merges the dynamic light overlay into the light value used for block rendering.
+ */
+@Mixin(LevelRenderer.class)
+public abstract class LevelRendererMixin {
+    @Inject(
+        method = "getLightColor(Lnet/minecraft/client/renderer/LevelRenderer$BrightnessGetter;Lnet/minecraft/world/level/BlockAndTintGetter;Lnet/minecraft/world/level/block/state/BlockState;Lnet/minecraft/core/BlockPos;)I",
+        at = @At("RETURN"),
+        cancellable = true
+    )
+    private static void spells_n_squares$applyDynamicLight(LevelRenderer.BrightnessGetter brightnessGetter, BlockAndTintGetter level,
+                                                          BlockState state, BlockPos pos, CallbackInfoReturnable<Integer> cir) {
+        if (DynamicLightEngine.isActive()) {
+            cir.setReturnValue(DynamicLightEngine.applyTo(cir.getReturnValueI(), pos));
+        }
+    }
+}